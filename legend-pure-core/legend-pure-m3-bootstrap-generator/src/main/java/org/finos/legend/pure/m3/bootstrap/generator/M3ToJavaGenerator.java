@@ -356,7 +356,7 @@ public class M3ToJavaGenerator
                         "\n" +
                         "    private static final SetIterable<String> KEYS = Sets.immutable.with(" + properties.collect(CoreInstance::getName, Lists.mutable.empty()).sortThis().makeString("\"", "\",\"", "\"") + ");\n" +
                         "\n" +
-                        "    private _State state;\n" +
+                        "    private volatile _State state;\n" +
                         "\n" +
                         createClassConstructors(className) +
                         "\n" +
@@ -835,14 +835,14 @@ public class M3ToJavaGenerator
                             CoreInstance propertyReturnGenericType = this.propertyTypeResolver.getPropertyReturnType(classGenericType, property);
                             String type = getPropertyTypeInternal(property, propertyReturnGenericType, imports, isToOne(property), false, isPlatformClass(property));
                             String propertyName = getPropertyNameAsValidJavaIdentifierSwitchName(property);
-                            return "        private " + type + " " + propertyName + ";\n";
+                            return "        private volatile " + type + " " + propertyName + ";\n";
                         }).makeString("") +
                         toManyProperties.collect(property ->
                         {
                             CoreInstance propertyReturnGenericType = this.propertyTypeResolver.getPropertyReturnType(classGenericType, property);
                             String type = getPropertyTypeInternal(property, propertyReturnGenericType, imports, isToOne(property), false, isPlatformClass(property));
                             String propertyName = getPropertyNameAsValidJavaIdentifierSwitchName(property);
-                            return "        private " + type + " " + propertyName + ";\n";
+                            return "        private volatile " + type + " " + propertyName + ";\n";
                         }).makeString("") +
                         toManyProperties.collect(property ->
                         {
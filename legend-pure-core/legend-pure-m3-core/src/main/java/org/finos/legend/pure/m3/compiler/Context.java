@@ -19,11 +19,11 @@ import org.eclipse.collections.api.block.function.Function;
 import org.eclipse.collections.api.factory.Maps;
 import org.eclipse.collections.api.factory.Sets;
 import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.ListIterable;
 import org.eclipse.collections.api.map.ConcurrentMutableMap;
 import org.eclipse.collections.api.map.ImmutableMap;
 import org.eclipse.collections.api.map.MapIterable;
 import org.eclipse.collections.api.map.MutableMap;
-import org.eclipse.collections.api.set.ImmutableSet;
 import org.eclipse.collections.api.set.MutableSet;
 import org.eclipse.collections.api.set.SetIterable;
 import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
@@ -48,7 +48,7 @@ public class Context
     private final ConcurrentMutableMap<CoreInstance, ImmutableList<String>> propertyPaths = ConcurrentHashMap.newMap();
     private final ConcurrentMutableMap<CoreInstance, MutableSet<CoreInstance>> instancesByClassifier = ConcurrentHashMap.newMap();
     private final ConcurrentMutableMap<String, MutableSet<CoreInstance>> functionsByName = ConcurrentHashMap.newMap();
-    private final ConcurrentMutableMap<CoreInstance, ImmutableSet<CoreInstance>> typeGeneralizationSets = ConcurrentHashMap.newMap();
+    private final TypeHierarchyIndex typeHierarchyIndex = new TypeHierarchyIndex();
 
     private CoreInstance anyType;
     private CoreInstance nilType;
@@ -146,9 +146,21 @@ public class Context
         return function.isPersistent() ? this.functionTypes.getIfAbsentPutWithKey(function, generator) : generator.valueOf(function);
     }
 
-    public ImmutableSet<CoreInstance> getIfAbsentPutTypeGeneralizationSet(CoreInstance type, Function<CoreInstance, ? extends ImmutableSet<CoreInstance>> generator)
+    /**
+     * Return whether type is a subtype of possibleSuperType, i.e., whether possibleSuperType is in the generalization
+     * resolution order of type. For persistent types, this is answered from the type hierarchy index, computing the
+     * resolution order with generator only if it is not currently indexed.
+     *
+     * @param type              type
+     * @param possibleSuperType possible super type
+     * @param generator         function to compute the generalization resolution order of a type
+     * @return whether type is a subtype of possibleSuperType
+     */
+    public boolean subTypeOf(CoreInstance type, CoreInstance possibleSuperType, Function<? super CoreInstance, ? extends ListIterable<CoreInstance>> generator)
     {
-        return type.isPersistent() ? this.typeGeneralizationSets.getIfAbsentPutWithKey(type, generator) : generator.valueOf(type);
+        return (type.isPersistent() && possibleSuperType.isPersistent()) ?
+                this.typeHierarchyIndex.subTypeOf(type, possibleSuperType, generator) :
+                generator.valueOf(type).contains(possibleSuperType);
     }
 
     /**
@@ -320,8 +332,8 @@ public class Context
             this.classPropertiesByName.clear();
             this.generalizations.clear();
             this.propertyPaths.clear();
-            this.typeGeneralizationSets.clear();
         }
+        this.typeHierarchyIndex.invalidate(coreInstance);
         if (this.anyType == coreInstance)
         {
             this.anyType = null;
@@ -345,7 +357,7 @@ public class Context
         this.accessLevels.clear();
         this.propertyPaths.clear();
         this.instancesByClassifier.clear();
-        this.typeGeneralizationSets.clear();
+        this.typeHierarchyIndex.clear();
         this.anyType = null;
         this.nilType = null;
     }
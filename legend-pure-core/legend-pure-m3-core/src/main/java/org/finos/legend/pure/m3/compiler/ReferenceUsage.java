@@ -16,6 +16,7 @@ package org.finos.legend.pure.m3.compiler;
 
 import org.eclipse.collections.api.list.ListIterable;
 import org.eclipse.collections.impl.block.factory.Comparators;
+import org.finos.legend.pure.m3.compiler.postprocessing.DeferredBackReferences;
 import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.type.Any;
 import org.finos.legend.pure.m3.navigation.Instance;
 import org.finos.legend.pure.m3.navigation.M3Paths;
@@ -96,7 +97,10 @@ public class ReferenceUsage
     {
         CoreInstance usageReference = createReferenceUsage(user, propertyName, offset, repository, processorSupport);
         usageReference.setSourceInformation(sourceInformationForUsage);
-        Instance.addValueToProperty(used, M3Properties.referenceUsages, usageReference, processorSupport);
+        if (!DeferredBackReferences.deferReferenceUsage(used, usageReference))
+        {
+            Instance.addValueToProperty(used, M3Properties.referenceUsages, usageReference, processorSupport);
+        }
     }
 
     /**
@@ -110,6 +114,7 @@ public class ReferenceUsage
      */
     public static int removeReferenceUsagesForUser(CoreInstance used, CoreInstance user, ProcessorSupport processorSupport)
     {
+        int deferred = DeferredBackReferences.removeDeferredReferenceUsagesForUser(used, user);
         ListIterable<? extends CoreInstance> userReferenceUsages = used.getValueInValueForMetaPropertyToManyByIndex(M3Properties.referenceUsages, IndexSpecifications.getPropertyValueIndexSpec(M3Properties.owner), user);
         int size = userReferenceUsages.size();
         if (size != 0)
@@ -123,7 +128,7 @@ public class ReferenceUsage
                 Instance.removeProperty(used, M3Properties.referenceUsages, processorSupport);
             }
         }
-        return size;
+        return deferred + size;
     }
 
     /**
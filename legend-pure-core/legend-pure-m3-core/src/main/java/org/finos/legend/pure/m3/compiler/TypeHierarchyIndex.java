@@ -0,0 +1,173 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.compiler;
+
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.map.ConcurrentMutableMap;
+import org.eclipse.collections.api.stack.primitive.MutableIntStack;
+import org.eclipse.collections.impl.factory.primitive.IntStacks;
+import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+
+import java.util.BitSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Index of the type hierarchy for constant time subtype checks. Each indexed type is assigned a dense id, and its
+ * generalizations (including itself) are stored as a bit set of ids. A subtype check is then a single bit test.
+ * <p>
+ * Ancestor sets are computed lazily. When a type changes, only its own entry and the ancestor sets of its subtypes
+ * (i.e., those with its bit set) are invalidated; the rest of the index is unaffected. The id of an invalidated type is
+ * reused for the next type indexed, so that the bit sets stay as small as the number of indexed types. Invalidation
+ * and the storing of computed ancestor sets are serialized, and a check which overlaps a change is retried, so no
+ * ancestor set refers to a reused id by mistake.
+ */
+class TypeHierarchyIndex
+{
+    private final ConcurrentMutableMap<CoreInstance, TypeNode> nodes = ConcurrentHashMap.newMap();
+    private final AtomicLong modCount = new AtomicLong();
+    private final MutableIntStack freeIds = IntStacks.mutable.empty();
+    private int nextId = 0;
+
+    /**
+     * Return whether possibleSuperType is in the generalization resolution order of type. The resolution order is
+     * computed using generator if type's ancestors are not already indexed.
+     *
+     * @param type              type
+     * @param possibleSuperType possible super type
+     * @param generator         function to compute the generalization resolution order of a type
+     * @return whether type is a subtype of possibleSuperType
+     */
+    boolean subTypeOf(CoreInstance type, CoreInstance possibleSuperType, Function<? super CoreInstance, ? extends Iterable<? extends CoreInstance>> generator)
+    {
+        while (true)
+        {
+            long expectedModCount = this.modCount.get();
+            int superTypeId = getNode(possibleSuperType).id;
+            boolean result = getAncestors(type, generator).get(superTypeId);
+            if (this.modCount.get() == expectedModCount)
+            {
+                return result;
+            }
+        }
+    }
+
+    /**
+     * Invalidate everything indexed which depends on type: its own entry and the ancestor sets of all of its
+     * subtypes.
+     *
+     * @param type type which has changed or been removed
+     */
+    synchronized void invalidate(CoreInstance type)
+    {
+        // even if type is not indexed, an ancestor set being computed concurrently may depend on it
+        this.modCount.incrementAndGet();
+        TypeNode node = this.nodes.remove(type);
+        if (node != null)
+        {
+            int id = node.id;
+            this.nodes.forEachValue(n ->
+            {
+                BitSet ancestors = n.ancestors.get();
+                if ((ancestors != null) && ancestors.get(id))
+                {
+                    n.ancestors.compareAndSet(ancestors, null);
+                }
+            });
+            this.freeIds.push(id);
+        }
+    }
+
+    synchronized void clear()
+    {
+        this.modCount.incrementAndGet();
+        this.nodes.clear();
+        this.freeIds.clear();
+        this.nextId = 0;
+    }
+
+    /**
+     * Return the number of ids in use or available for reuse.
+     */
+    synchronized int getIdCount()
+    {
+        return this.nextId;
+    }
+
+    private BitSet getAncestors(CoreInstance type, Function<? super CoreInstance, ? extends Iterable<? extends CoreInstance>> generator)
+    {
+        TypeNode node = getNode(type);
+        BitSet ancestors = node.ancestors.get();
+        if (ancestors == null)
+        {
+            long expectedModCount = this.modCount.get();
+            BitSet newAncestors = new BitSet();
+            generator.valueOf(type).forEach(t -> newAncestors.set(getNode(t).id));
+            synchronized (this)
+            {
+                // if the hierarchy changed while computing, the result may refer to an id which has been reused: it
+                // is not kept, and the check using it is retried
+                if (this.modCount.get() == expectedModCount)
+                {
+                    node.ancestors.compareAndSet(null, newAncestors);
+                }
+            }
+            ancestors = newAncestors;
+        }
+        return ancestors;
+    }
+
+    private TypeNode getNode(CoreInstance type)
+    {
+        TypeNode node = this.nodes.get(type);
+        if (node == null)
+        {
+            TypeNode newNode = new TypeNode(newId());
+            node = this.nodes.putIfAbsent(type, newNode);
+            if (node == null)
+            {
+                node = newNode;
+            }
+            else
+            {
+                // another thread indexed type first
+                releaseId(newNode.id);
+            }
+        }
+        return node;
+    }
+
+    private synchronized int newId()
+    {
+        return this.freeIds.isEmpty() ? this.nextId++ : this.freeIds.pop();
+    }
+
+    private synchronized void releaseId(int id)
+    {
+        this.freeIds.push(id);
+    }
+
+    private static class TypeNode
+    {
+        private final int id;
+        private final AtomicReference<BitSet> ancestors = new AtomicReference<>();
+
+        private TypeNode(int id)
+        {
+            this.id = id;
+        }
+    }
+}
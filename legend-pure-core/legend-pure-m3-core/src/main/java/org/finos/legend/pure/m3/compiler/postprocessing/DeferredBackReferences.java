@@ -0,0 +1,160 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.compiler.postprocessing;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.MutableList;
+import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.function.Function;
+import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.valuespecification.FunctionExpression;
+import org.finos.legend.pure.m3.navigation.Instance;
+import org.finos.legend.pure.m3.navigation.M3Properties;
+import org.finos.legend.pure.m3.navigation.ProcessorSupport;
+import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+
+/**
+ * Back references (function applications and reference usages) found while a group of elements is post-processed
+ * concurrently with other groups. The instances which get these back references are shared between groups, so rather
+ * than modifying them from several threads, in an order which depends on thread timing, the back references of each
+ * group are collected in the thread processing it and added to the graph when the group results are merged. The
+ * resulting order is deterministic, but may differ from the order sequential processing gives (see
+ * {@link PostProcessor}).
+ */
+public class DeferredBackReferences
+{
+    private static final ThreadLocal<DeferredBackReferences> CURRENT = new ThreadLocal<>();
+
+    private final MutableList<BackReference> backReferences = Lists.mutable.empty();
+
+    private DeferredBackReferences()
+    {
+    }
+
+    /**
+     * Start collecting the back references found in the current thread, until {@link #stopCollecting()} is called.
+     */
+    static DeferredBackReferences startCollecting()
+    {
+        DeferredBackReferences deferred = new DeferredBackReferences();
+        CURRENT.set(deferred);
+        return deferred;
+    }
+
+    void stopCollecting()
+    {
+        if (CURRENT.get() == this)
+        {
+            CURRENT.remove();
+        }
+    }
+
+    /**
+     * Add the back references to the graph, in the order they were found.
+     */
+    void apply(ProcessorSupport processorSupport)
+    {
+        this.backReferences.forEach(backReference ->
+        {
+            if (backReference.isApplication())
+            {
+                ((Function<?>) backReference.used)._applicationsAdd((FunctionExpression) backReference.value);
+            }
+            else
+            {
+                Instance.addValueToProperty(backReference.used, M3Properties.referenceUsages, backReference.value, processorSupport);
+            }
+        });
+        this.backReferences.clear();
+    }
+
+    /**
+     * Defer adding an application to a function, if back references are being collected in the current thread.
+     *
+     * @return whether the application was deferred (otherwise, the caller must add it)
+     */
+    public static boolean deferApplication(Function<?> function, FunctionExpression application)
+    {
+        DeferredBackReferences deferred = CURRENT.get();
+        if (deferred == null)
+        {
+            return false;
+        }
+        deferred.backReferences.add(new BackReference(function, M3Properties.applications, application));
+        return true;
+    }
+
+    /**
+     * Remove an application which was deferred in the current thread, e.g., because the function expression is being
+     * unbound to be processed again.
+     *
+     * @return whether a deferred application was removed (otherwise, the caller must remove it from the function)
+     */
+    public static boolean removeDeferredApplication(Function<?> function, FunctionExpression application)
+    {
+        DeferredBackReferences deferred = CURRENT.get();
+        return (deferred != null) && deferred.backReferences.removeIf(b -> b.isApplication() && (b.used == function) && (b.value == application));
+    }
+
+    /**
+     * Defer adding a reference usage, if back references are being collected in the current thread.
+     *
+     * @return whether the reference usage was deferred (otherwise, the caller must add it)
+     */
+    public static boolean deferReferenceUsage(CoreInstance used, CoreInstance referenceUsage)
+    {
+        DeferredBackReferences deferred = CURRENT.get();
+        if (deferred == null)
+        {
+            return false;
+        }
+        deferred.backReferences.add(new BackReference(used, M3Properties.referenceUsages, referenceUsage));
+        return true;
+    }
+
+    /**
+     * Remove the reference usages of used by user which were deferred in the current thread.
+     *
+     * @return number of reference usages removed
+     */
+    public static int removeDeferredReferenceUsagesForUser(CoreInstance used, CoreInstance user)
+    {
+        DeferredBackReferences deferred = CURRENT.get();
+        if (deferred == null)
+        {
+            return 0;
+        }
+        int before = deferred.backReferences.size();
+        deferred.backReferences.removeIf(b -> !b.isApplication() && (b.used == used) && (b.value.getValueForMetaPropertyToOne(M3Properties.owner) == user));
+        return before - deferred.backReferences.size();
+    }
+
+    private static class BackReference
+    {
+        private final CoreInstance used;
+        private final String property;
+        private final CoreInstance value;
+
+        private BackReference(CoreInstance used, String property, CoreInstance value)
+        {
+            this.used = used;
+            this.property = property;
+            this.value = value;
+        }
+
+        private boolean isApplication()
+        {
+            return M3Properties.applications.equals(this.property);
+        }
+    }
+}
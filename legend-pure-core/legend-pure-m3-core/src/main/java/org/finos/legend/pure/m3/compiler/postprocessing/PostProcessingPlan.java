@@ -0,0 +1,329 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.compiler.postprocessing;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.collections.api.factory.Stacks;
+import org.eclipse.collections.api.list.ListIterable;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.list.primitive.MutableIntList;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.multimap.list.MutableListMultimap;
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.api.set.primitive.MutableIntSet;
+import org.eclipse.collections.api.stack.MutableStack;
+import org.eclipse.collections.impl.factory.Multimaps;
+import org.eclipse.collections.impl.factory.primitive.IntLists;
+import org.eclipse.collections.impl.factory.primitive.IntSets;
+import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel._import.ImportStub;
+import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.function.ConcreteFunctionDefinition;
+import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.relationship.Association;
+import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.type.Type;
+import org.finos.legend.pure.m3.navigation.M3Properties;
+import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+import org.finos.legend.pure.m4.coreinstance.primitive.PrimitiveCoreInstance;
+
+import java.util.Arrays;
+
+/**
+ * Ordering of top level elements for parallel post-processing. Only concrete function definitions are processed
+ * concurrently: associations, types and all other elements are processed sequentially first (in that order), which
+ * means they are processed in a different order from sequential post-processing, where every element is processed
+ * in the order given. Concrete function definitions are then arranged into waves: each
+ * wave consists of groups which only depend on functions from earlier waves, so groups within a wave can be processed
+ * concurrently. Functions which (possibly) depend on each other cyclically end up in the same group.
+ *
+ * <p>Dependencies between functions are computed before they are bound, so they are approximated by name: a function
+ * depends on every function in the batch whose name matches the name of a function expression or import stub in its
+ * body. This may over-approximate the dependencies, which only costs parallelism.
+ */
+class PostProcessingPlan
+{
+    private static final MutableSet<String> IGNORED_PROPERTIES = Sets.mutable.with(M3Properties._package, M3Properties.applications, M3Properties.referenceUsages);
+
+    private final ListIterable<CoreInstance> sequential;
+    private final ListIterable<ListIterable<ListIterable<CoreInstance>>> waves;
+
+    private PostProcessingPlan(ListIterable<CoreInstance> sequential, ListIterable<ListIterable<ListIterable<CoreInstance>>> waves)
+    {
+        this.sequential = sequential;
+        this.waves = waves;
+    }
+
+    /**
+     * Elements which must be processed sequentially before any of the waves.
+     *
+     * @return sequential elements
+     */
+    ListIterable<CoreInstance> getSequential()
+    {
+        return this.sequential;
+    }
+
+    /**
+     * Waves of function groups. Waves must be processed in order; groups within a wave may be processed concurrently;
+     * elements within a group must be processed sequentially.
+     *
+     * @return function waves
+     */
+    ListIterable<ListIterable<ListIterable<CoreInstance>>> getWaves()
+    {
+        return this.waves;
+    }
+
+    int getWaveCount()
+    {
+        return this.waves.size();
+    }
+
+    static PostProcessingPlan build(ListIterable<? extends CoreInstance> instances)
+    {
+        MutableList<CoreInstance> associations = Lists.mutable.empty();
+        MutableList<CoreInstance> types = Lists.mutable.empty();
+        MutableList<CoreInstance> others = Lists.mutable.empty();
+        MutableList<CoreInstance> functions = Lists.mutable.empty();
+        instances.forEach(instance ->
+        {
+            if (instance instanceof ConcreteFunctionDefinition)
+            {
+                functions.add(instance);
+            }
+            else if (instance instanceof Association)
+            {
+                associations.add(instance);
+            }
+            else if (instance instanceof Type)
+            {
+                types.add(instance);
+            }
+            else
+            {
+                others.add(instance);
+            }
+        });
+        MutableList<CoreInstance> sequential = Lists.mutable.<CoreInstance>ofInitialCapacity(instances.size() - functions.size())
+                .withAll(associations)
+                .withAll(types)
+                .withAll(others);
+        return new PostProcessingPlan(sequential, computeWaves(functions));
+    }
+
+    private static ListIterable<ListIterable<ListIterable<CoreInstance>>> computeWaves(ListIterable<CoreInstance> functions)
+    {
+        if (functions.isEmpty())
+        {
+            return Lists.immutable.empty();
+        }
+
+        // Index functions by the names they may be referenced by
+        MutableListMultimap<String, Integer> functionsByName = Multimaps.mutable.list.empty();
+        functions.forEachWithIndex((function, i) ->
+        {
+            functionsByName.put(function.getName(), i);
+            CoreInstance functionName = function.getValueForMetaPropertyToOne(M3Properties.functionName);
+            if ((functionName != null) && !functionName.getName().equals(function.getName()))
+            {
+                functionsByName.put(functionName.getName(), i);
+            }
+        });
+
+        int[][] dependencies = new int[functions.size()][];
+        functions.forEachWithIndex((function, i) ->
+        {
+            MutableIntSet deps = IntSets.mutable.empty();
+            collectReferencedNames(function).forEach(name -> functionsByName.get(name).forEach(deps::add));
+            deps.remove(i);
+            dependencies[i] = deps.toSortedArray();
+        });
+
+        int[] components = new int[functions.size()];
+        int componentCount = computeStronglyConnectedComponents(dependencies, components);
+
+        // Tarjan's algorithm numbers components such that a component's dependencies have lower numbers
+        int[] componentLevels = new int[componentCount];
+        MutableList<MutableIntList> componentMembers = Lists.mutable.ofInitialCapacity(componentCount);
+        for (int c = 0; c < componentCount; c++)
+        {
+            componentMembers.add(IntLists.mutable.empty());
+        }
+        for (int i = 0; i < components.length; i++)
+        {
+            componentMembers.get(components[i]).add(i);
+        }
+        int maxLevel = 0;
+        for (int c = 0; c < componentCount; c++)
+        {
+            int level = 0;
+            for (int member : componentMembers.get(c).toArray())
+            {
+                for (int dep : dependencies[member])
+                {
+                    int depComponent = components[dep];
+                    if (depComponent != c)
+                    {
+                        level = Math.max(level, componentLevels[depComponent] + 1);
+                    }
+                }
+            }
+            componentLevels[c] = level;
+            maxLevel = Math.max(maxLevel, level);
+        }
+
+        // Build waves, ordering groups by their first member and members by their original position
+        MutableList<MutableList<ListIterable<CoreInstance>>> waves = Lists.mutable.ofInitialCapacity(maxLevel + 1);
+        for (int level = 0; level <= maxLevel; level++)
+        {
+            waves.add(Lists.mutable.empty());
+        }
+        MutableMap<Integer, MutableList<CoreInstance>> groups = Maps.mutable.empty();
+        for (int i = 0; i < components.length; i++)
+        {
+            int component = components[i];
+            MutableList<CoreInstance> group = groups.get(component);
+            if (group == null)
+            {
+                group = Lists.mutable.empty();
+                groups.put(component, group);
+                waves.get(componentLevels[component]).add(group);
+            }
+            group.add(functions.get(i));
+        }
+        return Lists.mutable.withAll(waves);
+    }
+
+    private static MutableSet<String> collectReferencedNames(CoreInstance function)
+    {
+        MutableSet<String> names = Sets.mutable.empty();
+        MutableSet<CoreInstance> visited = Sets.mutable.with(function);
+        MutableStack<CoreInstance> stack = Stacks.mutable.with(function);
+        while (stack.notEmpty())
+        {
+            CoreInstance instance = stack.pop();
+            if (instance instanceof ImportStub)
+            {
+                CoreInstance idOrPath = instance.getValueForMetaPropertyToOne(M3Properties.idOrPath);
+                if (idOrPath != null)
+                {
+                    String path = idOrPath.getName();
+                    int index = path.lastIndexOf("::");
+                    names.add((index == -1) ? path : path.substring(index + 2));
+                }
+            }
+            else
+            {
+                if (instance != function)
+                {
+                    CoreInstance functionName = instance.getValueForMetaPropertyToOne(M3Properties.functionName);
+                    if (functionName != null)
+                    {
+                        names.add(functionName.getName());
+                    }
+                }
+                instance.getKeys().forEach(key ->
+                {
+                    if (!IGNORED_PROPERTIES.contains(key))
+                    {
+                        instance.getValueForMetaPropertyToMany(key).forEach(value ->
+                        {
+                            if (!(value instanceof PrimitiveCoreInstance) && !(value instanceof org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.PackageableElement) && visited.add(value))
+                            {
+                                stack.push(value);
+                            }
+                        });
+                    }
+                });
+            }
+        }
+        return names;
+    }
+
+    /**
+     * Iterative version of Tarjan's strongly connected components algorithm. Components are numbered in the order in
+     * which they are completed, so every component only depends on components with a lower number.
+     */
+    private static int computeStronglyConnectedComponents(int[][] dependencies, int[] components)
+    {
+        int size = dependencies.length;
+        int[] index = new int[size];
+        int[] lowLink = new int[size];
+        boolean[] onStack = new boolean[size];
+        Arrays.fill(index, -1);
+        int[] callStack = new int[size];
+        int[] edgeIndex = new int[size];
+        MutableIntList componentStack = IntLists.mutable.empty();
+        int nextIndex = 0;
+        int componentCount = 0;
+
+        for (int root = 0; root < size; root++)
+        {
+            if (index[root] != -1)
+            {
+                continue;
+            }
+            int depth = 0;
+            callStack[0] = root;
+            edgeIndex[0] = 0;
+            index[root] = lowLink[root] = nextIndex++;
+            componentStack.add(root);
+            onStack[root] = true;
+            while (depth >= 0)
+            {
+                int node = callStack[depth];
+                int[] nodeDeps = dependencies[node];
+                if (edgeIndex[depth] < nodeDeps.length)
+                {
+                    int dep = nodeDeps[edgeIndex[depth]++];
+                    if (index[dep] == -1)
+                    {
+                        index[dep] = lowLink[dep] = nextIndex++;
+                        componentStack.add(dep);
+                        onStack[dep] = true;
+                        depth++;
+                        callStack[depth] = dep;
+                        edgeIndex[depth] = 0;
+                    }
+                    else if (onStack[dep])
+                    {
+                        lowLink[node] = Math.min(lowLink[node], index[dep]);
+                    }
+                }
+                else
+                {
+                    if (lowLink[node] == index[node])
+                    {
+                        int member;
+                        do
+                        {
+                            member = componentStack.removeAtIndex(componentStack.size() - 1);
+                            onStack[member] = false;
+                            components[member] = componentCount;
+                        }
+                        while (member != node);
+                        componentCount++;
+                    }
+                    depth--;
+                    if (depth >= 0)
+                    {
+                        int parent = callStack[depth];
+                        lowLink[parent] = Math.min(lowLink[parent], lowLink[node]);
+                    }
+                }
+            }
+        }
+        return componentCount;
+    }
+}
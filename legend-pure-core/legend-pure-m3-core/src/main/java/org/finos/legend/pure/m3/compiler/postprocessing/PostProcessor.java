@@ -16,6 +16,7 @@ package org.finos.legend.pure.m3.compiler.postprocessing;
 
 import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.collections.api.list.ListIterable;
 import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.set.SetIterable;
 import org.finos.legend.pure.m3.SourceMutation;
@@ -42,10 +43,15 @@ import org.finos.legend.pure.m3.serialization.grammar.ParserLibrary;
 import org.finos.legend.pure.m3.serialization.grammar.m3parser.inlinedsl.InlineDSLLibrary;
 import org.finos.legend.pure.m3.serialization.runtime.Message;
 import org.finos.legend.pure.m3.serialization.runtime.pattern.URLPatternLibrary;
+import org.finos.legend.pure.m3.tools.forkjoin.ForkJoinTools;
 import org.finos.legend.pure.m3.tools.matcher.Matcher;
 import org.finos.legend.pure.m4.ModelRepository;
 import org.finos.legend.pure.m4.coreinstance.CoreInstance;
 import org.finos.legend.pure.m4.exception.PureCompilationException;
+import org.finos.legend.pure.m4.transaction.framework.ThreadLocalTransactionContext;
+import org.finos.legend.pure.m4.transaction.framework.Transaction;
+
+import java.util.concurrent.ForkJoinPool;
 
 public class PostProcessor
 {
@@ -55,6 +61,23 @@ public class PostProcessor
     }
 
     public static SourceMutation process(Iterable<? extends CoreInstance> newInstancesConsolidated, ModelRepository modelRepository, ParserLibrary parserLibrary, InlineDSLLibrary inlineDSLLibrary, RepositoryCodeStorage codeStorage, Context context, ProcessorSupport processorSupport, URLPatternLibrary URLPatternLibrary, Message message, PostProcessorObserver observer) throws PureCompilationException
+    {
+        return process(newInstancesConsolidated, modelRepository, parserLibrary, inlineDSLLibrary, codeStorage, context, processorSupport, URLPatternLibrary, message, observer, null, null);
+    }
+
+    /**
+     * Post-process the given instances. If a fork join pool is supplied, independent concrete function definitions are
+     * processed concurrently (see {@link PostProcessingPlan}), and the back references they add to shared instances
+     * are added in group order when the results are merged (see {@link DeferredBackReferences}); all other elements,
+     * and everything when no pool is supplied, are processed sequentially. If a transaction is supplied, it is opened
+     * in each worker thread. Note that any observer supplied must be thread safe when processing concurrently.
+     *
+     * <p>Processing concurrently gives the same back references as processing sequentially, and always in the same
+     * order, but not necessarily in the same order as sequential processing: the elements which are not concrete
+     * function definitions are processed first, and the back references found in each wave are added after those of
+     * earlier waves, whereas sequential processing follows the order of the instances.
+     */
+    public static SourceMutation process(Iterable<? extends CoreInstance> newInstancesConsolidated, ModelRepository modelRepository, ParserLibrary parserLibrary, InlineDSLLibrary inlineDSLLibrary, RepositoryCodeStorage codeStorage, Context context, ProcessorSupport processorSupport, URLPatternLibrary URLPatternLibrary, Message message, PostProcessorObserver observer, ForkJoinPool forkJoinPool, Transaction transaction) throws PureCompilationException
     {
         CoreInstance concreteFunctionDefinition = processorSupport.package_getByUserPath(M3Paths.ConcreteFunctionDefinition);
         CoreInstance nativeFunction = processorSupport.package_getByUserPath(M3Paths.NativeFunction);
@@ -76,15 +99,68 @@ public class PostProcessor
         inlineDSLLibrary.getInlineDSLs().forEach(dsl -> dsl.getProcessors().forEach(matcher::addMatchIfTypeIsKnown));
 
         ProcessorState state = new ProcessorState(VariableContext.newVariableContext(), parserLibrary, inlineDSLLibrary, processorSupport, URLPatternLibrary, codeStorage, message, observer);
-        allInstancesConsolidated.forEach(coreInstance ->
+        if (forkJoinPool == null)
         {
-            state.resetVariableContext();
-            processElement(matcher, coreInstance, state, processorSupport);
+            processElements(matcher, allInstancesConsolidated, state, processorSupport);
+            state.getFunctionDefinitions().forEach(functionDef -> GenericTypeTraceability.addTraceForFunctionDefinition((FunctionDefinition<?>) functionDef, modelRepository, processorSupport));
+            return state.getSourceMutation();
+        }
+
+        PostProcessingPlan plan = PostProcessingPlan.build(allInstancesConsolidated);
+        processElements(matcher, plan.getSequential(), state, processorSupport);
+
+        SourceMutation sourceMutation = state.getSourceMutation();
+        MutableList<CoreInstance> functionDefinitions = Lists.mutable.withAll(state.getFunctionDefinitions());
+        plan.getWaves().forEachWithIndex((wave, i) ->
+        {
+            if (message != null)
+            {
+                message.setMessage(String.format("Binding functions (wave %,d/%,d)", i + 1, plan.getWaveCount()));
+            }
+            ListIterable<ProcessingGroupResult> results = ForkJoinTools.collect(forkJoinPool, wave, group ->
+            {
+                ProcessorState groupState = new ProcessorState(VariableContext.newVariableContext(), parserLibrary, inlineDSLLibrary, processorSupport, URLPatternLibrary, codeStorage, null, observer);
+                DeferredBackReferences backReferences = DeferredBackReferences.startCollecting();
+                try (ThreadLocalTransactionContext ignore = (transaction == null) ? null : transaction.openInCurrentThread())
+                {
+                    processElements(matcher, group, groupState, processorSupport);
+                    return new ProcessingGroupResult(groupState, backReferences, null);
+                }
+                catch (RuntimeException e)
+                {
+                    return new ProcessingGroupResult(groupState, backReferences, e);
+                }
+                finally
+                {
+                    backReferences.stopCollecting();
+                }
+            }, 1);
+
+            // Merge in a deterministic order, and report the first error in that order
+            results.forEach(result ->
+            {
+                if (result.exception != null)
+                {
+                    throw result.exception;
+                }
+                result.backReferences.apply(processorSupport);
+                sourceMutation.merge(result.state.getSourceMutation());
+                functionDefinitions.addAllIterable(result.state.getFunctionDefinitions());
+            });
         });
 
-        state.getFunctionDefinitions().forEach(functionDef -> GenericTypeTraceability.addTraceForFunctionDefinition((FunctionDefinition<?>) functionDef, modelRepository, processorSupport));
+        functionDefinitions.distinct().forEach(functionDef -> GenericTypeTraceability.addTraceForFunctionDefinition((FunctionDefinition<?>) functionDef, modelRepository, processorSupport));
 
-        return state.getSourceMutation();
+        return sourceMutation;
+    }
+
+    private static void processElements(Matcher matcher, Iterable<? extends CoreInstance> instances, ProcessorState state, ProcessorSupport processorSupport)
+    {
+        instances.forEach(coreInstance ->
+        {
+            state.resetVariableContext();
+            processElement(matcher, coreInstance, state, processorSupport);
+        });
     }
 
     private static void addMatchersComingFromParsers(ParserLibrary parserLibrary, Matcher matcher)
@@ -182,4 +258,18 @@ public class PostProcessor
             GenericTypeValidator.validateClassifierGenericTypeForInstance(instance, false, processorSupport);
         }
     }
+
+    private static class ProcessingGroupResult
+    {
+        private final ProcessorState state;
+        private final DeferredBackReferences backReferences;
+        private final RuntimeException exception;
+
+        private ProcessingGroupResult(ProcessorState state, DeferredBackReferences backReferences, RuntimeException exception)
+        {
+            this.state = state;
+            this.backReferences = backReferences;
+            this.exception = exception;
+        }
+    }
 }
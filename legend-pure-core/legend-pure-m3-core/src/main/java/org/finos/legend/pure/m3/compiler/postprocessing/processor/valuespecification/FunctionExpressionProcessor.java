@@ -26,6 +26,7 @@ import org.eclipse.collections.api.set.primitive.IntSet;
 import org.eclipse.collections.api.set.primitive.MutableIntSet;
 import org.eclipse.collections.impl.factory.primitive.IntSets;
 import org.finos.legend.pure.m3.compiler.Context;
+import org.finos.legend.pure.m3.compiler.postprocessing.DeferredBackReferences;
 import org.finos.legend.pure.m3.compiler.postprocessing.GenericTypeTraceability;
 import org.finos.legend.pure.m3.compiler.postprocessing.PostProcessor;
 import org.finos.legend.pure.m3.compiler.postprocessing.ProcessorState;
@@ -230,7 +231,10 @@ public class FunctionExpressionProcessor extends Processor<FunctionExpression>
 
         if (finalFunction != null)
         {
-            finalFunction._applicationsAdd(functionExpression);
+            if (!DeferredBackReferences.deferApplication(finalFunction, functionExpression))
+            {
+                finalFunction._applicationsAdd(functionExpression);
+            }
 
             // Update the function in the function expression in the reverse
             if ("new_Class_1__String_1__KeyExpression_MANY__T_1_".equals(finalFunction.getName()) || "new_Class_1__String_1__T_1_".equals(finalFunction.getName()))
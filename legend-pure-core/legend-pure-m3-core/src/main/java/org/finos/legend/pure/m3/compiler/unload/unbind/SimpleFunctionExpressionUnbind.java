@@ -19,6 +19,7 @@ import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.list.ListIterable;
 import org.eclipse.collections.api.list.MutableList;
 import org.finos.legend.pure.m3.compiler.Context;
+import org.finos.legend.pure.m3.compiler.postprocessing.DeferredBackReferences;
 import org.finos.legend.pure.m3.compiler.postprocessing.processor.Automap;
 import org.finos.legend.pure.m3.compiler.postprocessing.processor.milestoning.MilestoningDatesPropagationFunctions;
 import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.function.Function;
@@ -50,7 +51,7 @@ public class SimpleFunctionExpressionUnbind implements MatchRunner<SimpleFunctio
         ProcessorSupport processorSupport = state.getProcessorSupport();
 
         Function<?> function = (Function<?>) ImportStub.withImportStubByPass(functionExpression._funcCoreInstance(), processorSupport);
-        if (function != null)
+        if ((function != null) && !DeferredBackReferences.removeDeferredApplication(function, functionExpression))
         {
             function._applicationsRemove(functionExpression);
             if (function._applications().isEmpty())
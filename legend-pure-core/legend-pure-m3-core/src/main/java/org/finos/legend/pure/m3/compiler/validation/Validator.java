@@ -15,7 +15,9 @@
 package org.finos.legend.pure.m3.compiler.validation;
 
 import org.eclipse.collections.api.list.ListIterable;
+import org.eclipse.collections.api.map.ConcurrentMutableMap;
 import org.eclipse.collections.impl.factory.Lists;
+import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
 import org.finos.legend.pure.m3.SourceMutation;
 import org.finos.legend.pure.m3.compiler.Context;
 import org.finos.legend.pure.m3.compiler.validation.validator.GenericTypeValidator;
@@ -30,15 +32,24 @@ import org.finos.legend.pure.m3.navigation._class._Class;
 import org.finos.legend.pure.m3.serialization.filesystem.usercodestorage.RepositoryCodeStorage;
 import org.finos.legend.pure.m3.serialization.grammar.ParserLibrary;
 import org.finos.legend.pure.m3.serialization.grammar.m3parser.inlinedsl.InlineDSLLibrary;
+import org.finos.legend.pure.m3.tools.forkjoin.ForkJoinTools;
 import org.finos.legend.pure.m3.tools.matcher.MatchRunner;
 import org.finos.legend.pure.m3.tools.matcher.Matcher;
 import org.finos.legend.pure.m4.ModelRepository;
 import org.finos.legend.pure.m4.coreinstance.CoreInstance;
 import org.finos.legend.pure.m4.coreinstance.SourceInformation;
 import org.finos.legend.pure.m4.exception.PureCompilationException;
+import org.finos.legend.pure.m4.transaction.framework.ThreadLocalTransactionContext;
+import org.finos.legend.pure.m4.transaction.framework.Transaction;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
 
 public class Validator
 {
+    // instances claimed by the workers of a concurrent validation, if any is running in the current thread
+    private static final ThreadLocal<ConcurrentMutableMap<CoreInstance, Boolean>> CLAIMED = new ThreadLocal<>();
+
     private Validator()
     {
     }
@@ -61,9 +72,56 @@ public class Validator
         newInstancesConsolidated.forEach(i -> validate(i, validatorState, matcher, processorSupport));
     }
 
+    /**
+     * Validate instances concurrently on the given fork join pool. Each instance is validated with its own
+     * {@link ValidatorState}, and each instance reached during validation is claimed by exactly one worker. If a
+     * transaction is given, it is opened in each worker thread.
+     * <p>
+     * Which errors are found concurrently depends on thread timing, since a worker stops at its first error. So if
+     * there is any error, the validated marks set by the concurrent pass are cleared and the instances are validated
+     * again sequentially, which reports the same error as {@link #validateM3(Iterable, ValidationType, ParserLibrary,
+     * InlineDSLLibrary, Iterable, RepositoryCodeStorage, ModelRepository, Context, ProcessorSupport)}.
+     */
+    public static void validateM3(ListIterable<? extends CoreInstance> newInstancesConsolidated, ValidationType validationType, ParserLibrary parserLibrary, InlineDSLLibrary inlineDSLLibrary, Iterable<? extends MatchRunner> additionalValidators, RepositoryCodeStorage codeStorage, ModelRepository modelRepository, Context context, ProcessorSupport processorSupport, ForkJoinPool forkJoinPool, int threshold, Transaction transaction) throws PureCompilationException
+    {
+        Matcher matcher = new Matcher(modelRepository, context, processorSupport);
+
+        parserLibrary.getParsers().forEach(p -> p.getValidators().forEach(matcher::addMatchIfTypeIsKnown));
+        inlineDSLLibrary.getInlineDSLs().forEach(d -> d.getValidators().forEach(matcher::addMatchIfTypeIsKnown));
+        additionalValidators.forEach(matcher::addMatchIfTypeIsKnown);
+
+        ConcurrentMutableMap<CoreInstance, Boolean> claimed = ConcurrentHashMap.newMap();
+        ListIterable<RuntimeException> results = ForkJoinTools.collect(forkJoinPool, newInstancesConsolidated, instance ->
+        {
+            CLAIMED.set(claimed);
+            try (ThreadLocalTransactionContext ignore = (transaction == null) ? null : transaction.openInCurrentThread())
+            {
+                validate(instance, new ValidatorState(validationType, codeStorage, inlineDSLLibrary, processorSupport), matcher, processorSupport);
+                return null;
+            }
+            catch (RuntimeException e)
+            {
+                return e;
+            }
+            finally
+            {
+                CLAIMED.remove();
+            }
+        }, threshold);
+
+        RuntimeException error = results.detect(Objects::nonNull);
+        if (error != null)
+        {
+            claimed.keysView().forEach(CoreInstance::markNotValidated);
+            validateM3(newInstancesConsolidated, validationType, parserLibrary, inlineDSLLibrary, additionalValidators, codeStorage, modelRepository, context, processorSupport);
+            // the sequential pass should fail too, but in case it does not, report the concurrent error
+            throw error;
+        }
+    }
+
     public static void validate(CoreInstance coreInstance, ValidatorState validatorState, Matcher matcher, ProcessorSupport processorSupport) throws PureCompilationException
     {
-        if (!coreInstance.hasBeenValidated() && !SourceMutation.isMarkedForDeletion(coreInstance))
+        if (!coreInstance.hasBeenValidated() && !SourceMutation.isMarkedForDeletion(coreInstance) && claim(coreInstance))
         {
             GenericTypeValidator.validateClassifierGenericTypeForInstance(coreInstance, true, processorSupport);
             coreInstance.markValidated();
@@ -77,6 +135,12 @@ public class Validator
         }
     }
 
+    private static boolean claim(CoreInstance coreInstance)
+    {
+        ConcurrentMutableMap<CoreInstance, Boolean> claimed = CLAIMED.get();
+        return (claimed == null) || (claimed.putIfAbsent(coreInstance, Boolean.TRUE) == null);
+    }
+
     private static void validateClassifier(CoreInstance coreInstance)
     {
         CoreInstance classifier = coreInstance.getClassifier();
@@ -21,7 +21,7 @@ import java.io.PrintStream;
 
 public abstract class AbstractConsole implements Console
 {
-    private final MutableList<String> lines = Lists.mutable.empty();
+    private final MutableList<String> lines = Lists.mutable.<String>empty().asSynchronized();
     private PrintStream printStream = System.out;
     private boolean isEnabled = true;
     private boolean isConsole = true;
@@ -0,0 +1,457 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.execution.test;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.ListIterable;
+import org.eclipse.collections.api.list.MutableList;
+import org.finos.legend.pure.m3.execution.Console;
+import org.finos.legend.pure.m3.execution.FunctionExecution;
+import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test runner which runs the tests of different test collections concurrently on a fork join pool.
+ * <p>
+ * The tests of each collection are run sequentially, as a unit, on one thread. Units are scheduled longest first,
+ * using the durations recorded by previous runs (see {@link #getRecordedDurations()}). The before functions of a
+ * collection are run once, before the first unit in or below the collection, and its after functions once, after the
+ * last one. The console output of each test is captured per thread, and results are reported to the
+ * {@link TestCallBack} in the same order as by {@link TestRunner}, without shuffling.
+ * <p>
+ * Units can also be split into shards, e.g., to distribute tests across processes. Units are assigned to shards
+ * longest first, each to the shard with the least total estimated duration, so the assignment is deterministic for a
+ * given test collection and set of durations. The runner only runs (and reports as found) the tests of its shard.
+ * <p>
+ * If no pool is given, units are run sequentially. Otherwise, the function execution must support concurrent
+ * executions.
+ */
+public class ParallelTestRunner extends TestRunner
+{
+    private static final Comparator<Unit> LONGEST_FIRST = Comparator.comparingLong((Unit u) -> u.estimatedDuration).reversed().thenComparingInt(u -> u.order);
+
+    private final ForkJoinPool forkJoinPool;
+    private final ListIterable<Unit> units;
+    private final TestDurations recordedDurations = new TestDurations();
+    private final Object reportLock = new Object();
+    private int nextReport = 0;
+
+    private ParallelTestRunner(Builder builder, ListIterable<Unit> units)
+    {
+        super(builder.tests, builder.includeAlloyOnlyTests, builder.functionExecution, builder.callBack, false, builder.pctAdapter, units.flatCollect(u -> u.tests));
+        this.forkJoinPool = builder.forkJoinPool;
+        this.units = units;
+    }
+
+    @Override
+    public void run()
+    {
+        Console console = getFunctionExecution().getConsole();
+        console.setConsole(true);
+        // output outside of tests (e.g., from before and after functions) goes to standard out
+        PerThreadOutputStream output = new PerThreadOutputStream(System.out);
+        console.setPrintStream(new PrintStream(output));
+        if (this.forkJoinPool == null)
+        {
+            this.units.forEach(unit -> runUnit(unit, output));
+        }
+        else
+        {
+            // join every task, even after a failure, so that no unit is still running when this returns
+            ListIterable<ForkJoinTask<?>> tasks = this.units.toSortedList(LONGEST_FIRST).collect(unit -> this.forkJoinPool.submit(() -> runUnit(unit, output)));
+            RuntimeException failure = null;
+            for (ForkJoinTask<?> task : tasks)
+            {
+                try
+                {
+                    task.join();
+                }
+                catch (RuntimeException e)
+                {
+                    if (failure == null)
+                    {
+                        failure = e;
+                    }
+                    else
+                    {
+                        failure.addSuppressed(e);
+                    }
+                }
+            }
+            if (failure != null)
+            {
+                throw failure;
+            }
+        }
+    }
+
+    /**
+     * Get the durations of the tests run so far by this runner, e.g., to write them for use by later runs.
+     *
+     * @return recorded durations
+     */
+    public TestDurations getRecordedDurations()
+    {
+        return this.recordedDurations;
+    }
+
+    private void runUnit(Unit unit, PerThreadOutputStream output)
+    {
+        MutableList<TestResult> results = Lists.mutable.ofInitialCapacity(unit.tests.size());
+        try
+        {
+            if (!isStopped())
+            {
+                runTests(unit, output, results);
+            }
+        }
+        finally
+        {
+            // always report, even partial results, so that the units after this one can be reported in order
+            try
+            {
+                report(unit, results);
+            }
+            finally
+            {
+                unit.node.unitFinished(this);
+            }
+        }
+    }
+
+    private void runTests(Unit unit, PerThreadOutputStream output, MutableList<TestResult> results)
+    {
+        Throwable beforeFailure = unit.node.runBeforeFunctions(this);
+        if (beforeFailure != null)
+        {
+            // One of the set-up functions failed, so we fail all the tests in the unit
+            ErrorTestStatus status = new ErrorTestStatus(beforeFailure);
+            unit.tests.forEach(test -> results.add(new TestResult(test, null, status)));
+            return;
+        }
+
+        for (CoreInstance test : unit.tests)
+        {
+            if (isStopped())
+            {
+                break;
+            }
+            ByteArrayOutputStream stream = new ByteArrayOutputStream();
+            output.setTarget(stream);
+            long start = System.nanoTime();
+            TestStatus status;
+            try
+            {
+                status = executeTest(test, unit.node.collection);
+            }
+            finally
+            {
+                output.setTarget(null);
+            }
+            this.recordedDurations.setDuration(getTestId(test, unit.node.collection), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            results.add(new TestResult(test, stream.toString(), status));
+        }
+    }
+
+    private void report(Unit unit, ListIterable<TestResult> results)
+    {
+        synchronized (this.reportLock)
+        {
+            unit.results = results;
+            while ((this.nextReport < this.units.size()) && (this.units.get(this.nextReport).results != null))
+            {
+                Unit next = this.units.get(this.nextReport++);
+                try
+                {
+                    next.results.forEach(result ->
+                    {
+                        if (result.consoleOutput == null)
+                        {
+                            reportFailedTest(result.test, next.node.collection, result.status);
+                        }
+                        else
+                        {
+                            reportExecutedTest(result.test, next.node.collection, result.consoleOutput, result.status);
+                        }
+                    });
+                }
+                finally
+                {
+                    // if reporting fails, the unit still counts as reported so later units are reported in order
+                    next.results = Lists.immutable.empty();
+                }
+            }
+        }
+    }
+
+    private void runAfterFunctions(CollectionNode node)
+    {
+        if (isStopped() || !node.beforeFunctionsSucceeded())
+        {
+            return;
+        }
+        for (CoreInstance after : node.collection.getAfterFunctions())
+        {
+            try
+            {
+                executeTestFunc(after, node.collection.getTestFunctionParam(), node.collection.getTestFunctionParamCustomizer());
+            }
+            catch (Throwable t)
+            {
+                // as in TestRunner, failures of after functions are ignored
+            }
+        }
+    }
+
+    public static Builder builder(TestCollection tests, FunctionExecution functionExecution, TestCallBack callBack)
+    {
+        return new Builder(tests, functionExecution, callBack);
+    }
+
+    private static ListIterable<Unit> planUnits(TestCollection tests, boolean includeAlloyOnlyTests, TestDurations durations, int shardIndex, int shardCount)
+    {
+        MutableList<Unit> units = Lists.mutable.empty();
+        collectUnits(tests, null, includeAlloyOnlyTests, units);
+
+        long meanDuration = (durations == null) ? -1L : durations.getMeanDuration();
+        long defaultDuration = Math.max(1L, meanDuration);
+        units.forEach(unit ->
+        {
+            long estimate = 0L;
+            for (CoreInstance test : unit.tests)
+            {
+                long duration = (durations == null) ? -1L : durations.getDuration(getTestId(test, unit.node.collection));
+                estimate += (duration < 0L) ? defaultDuration : duration;
+            }
+            unit.estimatedDuration = estimate;
+        });
+
+        MutableList<Unit> selected;
+        if (shardCount == 1)
+        {
+            selected = units;
+        }
+        else
+        {
+            long[] shardDurations = new long[shardCount];
+            MutableList<Unit> inShard = Lists.mutable.empty();
+            units.toSortedList(LONGEST_FIRST).forEach(unit ->
+            {
+                int shard = 0;
+                for (int i = 1; i < shardCount; i++)
+                {
+                    if (shardDurations[i] < shardDurations[shard])
+                    {
+                        shard = i;
+                    }
+                }
+                shardDurations[shard] += unit.estimatedDuration;
+                if (shard == shardIndex)
+                {
+                    inShard.add(unit);
+                }
+            });
+            selected = inShard.sortThisByInt(u -> u.order);
+        }
+
+        selected.forEach(unit ->
+        {
+            for (CollectionNode node = unit.node; node != null; node = node.parent)
+            {
+                node.remainingUnits.incrementAndGet();
+            }
+        });
+        return selected;
+    }
+
+    private static void collectUnits(TestCollection collection, CollectionNode parent, boolean includeAlloyOnlyTests, MutableList<Unit> units)
+    {
+        // same order as TestRunner: sub-collections first, then the tests of the collection
+        CollectionNode node = new CollectionNode(collection, parent);
+        MutableList<TestCollection> subCollections = collection.getSubCollections().toSortedListBy(TEST_COLLECTION_SORT_KEY);
+        for (TestCollection subCollection : subCollections)
+        {
+            collectUnits(subCollection, node, includeAlloyOnlyTests, units);
+        }
+        MutableList<CoreInstance> tests = Lists.mutable.<CoreInstance>withAll(collection.getTestFunctions(includeAlloyOnlyTests)).sortThisBy(TEST_SORT_KEY);
+        if (tests.notEmpty())
+        {
+            units.add(new Unit(node, tests, units.size()));
+        }
+    }
+
+    private static class CollectionNode
+    {
+        private final TestCollection collection;
+        private final CollectionNode parent;
+        private final AtomicInteger remainingUnits = new AtomicInteger();
+        private boolean beforeFunctionsRun = false;
+        private Throwable beforeFailure;
+
+        private CollectionNode(TestCollection collection, CollectionNode parent)
+        {
+            this.collection = collection;
+            this.parent = parent;
+        }
+
+        /**
+         * Run the before functions of the collection and of its parents, if they have not been run yet.
+         *
+         * @return the failure of a before function, or null if they all succeeded
+         */
+        synchronized Throwable runBeforeFunctions(ParallelTestRunner runner)
+        {
+            if (!this.beforeFunctionsRun)
+            {
+                this.beforeFailure = (this.parent == null) ? null : this.parent.runBeforeFunctions(runner);
+                if (this.beforeFailure == null)
+                {
+                    for (CoreInstance before : this.collection.getBeforeFunctions())
+                    {
+                        try
+                        {
+                            runner.executeTestFunc(before, this.collection.getTestFunctionParam(), this.collection.getTestFunctionParamCustomizer());
+                        }
+                        catch (Throwable t)
+                        {
+                            this.beforeFailure = t;
+                            break;
+                        }
+                    }
+                }
+                this.beforeFunctionsRun = true;
+            }
+            return this.beforeFailure;
+        }
+
+        synchronized boolean beforeFunctionsSucceeded()
+        {
+            return this.beforeFunctionsRun && (this.beforeFailure == null);
+        }
+
+        void unitFinished(ParallelTestRunner runner)
+        {
+            if (this.remainingUnits.decrementAndGet() == 0)
+            {
+                runner.runAfterFunctions(this);
+            }
+            if (this.parent != null)
+            {
+                this.parent.unitFinished(runner);
+            }
+        }
+    }
+
+    private static class Unit
+    {
+        private final CollectionNode node;
+        private final ListIterable<CoreInstance> tests;
+        private final int order;
+        private long estimatedDuration;
+        private ListIterable<TestResult> results;
+
+        private Unit(CollectionNode node, ListIterable<CoreInstance> tests, int order)
+        {
+            this.node = node;
+            this.tests = tests;
+            this.order = order;
+        }
+    }
+
+    private static class TestResult
+    {
+        private final CoreInstance test;
+        private final String consoleOutput;
+        private final TestStatus status;
+
+        private TestResult(CoreInstance test, String consoleOutput, TestStatus status)
+        {
+            this.test = test;
+            this.consoleOutput = consoleOutput;
+            this.status = status;
+        }
+    }
+
+    public static class Builder
+    {
+        private final TestCollection tests;
+        private final FunctionExecution functionExecution;
+        private final TestCallBack callBack;
+        private boolean includeAlloyOnlyTests = false;
+        private String pctAdapter;
+        private ForkJoinPool forkJoinPool;
+        private TestDurations durations;
+        private int shardIndex = 0;
+        private int shardCount = 1;
+
+        private Builder(TestCollection tests, FunctionExecution functionExecution, TestCallBack callBack)
+        {
+            this.tests = tests;
+            this.functionExecution = functionExecution;
+            this.callBack = callBack;
+        }
+
+        public Builder withIncludeAlloyOnlyTests(boolean includeAlloyOnlyTests)
+        {
+            this.includeAlloyOnlyTests = includeAlloyOnlyTests;
+            return this;
+        }
+
+        public Builder withPCTAdapter(String pctAdapter)
+        {
+            this.pctAdapter = pctAdapter;
+            return this;
+        }
+
+        public Builder withForkJoinPool(ForkJoinPool forkJoinPool)
+        {
+            this.forkJoinPool = forkJoinPool;
+            return this;
+        }
+
+        /**
+         * Durations from previous runs, used to schedule and shard tests. Tests without a duration are estimated to
+         * take the mean duration.
+         */
+        public Builder withDurations(TestDurations durations)
+        {
+            this.durations = durations;
+            return this;
+        }
+
+        public Builder withShard(int shardIndex, int shardCount)
+        {
+            if ((shardCount < 1) || (shardIndex < 0) || (shardIndex >= shardCount))
+            {
+                throw new IllegalArgumentException("Invalid shard: " + shardIndex + " of " + shardCount);
+            }
+            this.shardIndex = shardIndex;
+            this.shardCount = shardCount;
+            return this;
+        }
+
+        public ParallelTestRunner build()
+        {
+            return new ParallelTestRunner(this, planUnits(this.tests, this.includeAlloyOnlyTests, this.durations, this.shardIndex, this.shardCount));
+        }
+    }
+}
@@ -0,0 +1,69 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.execution.test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Output stream which writes to a target set for the current thread, or to a default stream for threads without one.
+ * This lets a single console print stream capture the output of tests running concurrently on different threads.
+ */
+class PerThreadOutputStream extends OutputStream
+{
+    private final ThreadLocal<OutputStream> target = new ThreadLocal<>();
+    private final OutputStream defaultStream;
+
+    PerThreadOutputStream(OutputStream defaultStream)
+    {
+        this.defaultStream = defaultStream;
+    }
+
+    void setTarget(OutputStream stream)
+    {
+        if (stream == null)
+        {
+            this.target.remove();
+        }
+        else
+        {
+            this.target.set(stream);
+        }
+    }
+
+    @Override
+    public void write(int b) throws IOException
+    {
+        getStream().write(b);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException
+    {
+        getStream().write(b, off, len);
+    }
+
+    @Override
+    public void flush() throws IOException
+    {
+        getStream().flush();
+    }
+
+    private OutputStream getStream()
+    {
+        OutputStream stream = this.target.get();
+        return (stream == null) ? this.defaultStream : stream;
+    }
+}
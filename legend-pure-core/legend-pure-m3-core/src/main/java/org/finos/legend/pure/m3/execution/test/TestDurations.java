@@ -0,0 +1,127 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.execution.test;
+
+import org.eclipse.collections.api.map.ConcurrentMutableMap;
+import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Durations of test executions in milliseconds, by test id (the user path of the test function, followed by the test
+ * parameterization id in square brackets if there is one). Durations recorded by one run can be written to a file and
+ * read by a later run to schedule and shard its tests.
+ */
+public class TestDurations
+{
+    private final ConcurrentMutableMap<String, Long> durations = ConcurrentHashMap.newMap();
+
+    /**
+     * Get the recorded duration of a test in milliseconds, or -1 if there is none.
+     *
+     * @param testId test id
+     * @return duration in milliseconds or -1
+     */
+    public long getDuration(String testId)
+    {
+        Long duration = this.durations.get(testId);
+        return (duration == null) ? -1L : duration;
+    }
+
+    public void setDuration(String testId, long duration)
+    {
+        this.durations.put(testId, duration);
+    }
+
+    public int size()
+    {
+        return this.durations.size();
+    }
+
+    /**
+     * Get the mean of the recorded durations, or -1 if there are none.
+     *
+     * @return mean duration in milliseconds or -1
+     */
+    public long getMeanDuration()
+    {
+        long total = 0L;
+        int count = 0;
+        for (Long duration : this.durations.values())
+        {
+            total += duration;
+            count++;
+        }
+        return (count == 0) ? -1L : (total / count);
+    }
+
+    /**
+     * Write the durations to a file, one tab separated test id and duration per line, sorted by test id.
+     *
+     * @param path file path
+     */
+    public void write(Path path) throws IOException
+    {
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8))
+        {
+            for (String testId : this.durations.keysView().toSortedList())
+            {
+                writer.write(testId);
+                writer.write('\t');
+                writer.write(Long.toString(this.durations.get(testId)));
+                writer.newLine();
+            }
+        }
+    }
+
+    /**
+     * Read durations written by {@link #write}. If the file does not exist, there are no durations.
+     *
+     * @param path file path
+     * @return durations
+     */
+    public static TestDurations read(Path path) throws IOException
+    {
+        TestDurations testDurations = new TestDurations();
+        if (Files.exists(path))
+        {
+            try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8))
+            {
+                String line;
+                while ((line = reader.readLine()) != null)
+                {
+                    int tab = line.lastIndexOf('\t');
+                    if (tab != -1)
+                    {
+                        try
+                        {
+                            testDurations.setDuration(line.substring(0, tab), Long.parseLong(line.substring(tab + 1)));
+                        }
+                        catch (NumberFormatException ignore)
+                        {
+                            // skip invalid lines: durations are only used for scheduling
+                        }
+                    }
+                }
+            }
+        }
+        return testDurations;
+    }
+}
@@ -42,7 +42,7 @@ import static org.finos.legend.pure.m3.pct.shared.PCTTools.isPCTTest;
 
 public class TestRunner implements Runnable
 {
-    private static final Function<TestCollection, Comparable> TEST_COLLECTION_SORT_KEY = new Function<TestCollection, Comparable>()
+    static final Function<TestCollection, Comparable> TEST_COLLECTION_SORT_KEY = new Function<TestCollection, Comparable>()
     {
         @Override
         public Comparable valueOf(TestCollection testCollection)
@@ -51,7 +51,7 @@ public class TestRunner implements Runnable
         }
     };
 
-    private static final Function<CoreInstance, Comparable> TEST_SORT_KEY = new Function<CoreInstance, Comparable>()
+    static final Function<CoreInstance, Comparable> TEST_SORT_KEY = new Function<CoreInstance, Comparable>()
     {
         @Override
         public Comparable valueOf(CoreInstance test)
@@ -82,6 +82,11 @@ public class TestRunner implements Runnable
 
     // TODO: consider refactoring this to use builder pattern
     public TestRunner(TestCollection tests, boolean includeAlloyOnlyTests, FunctionExecution functionExecution, TestCallBack callBack, boolean shuffle, String pctAdapter)
+    {
+        this(tests, includeAlloyOnlyTests, functionExecution, callBack, shuffle, pctAdapter, tests.getAllTestFunctions(includeAlloyOnlyTests));
+    }
+
+    TestRunner(TestCollection tests, boolean includeAlloyOnlyTests, FunctionExecution functionExecution, TestCallBack callBack, boolean shuffle, String pctAdapter, Iterable<? extends CoreInstance> foundTests)
     {
         this.tests = tests;
         this.includeAlloyOnlyTests = includeAlloyOnlyTests;
@@ -89,7 +94,7 @@ public class TestRunner implements Runnable
         this.functionExecution = functionExecution;
         this.testCallBack = callBack;
         this.shuffle = shuffle;
-        callBack.foundTests(this.tests.getAllTestFunctions(includeAlloyOnlyTests));
+        callBack.foundTests(foundTests);
         this.passedTests = new UnifiedSet<>();
         this.failedTests = new UnifiedSet<>();
     }
@@ -190,25 +195,8 @@ public class TestRunner implements Runnable
             ByteArrayOutputStream stream = new ByteArrayOutputStream();
             PrintStream ps = new PrintStream(stream);
             console.setPrintStream(ps);
-            try
-            {
-                executeTestFunc(test, testCollection.getTestFunctionParam(), testCollection.getTestFunctionParamCustomizer());
-                this.testCallBack.executedTest(test, testCollection.getTestParameterizationId(), stream.toString(), TestStatus.SUCCESS);
-                this.passedTests.add(PackageableElement.getUserPathForPackageableElement(test) + (testCollection.getTestParameterizationId() == null ? "" : "[" + testCollection.getTestParameterizationId() + "]"));
-            }
-            catch (Throwable t)
-            {
-                PureException exception = PureException.findPureException(t);
-                if ((exception != null) && (exception instanceof PureAssertFailException))
-                {
-                    this.testCallBack.executedTest(test, testCollection.getTestParameterizationId(), stream.toString(), new AssertFailTestStatus((PureAssertFailException) exception));
-                }
-                else
-                {
-                    this.testCallBack.executedTest(test, testCollection.getTestParameterizationId(), stream.toString(), new ErrorTestStatus(t));
-                }
-                this.failedTests.add(PackageableElement.getUserPathForPackageableElement(test) + (testCollection.getTestParameterizationId() == null ? "" : "[" + testCollection.getTestParameterizationId() + "]"));
-            }
+            TestStatus status = executeTest(test, testCollection);
+            reportExecutedTest(test, testCollection, stream.toString(), status);
             stream.flush();
         }
 
@@ -230,7 +218,42 @@ public class TestRunner implements Runnable
         }
     }
 
-    private void executeTestFunc(CoreInstance testFunc, Object testFunctionParam, CoreInstance testFunctionParamCustomizer)
+    TestStatus executeTest(CoreInstance test, TestCollection testCollection)
+    {
+        try
+        {
+            executeTestFunc(test, testCollection.getTestFunctionParam(), testCollection.getTestFunctionParamCustomizer());
+            return TestStatus.SUCCESS;
+        }
+        catch (Throwable t)
+        {
+            PureException exception = PureException.findPureException(t);
+            return (exception instanceof PureAssertFailException) ? new AssertFailTestStatus((PureAssertFailException) exception) : new ErrorTestStatus(t);
+        }
+    }
+
+    void reportExecutedTest(CoreInstance test, TestCollection testCollection, String consoleOutput, TestStatus status)
+    {
+        this.testCallBack.executedTest(test, testCollection.getTestParameterizationId(), consoleOutput, status);
+        ((status == TestStatus.SUCCESS) ? this.passedTests : this.failedTests).add(getTestId(test, testCollection));
+    }
+
+    void reportFailedTest(CoreInstance test, TestCollection testCollection, TestStatus status)
+    {
+        this.testCallBack.executedTest(test, testCollection.getTestParameterizationId(), "", status);
+    }
+
+    boolean isStopped()
+    {
+        return this.stopped.get();
+    }
+
+    FunctionExecution getFunctionExecution()
+    {
+        return this.functionExecution;
+    }
+
+    void executeTestFunc(CoreInstance testFunc, Object testFunctionParam, CoreInstance testFunctionParamCustomizer)
     {
         ListIterable<? extends CoreInstance> args = Lists.mutable.empty();
 
@@ -284,7 +307,7 @@ public class TestRunner implements Runnable
             {
                 return;
             }
-            this.testCallBack.executedTest(test, testCollection.getTestParameterizationId(), "", status);
+            reportFailedTest(test, testCollection, status);
         }
     }
 
@@ -315,4 +338,10 @@ public class TestRunner implements Runnable
         }
         return testFunctions;
     }
+
+    static String getTestId(CoreInstance test, TestCollection testCollection)
+    {
+        String testParameterizationId = testCollection.getTestParameterizationId();
+        return PackageableElement.getUserPathForPackageableElement(test) + ((testParameterizationId == null) ? "" : ("[" + testParameterizationId + "]"));
+    }
 }
@@ -22,6 +22,7 @@ import org.finos.legend.pure.m3.navigation.PackageableElement.PackageableElement
 import org.finos.legend.pure.m3.navigation.importstub.ImportStub;
 import org.finos.legend.pure.m3.navigation.type.Type;
 import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+import org.finos.legend.pure.m4.coreinstance.PropertySlot;
 
 import java.util.Collections;
 
@@ -183,6 +184,11 @@ public class Instance
         return ImportStub.withImportStubByPass(processorSupport.instance_getValueForMetaPropertyToOneResolved(owner, property.getName()), processorSupport);
     }
 
+    public static CoreInstance getValueForMetaPropertyToOneResolved(CoreInstance owner, PropertySlot slot, ProcessorSupport processorSupport)
+    {
+        return ImportStub.withImportStubByPass(processorSupport.instance_getValueForMetaPropertyToOneResolved(owner, slot), processorSupport);
+    }
+
     public static Function<CoreInstance, CoreInstance> getValueForMetaPropertyToOneResolvedFunction(String property, ProcessorSupport processorSupport)
     {
         return i -> getValueForMetaPropertyToOneResolved(i, property, processorSupport);
@@ -198,6 +204,11 @@ public class Instance
         return ImportStub.withImportStubByPasses(processorSupport.instance_getValueForMetaPropertyToMany(owner, property), processorSupport);
     }
 
+    public static ListIterable<? extends CoreInstance> getValueForMetaPropertyToManyResolved(CoreInstance owner, PropertySlot slot, ProcessorSupport processorSupport)
+    {
+        return ImportStub.withImportStubByPasses(processorSupport.instance_getValueForMetaPropertyToMany(owner, slot), processorSupport);
+    }
+
     private static CoreInstance findProperty(CoreInstance owner, String propertyName, ProcessorSupport processorSupport)
     {
         CoreInstance classifier = processorSupport.getClassifier(owner);
@@ -27,6 +27,8 @@ public class M3Paths
 
     // M3.pure
     public static final String AbstractProperty = "meta::pure::metamodel::function::property::AbstractProperty";
+    public static final String AggColSpec = "meta::pure::metamodel::relation::AggColSpec";
+    public static final String AggColSpecArray = "meta::pure::metamodel::relation::AggColSpecArray";
     public static final String AggregationKind = "meta::pure::metamodel::function::property::AggregationKind";
     public static final String AnnotatedElement = "meta::pure::metamodel::extension::AnnotatedElement";
     public static final String Annotation = "meta::pure::metamodel::extension::Annotation";
@@ -61,6 +63,8 @@ public class M3Paths
     public static final String ExistingPropertyRouteNode = "meta::pure::metamodel::treepath::ExistingPropertyRouteNode";
     public static final String ExpressionSequenceValueSpecificationContext = "meta::pure::metamodel::valuespecification::ExpressionSequenceValueSpecificationContext";
     public static final String Float = ModelRepository.FLOAT_TYPE_NAME;
+    public static final String FuncColSpec = "meta::pure::metamodel::relation::FuncColSpec";
+    public static final String FuncColSpecArray = "meta::pure::metamodel::relation::FuncColSpecArray";
     public static final String Function = "meta::pure::metamodel::function::Function";
     public static final String FunctionDefinition = "meta::pure::metamodel::function::FunctionDefinition";
     public static final String PackageableFunction = "meta::pure::metamodel::function::PackageableFunction";
@@ -0,0 +1,38 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.navigation;
+
+import org.finos.legend.pure.m4.coreinstance.PropertySlot;
+
+/**
+ * Property slots for frequently navigated M3 properties. See {@link M3Properties} for the property names.
+ */
+public class M3PropertySlots
+{
+    private M3PropertySlots()
+    {
+    }
+
+    public static final PropertySlot classifierGenericType = PropertySlot.of(M3Properties.classifierGenericType);
+    public static final PropertySlot func = PropertySlot.of(M3Properties.func);
+    public static final PropertySlot genericType = PropertySlot.of(M3Properties.genericType);
+    public static final PropertySlot multiplicity = PropertySlot.of(M3Properties.multiplicity);
+    public static final PropertySlot multiplicityArguments = PropertySlot.of(M3Properties.multiplicityArguments);
+    public static final PropertySlot parametersValues = PropertySlot.of(M3Properties.parametersValues);
+    public static final PropertySlot rawType = PropertySlot.of(M3Properties.rawType);
+    public static final PropertySlot typeArguments = PropertySlot.of(M3Properties.typeArguments);
+    public static final PropertySlot typeParameter = PropertySlot.of(M3Properties.typeParameter);
+    public static final PropertySlot values = PropertySlot.of(M3Properties.values);
+}
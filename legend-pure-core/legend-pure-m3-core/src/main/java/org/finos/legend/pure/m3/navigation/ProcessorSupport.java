@@ -21,6 +21,7 @@ import org.eclipse.collections.api.list.ListIterable;
 import org.eclipse.collections.api.map.MapIterable;
 import org.eclipse.collections.api.set.SetIterable;
 import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+import org.finos.legend.pure.m4.coreinstance.PropertySlot;
 import org.finos.legend.pure.m4.coreinstance.SourceInformation;
 
 public interface ProcessorSupport
@@ -128,6 +129,23 @@ public interface ProcessorSupport
         return owner.getValueForMetaPropertyToOne(property);
     }
 
+    /**
+     * Resolve a property name to its slot. Slots can be computed once and reused for navigation, which avoids looking
+     * up values by name for instances which store their properties by slot.
+     *
+     * @param propertyName property name
+     * @return property slot
+     */
+    default PropertySlot property_getSlot(String propertyName)
+    {
+        return PropertySlot.of(propertyName);
+    }
+
+    default CoreInstance instance_getValueForMetaPropertyToOneResolved(CoreInstance owner, PropertySlot slot)
+    {
+        return owner.getValueForMetaPropertyToOne(slot);
+    }
+
     default ListIterable<? extends CoreInstance> instance_getValueForMetaPropertyToMany(CoreInstance owner, String propertyName)
     {
         return owner.getValueForMetaPropertyToMany(propertyName);
@@ -137,4 +155,9 @@ public interface ProcessorSupport
     {
         return owner.getValueForMetaPropertyToMany(property);
     }
+
+    default ListIterable<? extends CoreInstance> instance_getValueForMetaPropertyToMany(CoreInstance owner, PropertySlot slot)
+    {
+        return owner.getValueForMetaPropertyToMany(slot);
+    }
 }
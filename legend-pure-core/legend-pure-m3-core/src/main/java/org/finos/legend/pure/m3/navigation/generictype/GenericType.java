@@ -36,6 +36,7 @@ import org.finos.legend.pure.m3.navigation.Instance;
 import org.finos.legend.pure.m3.navigation.M3Paths;
 import org.finos.legend.pure.m3.navigation.M3Properties;
 import org.finos.legend.pure.m3.navigation.M3PropertyPaths;
+import org.finos.legend.pure.m3.navigation.M3PropertySlots;
 import org.finos.legend.pure.m3.navigation.PackageableElement.PackageableElement;
 import org.finos.legend.pure.m3.navigation.PrimitiveUtilities;
 import org.finos.legend.pure.m3.navigation.ProcessorSupport;
@@ -118,7 +119,7 @@ public class GenericType
 
     public static boolean testContainsExtendedPrimitiveTypes(CoreInstance genericType, ProcessorSupport processorSupport)
     {
-        return Type.containsExtendedPrimitiveType(Instance.getValueForMetaPropertyToOneResolved(genericType, M3Properties.rawType, processorSupport), processorSupport) ||
+        return Type.containsExtendedPrimitiveType(Instance.getValueForMetaPropertyToOneResolved(genericType, M3PropertySlots.rawType, processorSupport), processorSupport) ||
                 genericType.getValueForMetaPropertyToMany(M3Properties.typeArguments).injectInto(false, (a, b) -> a || testContainsExtendedPrimitiveTypes(b, processorSupport));
     }
 
@@ -160,7 +161,7 @@ public class GenericType
             ), rel.getSourceInformation(), processorSupport));
         }
 
-        if (FunctionType.isFunctionType(Instance.getValueForMetaPropertyToOneResolved(typeArgument, M3Properties.rawType, processorSupport), processorSupport))
+        if (FunctionType.isFunctionType(Instance.getValueForMetaPropertyToOneResolved(typeArgument, M3PropertySlots.rawType, processorSupport), processorSupport))
         {
             return Support.reprocessFunctionTypeReplaceTypeParamsByConcreteTypes(typeArgument, filteredGenericTypeByTypeParameterNames, sourceMulBinding, processorSupport);
         }
@@ -171,7 +172,7 @@ public class GenericType
     private static CoreInstance resolveTypeParameter(CoreInstance typeArgument, MapIterable<String, CoreInstance> filteredGenericTypeByTypeParameterNames, ProcessorSupport processorSupport)
     {
         CoreInstance result = filteredGenericTypeByTypeParameterNames.getIfAbsentValue(getTypeParameterName(typeArgument), typeArgument);
-        if (isTypeParameterContravariant(typeArgument) && Type.isTopType(Instance.getValueForMetaPropertyToOneResolved(result, M3Properties.rawType, processorSupport), processorSupport))
+        if (isTypeParameterContravariant(typeArgument) && Type.isTopType(Instance.getValueForMetaPropertyToOneResolved(result, M3PropertySlots.rawType, processorSupport), processorSupport))
         {
             return Type.wrapGenericType(processorSupport.type_BottomType(), processorSupport);
         }
@@ -321,7 +322,7 @@ public class GenericType
 
     public static CoreInstance resolveFunctionGenericType(CoreInstance functionGenericType, ProcessorSupport processorSupport)
     {
-        if (!Type.isBottomType(Instance.getValueForMetaPropertyToOneResolved(functionGenericType, M3Properties.rawType, processorSupport), processorSupport))
+        if (!Type.isBottomType(Instance.getValueForMetaPropertyToOneResolved(functionGenericType, M3PropertySlots.rawType, processorSupport), processorSupport))
         {
             CoreInstance functionTypeType = Type.wrapGenericType(processorSupport.package_getByUserPath(M3Paths.Function), processorSupport);
             GenericTypeWithXArguments genericTypeWithXArguments = resolveClassTypeParameterUsingInheritance(functionGenericType, functionTypeType, processorSupport);
@@ -332,7 +333,7 @@ public class GenericType
             CoreInstance i = genericTypeWithXArguments.getArgumentsByParameterName().get("T");
             if (isGenericTypeConcrete(i))
             {
-                CoreInstance rawType = Instance.getValueForMetaPropertyToOneResolved(i, M3Properties.rawType, processorSupport);
+                CoreInstance rawType = Instance.getValueForMetaPropertyToOneResolved(i, M3PropertySlots.rawType, processorSupport);
                 if (!Type.isTopType(rawType, processorSupport))
                 {
                     return rawType;
@@ -349,9 +350,9 @@ public class GenericType
             return Maps.immutable.empty();
         }
 
-        CoreInstance rawType = Instance.getValueForMetaPropertyToOneResolved(genericType, M3Properties.rawType, processorSupport);
+        CoreInstance rawType = Instance.getValueForMetaPropertyToOneResolved(genericType, M3PropertySlots.rawType, processorSupport);
         ListIterable<? extends CoreInstance> typeParameters = Instance.getValueForMetaPropertyToManyResolved(rawType, M3Properties.typeParameters, processorSupport);
-        ListIterable<? extends CoreInstance> typeArguments = Instance.getValueForMetaPropertyToManyResolved(genericType, M3Properties.typeArguments, processorSupport);
+        ListIterable<? extends CoreInstance> typeArguments = Instance.getValueForMetaPropertyToManyResolved(genericType, M3PropertySlots.typeArguments, processorSupport);
 
         if (typeParameters.size() != typeArguments.size())
         {
@@ -373,7 +374,7 @@ public class GenericType
             return Maps.immutable.empty();
         }
 
-        CoreInstance rawType = Instance.getValueForMetaPropertyToOneResolved(genericType, M3Properties.rawType, processorSupport);
+        CoreInstance rawType = Instance.getValueForMetaPropertyToOneResolved(genericType, M3PropertySlots.rawType, processorSupport);
         ListIterable<? extends CoreInstance> multiplicityParameters = Instance.getValueForMetaPropertyToManyResolved(rawType, M3Properties.multiplicityParameters, processorSupport);
         ListIterable<? extends CoreInstance> multiplicityArguments = Instance.getValueForMetaPropertyToManyResolved(genericType, M3Properties.multiplicityArguments, processorSupport);
 
@@ -394,8 +395,8 @@ public class GenericType
     public static boolean subTypeOf(CoreInstance genericType, CoreInstance possibleGenericSuperType, ProcessorSupport processorSupport)
     {
         // TODO check type arguments
-        CoreInstance rawType = Instance.getValueForMetaPropertyToOneResolved(genericType, M3Properties.rawType, processorSupport);
-        CoreInstance rawPossibleSuperType = Instance.getValueForMetaPropertyToOneResolved(possibleGenericSuperType, M3Properties.rawType, processorSupport);
+        CoreInstance rawType = Instance.getValueForMetaPropertyToOneResolved(genericType, M3PropertySlots.rawType, processorSupport);
+        CoreInstance rawPossibleSuperType = Instance.getValueForMetaPropertyToOneResolved(possibleGenericSuperType, M3PropertySlots.rawType, processorSupport);
         if (rawType == null)
         {
             return (rawPossibleSuperType != null) && Type.isTopType(rawPossibleSuperType, processorSupport);
@@ -428,13 +429,13 @@ public class GenericType
         CoreInstance otherRawType;
         if (covariant)
         {
-            rawType = Instance.getValueForMetaPropertyToOneResolved(genericType, M3Properties.rawType, processorSupport);
-            otherRawType = Instance.getValueForMetaPropertyToOneResolved(otherGenericType, M3Properties.rawType, processorSupport);
+            rawType = Instance.getValueForMetaPropertyToOneResolved(genericType, M3PropertySlots.rawType, processorSupport);
+            otherRawType = Instance.getValueForMetaPropertyToOneResolved(otherGenericType, M3PropertySlots.rawType, processorSupport);
         }
         else
         {
-            rawType = Instance.getValueForMetaPropertyToOneResolved(otherGenericType, M3Properties.rawType, processorSupport);
-            otherRawType = Instance.getValueForMetaPropertyToOneResolved(genericType, M3Properties.rawType, processorSupport);
+            rawType = Instance.getValueForMetaPropertyToOneResolved(otherGenericType, M3PropertySlots.rawType, processorSupport);
+            otherRawType = Instance.getValueForMetaPropertyToOneResolved(genericType, M3PropertySlots.rawType, processorSupport);
         }
 
         if ((rawType == null) || (otherRawType == null))
@@ -678,7 +679,7 @@ public class GenericType
         }
 
         // Check raw type and type parameter
-        CoreInstance rawType = Instance.getValueForMetaPropertyToOneResolved(genericType, M3Properties.rawType, processorSupport);
+        CoreInstance rawType = Instance.getValueForMetaPropertyToOneResolved(genericType, M3PropertySlots.rawType, processorSupport);
         if (rawType == null)
         {
             CoreInstance typeParameter = Instance.getValueForMetaPropertyToOneResolved(genericType, M3Properties.typeParameter, processorSupport);
@@ -703,7 +704,7 @@ public class GenericType
         }
 
         // Check type and multiplicity arguments are fully defined
-        return Instance.getValueForMetaPropertyToManyResolved(genericType, M3Properties.typeArguments, processorSupport).allSatisfy(t -> isGenericTypeFullyDefined(t, processorSupport)) &&
+        return Instance.getValueForMetaPropertyToManyResolved(genericType, M3PropertySlots.typeArguments, processorSupport).allSatisfy(t -> isGenericTypeFullyDefined(t, processorSupport)) &&
                 Instance.getValueForMetaPropertyToManyResolved(genericType, M3Properties.multiplicityArguments, processorSupport).allSatisfy(Objects::nonNull);
     }
 
@@ -738,8 +739,8 @@ public class GenericType
         }
 
         // Check raw type
-        CoreInstance rawType1 = Instance.getValueForMetaPropertyToOneResolved(genericType1, M3Properties.rawType, processorSupport);
-        CoreInstance rawType2 = Instance.getValueForMetaPropertyToOneResolved(genericType2, M3Properties.rawType, processorSupport);
+        CoreInstance rawType1 = Instance.getValueForMetaPropertyToOneResolved(genericType1, M3PropertySlots.rawType, processorSupport);
+        CoreInstance rawType2 = Instance.getValueForMetaPropertyToOneResolved(genericType2, M3PropertySlots.rawType, processorSupport);
         if (rawType1 == null)
         {
             return (rawType2 == null) && Objects.equals(getTypeParameterName(genericType1), getTypeParameterName(genericType2));
@@ -809,7 +810,7 @@ public class GenericType
             return;
         }
 
-        CoreInstance rawType = Instance.getValueForMetaPropertyToOneResolved(genericType, M3Properties.rawType, processorSupport);
+        CoreInstance rawType = Instance.getValueForMetaPropertyToOneResolved(genericType, M3PropertySlots.rawType, processorSupport);
         if (FunctionType.isFunctionType(rawType, processorSupport))
         {
             FunctionType.resolveImportStubs(rawType, processorSupport);
@@ -955,7 +956,7 @@ public class GenericType
         }
         else
         {
-            CoreInstance rawType = Instance.getValueForMetaPropertyToOneResolved(genericType, M3Properties.rawType, processorSupport);
+            CoreInstance rawType = Instance.getValueForMetaPropertyToOneResolved(genericType, M3PropertySlots.rawType, processorSupport);
             ListIterable<? extends CoreInstance> typeVariableValues = genericType.getValueForMetaPropertyToMany(M3Properties.typeVariableValues);
             ListIterable<? extends CoreInstance> typeArguments = genericType.getValueForMetaPropertyToMany(M3Properties.typeArguments);
             ListIterable<? extends CoreInstance> multiplicityArguments = Instance.getValueForMetaPropertyToManyResolved(genericType, M3Properties.multiplicityArguments, processorSupport);
@@ -1119,7 +1120,7 @@ public class GenericType
 
     public static boolean isUnprocessedLambda(CoreInstance genericType, ProcessorSupport processorSupport)
     {
-        return "LambdaFunction".equals(Instance.getValueForMetaPropertyToOneResolved(genericType, M3Properties.rawType, processorSupport).getName()) &&
+        return "LambdaFunction".equals(Instance.getValueForMetaPropertyToOneResolved(genericType, M3PropertySlots.rawType, processorSupport).getName()) &&
                 Instance.getValueForMetaPropertyToOneResolved(genericType, M3Properties.typeArguments, M3Properties.rawType, M3Properties.returnType, processorSupport) == null;
     }
 
@@ -1381,7 +1382,7 @@ public class GenericType
                 MutableList<CoreInstance> parameterMultiplicities = Lists.mutable.ofInitialCapacity(genericTypeSet.size());
                 for (CoreInstance genericType : genericTypeSet)
                 {
-                    CoreInstance param = Instance.getValueForMetaPropertyToOneResolved(genericType, M3Properties.rawType, processorSupport).getValueForMetaPropertyToMany(M3Properties.parameters).get(i);
+                    CoreInstance param = Instance.getValueForMetaPropertyToOneResolved(genericType, M3PropertySlots.rawType, processorSupport).getValueForMetaPropertyToMany(M3Properties.parameters).get(i);
                     parameterTypes.add(param.getValueForMetaPropertyToOne(M3Properties.genericType));
                     parameterMultiplicities.add(Instance.getValueForMetaPropertyToOneResolved(param, M3Properties.multiplicity, processorSupport));
                 }
@@ -1396,7 +1397,7 @@ public class GenericType
             MutableList<CoreInstance> returnMultiplicities = Lists.mutable.ofInitialCapacity(genericTypeSet.size());
             genericTypeSet.forEach(genericType ->
             {
-                CoreInstance rawType = Instance.getValueForMetaPropertyToOneResolved(genericType, M3Properties.rawType, processorSupport);
+                CoreInstance rawType = Instance.getValueForMetaPropertyToOneResolved(genericType, M3PropertySlots.rawType, processorSupport);
                 returnTypes.add(Instance.getValueForMetaPropertyToOneResolved(rawType, M3Properties.returnType, processorSupport));
                 returnMultiplicities.add(Instance.getValueForMetaPropertyToOneResolved(rawType, M3Properties.returnMultiplicity, processorSupport));
             });
@@ -0,0 +1,689 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.serialization.compiler;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.ListIterable;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.ConcurrentMutableMap;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+import org.finos.legend.pure.m3.coreinstance.factory.CompositeCoreInstanceFactory;
+import org.finos.legend.pure.m3.navigation.M3Paths;
+import org.finos.legend.pure.m3.navigation.M3Properties;
+import org.finos.legend.pure.m3.navigation.M3PropertyPaths;
+import org.finos.legend.pure.m3.navigation.PackageableElement.PackageableElement;
+import org.finos.legend.pure.m3.navigation._package._Package;
+import org.finos.legend.pure.m3.serialization.compiler.element.DeserializedConcreteElement;
+import org.finos.legend.pure.m3.serialization.compiler.element.InstanceData;
+import org.finos.legend.pure.m3.serialization.compiler.element.PropertyValues;
+import org.finos.legend.pure.m3.serialization.compiler.element.Reference;
+import org.finos.legend.pure.m3.serialization.compiler.element.Value;
+import org.finos.legend.pure.m3.serialization.compiler.element.ValueOrReferenceVisitor;
+import org.finos.legend.pure.m3.serialization.compiler.file.FileDeserializer;
+import org.finos.legend.pure.m3.serialization.compiler.metadata.ConcreteElementMetadata;
+import org.finos.legend.pure.m3.serialization.compiler.metadata.MetadataIndex;
+import org.finos.legend.pure.m3.serialization.compiler.metadata.ModuleManifest;
+import org.finos.legend.pure.m3.serialization.compiler.reference.ReferenceIdResolver;
+import org.finos.legend.pure.m3.serialization.compiler.reference.ReferenceIdResolvers;
+import org.finos.legend.pure.m3.tools.GraphTools;
+import org.finos.legend.pure.m4.ModelRepository;
+import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+import org.finos.legend.pure.m4.coreinstance.SourceInformation;
+import org.finos.legend.pure.m4.coreinstance.compileState.CompileStateSet;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigInteger;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Loads elements into a {@link ModelRepository} on demand from the per-element files written by
+ * {@link PureCompilerSerializer}. Only the module manifests are read up front; each concrete element is deserialized
+ * and materialized the first time it is requested with {@link #getOrLoad}.
+ *
+ * <p>Loading an element also loads the elements it refers to (including its classifier), so that any element returned
+ * can be navigated. A reference to another element is first resolved to a stub: an instance with the element's name
+ * and classifier, which is populated in place before the load completes. Elements loaded together are only published
+ * (to other threads, and to their packages' children) once all of them are complete. Only references are followed:
+ * loading a package does not load its children.
+ *
+ * <p>External references are resolved through {@link ReferenceIdResolvers}, whose package path resolver is backed by
+ * this loader. Virtual packages are created as needed, and loaded elements are added to their package's children.
+ * Back references from elements which have not been loaded (e.g., specializations or applications) are not
+ * populated.
+ */
+public class PureCompilerLoader
+{
+    private static final Logger LOGGER = LoggerFactory.getLogger(PureCompilerLoader.class);
+
+    private final ModelRepository repository;
+    private final MetadataIndex index;
+    private final Function<? super String, ? extends DeserializedConcreteElement> elementDeserializer;
+    private final ReferenceIdResolvers referenceIdResolvers;
+    // fully loaded elements and packages: readers may use these without holding the lock
+    private final ConcurrentMutableMap<String, CoreInstance> instancesByPath = ConcurrentHashMap.newMap();
+    // the state of the load in progress, guarded by the loader lock: instances are only published once the outermost
+    // load completes, since elements loaded along the way may refer back to elements which are not yet complete
+    private final MutableMap<String, CoreInstance> loadingByPath = Maps.mutable.empty();
+    // elements referred to by the load in progress, which are yet to be loaded: guarded by the loader lock
+    private final MutableMap<String, CoreInstance> stubsByPath = Maps.mutable.empty();
+    private final Deque<String> stubPaths = new ArrayDeque<>();
+    private final MutableList<Runnable> publishActions = Lists.mutable.empty();
+    private final MutableList<Runnable> rollbackActions = Lists.mutable.empty();
+    private int loadDepth = 0;
+    private Throwable loadFailure;
+    private final ConcurrentMutableMap<String, ImmutableList<String>> propertyKeys = ConcurrentHashMap.newMap();
+
+    PureCompilerLoader(ModelRepository repository, MetadataIndex index, Function<? super String, ? extends DeserializedConcreteElement> elementDeserializer, ReferenceIdResolvers.Builder referenceIdResolversBuilder)
+    {
+        this.repository = Objects.requireNonNull(repository);
+        this.index = Objects.requireNonNull(index);
+        this.elementDeserializer = Objects.requireNonNull(elementDeserializer);
+        this.referenceIdResolvers = referenceIdResolversBuilder.withPackagePathResolver(this::getOrLoad).build();
+    }
+
+    public ModelRepository getRepository()
+    {
+        return this.repository;
+    }
+
+    public MetadataIndex getIndex()
+    {
+        return this.index;
+    }
+
+    /**
+     * Whether there is an element or package with the given path, whether or not it has been loaded.
+     *
+     * @param path element or package path
+     * @return whether the element or package exists
+     */
+    public boolean hasElement(String path)
+    {
+        return this.index.hasElement(path) || this.index.hasPackage(path);
+    }
+
+    /**
+     * Whether the element or package with the given path has been loaded.
+     *
+     * @param path element or package path
+     * @return whether the element or package has been loaded
+     */
+    public boolean isLoaded(String path)
+    {
+        return this.instancesByPath.containsKey(path);
+    }
+
+    /**
+     * Number of elements and packages loaded so far.
+     *
+     * @return loaded element count
+     */
+    public int getLoadedCount()
+    {
+        return this.instancesByPath.size();
+    }
+
+    /**
+     * Get the element or package with the given path, loading it (and anything it references) if necessary. Returns
+     * null if there is no such element or package.
+     *
+     * @param path element or package path
+     * @return element or package, or null
+     */
+    public CoreInstance getOrLoad(String path)
+    {
+        CoreInstance instance = this.instancesByPath.get(path);
+        return (instance == null) ? load(path) : instance;
+    }
+
+    private synchronized CoreInstance load(String path)
+    {
+        CoreInstance instance = this.instancesByPath.get(path);
+        if (instance == null)
+        {
+            instance = this.loadingByPath.get(path);
+        }
+        if (instance != null)
+        {
+            return instance;
+        }
+
+        boolean isElement = this.index.hasElement(path);
+        if (!isElement && !this.index.hasPackage(path) && !M3Paths.Root.equals(path))
+        {
+            return null;
+        }
+
+        boolean outermost = (this.loadDepth++ == 0);
+        boolean loaded = false;
+        try
+        {
+            instance = isElement ? loadElement(path) : createVirtualPackage(path);
+            if (outermost)
+            {
+                loadStubs();
+            }
+            loaded = true;
+        }
+        catch (Throwable t)
+        {
+            if (this.loadFailure == null)
+            {
+                this.loadFailure = t;
+            }
+            throw t;
+        }
+        finally
+        {
+            this.loadDepth--;
+            if (outermost)
+            {
+                completeLoad(path, loaded);
+            }
+        }
+        return instance;
+    }
+
+    private void loadStubs()
+    {
+        // loading a stub may create more stubs
+        while (!this.stubPaths.isEmpty())
+        {
+            String path = this.stubPaths.poll();
+            if (!this.loadingByPath.containsKey(path))
+            {
+                loadElement(path);
+            }
+        }
+    }
+
+    private void completeLoad(String path, boolean loaded)
+    {
+        Throwable failure = this.loadFailure;
+        boolean failed = (failure != null);
+        try
+        {
+            if (failure == null)
+            {
+                this.publishActions.forEach(Runnable::run);
+                this.instancesByPath.putAll(this.loadingByPath);
+            }
+            else
+            {
+                // undo everything done by the load (in reverse order), so that it can be retried
+                this.rollbackActions.asReversed().forEach(Runnable::run);
+            }
+        }
+        finally
+        {
+            this.loadingByPath.clear();
+            this.stubsByPath.clear();
+            this.stubPaths.clear();
+            this.publishActions.clear();
+            this.rollbackActions.clear();
+            this.loadFailure = null;
+        }
+        if (failed && loaded)
+        {
+            // a nested load failed, but the failure was not propagated to the outermost load
+            throw new RuntimeException("Error loading '" + path + "'", failure);
+        }
+    }
+
+    private CoreInstance loadElement(String path)
+    {
+        long start = System.nanoTime();
+        LOGGER.debug("Loading element {}", path);
+        try
+        {
+            DeserializedConcreteElement element = this.elementDeserializer.apply(path);
+            ImmutableList<InstanceData> instanceData = element.getInstanceData();
+            CoreInstance[] instances = new CoreInstance[instanceData.size()];
+
+            // Create all instances before resolving anything, so that cyclic references back to this element succeed
+            instances[0] = createConcreteElement(path, element.getConcreteElementData());
+            this.loadingByPath.put(path, instances[0]);
+            if (!GraphTools.isTopLevelName(path))
+            {
+                addChild(getOrLoad(getPackagePath(path)), instances[0]);
+            }
+            for (int i = 1; i < instances.length; i++)
+            {
+                InstanceData data = instanceData.get(i);
+                instances[i] = this.repository.newCoreInstanceMultiPass(data.getName(), data.getClassifierPath(), getTypeInfo(data.getClassifierPath()), data.getSourceInformation(), data.getCompileStateBitSet());
+            }
+
+            // Populate properties whose values are all local first: reference ids into this element navigate through
+            // them, and other elements loaded while resolving external references may need them
+            ValueResolver valueResolver = new ValueResolver(instances, this.referenceIdResolvers.resolver(element.getReferenceIdVersion()));
+            MutableList<Runnable> deferred = Lists.mutable.empty();
+            instanceData.forEachWithIndex((data, i) -> data.getPropertyValues().forEach(propertyValues ->
+            {
+                if (propertyValues.getValues().anySatisfy(v -> v instanceof Reference.ExternalReference))
+                {
+                    deferred.add(() -> setPropertyValues(instances[i], propertyValues, valueResolver));
+                }
+                else
+                {
+                    setPropertyValues(instances[i], propertyValues, valueResolver);
+                }
+            }));
+
+            // Resolve classifiers and external references, which may create stubs or load other elements
+            instanceData.forEachWithIndex((data, i) -> instances[i].setClassifier(resolveClassifier(data.getClassifierPath())));
+            deferred.forEach(Runnable::run);
+            return instances[0];
+        }
+        catch (Exception e)
+        {
+            throw new RuntimeException("Error loading element '" + path + "'", e);
+        }
+        finally
+        {
+            long end = System.nanoTime();
+            LOGGER.debug("Finished loading element {} in {}s", path, (end - start) / 1_000_000_000.0);
+        }
+    }
+
+    private CoreInstance createConcreteElement(String path, InstanceData data)
+    {
+        // the element may already exist: as a stub, or as a top level instance created by the repository (e.g., a
+        // primitive type)
+        CoreInstance existing = this.stubsByPath.get(path);
+        if ((existing == null) && GraphTools.isTopLevelName(path))
+        {
+            existing = this.repository.getTopLevel(path);
+        }
+        if (existing == null)
+        {
+            return newConcreteElement(path, data.getName(), data.getClassifierPath(), data.getSourceInformation(), data.getCompileStateBitSet());
+        }
+
+        CoreInstance instance = existing;
+        SourceInformation previousSourceInfo = instance.getSourceInformation();
+        CompileStateSet previousCompileStates = instance.getCompileStates();
+        CoreInstance previousClassifier = instance.getClassifier();
+        MutableSet<String> previousKeys = instance.getKeys().toSet();
+        instance.setSourceInformation(data.getSourceInformation());
+        instance.setCompileStatesFrom(CompileStateSet.fromBitSet(data.getCompileStateBitSet()));
+        this.rollbackActions.add(() ->
+        {
+            instance.getKeys().reject(previousKeys::contains, Lists.mutable.empty()).forEach(instance::removeProperty);
+            instance.setClassifier(previousClassifier);
+            instance.setCompileStatesFrom(previousCompileStates);
+            instance.setSourceInformation(previousSourceInfo);
+        });
+        return instance;
+    }
+
+    private CoreInstance newConcreteElement(String path, String name, String classifierPath, SourceInformation sourceInfo, int compileStateBitSet)
+    {
+        CoreInstance instance = this.repository.newCoreInstanceMultiPass(name, classifierPath, getTypeInfo(classifierPath), sourceInfo, compileStateBitSet);
+        if (GraphTools.isTopLevelName(path))
+        {
+            addTopLevel(instance);
+        }
+        return instance;
+    }
+
+    private CoreInstance getOrCreateStub(String path)
+    {
+        CoreInstance instance = this.instancesByPath.get(path);
+        if (instance == null)
+        {
+            instance = this.loadingByPath.get(path);
+        }
+        if (instance == null)
+        {
+            instance = this.stubsByPath.get(path);
+        }
+        if (instance != null)
+        {
+            return instance;
+        }
+
+        String classifierPath = this.index.getElement(path).getClassifierPath();
+        CoreInstance topLevel = GraphTools.isTopLevelName(path) ? this.repository.getTopLevel(path) : null;
+        CoreInstance stub = (topLevel == null) ? newConcreteElement(path, getName(path), classifierPath, null, 0) : topLevel;
+        this.stubsByPath.put(path, stub);
+        this.stubPaths.add(path);
+        if (stub.getClassifier() == null)
+        {
+            // the stub is registered first, as an element may be its own classifier
+            stub.setClassifier(resolveClassifier(classifierPath));
+            this.rollbackActions.add(() -> stub.setClassifier(null));
+        }
+        return stub;
+    }
+
+    private CoreInstance createVirtualPackage(String path)
+    {
+        if (M3Paths.Root.equals(path))
+        {
+            CoreInstance root = this.repository.getTopLevel(M3Paths.Root);
+            if (root == null)
+            {
+                root = this.repository.newCoreInstanceMultiPass(M3Paths.Root, M3Paths.Package, null);
+                addTopLevel(root);
+            }
+            this.loadingByPath.put(path, root);
+            root.setClassifier(resolveClassifier(M3Paths.Package));
+            return root;
+        }
+
+        String name = getName(path);
+        CoreInstance pkg = this.repository.newCoreInstanceMultiPass(name, M3Paths.Package, null);
+        this.loadingByPath.put(path, pkg);
+        CoreInstance parent = getOrLoad(getPackagePath(path));
+        pkg.setClassifier(resolveClassifier(M3Paths.Package));
+        pkg.setKeyValues(M3PropertyPaths.name, Lists.immutable.with(this.repository.newStringCoreInstance_cached(name)));
+        pkg.setKeyValues(M3PropertyPaths._package, Lists.immutable.with(parent));
+        addChild(parent, pkg);
+        return pkg;
+    }
+
+    private void addTopLevel(CoreInstance topLevel)
+    {
+        this.repository.addTopLevel(topLevel);
+        this.rollbackActions.add(() -> this.repository.removeTopLevel(topLevel));
+    }
+
+    private void addChild(CoreInstance pkg, CoreInstance child)
+    {
+        // the package may already be published, so the child is only added once it is complete
+        this.publishActions.add(() ->
+        {
+            synchronized (pkg)
+            {
+                pkg.addKeyValue(M3PropertyPaths.children, child);
+            }
+        });
+    }
+
+    private CoreInstance resolveClassifier(String classifierPath)
+    {
+        CoreInstance classifier = this.index.hasElement(classifierPath) ? getOrCreateStub(classifierPath) : getOrLoad(classifierPath);
+        if (classifier == null)
+        {
+            throw new RuntimeException("Cannot find classifier '" + classifierPath + "'");
+        }
+        return classifier;
+    }
+
+    private String getTypeInfo(String classifierPath)
+    {
+        ConcreteElementMetadata classifierMetadata = this.index.getElement(classifierPath);
+        return ((classifierMetadata != null) && M3Paths.Enumeration.equals(classifierMetadata.getClassifierPath())) ? CompositeCoreInstanceFactory.IS_ENUM_TYPE_INFO : null;
+    }
+
+    private void setPropertyValues(CoreInstance instance, PropertyValues propertyValues, ValueResolver valueResolver)
+    {
+        ListIterable<CoreInstance> values = propertyValues.getValues().collect(v -> v.visit(valueResolver));
+        instance.setKeyValues(getPropertyKey(propertyValues.getPropertySourceType(), propertyValues.getPropertyName()), values);
+    }
+
+    private ImmutableList<String> getPropertyKey(String sourceType, String propertyName)
+    {
+        return this.propertyKeys.getIfAbsentPut(sourceType + '.' + propertyName, () -> _Package.convertM3PathToM4(sourceType).with(M3Properties.properties).with(propertyName).toImmutable());
+    }
+
+    private static String getPackagePath(String path)
+    {
+        int index = path.lastIndexOf(PackageableElement.DEFAULT_PATH_SEPARATOR);
+        return (index == -1) ? M3Paths.Root : path.substring(0, index);
+    }
+
+    private static String getName(String path)
+    {
+        int index = path.lastIndexOf(PackageableElement.DEFAULT_PATH_SEPARATOR);
+        return (index == -1) ? path : path.substring(index + PackageableElement.DEFAULT_PATH_SEPARATOR.length());
+    }
+
+    private class ValueResolver implements ValueOrReferenceVisitor<CoreInstance>
+    {
+        private final CoreInstance[] instances;
+        private final ReferenceIdResolver referenceIdResolver;
+
+        private ValueResolver(CoreInstance[] instances, ReferenceIdResolver referenceIdResolver)
+        {
+            this.instances = instances;
+            this.referenceIdResolver = referenceIdResolver;
+        }
+
+        @Override
+        public CoreInstance visit(Reference.ExternalReference reference)
+        {
+            // a reference to an element itself, rather than to something within it, does not need it to be loaded yet
+            String id = reference.getId();
+            return PureCompilerLoader.this.index.hasElement(id) ? getOrCreateStub(id) : this.referenceIdResolver.resolveReference(id);
+        }
+
+        @Override
+        public CoreInstance visit(Reference.InternalReference reference)
+        {
+            return this.instances[reference.getId()];
+        }
+
+        private void loadPrimitiveType(String name)
+        {
+            // the repository looks up the primitive type by name when creating primitive values
+            getOrLoad(name);
+        }
+
+        @Override
+        public CoreInstance visit(Value.BooleanValue value)
+        {
+            loadPrimitiveType(ModelRepository.BOOLEAN_TYPE_NAME);
+            return PureCompilerLoader.this.repository.newBooleanCoreInstance(value.getValue());
+        }
+
+        @Override
+        public CoreInstance visit(Value.ByteValue value)
+        {
+            loadPrimitiveType(ModelRepository.BYTE_TYPE_NAME);
+            return PureCompilerLoader.this.repository.newByteCoreInstance(value.getValue());
+        }
+
+        @Override
+        public CoreInstance visit(Value.DateValue value)
+        {
+            loadPrimitiveType(ModelRepository.DATE_TYPE_NAME);
+            return PureCompilerLoader.this.repository.newDateCoreInstance(value.getValue());
+        }
+
+        @Override
+        public CoreInstance visit(Value.DateTimeValue value)
+        {
+            loadPrimitiveType(ModelRepository.DATETIME_TYPE_NAME);
+            return PureCompilerLoader.this.repository.newDateTimeCoreInstance(value.getValue());
+        }
+
+        @Override
+        public CoreInstance visit(Value.StrictDateValue value)
+        {
+            loadPrimitiveType(ModelRepository.STRICT_DATE_TYPE_NAME);
+            return PureCompilerLoader.this.repository.newStrictDateCoreInstance(value.getValue());
+        }
+
+        @Override
+        public CoreInstance visit(Value.LatestDateValue value)
+        {
+            loadPrimitiveType(ModelRepository.LATEST_DATE_TYPE_NAME);
+            return PureCompilerLoader.this.repository.newLatestDateCoreInstance();
+        }
+
+        @Override
+        public CoreInstance visit(Value.DecimalValue value)
+        {
+            loadPrimitiveType(ModelRepository.DECIMAL_TYPE_NAME);
+            return PureCompilerLoader.this.repository.newDecimalCoreInstance(value.getValue());
+        }
+
+        @Override
+        public CoreInstance visit(Value.FloatValue value)
+        {
+            loadPrimitiveType(ModelRepository.FLOAT_TYPE_NAME);
+            return PureCompilerLoader.this.repository.newFloatCoreInstance(value.getValue());
+        }
+
+        @Override
+        public CoreInstance visit(Value.IntegerValue value)
+        {
+            loadPrimitiveType(ModelRepository.INTEGER_TYPE_NAME);
+            Number number = value.getValue();
+            if (number instanceof BigInteger)
+            {
+                return PureCompilerLoader.this.repository.newIntegerCoreInstance((BigInteger) number);
+            }
+            return PureCompilerLoader.this.repository.newIntegerCoreInstance(number.longValue());
+        }
+
+        @Override
+        public CoreInstance visit(Value.StrictTimeValue value)
+        {
+            loadPrimitiveType(ModelRepository.STRICT_TIME_TYPE_NAME);
+            return PureCompilerLoader.this.repository.newStrictTimeCoreInstance(value.getValue());
+        }
+
+        @Override
+        public CoreInstance visit(Value.StringValue value)
+        {
+            loadPrimitiveType(ModelRepository.STRING_TYPE_NAME);
+            return PureCompilerLoader.this.repository.newStringCoreInstance_cached(value.getValue());
+        }
+    }
+
+    public static Builder builder()
+    {
+        return new Builder();
+    }
+
+    public static class Builder
+    {
+        private ModelRepository repository;
+        private FileDeserializer fileDeserializer;
+        private Path directory;
+        private ClassLoader classLoader;
+        private final MutableList<ModuleManifest> modules = Lists.mutable.empty();
+        private final MutableList<String> moduleNames = Lists.mutable.empty();
+        private ReferenceIdResolvers.Builder referenceIdResolversBuilder;
+
+        private Builder()
+        {
+        }
+
+        public Builder withRepository(ModelRepository repository)
+        {
+            this.repository = repository;
+            return this;
+        }
+
+        public Builder withFileDeserializer(FileDeserializer fileDeserializer)
+        {
+            this.fileDeserializer = fileDeserializer;
+            return this;
+        }
+
+        public Builder withDirectory(Path directory)
+        {
+            this.directory = directory;
+            this.classLoader = null;
+            return this;
+        }
+
+        public Builder withClassLoader(ClassLoader classLoader)
+        {
+            this.classLoader = classLoader;
+            this.directory = null;
+            return this;
+        }
+
+        public Builder withModule(ModuleManifest module)
+        {
+            this.modules.add(Objects.requireNonNull(module));
+            return this;
+        }
+
+        public Builder withModules(Iterable<? extends ModuleManifest> modules)
+        {
+            modules.forEach(this::withModule);
+            return this;
+        }
+
+        /**
+         * Add modules by name. Their manifests are deserialized from the directory or class loader when the loader is
+         * built.
+         *
+         * @param moduleNames module names
+         * @return this builder
+         */
+        public Builder withModuleNames(Iterable<? extends String> moduleNames)
+        {
+            moduleNames.forEach(n -> this.moduleNames.add(Objects.requireNonNull(n)));
+            return this;
+        }
+
+        public Builder withModuleNames(String... moduleNames)
+        {
+            return withModuleNames(Lists.fixedSize.with(moduleNames));
+        }
+
+        public Builder withReferenceIdResolvers(ReferenceIdResolvers.Builder referenceIdResolversBuilder)
+        {
+            this.referenceIdResolversBuilder = referenceIdResolversBuilder;
+            return this;
+        }
+
+        public PureCompilerLoader build()
+        {
+            Objects.requireNonNull(this.fileDeserializer, "file deserializer is required");
+            if ((this.directory == null) && (this.classLoader == null))
+            {
+                throw new IllegalStateException("directory or class loader is required");
+            }
+
+            MetadataIndex.Builder indexBuilder = MetadataIndex.builder().withModules(this.modules);
+            Function<? super String, ? extends DeserializedConcreteElement> elementDeserializer;
+            if (this.directory != null)
+            {
+                Path dir = this.directory;
+                FileDeserializer deserializer = this.fileDeserializer;
+                this.moduleNames.forEach(n -> indexBuilder.withModule(deserializer.deserializeModuleManifest(dir, n)));
+                elementDeserializer = path -> deserializer.deserializeElement(dir, path);
+            }
+            else
+            {
+                ClassLoader loader = this.classLoader;
+                FileDeserializer deserializer = this.fileDeserializer;
+                this.moduleNames.forEach(n -> indexBuilder.withModule(deserializer.deserializeModuleManifest(loader, n)));
+                elementDeserializer = path -> deserializer.deserializeElement(loader, path);
+            }
+            return new PureCompilerLoader(
+                    Objects.requireNonNull(this.repository, "repository is required"),
+                    indexBuilder.build(),
+                    elementDeserializer,
+                    (this.referenceIdResolversBuilder == null) ? ReferenceIdResolvers.builder().withAvailableExtensions() : this.referenceIdResolversBuilder);
+        }
+    }
+}
@@ -37,6 +37,7 @@ public class ParserLibrary
 {
     private final ImmutableMap<String, Parser> parsers;
     private final ImmutableMap<String, NavigationHandler<?>> navigationHandlers;
+    private final SectionParseCache sectionParseCache = new SectionParseCache();
 
     public ParserLibrary(Iterable<? extends Parser> parsers)
     {
@@ -50,6 +51,16 @@ public class ParserLibrary
         this.navigationHandlers = Maps.immutable.empty();
     }
 
+    /**
+     * Get the cache of section parse outcomes shared by the parsers of this library.
+     *
+     * @return section parse cache
+     */
+    public SectionParseCache getSectionParseCache()
+    {
+        return this.sectionParseCache;
+    }
+
     public RichIterable<Parser> getParsers()
     {
         return this.parsers.valuesView();
@@ -0,0 +1,243 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.serialization.grammar;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache of parse outcomes for code sections (i.e., the content of a ### section of a source), keyed by the section
+ * content and everything else which affects the result of parsing it: parser name, source name, line offset, section
+ * count, and whether line information is added.
+ * <p>
+ * Two things are cached per section:
+ * <ul>
+ *     <li>whether the fast (SLL) Antlr parser failed, so that re-parsing the section goes straight to the full (LL)
+ *     parser instead of repeating the failed attempt</li>
+ *     <li>the M3 template produced by parsers which translate a section into M3 code without modifying the model
+ *     repository (e.g., the relational parser)</li>
+ * </ul>
+ * The cache is bounded, evicting the least recently used sections. It is safe for concurrent use.
+ */
+public class SectionParseCache
+{
+    private static final int DEFAULT_MAX_SIZE = 1024;
+
+    private final LinkedHashMap<SectionKey, SectionEntry> entries;
+    private final AtomicLong templateHits = new AtomicLong();
+    private final AtomicLong templateMisses = new AtomicLong();
+    private final AtomicLong fastParserFailuresAvoided = new AtomicLong();
+
+    public SectionParseCache(int maxSize)
+    {
+        if (maxSize < 1)
+        {
+            throw new IllegalArgumentException("Invalid max size: " + maxSize);
+        }
+        this.entries = new LinkedHashMap<SectionKey, SectionEntry>(16, 0.75f, true)
+        {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<SectionKey, SectionEntry> eldest)
+            {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    public SectionParseCache()
+    {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Whether the fast (SLL) parser should be tried for the section. This is false if it is known to fail.
+     *
+     * @param key section key
+     * @return whether to try the fast parser
+     */
+    public boolean shouldUseFastParser(SectionKey key)
+    {
+        SectionEntry entry = getEntry(key);
+        if ((entry != null) && entry.fastParserFailed)
+        {
+            this.fastParserFailuresAvoided.incrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Record that the fast (SLL) parser failed for the section.
+     *
+     * @param key section key
+     */
+    public void recordFastParserFailure(SectionKey key)
+    {
+        synchronized (this.entries)
+        {
+            this.entries.computeIfAbsent(key, k -> new SectionEntry()).fastParserFailed = true;
+        }
+    }
+
+    /**
+     * Get the M3 template previously produced for the section, or null if there is none.
+     *
+     * @param key section key
+     * @return M3 template or null
+     */
+    public String getTemplate(SectionKey key)
+    {
+        SectionEntry entry = getEntry(key);
+        String template = (entry == null) ? null : entry.template;
+        ((template == null) ? this.templateMisses : this.templateHits).incrementAndGet();
+        return template;
+    }
+
+    /**
+     * Record the M3 template produced for the section.
+     *
+     * @param key      section key
+     * @param template M3 template
+     */
+    public void putTemplate(SectionKey key, String template)
+    {
+        synchronized (this.entries)
+        {
+            this.entries.computeIfAbsent(key, k -> new SectionEntry()).template = template;
+        }
+    }
+
+    public int size()
+    {
+        synchronized (this.entries)
+        {
+            return this.entries.size();
+        }
+    }
+
+    public long getTemplateHitCount()
+    {
+        return this.templateHits.get();
+    }
+
+    public long getTemplateMissCount()
+    {
+        return this.templateMisses.get();
+    }
+
+    /**
+     * Fraction of template lookups which were served from the cache, or 0.0 if there have been none.
+     *
+     * @return template hit rate
+     */
+    public double getTemplateHitRate()
+    {
+        long hits = this.templateHits.get();
+        long total = hits + this.templateMisses.get();
+        return (total == 0) ? 0.0 : ((double) hits / total);
+    }
+
+    /**
+     * Number of times a fast (SLL) parse was skipped because it was already known to fail.
+     *
+     * @return number of fast parser failures avoided
+     */
+    public long getFastParserFailuresAvoidedCount()
+    {
+        return this.fastParserFailuresAvoided.get();
+    }
+
+    public void clear()
+    {
+        synchronized (this.entries)
+        {
+            this.entries.clear();
+        }
+        this.templateHits.set(0);
+        this.templateMisses.set(0);
+        this.fastParserFailuresAvoided.set(0);
+    }
+
+    private SectionEntry getEntry(SectionKey key)
+    {
+        synchronized (this.entries)
+        {
+            // get (rather than a non-updating lookup) so that the entry counts as recently used
+            return this.entries.get(key);
+        }
+    }
+
+    public static SectionKey newSectionKey(String parserName, String sourceName, boolean addLines, int offset, int count, String code)
+    {
+        return new SectionKey(parserName, sourceName, addLines, offset, count, code);
+    }
+
+    public static final class SectionKey
+    {
+        private final String parserName;
+        private final String sourceName;
+        private final boolean addLines;
+        private final int offset;
+        private final int count;
+        private final String code;
+        private final int hashCode;
+
+        private SectionKey(String parserName, String sourceName, boolean addLines, int offset, int count, String code)
+        {
+            this.parserName = Objects.requireNonNull(parserName, "parser name may not be null");
+            this.sourceName = sourceName;
+            this.addLines = addLines;
+            this.offset = offset;
+            this.count = count;
+            this.code = Objects.requireNonNull(code, "code may not be null");
+            this.hashCode = Objects.hash(parserName, sourceName, addLines, offset, count, code);
+        }
+
+        @Override
+        public boolean equals(Object other)
+        {
+            if (this == other)
+            {
+                return true;
+            }
+            if (!(other instanceof SectionKey))
+            {
+                return false;
+            }
+            SectionKey that = (SectionKey) other;
+            return (this.hashCode == that.hashCode) &&
+                    (this.addLines == that.addLines) &&
+                    (this.offset == that.offset) &&
+                    (this.count == that.count) &&
+                    this.parserName.equals(that.parserName) &&
+                    Objects.equals(this.sourceName, that.sourceName) &&
+                    this.code.equals(that.code);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return this.hashCode;
+        }
+    }
+
+    private static class SectionEntry
+    {
+        private volatile boolean fastParserFailed = false;
+        private volatile String template;
+    }
+}
@@ -123,6 +123,7 @@ import org.finos.legend.pure.m3.navigation.PackageableElement.PackageableElement
 import org.finos.legend.pure.m3.navigation.ProcessorSupport;
 import org.finos.legend.pure.m3.serialization.grammar.Parser;
 import org.finos.legend.pure.m3.serialization.grammar.ParserLibrary;
+import org.finos.legend.pure.m3.serialization.grammar.SectionParseCache;
 import org.finos.legend.pure.m3.serialization.grammar.m3parser.inlinedsl.InlineDSLLibrary;
 import org.finos.legend.pure.m3.serialization.grammar.m3parser.inlinedsl.treepath.NewPropertyRouteNodeFunctionDefinitionUnloaderWalk;
 import org.finos.legend.pure.m3.serialization.grammar.m3parser.inlinedsl.treepath.PropertyRouteNodeUnloaderWalk;
@@ -158,6 +159,7 @@ public class M3AntlrParser implements Parser
     private int offsetLine;
     private final InlineDSLLibrary inlineDSLLibrary;
     private final boolean useImportStubsInInstanceParser;
+    private final SectionParseCache parseCache;
 
 
     public M3AntlrParser()
@@ -176,9 +178,15 @@ public class M3AntlrParser implements Parser
     }
 
     public M3AntlrParser(boolean useImportStubsInInstanceParser, InlineDSLLibrary inlineDSLLibrary)
+    {
+        this(useImportStubsInInstanceParser, inlineDSLLibrary, null);
+    }
+
+    public M3AntlrParser(boolean useImportStubsInInstanceParser, InlineDSLLibrary inlineDSLLibrary, SectionParseCache parseCache)
     {
         this.useImportStubsInInstanceParser = useImportStubsInInstanceParser;
         this.inlineDSLLibrary = inlineDSLLibrary;
+        this.parseCache = parseCache;
     }
 
     @Override
@@ -192,11 +200,13 @@ public class M3AntlrParser implements Parser
     {
         this.offsetLine = offset;
         listener.startParsingM3(code);
-        this.parseDefinition(true, code, sourceName, repository, coreInstancesResult, listener, context, count, addLines, oldState);
+        SectionParseCache.SectionKey sectionKey = (this.parseCache == null) ? null : SectionParseCache.newSectionKey(getName(), sourceName, addLines, offset, count, code);
+        boolean useFastParser = (sectionKey == null) || this.parseCache.shouldUseFastParser(sectionKey);
+        this.parseDefinition(useFastParser, sectionKey, code, sourceName, repository, coreInstancesResult, listener, context, count, addLines, oldState);
         listener.finishedParsingM3(code);
     }
 
-    private void parseDefinition(boolean useFastParser, String code, String sourceName, ModelRepository repository, MutableList<CoreInstance> coreInstancesResult, M3M4StateListener listener, Context context, int count, boolean addLines, SourceState oldState)
+    private void parseDefinition(boolean useFastParser, SectionParseCache.SectionKey sectionKey, String code, String sourceName, ModelRepository repository, MutableList<CoreInstance> coreInstancesResult, M3M4StateListener listener, Context context, int count, boolean addLines, SourceState oldState)
     {
         try
         {
@@ -210,7 +220,11 @@ public class M3AntlrParser implements Parser
             if (isAntlrRecognitionExceptionUsingFastParser(useFastParser, e))
             {
                 //System.err.println("Error using fast Antlr Parser: " + ExceptionUtils.getStackTrace(e));
-                this.parseDefinition(false, code, sourceName, repository, coreInstancesResult, listener, context, count, addLines, oldState);
+                if (sectionKey != null)
+                {
+                    this.parseCache.recordFastParserFailure(sectionKey);
+                }
+                this.parseDefinition(false, sectionKey, code, sourceName, repository, coreInstancesResult, listener, context, count, addLines, oldState);
             }
             else
             {
@@ -596,7 +610,7 @@ public class M3AntlrParser implements Parser
     @Override
     public Parser newInstance(ParserLibrary library)
     {
-        return new M3AntlrParser(this.inlineDSLLibrary);
+        return new M3AntlrParser(true, this.inlineDSLLibrary, (library == null) ? null : library.getSectionParseCache());
     }
 
     @Override
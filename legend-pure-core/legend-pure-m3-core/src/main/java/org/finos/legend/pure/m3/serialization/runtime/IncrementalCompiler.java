@@ -69,6 +69,8 @@ public abstract class IncrementalCompiler implements SourceEventHandler
 {
     static final int PARSE_SOURCES_THRESHOLD = 100;
     static final int CONTEXT_REGISTRATION_THRESHOLD = 100;
+    static final int POST_PROCESSING_THRESHOLD = 100;
+    static final int VALIDATION_THRESHOLD = 100;
 
     static final Function<CoreInstance, String> GET_COREINSTANCE_REPO_NAME = object ->
     {
@@ -88,6 +90,7 @@ public abstract class IncrementalCompiler implements SourceEventHandler
     M3ProcessorSupport processorSupport;
     final ForkJoinPool forkJoinPool;
     final boolean isTransactionalByDefault;
+    final boolean parallelPostProcessing;
 
 
     final IncrementalCompilerTransactionManager transactionManager = new IncrementalCompilerTransactionManager();
@@ -103,7 +106,7 @@ public abstract class IncrementalCompiler implements SourceEventHandler
     final Message message;
     final URLPatternLibrary urlPatternLibrary;
 
-    IncrementalCompiler(RichIterable<? extends Parser> parsers, RichIterable<? extends InlineDSL> inlineDSLs, RepositoryCodeStorage codeStorage, URLPatternLibrary urlPatternLibrary, Message message, CoreInstanceFactoryRegistry factoryRegistryOverride, ForkJoinPool forkJoinPool, boolean isTransactionalByDefault)
+    IncrementalCompiler(RichIterable<? extends Parser> parsers, RichIterable<? extends InlineDSL> inlineDSLs, RepositoryCodeStorage codeStorage, URLPatternLibrary urlPatternLibrary, Message message, CoreInstanceFactoryRegistry factoryRegistryOverride, ForkJoinPool forkJoinPool, boolean isTransactionalByDefault, boolean parallelPostProcessing)
     {
         this.message = message;
         this.urlPatternLibrary = urlPatternLibrary;
@@ -131,6 +134,7 @@ public abstract class IncrementalCompiler implements SourceEventHandler
         this.codeStorage = codeStorage;
         this.forkJoinPool = forkJoinPool;
         this.isTransactionalByDefault = isTransactionalByDefault;
+        this.parallelPostProcessing = parallelPostProcessing;
     }
 
     public void addCompilerEventHandler(CompilerEventHandler compilerEventHandler)
@@ -228,7 +232,7 @@ public abstract class IncrementalCompiler implements SourceEventHandler
             newInstancesConsolidated.forEach(this::registerInstanceInContext);
         }
 
-        SourceMutation sourceMutation = PostProcessor.process(newInstancesConsolidated, this.modelRepository, this.library, this.dslLibrary, this.codeStorage, this.context, this.processorSupport, this.urlPatternLibrary, this.message, postProcessorObserver);
+        SourceMutation sourceMutation = this.postProcess(newInstancesConsolidated, postProcessorObserver);
 
         if (validationType == ValidationType.DEEP)
         {
@@ -238,7 +242,7 @@ public abstract class IncrementalCompiler implements SourceEventHandler
         newInstancesConsolidated.removeIf(SourceMutation::isMarkedForDeletion);
 
         this.message.setMessage("Validating " + repoName + "...");
-        Validator.validateM3(newInstancesConsolidated, validationType, this.library, this.dslLibrary, this.additionalValidators.asUnmodifiable(), this.codeStorage, this.modelRepository, this.context, this.processorSupport);
+        this.validate(newInstancesConsolidated, validationType);
 
         rebuildExclusionSet(this.modelRepository, this.processorSupport);
 
@@ -249,6 +253,24 @@ public abstract class IncrementalCompiler implements SourceEventHandler
         return sourceMutation;
     }
 
+    SourceMutation postProcess(MutableList<CoreInstance> newInstancesConsolidated, PostProcessorObserver postProcessorObserver) throws PureCompilationException
+    {
+        ForkJoinPool postProcessingPool = (this.parallelPostProcessing && shouldParallelize(newInstancesConsolidated.size(), POST_PROCESSING_THRESHOLD)) ? this.forkJoinPool : null;
+        return PostProcessor.process(newInstancesConsolidated, this.modelRepository, this.library, this.dslLibrary, this.codeStorage, this.context, this.processorSupport, this.urlPatternLibrary, this.message, postProcessorObserver, postProcessingPool, this.transactionManager.getThreadLocalTransaction());
+    }
+
+    void validate(MutableList<CoreInstance> newInstancesConsolidated, ValidationType validationType) throws PureCompilationException
+    {
+        if (shouldParallelize(newInstancesConsolidated.size(), VALIDATION_THRESHOLD))
+        {
+            Validator.validateM3(newInstancesConsolidated, validationType, this.library, this.dslLibrary, this.additionalValidators.asUnmodifiable(), this.codeStorage, this.modelRepository, this.context, this.processorSupport, this.forkJoinPool, VALIDATION_THRESHOLD, this.transactionManager.getThreadLocalTransaction());
+        }
+        else
+        {
+            Validator.validateM3(newInstancesConsolidated, validationType, this.library, this.dslLibrary, this.additionalValidators.asUnmodifiable(), this.codeStorage, this.modelRepository, this.context, this.processorSupport);
+        }
+    }
+
     protected void registerInstanceInContext(CoreInstance instance)
     {
         if (instance instanceof org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.function.Function)
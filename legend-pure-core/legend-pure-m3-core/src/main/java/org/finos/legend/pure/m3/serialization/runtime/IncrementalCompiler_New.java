@@ -27,13 +27,11 @@ import org.eclipse.collections.api.multimap.list.MutableListMultimap;
 import org.eclipse.collections.api.set.MutableSet;
 import org.eclipse.collections.impl.factory.Multimaps;
 import org.finos.legend.pure.m3.SourceMutation;
-import org.finos.legend.pure.m3.compiler.postprocessing.PostProcessor;
 import org.finos.legend.pure.m3.compiler.postprocessing.observer.PostProcessorObserver;
 import org.finos.legend.pure.m3.compiler.unload.Unbinder;
 import org.finos.legend.pure.m3.compiler.unload.unbind.UnbindState;
 import org.finos.legend.pure.m3.compiler.unload.walk.WalkerState;
 import org.finos.legend.pure.m3.compiler.validation.ValidationType;
-import org.finos.legend.pure.m3.compiler.validation.Validator;
 import org.finos.legend.pure.m3.coreinstance.CoreInstanceFactoryRegistry;
 import org.finos.legend.pure.m3.coreinstance.Package;
 import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.PackageableElement;
@@ -64,9 +62,9 @@ public class IncrementalCompiler_New extends IncrementalCompiler
     private final MutableSet<CoreInstance> toUnbind = Sets.mutable.with();
     private final MutableSet<CoreInstance> processed = Sets.mutable.with();
 
-    IncrementalCompiler_New(RichIterable<? extends Parser> parsers, RichIterable<? extends InlineDSL> inlineDSLs, RepositoryCodeStorage codeStorage, URLPatternLibrary urlPatternLibrary, Message message, CoreInstanceFactoryRegistry factoryRegistryOverride, ForkJoinPool forkJoinPool, boolean isTransactionalByDefault)
+    IncrementalCompiler_New(RichIterable<? extends Parser> parsers, RichIterable<? extends InlineDSL> inlineDSLs, RepositoryCodeStorage codeStorage, URLPatternLibrary urlPatternLibrary, Message message, CoreInstanceFactoryRegistry factoryRegistryOverride, ForkJoinPool forkJoinPool, boolean isTransactionalByDefault, boolean parallelPostProcessing)
     {
-        super(parsers, inlineDSLs, codeStorage, urlPatternLibrary, message, factoryRegistryOverride, forkJoinPool, isTransactionalByDefault);
+        super(parsers, inlineDSLs, codeStorage, urlPatternLibrary, message, factoryRegistryOverride, forkJoinPool, isTransactionalByDefault, parallelPostProcessing);
     }
 
     //----------
@@ -306,7 +304,7 @@ public class IncrementalCompiler_New extends IncrementalCompiler
             allInstances.forEach(this::registerInstanceInContext);
         }
 
-        SourceMutation sourceMutation = PostProcessor.process(newInstancesConsolidated, this.modelRepository, this.library, this.dslLibrary, this.codeStorage, this.context, this.processorSupport, this.urlPatternLibrary, this.message, observer);
+        SourceMutation sourceMutation = this.postProcess(newInstancesConsolidated, observer);
 
         if (validationType == ValidationType.DEEP)
         {
@@ -316,7 +314,7 @@ public class IncrementalCompiler_New extends IncrementalCompiler
         newInstancesConsolidated.removeIf(SourceMutation::isMarkedForDeletion);
 
         this.message.setMessage("Validating " + repoName + "...");
-        Validator.validateM3(newInstancesConsolidated, validationType, this.library, this.dslLibrary, this.additionalValidators.asUnmodifiable(), this.codeStorage, this.modelRepository, this.context, this.processorSupport);
+        this.validate(newInstancesConsolidated, validationType);
 
         rebuildExclusionSet(this.modelRepository, this.processorSupport);
 
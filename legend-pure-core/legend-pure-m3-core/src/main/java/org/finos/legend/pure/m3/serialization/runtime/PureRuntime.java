@@ -94,11 +94,10 @@ public class PureRuntime
 
     PureRuntime(MutableRepositoryCodeStorage codeStorage, PureGraphCache cache,
                 PureRuntimeStatus pureRuntimeStatus, Message message, CoreInstanceFactoryRegistry factoryRegistryOverride, ForkJoinPool incrementalCompilerForkJoinPool,
-                boolean isTransactionByDefault, boolean useFastCompiler, ExecutedTestTracker executedTestTracker, RuntimeOptions options)
+                boolean isTransactionByDefault, boolean parallelPostProcessing, boolean useFastCompiler, ExecutedTestTracker executedTestTracker, RuntimeOptions options)
     {
         this.pureRuntimeStatus = pureRuntimeStatus;
         this.cache = cache;
-        this.cache.setPureRuntime(this);
 
         ParserService loader = new ParserService();
         ListIterable<Parser> parsers = loader.parsers();
@@ -106,10 +105,13 @@ public class PureRuntime
 
         this.incrementalCompiler =
                 useFastCompiler ?
-                        new IncrementalCompiler_New(parsers, inlineDSLs, codeStorage, this.patternLibrary, message, factoryRegistryOverride, incrementalCompilerForkJoinPool, isTransactionByDefault) :
-                        new IncrementalCompiler_Old(parsers, inlineDSLs, codeStorage, this.patternLibrary, message, factoryRegistryOverride, incrementalCompilerForkJoinPool, isTransactionByDefault);
+                        new IncrementalCompiler_New(parsers, inlineDSLs, codeStorage, this.patternLibrary, message, factoryRegistryOverride, incrementalCompilerForkJoinPool, isTransactionByDefault, parallelPostProcessing) :
+                        new IncrementalCompiler_Old(parsers, inlineDSLs, codeStorage, this.patternLibrary, message, factoryRegistryOverride, incrementalCompilerForkJoinPool, isTransactionByDefault, parallelPostProcessing);
+
+        this.sourceRegistry = new SourceRegistry(codeStorage, this.incrementalCompiler.getParserLibrary(), Lists.fixedSize.<SourceEventHandler>of(this.incrementalCompiler), incrementalCompilerForkJoinPool);
 
-        this.sourceRegistry = new SourceRegistry(codeStorage, this.incrementalCompiler.getParserLibrary(), Lists.fixedSize.<SourceEventHandler>of(this.incrementalCompiler));
+        // the cache may register for compiler events, so it is given the runtime once the compiler exists
+        this.cache.setPureRuntime(this);
 
         this.executedTestTracker = executedTestTracker;
 
@@ -37,6 +37,7 @@ public class PureRuntimeBuilder
     private CoreInstanceFactoryRegistry factoryRegistryOverride;
     private ForkJoinPool incrementalCompilerForkJoinPool;
     private boolean isTransactionalByDefault = true;
+    private boolean parallelPostProcessing = false;
     private boolean useFastCompiler = true;
     private ExecutedTestTracker executedTestTracker;
     private RuntimeOptions options = RuntimeOptions.systemPropertyOptions("pure.options.");
@@ -88,6 +89,21 @@ public class PureRuntimeBuilder
         return this;
     }
 
+    /**
+     * Enable or disable parallel post-processing. When enabled (and an incremental compiler fork join pool has been
+     * supplied), independent concrete function definitions are post-processed concurrently on that pool; all other
+     * elements are still post-processed sequentially. The resulting graph is the same as with sequential
+     * post-processing, except for the order of back references such as function applications (see
+     * {@link org.finos.legend.pure.m3.compiler.postprocessing.PostProcessor}).
+     *
+     * @param parallelPostProcessing whether to post-process in parallel
+     * @return this builder
+     */
+    public PureRuntimeBuilder withParallelPostProcessing(boolean parallelPostProcessing)
+    {
+        this.parallelPostProcessing = parallelPostProcessing;
+        return this;
+    }
 
     public PureRuntimeBuilder setUseFastCompiler(boolean useFastCompiler)
     {
@@ -109,7 +125,7 @@ public class PureRuntimeBuilder
 
     public PureRuntime build()
     {
-        PureRuntime runtime = new PureRuntime(this.codeStorage, this.cache, this.pureRuntimeStatus, this.message, this.factoryRegistryOverride, this.incrementalCompilerForkJoinPool, this.isTransactionalByDefault, this.useFastCompiler, this.executedTestTracker, this.options);
+        PureRuntime runtime = new PureRuntime(this.codeStorage, this.cache, this.pureRuntimeStatus, this.message, this.factoryRegistryOverride, this.incrementalCompilerForkJoinPool, this.isTransactionalByDefault, this.parallelPostProcessing, this.useFastCompiler, this.executedTestTracker, this.options);
         this.compilerEventHandlerFactoryFunctions.forEach(factory -> runtime.getIncrementalCompiler().addCompilerEventHandler(factory.apply(runtime)));
         return runtime;
     }
@@ -81,6 +81,7 @@ public class Source
 
     private ImmutableList<CoreInstance> newInstances;
     private ImmutableSet<CoreInstance> allInstances;
+    private SourceInformationIndex allInstancesIndex;
     private ImmutableListMultimap<Parser, CoreInstance> elementsByParser;
 
     public Source(String id, boolean immutable, boolean inMemory, String content)
@@ -189,6 +190,7 @@ public class Source
             this.elementsByParser = null;
             this.newInstances = null;
             this.allInstances = null;
+            this.allInstancesIndex = null;
         }
     }
 
@@ -237,6 +239,7 @@ public class Source
         {
             this.newInstances = Lists.immutable.withAll(elementsByParser.valuesView());
             this.allInstances = null;
+            this.allInstancesIndex = null;
             this.elementsByParser = elementsByParser.toImmutable();
         }
     }
@@ -566,6 +569,11 @@ public class Source
 
     private RichIterable<SourceCoordinates> findCaseSensitive(String string)
     {
+        if (!this.content.contains(string))
+        {
+            return Lists.immutable.empty();
+        }
+
         MutableList<SourceCoordinates> results = Lists.mutable.with();
         Matcher lines = LINE_PATTERN.matcher(this.content);
         int length = string.length();
@@ -613,7 +621,7 @@ public class Source
         registerAllInstances();
         synchronized (this.lock)
         {
-            return this.allInstances.select(e -> isElementAtPoint(e, line, column), Lists.mutable.empty());
+            return this.allInstancesIndex.findAt(line, column);
         }
     }
 
@@ -738,6 +746,7 @@ public class Source
                     }
                 }
                 this.allInstances = result.toImmutable();
+                this.allInstancesIndex = SourceInformationIndex.build(this.allInstances);
             }
         }
     }
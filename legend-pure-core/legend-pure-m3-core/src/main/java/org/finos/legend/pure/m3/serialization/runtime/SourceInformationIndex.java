@@ -0,0 +1,146 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.serialization.runtime;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.MutableList;
+import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+import org.finos.legend.pure.m4.coreinstance.SourceInformation;
+
+/**
+ * Static interval index over the source information of the instances of a source, used to find the instances at a
+ * point in O(log n + k). Intervals are sorted by start and laid out as an implicit balanced binary search tree, where
+ * each node also records the maximum end of its subtree. Positions are (line, column) pairs packed into longs, which
+ * preserves their order; both ends of an interval are inclusive.
+ */
+class SourceInformationIndex
+{
+    private final CoreInstance[] instances;
+    private final long[] starts;
+    private final long[] ends;
+    private final long[] maxEnds;
+
+    private SourceInformationIndex(CoreInstance[] instances, long[] starts, long[] ends)
+    {
+        this.instances = instances;
+        this.starts = starts;
+        this.ends = ends;
+        this.maxEnds = new long[instances.length];
+        computeMaxEnds(0, instances.length - 1);
+    }
+
+    /**
+     * Find the instances whose source information contains the given point.
+     *
+     * @param line   line
+     * @param column column
+     * @return instances at the point, in order of start
+     */
+    MutableList<CoreInstance> findAt(int line, int column)
+    {
+        MutableList<CoreInstance> result = Lists.mutable.empty();
+        findAt(toPosition(line, column), 0, this.instances.length - 1, result);
+        return result;
+    }
+
+    int size()
+    {
+        return this.instances.length;
+    }
+
+    private void findAt(long position, int low, int high, MutableList<CoreInstance> result)
+    {
+        if (low > high)
+        {
+            return;
+        }
+        int mid = mid(low, high);
+        if (this.maxEnds[mid] < position)
+        {
+            // no interval in this subtree ends at or after the position
+            return;
+        }
+        findAt(position, low, mid - 1, result);
+        if (this.starts[mid] <= position)
+        {
+            if (this.ends[mid] >= position)
+            {
+                result.add(this.instances[mid]);
+            }
+            findAt(position, mid + 1, high, result);
+        }
+    }
+
+    private long computeMaxEnds(int low, int high)
+    {
+        if (low > high)
+        {
+            return Long.MIN_VALUE;
+        }
+        int mid = mid(low, high);
+        long maxEnd = Math.max(this.ends[mid], Math.max(computeMaxEnds(low, mid - 1), computeMaxEnds(mid + 1, high)));
+        this.maxEnds[mid] = maxEnd;
+        return maxEnd;
+    }
+
+    private static int mid(int low, int high)
+    {
+        return (low + high) >>> 1;
+    }
+
+    private static long toPosition(int line, int column)
+    {
+        // offset the column so that negative values keep their order
+        return ((long) line << 32) + ((long) column - Integer.MIN_VALUE);
+    }
+
+    /**
+     * Build an index over the given instances. Instances without source information are ignored.
+     *
+     * @param instances instances to index
+     * @return index
+     */
+    static SourceInformationIndex build(Iterable<? extends CoreInstance> instances)
+    {
+        MutableList<CoreInstance> withSourceInfo = Lists.mutable.empty();
+        instances.forEach(instance ->
+        {
+            if (instance.getSourceInformation() != null)
+            {
+                withSourceInfo.add(instance);
+            }
+        });
+        withSourceInfo.sortThis((i1, i2) -> Long.compare(getStart(i1.getSourceInformation()), getStart(i2.getSourceInformation())));
+
+        int size = withSourceInfo.size();
+        CoreInstance[] array = new CoreInstance[size];
+        long[] starts = new long[size];
+        long[] ends = new long[size];
+        for (int i = 0; i < size; i++)
+        {
+            CoreInstance instance = withSourceInfo.get(i);
+            SourceInformation sourceInfo = instance.getSourceInformation();
+            array[i] = instance;
+            starts[i] = getStart(sourceInfo);
+            ends[i] = toPosition(sourceInfo.getEndLine(), sourceInfo.getEndColumn());
+        }
+        return new SourceInformationIndex(array, starts, ends);
+    }
+
+    private static long getStart(SourceInformation sourceInfo)
+    {
+        return toPosition(sourceInfo.getStartLine(), sourceInfo.getStartColumn());
+    }
+}
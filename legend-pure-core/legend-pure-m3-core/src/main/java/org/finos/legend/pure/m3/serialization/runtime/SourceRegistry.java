@@ -17,30 +17,45 @@ package org.finos.legend.pure.m3.serialization.runtime;
 import org.eclipse.collections.api.RichIterable;
 import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.ListIterable;
 import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.map.ConcurrentMutableMap;
+import org.eclipse.collections.api.set.SetIterable;
 import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
 import org.finos.legend.pure.m3.serialization.filesystem.usercodestorage.CodeStorageTools;
 import org.finos.legend.pure.m3.serialization.filesystem.usercodestorage.MutableRepositoryCodeStorage;
 import org.finos.legend.pure.m3.serialization.grammar.ParserLibrary;
 import org.finos.legend.pure.m3.serialization.runtime.navigation.NavigationHandler;
+import org.finos.legend.pure.m3.tools.forkjoin.ForkJoinTools;
 import org.finos.legend.pure.m4.serialization.Writer;
 
 import java.io.OutputStream;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
 import java.util.regex.Pattern;
 
 public class SourceRegistry
 {
+    private static final int SEARCH_THRESHOLD = 16;
+
     private final MutableRepositoryCodeStorage codeStorage;
     private final ImmutableList<SourceEventHandler> sourceEventHandlers;
     private final ConcurrentMutableMap<String, Source> sourcesById = ConcurrentHashMap.newMap();
+    private final SourceTextIndex textIndex = new SourceTextIndex(this.sourcesById::get);
     private final ParserLibrary parserLibrary;
+    private final ForkJoinPool forkJoinPool;
 
-    public SourceRegistry(MutableRepositoryCodeStorage codeStorage, ParserLibrary parserLibrary, Iterable<? extends SourceEventHandler> sourceEventHandlers)
+    public SourceRegistry(MutableRepositoryCodeStorage codeStorage, ParserLibrary parserLibrary, Iterable<? extends SourceEventHandler> sourceEventHandlers, ForkJoinPool forkJoinPool)
     {
         this.codeStorage = codeStorage;
         this.parserLibrary = parserLibrary;
-        this.sourceEventHandlers = Lists.immutable.withAll(sourceEventHandlers);
+        this.sourceEventHandlers = Lists.immutable.<SourceEventHandler>withAll(sourceEventHandlers).newWith(this.textIndex);
+        this.forkJoinPool = forkJoinPool;
+    }
+
+    public SourceRegistry(MutableRepositoryCodeStorage codeStorage, ParserLibrary parserLibrary, Iterable<? extends SourceEventHandler> sourceEventHandlers)
+    {
+        this(codeStorage, parserLibrary, sourceEventHandlers, null);
     }
 
     public SourceRegistry(MutableRepositoryCodeStorage codeStorage, ParserLibrary parserLibrary, SourceEventHandler... sourceEventHandlers)
@@ -85,22 +100,7 @@ public class SourceRegistry
 
     public RichIterable<SourceCoordinates> find(String string, boolean caseSensitive, Pattern sourceIdPattern)
     {
-        MutableList<SourceCoordinates> results = Lists.mutable.empty();
-        if (sourceIdPattern == null)
-        {
-            this.sourcesById.forEachValue(source -> results.addAllIterable(source.find(string, caseSensitive)));
-        }
-        else
-        {
-            this.sourcesById.forEachKeyValue((id, source) ->
-            {
-                if (sourceIdPattern.matcher(id).matches())
-                {
-                    results.addAllIterable(source.find(string, caseSensitive));
-                }
-            });
-        }
-        return results;
+        return findInSources(Lists.immutable.with(string), sourceIdPattern, source -> source.find(string, caseSensitive));
     }
 
     public RichIterable<SourceCoordinates> find(Pattern pattern)
@@ -110,21 +110,45 @@ public class SourceRegistry
 
     public RichIterable<SourceCoordinates> find(Pattern pattern, Pattern sourceIdPattern)
     {
-        MutableList<SourceCoordinates> results = Lists.mutable.empty();
-        if (sourceIdPattern == null)
+        return findInSources(SourceTextIndex.getRequiredLiterals(pattern), sourceIdPattern, source -> source.find(pattern));
+    }
+
+    private RichIterable<SourceCoordinates> findInSources(ListIterable<String> requiredLiterals, Pattern sourceIdPattern, Function<? super Source, ? extends RichIterable<SourceCoordinates>> finder)
+    {
+        // narrow the search to the sources which may match, using the text index if possible
+        SetIterable<String> candidateIds = this.textIndex.getCandidateSourceIds(requiredLiterals);
+        MutableList<Source> candidates = Lists.mutable.empty();
+        if (candidateIds == null)
         {
-            this.sourcesById.forEachValue(source -> results.addAllIterable(source.find(pattern)));
+            this.sourcesById.forEachKeyValue((id, source) ->
+            {
+                if ((sourceIdPattern == null) || sourceIdPattern.matcher(id).matches())
+                {
+                    candidates.add(source);
+                }
+            });
         }
         else
         {
-            this.sourcesById.forEachKeyValue((id, source) ->
+            candidateIds.forEach(id ->
             {
-                if (sourceIdPattern.matcher(id).matches())
+                Source source = this.sourcesById.get(id);
+                if ((source != null) && ((sourceIdPattern == null) || sourceIdPattern.matcher(id).matches()))
                 {
-                    results.addAllIterable(source.find(pattern));
+                    candidates.add(source);
                 }
             });
         }
+
+        MutableList<SourceCoordinates> results = Lists.mutable.empty();
+        if ((this.forkJoinPool == null) || (candidates.size() < 2))
+        {
+            candidates.forEach(source -> results.addAllIterable(finder.apply(source)));
+        }
+        else
+        {
+            ForkJoinTools.collect(this.forkJoinPool, candidates, finder, SEARCH_THRESHOLD).forEach(results::addAllIterable);
+        }
         return results;
     }
 
@@ -180,16 +204,19 @@ public class SourceRegistry
         }
 
         source.setSourceRegistry(this);
+        this.textIndex.addSource(id);
     }
 
     void unregisterSource(String id)
     {
         this.sourcesById.remove(id);
+        this.textIndex.removeSource(id);
     }
 
     void clear()
     {
         this.sourcesById.clear();
+        this.textIndex.clear();
     }
 
     public void serialize(OutputStream stream)
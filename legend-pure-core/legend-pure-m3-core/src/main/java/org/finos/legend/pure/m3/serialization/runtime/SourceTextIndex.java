@@ -0,0 +1,469 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.serialization.runtime;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.collections.api.list.ListIterable;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.map.primitive.MutableLongObjectMap;
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.api.set.SetIterable;
+import org.eclipse.collections.api.set.primitive.LongSet;
+import org.eclipse.collections.api.set.primitive.MutableLongSet;
+import org.eclipse.collections.impl.factory.primitive.LongObjectMaps;
+import org.eclipse.collections.impl.factory.primitive.LongSets;
+
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * Trigram index over the content of the sources of a {@link SourceRegistry}, used to narrow text searches to the
+ * sources which may contain a match. Trigrams are case insensitive and never span a line break, since searches are
+ * line by line. Sources are indexed lazily: changes are only recorded as they happen, and the affected sources are
+ * (re)indexed at the next search.
+ */
+class SourceTextIndex implements SourceEventHandler
+{
+    private static final int GRAM_LENGTH = 3;
+
+    private final Function<? super String, ? extends Source> sourceById;
+    private final MutableLongObjectMap<MutableSet<String>> sourceIdsByTrigram = LongObjectMaps.mutable.empty();
+    private final MutableMap<String, LongSet> trigramsBySourceId = Maps.mutable.empty();
+    private final MutableSet<String> pendingSourceIds = Sets.mutable.empty();
+
+    SourceTextIndex(Function<? super String, ? extends Source> sourceById)
+    {
+        this.sourceById = sourceById;
+    }
+
+    synchronized void addSource(String sourceId)
+    {
+        this.pendingSourceIds.add(sourceId);
+    }
+
+    synchronized void removeSource(String sourceId)
+    {
+        this.pendingSourceIds.remove(sourceId);
+        unindex(sourceId);
+    }
+
+    synchronized void clear()
+    {
+        this.sourceIdsByTrigram.clear();
+        this.trigramsBySourceId.clear();
+        this.pendingSourceIds.clear();
+    }
+
+    @Override
+    public void deleteSource(Source source)
+    {
+        removeSource(source.getId());
+    }
+
+    @Override
+    public void updateSource(Source source, String oldContent)
+    {
+        addSource(source.getId());
+    }
+
+    @Override
+    public void moveSource(Source source, Source destination)
+    {
+        // the registry registers the destination and unregisters the source
+    }
+
+    /**
+     * Get the ids of the sources which may contain all of the given literals on a single line. Literals which are too
+     * short or which are not ASCII do not narrow the search. If no literal narrows the search, this returns null,
+     * meaning that any source may match.
+     *
+     * @param literals literals which must all be found for a source to match
+     * @return candidate source ids, or null if the search cannot be narrowed
+     */
+    synchronized SetIterable<String> getCandidateSourceIds(Iterable<String> literals)
+    {
+        MutableLongSet queryTrigrams = LongSets.mutable.empty();
+        literals.forEach(literal ->
+        {
+            if (isIndexable(literal))
+            {
+                addTrigrams(literal, queryTrigrams);
+            }
+        });
+        if (queryTrigrams.isEmpty())
+        {
+            return null;
+        }
+
+        indexPendingSources();
+
+        // start from the rarest trigram
+        MutableList<MutableSet<String>> postings = Lists.mutable.ofInitialCapacity(queryTrigrams.size());
+        for (long trigram : queryTrigrams.toArray())
+        {
+            MutableSet<String> sourceIds = this.sourceIdsByTrigram.get(trigram);
+            if (sourceIds == null)
+            {
+                return Sets.immutable.empty();
+            }
+            postings.add(sourceIds);
+        }
+        postings.sortThisByInt(MutableSet::size);
+        MutableSet<String> candidates = Sets.mutable.withAll(postings.getFirst());
+        for (int i = 1; (i < postings.size()) && candidates.notEmpty(); i++)
+        {
+            candidates.retainAll(postings.get(i));
+        }
+        return candidates;
+    }
+
+    private void indexPendingSources()
+    {
+        if (this.pendingSourceIds.notEmpty())
+        {
+            this.pendingSourceIds.forEach(sourceId ->
+            {
+                unindex(sourceId);
+                Source source = this.sourceById.apply(sourceId);
+                if (source != null)
+                {
+                    index(sourceId, source.getContent());
+                }
+            });
+            this.pendingSourceIds.clear();
+        }
+    }
+
+    private void index(String sourceId, String content)
+    {
+        MutableLongSet trigrams = LongSets.mutable.empty();
+        if (content != null)
+        {
+            addTrigrams(content, trigrams);
+        }
+        trigrams.forEach(trigram -> this.sourceIdsByTrigram.getIfAbsentPut(trigram, Sets.mutable::empty).add(sourceId));
+        this.trigramsBySourceId.put(sourceId, trigrams);
+    }
+
+    private void unindex(String sourceId)
+    {
+        LongSet trigrams = this.trigramsBySourceId.remove(sourceId);
+        if (trigrams != null)
+        {
+            trigrams.forEach(trigram ->
+            {
+                MutableSet<String> sourceIds = this.sourceIdsByTrigram.get(trigram);
+                if ((sourceIds != null) && sourceIds.remove(sourceId) && sourceIds.isEmpty())
+                {
+                    this.sourceIdsByTrigram.remove(trigram);
+                }
+            });
+        }
+    }
+
+    private static void addTrigrams(String text, MutableLongSet trigrams)
+    {
+        long trigram = 0L;
+        int length = 0;
+        for (int i = 0; i < text.length(); i++)
+        {
+            char c = text.charAt(i);
+            if ((c == '\n') || (c == '\r'))
+            {
+                length = 0;
+            }
+            else
+            {
+                trigram = ((trigram << 16) | Character.toLowerCase(c)) & 0xFFFF_FFFF_FFFFL;
+                if (++length >= GRAM_LENGTH)
+                {
+                    trigrams.add(trigram);
+                }
+            }
+        }
+    }
+
+    private static boolean isIndexable(String literal)
+    {
+        if ((literal == null) || (literal.length() < GRAM_LENGTH))
+        {
+            return false;
+        }
+        for (int i = 0; i < literal.length(); i++)
+        {
+            char c = literal.charAt(i);
+            if ((c > 127) || (c == '\n') || (c == '\r'))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Get literal strings which must appear in any match of the pattern. This is conservative: it only looks at the
+     * top level of the pattern (outside groups and classes), and it gives up on alternations and on any construct it
+     * does not understand, returning fewer (or no) literals.
+     *
+     * @param pattern regular expression pattern
+     * @return literals required for a match
+     */
+    static ListIterable<String> getRequiredLiterals(Pattern pattern)
+    {
+        String regex = pattern.pattern();
+        int flags = pattern.flags();
+        if ((flags & Pattern.LITERAL) != 0)
+        {
+            return Lists.immutable.with(regex);
+        }
+        if (((flags & (Pattern.COMMENTS | Pattern.UNICODE_CASE | Pattern.CANON_EQ)) != 0) || (regex.indexOf('|') != -1) || regex.contains("\\Q") || regex.contains("(?"))
+        {
+            return Lists.immutable.empty();
+        }
+
+        MutableList<String> literals = Lists.mutable.empty();
+        StringBuilder current = new StringBuilder();
+        int i = 0;
+        while (i < regex.length())
+        {
+            char c = regex.charAt(i);
+            int atomEnd;
+            char literal;
+            boolean isLiteral;
+            switch (c)
+            {
+                case '\\':
+                {
+                    if (i + 1 >= regex.length())
+                    {
+                        return finishLiterals(literals, current);
+                    }
+                    char next = regex.charAt(i + 1);
+                    if (Character.isLetterOrDigit(next))
+                    {
+                        if ("dDsSwWbBAGZzRhHvVX".indexOf(next) == -1)
+                        {
+                            // back references, code points, properties, etc.
+                            return finishLiterals(literals, current);
+                        }
+                        isLiteral = false;
+                        literal = 0;
+                    }
+                    else
+                    {
+                        isLiteral = true;
+                        literal = next;
+                    }
+                    atomEnd = i + 2;
+                    break;
+                }
+                case '[':
+                {
+                    atomEnd = skipClass(regex, i);
+                    if (atomEnd == -1)
+                    {
+                        return finishLiterals(literals, current);
+                    }
+                    isLiteral = false;
+                    literal = 0;
+                    break;
+                }
+                case '(':
+                {
+                    atomEnd = skipGroup(regex, i);
+                    if (atomEnd == -1)
+                    {
+                        return finishLiterals(literals, current);
+                    }
+                    isLiteral = false;
+                    literal = 0;
+                    break;
+                }
+                case '.':
+                case '^':
+                case '$':
+                {
+                    atomEnd = i + 1;
+                    isLiteral = false;
+                    literal = 0;
+                    break;
+                }
+                case ')':
+                case ']':
+                case '?':
+                case '*':
+                case '+':
+                case '{':
+                {
+                    return finishLiterals(literals, current);
+                }
+                default:
+                {
+                    atomEnd = i + 1;
+                    isLiteral = true;
+                    literal = c;
+                }
+            }
+
+            char quantifier = (atomEnd < regex.length()) ? regex.charAt(atomEnd) : 0;
+            int next = skipQuantifier(regex, atomEnd);
+            if (next == -1)
+            {
+                return finishLiterals(literals, current);
+            }
+            if (isLiteral && (quantifier != '?') && (quantifier != '*') && (quantifier != '{'))
+            {
+                current.append(literal);
+                if (quantifier == '+')
+                {
+                    flushLiteral(literals, current);
+                }
+            }
+            else
+            {
+                flushLiteral(literals, current);
+            }
+            i = next;
+        }
+        return finishLiterals(literals, current);
+    }
+
+    private static int skipQuantifier(String regex, int start)
+    {
+        if (start >= regex.length())
+        {
+            return start;
+        }
+        int i = start;
+        switch (regex.charAt(i))
+        {
+            case '?':
+            case '*':
+            case '+':
+            {
+                i++;
+                break;
+            }
+            case '{':
+            {
+                int close = regex.indexOf('}', i);
+                if (close == -1)
+                {
+                    return -1;
+                }
+                i = close + 1;
+                break;
+            }
+            default:
+            {
+                return i;
+            }
+        }
+        // lazy or possessive quantifier
+        if ((i < regex.length()) && ((regex.charAt(i) == '?') || (regex.charAt(i) == '+')))
+        {
+            i++;
+        }
+        return i;
+    }
+
+    private static int skipClass(String regex, int start)
+    {
+        int i = start + 1;
+        if ((i < regex.length()) && (regex.charAt(i) == '^'))
+        {
+            i++;
+        }
+        if ((i < regex.length()) && (regex.charAt(i) == ']'))
+        {
+            i++;
+        }
+        while (i < regex.length())
+        {
+            char c = regex.charAt(i);
+            if (c == '\\')
+            {
+                i += 2;
+            }
+            else if (c == '[')
+            {
+                // nested classes, intersections: give up
+                return -1;
+            }
+            else if (c == ']')
+            {
+                return i + 1;
+            }
+            else
+            {
+                i++;
+            }
+        }
+        return -1;
+    }
+
+    private static int skipGroup(String regex, int start)
+    {
+        int depth = 0;
+        int i = start;
+        while (i < regex.length())
+        {
+            char c = regex.charAt(i);
+            if (c == '\\')
+            {
+                i += 2;
+            }
+            else if (c == '[')
+            {
+                i = skipClass(regex, i);
+                if (i == -1)
+                {
+                    return -1;
+                }
+            }
+            else
+            {
+                if (c == '(')
+                {
+                    depth++;
+                }
+                else if ((c == ')') && (--depth == 0))
+                {
+                    return i + 1;
+                }
+                i++;
+            }
+        }
+        return -1;
+    }
+
+    private static void flushLiteral(MutableList<String> literals, StringBuilder current)
+    {
+        if (current.length() >= GRAM_LENGTH)
+        {
+            literals.add(current.toString());
+        }
+        current.setLength(0);
+    }
+
+    private static ListIterable<String> finishLiterals(MutableList<String> literals, StringBuilder current)
+    {
+        flushLiteral(literals, current);
+        return literals;
+    }
+}
@@ -53,9 +53,12 @@ abstract class AbstractPureGraphCache implements PureGraphCache
     {
         try
         {
-            clearCaches();
-            this.cacheState.update(true, -1L, true, null);
-            writeCaches();
+            if (!writeCachesIncrementally())
+            {
+                clearCaches();
+                this.cacheState.update(true, -1L, true, null);
+                writeCaches();
+            }
             updateCacheState();
         }
         catch (RuntimeException | Error e)
@@ -108,6 +111,20 @@ abstract class AbstractPureGraphCache implements PureGraphCache
 
     protected abstract void writeCaches();
 
+    /**
+     * Try to bring the cache up to date by writing only what has
+     * changed since it was last written or loaded.  Returns false
+     * if this is not supported or not possible (for example, if
+     * there is no cache to update), in which case the cache is
+     * cleared and written in full.
+     *
+     * @return whether the cache was updated incrementally
+     */
+    protected boolean writeCachesIncrementally()
+    {
+        return false;
+    }
+
     protected abstract boolean buildFromCaches(ModelRepository modelRepository, SourceRegistry sources, ParserLibrary library, Context context, ProcessorSupport processorSupport, Message message) throws Exception;
 
     /**
@@ -16,7 +16,16 @@ package org.finos.legend.pure.m3.serialization.runtime.cache;
 
 import org.eclipse.collections.api.RichIterable;
 import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.factory.Sets;
 import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.ConcurrentMutableMap;
+import org.eclipse.collections.api.map.MapIterable;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.api.set.SetIterable;
+import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
 import org.eclipse.collections.impl.utility.internal.IterableIterate;
 import org.finos.legend.pure.m3.compiler.Context;
 import org.finos.legend.pure.m3.navigation.ProcessorSupport;
@@ -26,6 +35,7 @@ import org.finos.legend.pure.m3.serialization.filesystem.usercodestorage.welcome
 import org.finos.legend.pure.m3.serialization.grammar.ParserLibrary;
 import org.finos.legend.pure.m3.serialization.runtime.GraphLoader;
 import org.finos.legend.pure.m3.serialization.runtime.Message;
+import org.finos.legend.pure.m3.serialization.runtime.PureRuntime;
 import org.finos.legend.pure.m3.serialization.runtime.RepositoryComparator;
 import org.finos.legend.pure.m3.serialization.runtime.SourceRegistry;
 import org.finos.legend.pure.m3.serialization.runtime.binary.BinaryModelRepositorySerializer;
@@ -39,26 +49,49 @@ import org.finos.legend.pure.m4.ModelRepository;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
 
+/**
+ * A graph cache which stores one Pure repository jar (PAR) file per repository.
+ * <p>
+ * In incremental mode, the cache tracks which repositories have changed from
+ * compiler events, and only rewrites the PAR files of those repositories. Each
+ * PAR file is written under a new name, and a manifest naming the current PAR
+ * file for each repository is then atomically replaced, so the cache is always
+ * loaded from a consistent set of files. Deleting the cache only removes the
+ * manifest, so that the PAR files of unchanged repositories can be reused by
+ * the next write.
+ */
 public class FSGraphLoaderPureGraphCache extends AbstractFSDirectoryPureGraphCache
 {
     private static final String ROOT_REPOSITORY_NAME = "root";
+    private static final String MANIFEST_FILENAME = "manifest.txt";
 
     private final boolean allowBuildingFromRepoSubset;
     private final ForkJoinPool forkJoinPool;
+    private final RepositoryChangeTracker changeTracker;
+    private MutableMap<String, String> deletedManifest;
 
-    public FSGraphLoaderPureGraphCache(Path cacheDirectory, boolean allowBuildingFromRepoSubset, ForkJoinPool forkJoinPool, Message message)
+    public FSGraphLoaderPureGraphCache(Path cacheDirectory, boolean allowBuildingFromRepoSubset, boolean incremental, ForkJoinPool forkJoinPool, Message message)
     {
         super(cacheDirectory);
         this.allowBuildingFromRepoSubset = allowBuildingFromRepoSubset;
         this.forkJoinPool = forkJoinPool;
+        this.changeTracker = incremental ? new RepositoryChangeTracker() : null;
         initializeCacheState(message);
     }
 
+    public FSGraphLoaderPureGraphCache(Path cacheDirectory, boolean allowBuildingFromRepoSubset, ForkJoinPool forkJoinPool, Message message)
+    {
+        this(cacheDirectory, allowBuildingFromRepoSubset, false, forkJoinPool, message);
+    }
+
     public FSGraphLoaderPureGraphCache(Path cacheDirectory, boolean allowBuildingFromRepoSubset, Message message)
     {
         this(cacheDirectory, allowBuildingFromRepoSubset, null, message);
@@ -74,6 +107,21 @@ public class FSGraphLoaderPureGraphCache extends AbstractFSDirectoryPureGraphCac
         this(cacheDirectory, false, null, null);
     }
 
+    @Override
+    public void setPureRuntime(PureRuntime pureRuntime)
+    {
+        super.setPureRuntime(pureRuntime);
+        if (isIncremental())
+        {
+            pureRuntime.getIncrementalCompiler().addCompilerEventHandler(this.changeTracker);
+        }
+    }
+
+    public boolean isIncremental()
+    {
+        return this.changeTracker != null;
+    }
+
     @Override
     public boolean buildFromCaches(ModelRepository modelRepository, SourceRegistry sources, ParserLibrary library, Context context, ProcessorSupport processorSupport, Message message)
     {
@@ -83,13 +131,30 @@ public class FSGraphLoaderPureGraphCache extends AbstractFSDirectoryPureGraphCac
         {
             repoNames.add(ROOT_REPOSITORY_NAME);
         }
-        PureRepositoryJarLibrary jarLibrary = SimplePureRepositoryJarLibrary.newLibraryFromDirectory(getCacheLocation());
+        PureRepositoryJarLibrary jarLibrary;
+        if (isIncremental())
+        {
+            MutableMap<String, String> manifest = readManifest();
+            if (manifest == null)
+            {
+                throw new IllegalStateException("Cannot read cache manifest: " + getManifestPath());
+            }
+            jarLibrary = SimplePureRepositoryJarLibrary.newLibraryFromPaths(manifest.valuesView().collect(getCacheLocation()::resolve));
+        }
+        else
+        {
+            jarLibrary = SimplePureRepositoryJarLibrary.newLibraryFromDirectory(getCacheLocation());
+        }
         GraphLoader loader = new GraphLoader(modelRepository, context, library, this.pureRuntime.getIncrementalCompiler().getDslLibrary(), sources, null, jarLibrary, this.forkJoinPool);
         if (this.allowBuildingFromRepoSubset)
         {
             repoNames.removeIf(repoName -> !loader.isKnownRepository(repoName));
         }
         repoNames.forEach(repoName -> loader.loadRepository(repoName, message));
+        if (isIncremental())
+        {
+            this.changeTracker.clear(getSourceIds());
+        }
         updateCacheState();
         return true;
     }
@@ -97,14 +162,113 @@ public class FSGraphLoaderPureGraphCache extends AbstractFSDirectoryPureGraphCac
     @Override
     protected void writeCaches()
     {
-        RichIterable<String> repoNames = this.pureRuntime.getCodeStorage().getAllRepositories().collect(CodeRepository::getName);
-        if (shouldAddRootRepo())
+        RichIterable<String> repoNames = getRepositoryNames();
+        if (isIncremental())
         {
-            repoNames = repoNames.toList().with(null);
+            // changes from here on will be picked up by the next incremental write
+            this.changeTracker.clear(getSourceIds());
+            writeManifest(writeRepositoryJars(repoNames));
+        }
+        else
+        {
+            writeRepositoryJars(repoNames, this::getRepositoryJarPath);
+        }
+    }
+
+    @Override
+    protected boolean writeCachesIncrementally()
+    {
+        if (!isIncremental())
+        {
+            return false;
+        }
+
+        SetIterable<String> changedRepoNames = this.changeTracker.drainChangedRepositories(getSourceIds());
+        if (changedRepoNames == null)
+        {
+            return false;
+        }
+
+        // if the cache was deleted, the files of its last manifest are still there to be reused
+        MutableMap<String, String> manifest = Files.exists(getManifestPath()) ? readManifest() : this.deletedManifest;
+        RichIterable<String> repoNames = getRepositoryNames();
+        if ((manifest == null) ||
+                !manifest.keysView().toSet().equals(repoNames.collect(this::resolveRepositoryName, Sets.mutable.empty())) ||
+                !manifest.valuesView().allSatisfy(fileName -> Files.exists(getCacheLocation().resolve(fileName))))
+        {
+            // the cache is unreadable or incomplete, or repositories have been added or removed: it must be written in full
+            return false;
+        }
+
+        RichIterable<String> toWrite = repoNames.select(repoName -> changedRepoNames.contains(repoName), Lists.mutable.empty());
+        if (toWrite.notEmpty() || (this.deletedManifest != null))
+        {
+            writeManifest(manifest.withAllKeyValues(writeRepositoryJars(toWrite).keyValuesView()));
+        }
+        return true;
+    }
+
+    @Override
+    public void deleteCache()
+    {
+        if (!isIncremental())
+        {
+            super.deleteCache();
+            return;
+        }
+
+        // remove the manifest so that the cache is not loaded, but keep the PAR files for the next write
+        try
+        {
+            Path manifestPath = getManifestPath();
+            if (Files.exists(manifestPath))
+            {
+                // if the manifest cannot be read, the next write will be in full
+                this.deletedManifest = readManifest();
+            }
+            Files.deleteIfExists(manifestPath);
+            updateCacheState();
+        }
+        catch (IOException e)
+        {
+            UncheckedIOException ue = new UncheckedIOException("Error deleting cache manifest", e);
+            updateCacheState(ue);
+            throw ue;
         }
+    }
+
+    @Override
+    public void clearCaches()
+    {
+        this.deletedManifest = null;
+        super.clearCaches();
+    }
+
+    private MutableMap<String, String> writeRepositoryJars(RichIterable<String> repoNames)
+    {
+        ConcurrentMutableMap<String, String> fileNames = ConcurrentHashMap.newMap();
+        writeRepositoryJars(repoNames, repoName ->
+        {
+            String resolvedName = resolveRepositoryName(repoName);
+            try
+            {
+                Path path = Files.createTempFile(getCacheLocation(), resolvedName + "-", PureRepositoryJarTools.PURE_JAR_EXTENSION);
+                fileNames.put(resolvedName, path.getFileName().toString());
+                return path;
+            }
+            catch (IOException e)
+            {
+                throw new UncheckedIOException("Error creating cache file for " + resolvedName, e);
+            }
+        });
+        return fileNames;
+    }
+
+    private void writeRepositoryJars(RichIterable<String> repoNames, Function<? super String, ? extends Path> pathFunction)
+    {
         Procedure<String> serializeRepo = repoName ->
         {
-            Path repoJarPath = getRepositoryJarPath(repoName);
+            Path repoJarPath = pathFunction.apply(repoName);
             try (OutputStream stream = Files.newOutputStream(repoJarPath))
             {
                 BinaryModelRepositorySerializer.serialize(stream, repoName, this.pureRuntime);
@@ -124,6 +288,63 @@ public class FSGraphLoaderPureGraphCache extends AbstractFSDirectoryPureGraphCac
         }
     }
 
+    private MutableMap<String, String> readManifest()
+    {
+        Path manifestPath = getManifestPath();
+        if (Files.notExists(manifestPath))
+        {
+            return null;
+        }
+
+        try
+        {
+            MutableMap<String, String> manifest = Maps.mutable.empty();
+            for (String line : Files.readAllLines(manifestPath, StandardCharsets.UTF_8))
+            {
+                int tab = line.indexOf('\t');
+                if (tab != -1)
+                {
+                    manifest.put(line.substring(0, tab), line.substring(tab + 1));
+                }
+            }
+            return manifest;
+        }
+        catch (IOException e)
+        {
+            return null;
+        }
+    }
+
+    private void writeManifest(MapIterable<String, String> manifest)
+    {
+        Path manifestPath = getManifestPath();
+        try
+        {
+            // write the new manifest to the side, then swap it in
+            Path tmpPath = Files.createTempFile(getCacheLocation(), MANIFEST_FILENAME, ".tmp");
+            Files.write(tmpPath, manifest.keysView().toSortedList().collect(repoName -> repoName + '\t' + manifest.get(repoName)), StandardCharsets.UTF_8);
+            Files.move(tmpPath, manifestPath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            this.deletedManifest = null;
+
+            // delete any jar files no longer in the manifest
+            MutableSet<String> fileNames = manifest.valuesView().toSet();
+            try (DirectoryStream<Path> dirStream = Files.newDirectoryStream(getCacheLocation(), PureRepositoryJarTools::hasPureJarExtension))
+            {
+                for (Path path : dirStream)
+                {
+                    if (!fileNames.contains(path.getFileName().toString()))
+                    {
+                        Files.deleteIfExists(path);
+                    }
+                }
+            }
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException("Error writing cache manifest", e);
+        }
+    }
+
     @Override
     protected boolean cacheExists()
     {
@@ -132,6 +353,11 @@ public class FSGraphLoaderPureGraphCache extends AbstractFSDirectoryPureGraphCac
             return false;
         }
 
+        if (isIncremental())
+        {
+            return Files.exists(getManifestPath());
+        }
+
         try (DirectoryStream<Path> dirStream = Files.newDirectoryStream(getCacheLocation()))
         {
             return IterableIterate.notEmpty(dirStream);
@@ -165,11 +391,31 @@ public class FSGraphLoaderPureGraphCache extends AbstractFSDirectoryPureGraphCac
         }
     }
 
+    private RichIterable<String> getRepositoryNames()
+    {
+        RichIterable<String> repoNames = this.pureRuntime.getCodeStorage().getAllRepositories().collect(CodeRepository::getName);
+        if (shouldAddRootRepo())
+        {
+            repoNames = repoNames.toList().with(null);
+        }
+        return repoNames;
+    }
+
+    private RichIterable<String> getSourceIds()
+    {
+        return this.pureRuntime.getSourceRegistry().getSourceIds();
+    }
+
     private boolean shouldAddRootRepo()
     {
         return this.pureRuntime.getCodeStorage().isFile(WelcomeCodeStorage.WELCOME_FILE_PATH);
     }
 
+    private Path getManifestPath()
+    {
+        return getCacheLocation().resolve(MANIFEST_FILENAME);
+    }
+
     private Path getRepositoryJarPath(String repositoryName)
     {
         return getCacheLocation().resolve(resolveRepositoryName(repositoryName) + PureRepositoryJarTools.PURE_JAR_EXTENSION);
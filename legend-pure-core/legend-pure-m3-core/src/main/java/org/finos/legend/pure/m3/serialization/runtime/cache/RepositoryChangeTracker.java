@@ -0,0 +1,124 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.serialization.runtime.cache;
+
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.api.set.SetIterable;
+import org.finos.legend.pure.m3.serialization.filesystem.usercodestorage.composite.CompositeCodeStorage;
+import org.finos.legend.pure.m3.serialization.runtime.CompilerEventHandler;
+import org.finos.legend.pure.m3.serialization.runtime.Source;
+import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+import org.finos.legend.pure.m4.coreinstance.SourceInformation;
+
+import java.util.SortedMap;
+
+/**
+ * Tracks which repositories have changed since a cache was last written or
+ * loaded, from compiler events. A repository is changed if any of its sources
+ * was compiled, or if any of its instances was reprocessed or invalidated.
+ * Sources may also be added or deleted without any compiler event, e.g., if
+ * they have no instances, so a repository is also changed if its set of
+ * sources differs from when the tracker was last cleared. The root repository
+ * is represented by null. Until the tracker is first cleared, and after a
+ * reset, all repositories are considered changed.
+ */
+class RepositoryChangeTracker implements CompilerEventHandler
+{
+    private final MutableSet<String> changedRepositories = Sets.mutable.empty();
+    private boolean allChanged = true;
+    private SetIterable<String> sourceIds = Sets.immutable.empty();
+
+    @Override
+    public synchronized void finishedCompilingCore(RichIterable<? extends Source> compiledSources)
+    {
+        this.allChanged = true;
+    }
+
+    @Override
+    public synchronized void compiled(SortedMap<String, RichIterable<? extends Source>> compiledSourcesByRepo, RichIterable<? extends CoreInstance> consolidatedCoreInstances)
+    {
+        if (!this.allChanged)
+        {
+            this.changedRepositories.addAll(compiledSourcesByRepo.keySet());
+            consolidatedCoreInstances.forEach(this::addInstanceRepository);
+        }
+    }
+
+    @Override
+    public synchronized void invalidate(RichIterable<? extends CoreInstance> consolidatedCoreInstances)
+    {
+        if (!this.allChanged)
+        {
+            consolidatedCoreInstances.forEach(this::addInstanceRepository);
+        }
+    }
+
+    @Override
+    public boolean isInitialized()
+    {
+        return true;
+    }
+
+    @Override
+    public synchronized void reset()
+    {
+        this.allChanged = true;
+        this.changedRepositories.clear();
+    }
+
+    /**
+     * Get the repositories which have changed and mark them as unchanged. Returns null if all repositories must be
+     * considered changed, in which case the tracker is left as it is.
+     *
+     * @param currentSourceIds ids of the current sources
+     * @return changed repositories, or null if all have changed
+     */
+    synchronized SetIterable<String> drainChangedRepositories(RichIterable<String> currentSourceIds)
+    {
+        if (this.allChanged)
+        {
+            return null;
+        }
+        MutableSet<String> result = Sets.mutable.withAll(this.changedRepositories);
+        MutableSet<String> newSourceIds = Sets.mutable.withAll(currentSourceIds);
+        newSourceIds.symmetricDifference(this.sourceIds).collect(CompositeCodeStorage::getSourceRepoName, result);
+        this.changedRepositories.clear();
+        this.sourceIds = newSourceIds.toImmutable();
+        return result;
+    }
+
+    /**
+     * Mark all repositories as unchanged, e.g., after the cache has been written in full or loaded.
+     *
+     * @param currentSourceIds ids of the current sources
+     */
+    synchronized void clear(RichIterable<String> currentSourceIds)
+    {
+        this.allChanged = false;
+        this.changedRepositories.clear();
+        this.sourceIds = Sets.immutable.withAll(currentSourceIds);
+    }
+
+    private void addInstanceRepository(CoreInstance instance)
+    {
+        SourceInformation sourceInfo = instance.getSourceInformation();
+        if (sourceInfo != null)
+        {
+            this.changedRepositories.add(CompositeCodeStorage.getSourceRepoName(sourceInfo.getSourceId()));
+        }
+    }
+}
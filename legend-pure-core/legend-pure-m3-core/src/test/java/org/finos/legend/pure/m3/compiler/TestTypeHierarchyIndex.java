@@ -0,0 +1,136 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.compiler;
+
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.list.ListIterable;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.MutableMap;
+import org.finos.legend.pure.m4.ModelRepository;
+import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+import org.finos.legend.pure.m4.serialization.grammar.M4Parser;
+import org.finos.legend.pure.m4.statelistener.VoidM4StateListener;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TestTypeHierarchyIndex
+{
+    @Test
+    public void testSubTypeOfWithIncrementalInvalidation()
+    {
+        ModelRepository repository = new ModelRepository();
+        new M4Parser().parse("^Class Class\n{\n}\n", repository, new VoidM4StateListener());
+        CoreInstance classClass = repository.getTopLevel("Class");
+        CoreInstance a = repository.newCoreInstance("A", classClass, null);
+        CoreInstance b = repository.newCoreInstance("B", classClass, null);
+        CoreInstance c = repository.newCoreInstance("C", classClass, null);
+        CoreInstance d = repository.newCoreInstance("D", classClass, null);
+
+        MutableMap<CoreInstance, ListIterable<CoreInstance>> resolutionOrders = Maps.mutable.with(
+                a, Lists.immutable.with(a),
+                b, Lists.immutable.with(b, a),
+                c, Lists.immutable.with(c, b, a),
+                d, Lists.immutable.with(d));
+        MutableList<CoreInstance> computed = Lists.mutable.empty();
+        Function<CoreInstance, ListIterable<CoreInstance>> generator = t ->
+        {
+            computed.add(t);
+            return resolutionOrders.get(t);
+        };
+
+        TypeHierarchyIndex index = new TypeHierarchyIndex();
+        Assert.assertTrue(index.subTypeOf(c, a, generator));
+        Assert.assertTrue(index.subTypeOf(c, b, generator));
+        Assert.assertTrue(index.subTypeOf(b, a, generator));
+        Assert.assertFalse(index.subTypeOf(a, c, generator));
+        Assert.assertFalse(index.subTypeOf(d, a, generator));
+        Assert.assertEquals(Lists.mutable.with(c, b, a, d), computed);
+
+        // answered from the index without recomputing
+        computed.clear();
+        Assert.assertTrue(index.subTypeOf(c, a, generator));
+        Assert.assertFalse(index.subTypeOf(d, b, generator));
+        Assert.assertEquals(Lists.mutable.empty(), computed);
+
+        // B now extends D rather than A: only B and its subtype C are recomputed
+        resolutionOrders.put(b, Lists.immutable.with(b, d));
+        resolutionOrders.put(c, Lists.immutable.with(c, b, d));
+        index.invalidate(b);
+        Assert.assertFalse(index.subTypeOf(c, a, generator));
+        Assert.assertTrue(index.subTypeOf(c, d, generator));
+        Assert.assertTrue(index.subTypeOf(b, d, generator));
+        Assert.assertFalse(index.subTypeOf(d, b, generator));
+        Assert.assertFalse(index.subTypeOf(a, b, generator));
+        Assert.assertEquals(Lists.mutable.with(c, b), computed);
+    }
+
+    @Test
+    public void testInvalidateUnindexedTypeDuringComputation()
+    {
+        ModelRepository repository = new ModelRepository();
+        new M4Parser().parse("^Class Class\n{\n}\n", repository, new VoidM4StateListener());
+        CoreInstance classClass = repository.getTopLevel("Class");
+        CoreInstance a = repository.newCoreInstance("A", classClass, null);
+        CoreInstance b = repository.newCoreInstance("B", classClass, null);
+        CoreInstance c = repository.newCoreInstance("C", classClass, null);
+
+        TypeHierarchyIndex index = new TypeHierarchyIndex();
+        MutableList<CoreInstance> computed = Lists.mutable.empty();
+        Function<CoreInstance, ListIterable<CoreInstance>> generator = t ->
+        {
+            if (computed.isEmpty())
+            {
+                // C, which is not yet indexed, changes while B's ancestors are being computed
+                index.invalidate(c);
+            }
+            computed.add(t);
+            return Lists.immutable.with(b, a);
+        };
+
+        // the ancestors computed during the change were not kept, and the check was retried
+        Assert.assertTrue(index.subTypeOf(b, a, generator));
+        Assert.assertEquals(Lists.mutable.with(b, b), computed);
+
+        // but later results are
+        Assert.assertTrue(index.subTypeOf(b, a, generator));
+        Assert.assertEquals(Lists.mutable.with(b, b), computed);
+    }
+
+    @Test
+    public void testIdsAreReused()
+    {
+        ModelRepository repository = new ModelRepository();
+        new M4Parser().parse("^Class Class\n{\n}\n", repository, new VoidM4StateListener());
+        CoreInstance classClass = repository.getTopLevel("Class");
+        CoreInstance a = repository.newCoreInstance("A", classClass, null);
+        Function<CoreInstance, ListIterable<CoreInstance>> generator = t -> (t == a) ? Lists.immutable.with(a) : Lists.immutable.with(t, a);
+
+        TypeHierarchyIndex index = new TypeHierarchyIndex();
+        for (int i = 0; i < 100; i++)
+        {
+            // a type is replaced by a new one, as when a source is recompiled
+            CoreInstance b = repository.newCoreInstance("B" + i, classClass, null);
+            Assert.assertTrue(index.subTypeOf(b, a, generator));
+            Assert.assertFalse(index.subTypeOf(a, b, generator));
+            index.invalidate(b);
+        }
+        Assert.assertEquals(2, index.getIdCount());
+
+        index.clear();
+        Assert.assertEquals(0, index.getIdCount());
+    }
+}
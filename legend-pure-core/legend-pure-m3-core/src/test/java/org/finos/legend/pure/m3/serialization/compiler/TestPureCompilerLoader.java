@@ -0,0 +1,319 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.serialization.compiler;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.set.MutableSet;
+import org.finos.legend.pure.m3.coreinstance.M3CoreInstanceFactoryRegistry;
+import org.finos.legend.pure.m3.coreinstance.factory.CompositeCoreInstanceFactory;
+import org.finos.legend.pure.m3.navigation.M3Paths;
+import org.finos.legend.pure.m3.navigation.M3Properties;
+import org.finos.legend.pure.m3.navigation.PackageableElement.PackageableElement;
+import org.finos.legend.pure.m3.serialization.compiler.element.ConcreteElementDeserializer;
+import org.finos.legend.pure.m3.serialization.compiler.element.ConcreteElementSerializer;
+import org.finos.legend.pure.m3.serialization.compiler.element.DeserializedConcreteElement;
+import org.finos.legend.pure.m3.serialization.compiler.element.InstanceData;
+import org.finos.legend.pure.m3.serialization.compiler.element.PropertyValues;
+import org.finos.legend.pure.m3.serialization.compiler.element.Reference;
+import org.finos.legend.pure.m3.serialization.compiler.file.FileDeserializer;
+import org.finos.legend.pure.m3.serialization.compiler.file.FilePathProvider;
+import org.finos.legend.pure.m3.serialization.compiler.file.FileSerializer;
+import org.finos.legend.pure.m3.serialization.compiler.metadata.MetadataIndex;
+import org.finos.legend.pure.m3.serialization.compiler.metadata.ModuleMetadataGenerator;
+import org.finos.legend.pure.m3.serialization.compiler.metadata.ModuleMetadataSerializer;
+import org.finos.legend.pure.m3.serialization.compiler.reference.ReferenceIdResolvers;
+import org.finos.legend.pure.m3.serialization.filesystem.repository.CodeRepository;
+import org.finos.legend.pure.m3.serialization.filesystem.usercodestorage.classpath.ClassLoaderCodeStorage;
+import org.finos.legend.pure.m3.serialization.filesystem.usercodestorage.composite.CompositeCodeStorage;
+import org.finos.legend.pure.m3.tests.AbstractPureTestWithCoreCompiled;
+import org.finos.legend.pure.m4.ModelRepository;
+import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+import org.finos.legend.pure.m4.coreinstance.compileState.CompileStateSet;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+public class TestPureCompilerLoader extends AbstractPureTestWithCoreCompiled
+{
+    @ClassRule
+    public static TemporaryFolder TMP = new TemporaryFolder();
+
+    private static Path directory;
+    private static FileDeserializer fileDeserializer;
+    private static MutableList<String> moduleNames;
+
+    @BeforeClass
+    public static void setUpRuntime()
+    {
+        setUpRuntime(getFunctionExecution(), new CompositeCodeStorage(new ClassLoaderCodeStorage(getCodeRepositories())), getExtra());
+        FileSerializer fileSerializer = FileSerializer.builder()
+                .withFilePathProvider(FilePathProvider.builder().withLoadedExtensions().build())
+                .withSerializers(ConcreteElementSerializer.builder(processorSupport).withLoadedExtensions().build(), ModuleMetadataSerializer.builder().withLoadedExtensions().build())
+                .build();
+        fileDeserializer = FileDeserializer.builder()
+                .withFilePathProvider(FilePathProvider.builder().withLoadedExtensions().build())
+                .withSerializers(ConcreteElementDeserializer.builder().withLoadedExtensions().build(), ModuleMetadataSerializer.builder().withLoadedExtensions().build())
+                .build();
+        try
+        {
+            directory = TMP.newFolder().toPath();
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+        PureCompilerSerializer.builder()
+                .withFileSerializer(fileSerializer)
+                .withModuleMetadataGenerator(ModuleMetadataGenerator.fromPureRuntime(runtime))
+                .withProcessorSupport(processorSupport)
+                .build()
+                .serializeAll(directory);
+        moduleNames = runtime.getCodeStorage().getAllRepositories().collect(CodeRepository::getName, Lists.mutable.with(ModuleHelper.ROOT_MODULE_NAME))
+                .select(moduleName -> fileDeserializer.moduleManifestExists(directory, moduleName));
+    }
+
+    @Test
+    public void testLoadClass()
+    {
+        PureCompilerLoader loader = newLoader();
+        String path = M3Paths.Class;
+        CoreInstance expected = processorSupport.package_getByUserPath(path);
+        CoreInstance loaded = loader.getOrLoad(path);
+        Assert.assertNotNull(loaded);
+        Assert.assertSame(loaded, loader.getOrLoad(path));
+        Assert.assertEquals(expected.getSourceInformation(), loaded.getSourceInformation());
+        Assert.assertEquals(PackageableElement.getUserPathForPackageableElement(expected.getClassifier()), PackageableElement.getUserPathForPackageableElement(loaded.getClassifier()));
+        Assert.assertSame(loaded, loaded.getClassifier());
+        Assert.assertEquals(
+                expected.getValueForMetaPropertyToMany(M3Properties.properties).collect(CoreInstance::getName),
+                loaded.getValueForMetaPropertyToMany(M3Properties.properties).collect(CoreInstance::getName));
+
+        CoreInstance pkg = loaded.getValueForMetaPropertyToOne(M3Properties._package);
+        Assert.assertSame(loader.getOrLoad("meta::pure::metamodel::type"), pkg);
+        Assert.assertTrue(pkg.getValueForMetaPropertyToMany(M3Properties.children).contains(loaded));
+    }
+
+    @Test
+    public void testLoadEnumeration()
+    {
+        PureCompilerLoader loader = newLoader();
+        String path = "meta::pure::functions::date::DurationUnit";
+        CoreInstance expected = processorSupport.package_getByUserPath(path);
+        CoreInstance loaded = loader.getOrLoad(path);
+        Assert.assertEquals(
+                expected.getValueForMetaPropertyToMany(M3Properties.values).collect(CoreInstance::getName),
+                loaded.getValueForMetaPropertyToMany(M3Properties.values).collect(CoreInstance::getName));
+        loaded.getValueForMetaPropertyToMany(M3Properties.values).forEach(value -> Assert.assertSame(loaded, value.getClassifier()));
+    }
+
+    @Test
+    public void testLoadIsLazy()
+    {
+        PureCompilerLoader loader = newLoader();
+        Assert.assertEquals(0, loader.getLoadedCount());
+        Assert.assertTrue(loader.hasElement("meta::pure::functions::date::DurationUnit"));
+        Assert.assertFalse(loader.isLoaded("meta::pure::functions::date::DurationUnit"));
+
+        CoreInstance loaded = loader.getOrLoad("meta::pure::functions::date::DurationUnit");
+        Assert.assertTrue(loader.isLoaded("meta::pure::functions::date::DurationUnit"));
+        Assert.assertTrue(loader.isLoaded("meta::pure::functions::date"));
+
+        // elements which are referred to, such as the classifier, are loaded with it
+        Assert.assertTrue(loader.isLoaded(M3Paths.Enumeration));
+        Assert.assertSame(loader.getOrLoad(M3Paths.Enumeration), loaded.getClassifier());
+        Assert.assertEquals(processorSupport.package_getByUserPath(M3Paths.Enumeration).getSourceInformation(), loaded.getClassifier().getSourceInformation());
+
+        // but not the rest
+        Assert.assertFalse(loader.isLoaded("meta::pure::functions::date::DayOfWeek"));
+        Assert.assertTrue(loader.getLoadedCount() < loader.getIndex().getElementCount());
+    }
+
+    @Test
+    public void testNavigateThroughReference()
+    {
+        PureCompilerLoader loader = newLoader();
+        String path = "meta::pure::functions::date::DurationUnit";
+        CoreInstance expected = processorSupport.package_getByUserPath(path);
+        CoreInstance loaded = loader.getOrLoad(path);
+
+        // DurationUnit -> generalization -> Enum
+        CoreInstance expectedGeneral = expected.getValueForMetaPropertyToOne(M3Properties.generalizations).getValueForMetaPropertyToOne(M3Properties.general).getValueForMetaPropertyToOne(M3Properties.rawType);
+        CoreInstance general = loaded.getValueForMetaPropertyToOne(M3Properties.generalizations).getValueForMetaPropertyToOne(M3Properties.general).getValueForMetaPropertyToOne(M3Properties.rawType);
+        Assert.assertNotNull(general);
+        Assert.assertSame(loader.getOrLoad(PackageableElement.getUserPathForPackageableElement(expectedGeneral)), general);
+        Assert.assertEquals(expectedGeneral.getSourceInformation(), general.getSourceInformation());
+        Assert.assertEquals(
+                expectedGeneral.getValueForMetaPropertyToMany(M3Properties.properties).collect(CoreInstance::getName),
+                general.getValueForMetaPropertyToMany(M3Properties.properties).collect(CoreInstance::getName));
+    }
+
+    @Test
+    public void testNoSuchElement()
+    {
+        PureCompilerLoader loader = newLoader();
+        Assert.assertFalse(loader.hasElement("no::such::Element"));
+        Assert.assertNull(loader.getOrLoad("no::such::Element"));
+        Assert.assertEquals(0, loader.getLoadedCount());
+    }
+
+    @Test
+    public void testRetryAfterFailedLoad() throws IOException
+    {
+        PureCompilerLoader loader = newLoader();
+        String path = "meta::pure::functions::date::DurationUnit";
+
+        // make a dependency of the element unreadable, so that loading the element fails part way through
+        Path stringFile = FilePathProvider.builder().withLoadedExtensions().build().getElementFilePath(directory, M3Paths.String);
+        Path movedFile = stringFile.resolveSibling(stringFile.getFileName() + ".moved");
+        Files.move(stringFile, movedFile);
+        try
+        {
+            Assert.assertThrows(RuntimeException.class, () -> loader.getOrLoad(path));
+        }
+        finally
+        {
+            Files.move(movedFile, stringFile);
+        }
+        Assert.assertFalse(loader.isLoaded(path));
+        Assert.assertFalse(loader.isLoaded(M3Paths.String));
+        Assert.assertEquals(0, loader.getLoadedCount());
+
+        CoreInstance loaded = loader.getOrLoad(path);
+        Assert.assertNotNull(loaded);
+        Assert.assertTrue(loader.isLoaded(path));
+        Assert.assertSame(loader.getOrLoad(M3Paths.Enumeration), loaded.getClassifier());
+
+        CoreInstance pkg = loaded.getValueForMetaPropertyToOne(M3Properties._package);
+        Assert.assertSame(loader.getOrLoad("meta::pure::functions::date"), pkg);
+        Assert.assertEquals(1, pkg.getValueForMetaPropertyToMany(M3Properties.children).count(c -> c == loaded));
+        CoreInstance root = loader.getOrLoad(M3Paths.Root);
+        Assert.assertEquals(Lists.mutable.with("meta"), root.getValueForMetaPropertyToMany(M3Properties.children).collect(CoreInstance::getName, Lists.mutable.empty()));
+        Assert.assertSame(root, loader.getRepository().getTopLevel(M3Paths.Root));
+    }
+
+    @Test
+    public void testRollbackRestoresExistingElements()
+    {
+        MutableSet<String> failing = Sets.mutable.with(M3Paths.String);
+        PureCompilerLoader loader = newLoader(path ->
+        {
+            DeserializedConcreteElement element = fileDeserializer.deserializeElement(directory, path);
+            return failing.contains(path) ? withUnresolvableReference(element) : element;
+        });
+
+        // a top level instance which already exists in the repository
+        CoreInstance stringType = loader.getRepository().newCoreInstanceMultiPass(M3Paths.String, M3Paths.PrimitiveType, null);
+        loader.getRepository().addTopLevel(stringType);
+        MutableList<String> stringTypeKeys = stringType.getKeys().toList();
+        CompileStateSet stringTypeCompileStates = stringType.getCompileStates();
+        Assert.assertThrows(RuntimeException.class, () -> loader.getOrLoad(M3Paths.String));
+        Assert.assertFalse(loader.isLoaded(M3Paths.String));
+        Assert.assertSame(stringType, loader.getRepository().getTopLevel(M3Paths.String));
+        Assert.assertNull(stringType.getSourceInformation());
+        Assert.assertEquals(stringTypeCompileStates, stringType.getCompileStates());
+        Assert.assertEquals(stringTypeKeys, stringType.getKeys().toList());
+
+        failing.remove(M3Paths.String);
+        Assert.assertSame(stringType, loader.getOrLoad(M3Paths.String));
+        Assert.assertEquals(processorSupport.package_getByUserPath(M3Paths.String).getSourceInformation(), stringType.getSourceInformation());
+
+        // an element which is loaded along with its package, which is already published
+        String path = "meta::pure::functions::date::DurationUnit";
+        CoreInstance pkg = loader.getOrLoad("meta::pure::functions::date");
+        MutableList<CoreInstance> children = Lists.mutable.withAll(pkg.getValueForMetaPropertyToMany(M3Properties.children));
+        int loadedCount = loader.getLoadedCount();
+        failing.add(path);
+        Assert.assertThrows(RuntimeException.class, () -> loader.getOrLoad(path));
+        Assert.assertFalse(loader.isLoaded(path));
+        Assert.assertEquals(loadedCount, loader.getLoadedCount());
+        Assert.assertEquals(children, Lists.mutable.withAll(pkg.getValueForMetaPropertyToMany(M3Properties.children)));
+
+        failing.remove(path);
+        CoreInstance loaded = loader.getOrLoad(path);
+        Assert.assertEquals(processorSupport.package_getByUserPath(path).getSourceInformation(), loaded.getSourceInformation());
+        Assert.assertEquals(1, pkg.getValueForMetaPropertyToMany(M3Properties.children).count(c -> c == loaded));
+    }
+
+    @Test
+    public void testConcurrentLoad() throws Exception
+    {
+        PureCompilerLoader loader = newLoader();
+        String path = "meta::pure::functions::date::DurationUnit";
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try
+        {
+            MutableList<Future<CoreInstance>> futures = Lists.mutable.empty();
+            for (int i = 0; i < 8; i++)
+            {
+                futures.add(executor.submit(() -> loader.getOrLoad(path)));
+            }
+            CoreInstance loaded = futures.get(0).get();
+            for (Future<CoreInstance> future : futures)
+            {
+                // every caller must get the same, fully loaded, element
+                CoreInstance instance = future.get();
+                Assert.assertSame(loaded, instance);
+                Assert.assertNotNull(instance.getClassifier());
+                Assert.assertFalse(instance.getValueForMetaPropertyToMany(M3Properties.values).isEmpty());
+            }
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+    }
+
+    private static PureCompilerLoader newLoader(Function<? super String, ? extends DeserializedConcreteElement> elementDeserializer)
+    {
+        return new PureCompilerLoader(
+                new ModelRepository(new CompositeCoreInstanceFactory(M3CoreInstanceFactoryRegistry.REGISTRY)),
+                MetadataIndex.builder().withModules(moduleNames.collect(moduleName -> fileDeserializer.deserializeModuleManifest(directory, moduleName))).build(),
+                elementDeserializer,
+                ReferenceIdResolvers.builder().withAvailableExtensions());
+    }
+
+    private static DeserializedConcreteElement withUnresolvableReference(DeserializedConcreteElement element)
+    {
+        // the reference is resolved after the element's other property values have been set
+        InstanceData data = element.getConcreteElementData();
+        MutableList<PropertyValues> propertyValues = Lists.mutable.<PropertyValues>withAll(data.getPropertyValues())
+                .with(PropertyValues.newPropertyValues("unresolvable", data.getClassifierPath(), Reference.newExternalReference("no::such::Element")));
+        InstanceData brokenData = InstanceData.newInstanceData(data.getName(), data.getClassifierPath(), data.getSourceInformation(), data.getReferenceId(), data.getCompileStateBitSet(), propertyValues);
+        return DeserializedConcreteElement.newDeserializedConcreteElement(element.getPath(), element.getReferenceIdVersion(), Lists.immutable.with(brokenData).newWithAll(element.getInstanceData().drop(1)));
+    }
+
+    private static PureCompilerLoader newLoader()
+    {
+        return PureCompilerLoader.builder()
+                .withRepository(new ModelRepository(new CompositeCoreInstanceFactory(M3CoreInstanceFactoryRegistry.REGISTRY)))
+                .withFileDeserializer(fileDeserializer)
+                .withDirectory(directory)
+                .withModuleNames(moduleNames)
+                .build();
+    }
+}
@@ -0,0 +1,70 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.serialization.grammar;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TestSectionParseCache
+{
+    @Test
+    public void testTemplates()
+    {
+        SectionParseCache cache = new SectionParseCache();
+        SectionParseCache.SectionKey key = SectionParseCache.newSectionKey("Relational", "/test/source.pure", true, 3, 1, "Database test::Db ()");
+        Assert.assertNull(cache.getTemplate(key));
+        cache.putTemplate(key, "^meta::relational::metamodel::Database test::Db ...");
+
+        Assert.assertEquals("^meta::relational::metamodel::Database test::Db ...", cache.getTemplate(SectionParseCache.newSectionKey("Relational", "/test/source.pure", true, 3, 1, "Database test::Db ()")));
+        Assert.assertNull(cache.getTemplate(SectionParseCache.newSectionKey("Relational", "/test/source.pure", true, 4, 1, "Database test::Db ()")));
+        Assert.assertNull(cache.getTemplate(SectionParseCache.newSectionKey("Relational", "/test/source.pure", true, 3, 2, "Database test::Db ()")));
+        Assert.assertNull(cache.getTemplate(SectionParseCache.newSectionKey("Relational", "/test/other.pure", true, 3, 1, "Database test::Db ()")));
+        Assert.assertNull(cache.getTemplate(SectionParseCache.newSectionKey("Relational", "/test/source.pure", true, 3, 1, "Database test::Db2 ()")));
+        Assert.assertEquals(1, cache.getTemplateHitCount());
+        Assert.assertEquals(5, cache.getTemplateMissCount());
+        Assert.assertEquals(1.0 / 6.0, cache.getTemplateHitRate(), 0.0);
+    }
+
+    @Test
+    public void testFastParserFailures()
+    {
+        SectionParseCache cache = new SectionParseCache();
+        SectionParseCache.SectionKey key = SectionParseCache.newSectionKey("Pure", "/test/source.pure", true, 0, 1, "Class test::A {}");
+        Assert.assertTrue(cache.shouldUseFastParser(key));
+        cache.recordFastParserFailure(key);
+        Assert.assertFalse(cache.shouldUseFastParser(SectionParseCache.newSectionKey("Pure", "/test/source.pure", true, 0, 1, "Class test::A {}")));
+        Assert.assertTrue(cache.shouldUseFastParser(SectionParseCache.newSectionKey("Pure", "/test/source.pure", true, 0, 1, "Class test::B {}")));
+        Assert.assertEquals(1, cache.getFastParserFailuresAvoidedCount());
+    }
+
+    @Test
+    public void testEviction()
+    {
+        SectionParseCache cache = new SectionParseCache(2);
+        SectionParseCache.SectionKey key1 = SectionParseCache.newSectionKey("Relational", "/test/source.pure", true, 0, 1, "1");
+        SectionParseCache.SectionKey key2 = SectionParseCache.newSectionKey("Relational", "/test/source.pure", true, 0, 2, "2");
+        SectionParseCache.SectionKey key3 = SectionParseCache.newSectionKey("Relational", "/test/source.pure", true, 0, 3, "3");
+        cache.putTemplate(key1, "template1");
+        cache.putTemplate(key2, "template2");
+        Assert.assertEquals("template1", cache.getTemplate(key1));
+        cache.putTemplate(key3, "template3");
+
+        // key2 was the least recently used
+        Assert.assertEquals(2, cache.size());
+        Assert.assertEquals("template1", cache.getTemplate(key1));
+        Assert.assertNull(cache.getTemplate(key2));
+        Assert.assertEquals("template3", cache.getTemplate(key3));
+    }
+}
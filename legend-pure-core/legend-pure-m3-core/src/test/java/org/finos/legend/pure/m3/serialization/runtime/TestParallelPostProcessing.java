@@ -0,0 +1,168 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.serialization.runtime;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.ListIterable;
+import org.eclipse.collections.impl.tuple.Tuples;
+import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.function.ConcreteFunctionDefinition;
+import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.function.Function;
+import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.valuespecification.FunctionExpression;
+import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.valuespecification.InstanceValue;
+import org.finos.legend.pure.m3.navigation.M3Properties;
+import org.finos.legend.pure.m3.navigation.PrimitiveUtilities;
+import org.finos.legend.pure.m3.serialization.filesystem.repository.CodeRepositoryProviderHelper;
+import org.finos.legend.pure.m3.serialization.filesystem.usercodestorage.classpath.ClassLoaderCodeStorage;
+import org.finos.legend.pure.m3.serialization.filesystem.usercodestorage.composite.CompositeCodeStorage;
+import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+import org.finos.legend.pure.m4.exception.PureCompilationException;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+public class TestParallelPostProcessing
+{
+    private static final int FUNCTION_COUNT = 300;
+
+    private static ForkJoinPool pool;
+
+    @BeforeClass
+    public static void setUpPool()
+    {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterClass
+    public static void tearDownPool()
+    {
+        pool.shutdown();
+    }
+
+    @Test
+    public void testCompileWithParallelPostProcessing()
+    {
+        PureRuntime runtime = buildRuntime();
+        runtime.loadAndCompileCore();
+
+        StringBuilder code = new StringBuilder("Class test::Thing\n{\n  name : String[1];\n}\n\n");
+        for (int i = 0; i < FUNCTION_COUNT; i++)
+        {
+            code.append("function test::f").append(i).append("(t:test::Thing[1]):String[1]\n{\n  ");
+            code.append((i == 0) ? "$t.name" : ("test::f" + (i - 1) + "($t) + 'x'")).append("\n}\n\n");
+        }
+        // mutually recursive functions end up in the same group
+        code.append("function test::even(i:Integer[1]):Boolean[1]\n{\n  if($i == 0, |true, |test::odd($i - 1))\n}\n\n");
+        code.append("function test::odd(i:Integer[1]):Boolean[1]\n{\n  if($i == 0, |false, |test::even($i - 1))\n}\n");
+        runtime.createInMemoryAndCompile(Tuples.pair("functions.pure", code.toString()));
+
+        for (int i = 1; i < FUNCTION_COUNT; i++)
+        {
+            ConcreteFunctionDefinition<?> function = (ConcreteFunctionDefinition<?>) runtime.getFunction("test::f" + i + "(Thing[1]):String[1]");
+            Assert.assertNotNull("test::f" + i, function);
+            FunctionExpression plus = (FunctionExpression) function._expressionSequence().getOnly();
+            FunctionExpression call = (FunctionExpression) ((InstanceValue) plus._parametersValues().getFirst())._values().getFirst();
+            Assert.assertSame(runtime.getFunction("test::f" + (i - 1) + "(Thing[1]):String[1]"), call._func());
+        }
+        Assert.assertNotNull(runtime.getFunction("test::even(Integer[1]):Boolean[1]"));
+        Assert.assertNotNull(runtime.getFunction("test::odd(Integer[1]):Boolean[1]"));
+    }
+
+    @Test
+    public void testFirstErrorIsReportedDeterministically()
+    {
+        PureRuntime runtime = buildRuntime();
+        runtime.loadAndCompileCore();
+
+        StringBuilder code = new StringBuilder();
+        for (int i = 0; i < FUNCTION_COUNT; i++)
+        {
+            code.append("function test::g").append(i).append("():String[1]\n{\n  ");
+            code.append(((i % 50) == 10) ? "unknownFunction" + i + "()" : "'x'").append("\n}\n");
+        }
+        PureCompilationException e = Assert.assertThrows(PureCompilationException.class, () -> runtime.createInMemoryAndCompile(Tuples.pair("errors.pure", code.toString())));
+        Assert.assertEquals(43, e.getSourceInformation().getLine());
+        Assert.assertTrue(e.getInfo(), e.getInfo().contains("unknownFunction10"));
+    }
+
+    @Test
+    public void testBackReferencesMatchSequentialProcessingUpToOrder()
+    {
+        StringBuilder code = new StringBuilder("Class test::Thing\n{\n  name : String[1];\n}\n\n");
+        code.append("function test::shared(t:test::Thing[1]):String[1]\n{\n  $t.name\n}\n\n");
+        for (int i = 0; i < FUNCTION_COUNT; i++)
+        {
+            code.append("function test::h").append(i).append("(t:test::Thing[1]):String[1]\n{\n  test::shared($t) + test::shared(^test::Thing(name='").append(i).append("'))\n}\n\n");
+        }
+
+        PureRuntime sequential = buildRuntime(false);
+        sequential.loadAndCompileCore();
+        sequential.createInMemoryAndCompile(Tuples.pair("functions.pure", code.toString()));
+
+        PureRuntime parallel = buildRuntime(true);
+        parallel.loadAndCompileCore();
+        parallel.createInMemoryAndCompile(Tuples.pair("functions.pure", code.toString()));
+
+        PureRuntime parallel2 = buildRuntime(true);
+        parallel2.loadAndCompileCore();
+        parallel2.createInMemoryAndCompile(Tuples.pair("functions.pure", code.toString()));
+
+        // parallel processing gives the same back references as sequential processing, in a deterministic order which
+        // need not be the sequential order (see PostProcessor)
+        ListIterable<String> sequentialApplications = getApplications(sequential);
+        ListIterable<String> parallelApplications = getApplications(parallel);
+        Assert.assertEquals(2 * FUNCTION_COUNT, sequentialApplications.size());
+        Assert.assertEquals(sequentialApplications.toSortedList(), parallelApplications.toSortedList());
+        Assert.assertEquals(parallelApplications, getApplications(parallel2));
+
+        ListIterable<String> sequentialReferenceUsages = getReferenceUsages(sequential);
+        ListIterable<String> parallelReferenceUsages = getReferenceUsages(parallel);
+        Assert.assertEquals(sequentialReferenceUsages.toSortedList(), parallelReferenceUsages.toSortedList());
+        Assert.assertEquals(parallelReferenceUsages, getReferenceUsages(parallel2));
+    }
+
+    private static ListIterable<String> getApplications(PureRuntime runtime)
+    {
+        Function<?> shared = (Function<?>) runtime.getFunction("test::shared(Thing[1]):String[1]");
+        return shared._applications().collect(application -> String.valueOf(application.getSourceInformation()), Lists.mutable.empty());
+    }
+
+    private static ListIterable<String> getReferenceUsages(PureRuntime runtime)
+    {
+        CoreInstance thing = runtime.getCoreInstance("test::Thing");
+        return thing.getValueForMetaPropertyToMany(M3Properties.referenceUsages).collect(referenceUsage ->
+        {
+            CoreInstance owner = referenceUsage.getValueForMetaPropertyToOne(M3Properties.owner);
+            return owner.getSourceInformation() + " " + owner.getClassifier().getName() + "." +
+                    PrimitiveUtilities.getStringValue(referenceUsage.getValueForMetaPropertyToOne(M3Properties.propertyName)) + "[" +
+                    PrimitiveUtilities.getIntegerValue(referenceUsage.getValueForMetaPropertyToOne(M3Properties.offset)) + "]";
+        });
+    }
+
+    private static PureRuntime buildRuntime()
+    {
+        return buildRuntime(true);
+    }
+
+    private static PureRuntime buildRuntime(boolean parallelPostProcessing)
+    {
+        return new PureRuntimeBuilder(new CompositeCodeStorage(new ClassLoaderCodeStorage(CodeRepositoryProviderHelper.findPlatformCodeRepository())))
+                .withIncrementalCompilerForkJoinPool(pool)
+                .withParallelPostProcessing(parallelPostProcessing)
+                .build();
+    }
+}
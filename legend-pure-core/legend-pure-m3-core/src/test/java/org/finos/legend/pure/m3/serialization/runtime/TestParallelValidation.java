@@ -0,0 +1,81 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.serialization.runtime;
+
+import org.eclipse.collections.impl.tuple.Tuples;
+import org.finos.legend.pure.m3.serialization.filesystem.repository.CodeRepositoryProviderHelper;
+import org.finos.legend.pure.m3.serialization.filesystem.usercodestorage.classpath.ClassLoaderCodeStorage;
+import org.finos.legend.pure.m3.serialization.filesystem.usercodestorage.composite.CompositeCodeStorage;
+import org.finos.legend.pure.m4.exception.PureCompilationException;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+public class TestParallelValidation
+{
+    private static final int FUNCTION_COUNT = 300;
+
+    private static ForkJoinPool pool;
+
+    @BeforeClass
+    public static void setUpPool()
+    {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterClass
+    public static void tearDownPool()
+    {
+        pool.shutdown();
+    }
+
+    @Test
+    public void testErrorReportedDeterministically()
+    {
+        PureRuntime runtime = new PureRuntimeBuilder(new CompositeCodeStorage(new ClassLoaderCodeStorage(CodeRepositoryProviderHelper.findPlatformCodeRepository())))
+                .withIncrementalCompilerForkJoinPool(pool)
+                .build();
+        runtime.loadAndCompileCore();
+
+        // two invalid instances, far enough apart to be validated by different workers
+        StringBuilder code = new StringBuilder();
+        for (int i = 0; i < FUNCTION_COUNT; i++)
+        {
+            if ((i == 50) || (i == 250))
+            {
+                code.append("function <<test.Test>> validation::g").append(i).append("(i:Integer[1]):Boolean[1]\n{\n  true\n}\n");
+            }
+            else
+            {
+                code.append("function validation::g").append(i).append("():String[1]\n{\n  'x'\n}\n");
+            }
+        }
+        for (int attempt = 0; attempt < 5; attempt++)
+        {
+            PureCompilationException e = Assert.assertThrows(PureCompilationException.class, () -> runtime.createInMemoryAndCompile(Tuples.pair("validation.pure", code.toString())));
+            Assert.assertEquals("attempt " + attempt, 201, e.getSourceInformation().getLine());
+            Assert.assertEquals("attempt " + attempt, "Error in function 'g50': test functions may not have parameters", e.getInfo());
+            runtime.delete("validation.pure");
+            runtime.compile();
+        }
+
+        // once the errors are fixed, everything is validated
+        runtime.createInMemoryAndCompile(Tuples.pair("validation.pure", code.toString().replace("(i:Integer[1]):Boolean[1]", "():Boolean[1]")));
+        Assert.assertNotNull(runtime.getCoreInstance("validation::g250__Boolean_1_"));
+    }
+}
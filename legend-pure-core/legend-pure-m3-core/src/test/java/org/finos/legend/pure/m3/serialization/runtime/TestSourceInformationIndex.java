@@ -0,0 +1,97 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.serialization.runtime;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.collections.api.list.MutableList;
+import org.finos.legend.pure.m4.ModelRepository;
+import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+import org.finos.legend.pure.m4.coreinstance.SourceInformation;
+import org.finos.legend.pure.m4.serialization.grammar.M4Parser;
+import org.finos.legend.pure.m4.statelistener.VoidM4StateListener;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Random;
+
+public class TestSourceInformationIndex
+{
+    @Test
+    public void testFindAt()
+    {
+        ModelRepository repository = newRepository();
+        CoreInstance classClass = repository.getTopLevel("Class");
+        CoreInstance outer = repository.newCoreInstance("outer", classClass, new SourceInformation("test.pure", 1, 1, 10, 1));
+        CoreInstance inner = repository.newCoreInstance("inner", classClass, new SourceInformation("test.pure", 2, 5, 2, 20));
+        CoreInstance other = repository.newCoreInstance("other", classClass, new SourceInformation("test.pure", 12, 1, 14, 3));
+        CoreInstance noSourceInfo = repository.newCoreInstance("noSourceInfo", classClass, null);
+
+        SourceInformationIndex index = SourceInformationIndex.build(Lists.mutable.with(other, inner, noSourceInfo, outer));
+        Assert.assertEquals(3, index.size());
+        Assert.assertEquals(Lists.mutable.with(outer), index.findAt(1, 1));
+        Assert.assertEquals(Lists.mutable.with(outer), index.findAt(2, 4));
+        Assert.assertEquals(Lists.mutable.with(outer, inner), index.findAt(2, 5));
+        Assert.assertEquals(Lists.mutable.with(outer, inner), index.findAt(2, 20));
+        Assert.assertEquals(Lists.mutable.with(outer), index.findAt(5, 100));
+        Assert.assertEquals(Lists.mutable.with(outer), index.findAt(10, 1));
+        Assert.assertEquals(Lists.mutable.empty(), index.findAt(10, 2));
+        Assert.assertEquals(Lists.mutable.with(other), index.findAt(14, 3));
+        Assert.assertEquals(Lists.mutable.empty(), index.findAt(15, 1));
+    }
+
+    @Test
+    public void testFindAtMatchesScan()
+    {
+        ModelRepository repository = newRepository();
+        CoreInstance classClass = repository.getTopLevel("Class");
+        Random random = new Random(42);
+        MutableList<CoreInstance> instances = Lists.mutable.empty();
+        for (int i = 0; i < 500; i++)
+        {
+            int startLine = 1 + random.nextInt(100);
+            int startColumn = 1 + random.nextInt(40);
+            int endLine = startLine + random.nextInt(5);
+            int endColumn = (endLine == startLine) ? (startColumn + random.nextInt(40)) : (1 + random.nextInt(40));
+            instances.add(repository.newCoreInstance("instance" + i, classClass, new SourceInformation("test.pure", startLine, startColumn, endLine, endColumn)));
+        }
+
+        SourceInformationIndex index = SourceInformationIndex.build(instances);
+        for (int line = 1; line <= 110; line++)
+        {
+            for (int column = 1; column <= 85; column++)
+            {
+                int l = line;
+                int c = column;
+                Assert.assertEquals(line + ":" + column,
+                        instances.select(i -> contains(i.getSourceInformation(), l, c)).toSet(),
+                        Sets.mutable.withAll(index.findAt(line, column)));
+            }
+        }
+    }
+
+    private static boolean contains(SourceInformation sourceInfo, int line, int column)
+    {
+        return ((sourceInfo.getStartLine() < line) || ((sourceInfo.getStartLine() == line) && (sourceInfo.getStartColumn() <= column))) &&
+                ((sourceInfo.getEndLine() > line) || ((sourceInfo.getEndLine() == line) && (sourceInfo.getEndColumn() >= column)));
+    }
+
+    private static ModelRepository newRepository()
+    {
+        ModelRepository repository = new ModelRepository();
+        new M4Parser().parse("^Class Class\n{\n}\n", repository, new VoidM4StateListener());
+        return repository;
+    }
+}
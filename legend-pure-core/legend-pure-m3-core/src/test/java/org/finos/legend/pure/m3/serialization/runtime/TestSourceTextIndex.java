@@ -0,0 +1,79 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.serialization.runtime;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Sets;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.regex.Pattern;
+
+public class TestSourceTextIndex
+{
+    @Test
+    public void testRequiredLiterals()
+    {
+        Assert.assertEquals(Lists.immutable.with("jumped over"), SourceTextIndex.getRequiredLiterals(Pattern.compile("jumped over")));
+        Assert.assertEquals(Lists.immutable.with("jump", "over"), SourceTextIndex.getRequiredLiterals(Pattern.compile("jump(ed)?\\s+over")));
+        Assert.assertEquals(Lists.immutable.with("qui"), SourceTextIndex.getRequiredLiterals(Pattern.compile("quic?k")));
+        Assert.assertEquals(Lists.immutable.with("quick"), SourceTextIndex.getRequiredLiterals(Pattern.compile("quick+ly")));
+        Assert.assertEquals(Lists.immutable.with("a.b"), SourceTextIndex.getRequiredLiterals(Pattern.compile("a\\.b[0-9]{2,3}")));
+        Assert.assertEquals(Lists.immutable.with("x(y"), SourceTextIndex.getRequiredLiterals(Pattern.compile("x(y", Pattern.LITERAL)));
+        Assert.assertEquals(Lists.immutable.empty(), SourceTextIndex.getRequiredLiterals(Pattern.compile("\\s*((quick)|(lazy))\\s*")));
+        Assert.assertEquals(Lists.immutable.empty(), SourceTextIndex.getRequiredLiterals(Pattern.compile("quick|lazy")));
+        Assert.assertEquals(Lists.immutable.empty(), SourceTextIndex.getRequiredLiterals(Pattern.compile("(?i)quick")));
+    }
+
+    @Test
+    public void testFindInRegistry()
+    {
+        testFindInRegistry(null);
+        ForkJoinPool forkJoinPool = new ForkJoinPool(2);
+        try
+        {
+            testFindInRegistry(forkJoinPool);
+        }
+        finally
+        {
+            forkJoinPool.shutdown();
+        }
+    }
+
+    private void testFindInRegistry(ForkJoinPool forkJoinPool)
+    {
+        SourceRegistry registry = new SourceRegistry(null, null, Lists.immutable.empty(), forkJoinPool);
+        Source source1 = new Source("/test/source1.pure", false, true, "the quick brown fox\njumped over the\nlazy dog\n");
+        Source source2 = new Source("/test/source2.pure", false, true, "The Quick Brown Fox\n");
+        Source source3 = new Source("/other/source3.pure", false, true, "quick\n");
+        registry.registerSource(source1);
+        registry.registerSource(source2);
+        registry.registerSource(source3);
+
+        Assert.assertEquals(Sets.immutable.with(new SourceCoordinates("/test/source1.pure", 1, 5, 1, 9), new SourceCoordinates("/other/source3.pure", 1, 1, 1, 5)), registry.find("quick").toSet());
+        Assert.assertEquals(Sets.immutable.with(new SourceCoordinates("/test/source1.pure", 1, 5, 1, 9), new SourceCoordinates("/test/source2.pure", 1, 5, 1, 9)), registry.find("QUICK", false, Pattern.compile("/test/.*")).toSet());
+        Assert.assertEquals(Sets.immutable.with(new SourceCoordinates("/test/source1.pure", 2, 1, 2, 11)), registry.find(Pattern.compile("jump(ed)?\\s+over")).toSet());
+        Assert.assertEquals(Sets.immutable.empty(), registry.find("over the lazy").toSet());
+
+        // updates and deletes are reflected in the index
+        source2.updateContent("a slow green turtle\n");
+        Assert.assertEquals(Sets.immutable.with(new SourceCoordinates("/test/source2.pure", 1, 3, 1, 6)), registry.find("slow").toSet());
+        Assert.assertEquals(Sets.immutable.with(new SourceCoordinates("/test/source1.pure", 1, 5, 1, 9)), registry.find("QUICK", false, Pattern.compile("/test/.*")).toSet());
+
+        registry.unregisterSource(source3.getId());
+        Assert.assertEquals(Sets.immutable.with(new SourceCoordinates("/test/source1.pure", 1, 5, 1, 9)), registry.find("quick").toSet());
+    }
+}
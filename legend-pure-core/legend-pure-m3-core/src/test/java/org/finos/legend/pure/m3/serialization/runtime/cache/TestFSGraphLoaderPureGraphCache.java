@@ -0,0 +1,156 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.serialization.runtime.cache;
+
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.collections.api.map.MutableMap;
+import org.finos.legend.pure.m3.serialization.filesystem.repository.CodeRepositoryProviderHelper;
+import org.finos.legend.pure.m3.serialization.filesystem.repository.GenericCodeRepository;
+import org.finos.legend.pure.m3.serialization.filesystem.usercodestorage.MutableRepositoryCodeStorage;
+import org.finos.legend.pure.m3.serialization.filesystem.usercodestorage.classpath.ClassLoaderCodeStorage;
+import org.finos.legend.pure.m3.serialization.filesystem.usercodestorage.composite.CompositeCodeStorage;
+import org.finos.legend.pure.m3.serialization.filesystem.usercodestorage.fs.MutableFSCodeStorage;
+import org.finos.legend.pure.m3.serialization.runtime.PureRuntime;
+import org.finos.legend.pure.m3.serialization.runtime.PureRuntimeBuilder;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class TestFSGraphLoaderPureGraphCache
+{
+    @Rule
+    public final TemporaryFolder tmp = new TemporaryFolder();
+
+    private Path repoADir;
+    private Path repoBDir;
+    private Path cacheDir;
+
+    @Before
+    public void setUpRepositories() throws IOException
+    {
+        this.repoADir = this.tmp.newFolder("test_a").toPath();
+        this.repoBDir = this.tmp.newFolder("test_b").toPath();
+        this.cacheDir = this.tmp.newFolder("cache").toPath();
+        Files.write(this.repoADir.resolve("a.pure"), "Class test_a::A\n{\n  name : String[1];\n}\n".getBytes(StandardCharsets.UTF_8));
+        Files.write(this.repoBDir.resolve("b.pure"), "Class test_b::B\n{\n  name : String[1];\n}\n".getBytes(StandardCharsets.UTF_8));
+        Files.write(this.repoBDir.resolve("empty.pure"), "// nothing to see here\n".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testModifiedSourceOnlyRewritesItsRepository() throws IOException
+    {
+        FSGraphLoaderPureGraphCache cache = newCache();
+        PureRuntime runtime = newRuntime(cache);
+        MutableMap<String, String> manifest = readManifest();
+        Assert.assertEquals(Sets.mutable.with("platform", "test_a", "test_b"), manifest.keysView().toSet());
+
+        runtime.modify("/test_a/a.pure", "Class test_a::A\n{\n  name : String[1];\n  other : Integer[1];\n}\n");
+        runtime.compile();
+        cache.cacheRepoAndSources();
+        Assert.assertTrue(cache.getCacheState().getLastStackTrace(), cache.getCacheState().isCached());
+
+        MutableMap<String, String> newManifest = readManifest();
+        Assert.assertEquals(manifest.keysView().toSet(), newManifest.keysView().toSet());
+        manifest.forEachKeyValue((repoName, fileName) ->
+        {
+            if ("test_a".equals(repoName))
+            {
+                Assert.assertNotEquals(repoName, fileName, newManifest.get(repoName));
+                Assert.assertTrue(repoName, Files.notExists(this.cacheDir.resolve(fileName)));
+            }
+            else
+            {
+                Assert.assertEquals(repoName, fileName, newManifest.get(repoName));
+            }
+        });
+
+        PureRuntime newRuntime = newRuntime(newCache());
+        Assert.assertNotNull(newRuntime.getCoreInstance("test_a::A"));
+        Assert.assertNotNull(newRuntime.getCoreInstance("test_b::B"));
+        Assert.assertNotNull(newRuntime.getProcessorSupport().class_findPropertyUsingGeneralization(newRuntime.getCoreInstance("test_a::A"), "other"));
+    }
+
+    @Test
+    public void testDeletedSourceWithoutInstancesRewritesItsRepository() throws IOException
+    {
+        FSGraphLoaderPureGraphCache cache = newCache();
+        PureRuntime runtime = newRuntime(cache);
+        Assert.assertNotNull(runtime.getSourceById("/test_b/empty.pure"));
+        MutableMap<String, String> manifest = readManifest();
+
+        runtime.delete("/test_b/empty.pure");
+        runtime.compile();
+        cache.cacheRepoAndSources();
+        Assert.assertTrue(cache.getCacheState().getLastStackTrace(), cache.getCacheState().isCached());
+
+        MutableMap<String, String> newManifest = readManifest();
+        Assert.assertEquals(manifest.keysView().toSet(), newManifest.keysView().toSet());
+        manifest.forEachKeyValue((repoName, fileName) ->
+        {
+            if ("test_b".equals(repoName))
+            {
+                Assert.assertNotEquals(repoName, fileName, newManifest.get(repoName));
+            }
+            else
+            {
+                Assert.assertEquals(repoName, fileName, newManifest.get(repoName));
+            }
+        });
+
+        PureRuntime newRuntime = newRuntime(newCache());
+        Assert.assertNull(newRuntime.getSourceById("/test_b/empty.pure"));
+        Assert.assertNotNull(newRuntime.getSourceById("/test_b/b.pure"));
+        Assert.assertNotNull(newRuntime.getCoreInstance("test_b::B"));
+    }
+
+    private FSGraphLoaderPureGraphCache newCache()
+    {
+        return new FSGraphLoaderPureGraphCache(this.cacheDir, false, true, null, null);
+    }
+
+    private PureRuntime newRuntime(FSGraphLoaderPureGraphCache cache)
+    {
+        MutableRepositoryCodeStorage codeStorage = new CompositeCodeStorage(
+                new ClassLoaderCodeStorage(CodeRepositoryProviderHelper.findPlatformCodeRepository()),
+                new MutableFSCodeStorage(GenericCodeRepository.build("test_a", "test_a(::.*)?", "platform"), this.repoADir),
+                new MutableFSCodeStorage(GenericCodeRepository.build("test_b", "test_b(::.*)?", "platform"), this.repoBDir));
+        PureRuntime runtime = new PureRuntimeBuilder(codeStorage).withCache(cache).buildAndTryToInitializeFromCache();
+        if (!runtime.isInitialized())
+        {
+            runtime.initialize();
+        }
+        Assert.assertTrue(cache.getCacheState().getLastStackTrace(), cache.getCacheState().isCached());
+        return runtime;
+    }
+
+    private MutableMap<String, String> readManifest() throws IOException
+    {
+        MutableMap<String, String> manifest = Maps.mutable.empty();
+        for (String line : Files.readAllLines(this.cacheDir.resolve("manifest.txt"), StandardCharsets.UTF_8))
+        {
+            int tab = line.indexOf('\t');
+            manifest.put(line.substring(0, tab), line.substring(tab + 1));
+        }
+        return manifest;
+    }
+}
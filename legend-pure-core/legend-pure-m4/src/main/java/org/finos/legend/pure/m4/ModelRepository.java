@@ -141,6 +141,18 @@ public class ModelRepository
         return ((transaction != null) && transaction.isOpen()) ? transaction.getOrAddTopLevel(topLevel) : this.topLevelMap.getIfAbsentPut(topLevel.getName(), topLevel);
     }
 
+    /**
+     * Remove a top level element, if it is the current top level element with its name.
+     *
+     * @param topLevel top level element
+     * @return whether it was removed
+     */
+    public boolean removeTopLevel(CoreInstance topLevel)
+    {
+        ModelRepositoryTransaction transaction = getTransaction();
+        return ((transaction != null) && transaction.isOpen()) ? transaction.removeTopLevel(topLevel) : this.topLevelMap.remove(topLevel.getName(), topLevel);
+    }
+
     public RichIterable<CoreInstance> getTopLevels()
     {
         ModelRepositoryTransaction transaction = getTransaction();
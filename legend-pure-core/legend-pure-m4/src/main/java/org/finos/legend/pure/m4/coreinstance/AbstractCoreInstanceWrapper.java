@@ -128,6 +128,12 @@ public class AbstractCoreInstanceWrapper implements CoreInstance
         return this.instance.getValueForMetaPropertyToOne(property);
     }
 
+    @Override
+    public CoreInstance getValueForMetaPropertyToOne(PropertySlot slot)
+    {
+        return this.instance.getValueForMetaPropertyToOne(slot);
+    }
+
     @Override
     public ListIterable<? extends CoreInstance> getValueForMetaPropertyToMany(String keyName)
     {
@@ -140,6 +146,12 @@ public class AbstractCoreInstanceWrapper implements CoreInstance
         return this.instance.getValueForMetaPropertyToMany(key);
     }
 
+    @Override
+    public ListIterable<? extends CoreInstance> getValueForMetaPropertyToMany(PropertySlot slot)
+    {
+        return this.instance.getValueForMetaPropertyToMany(slot);
+    }
+
     @Override
     public CoreInstance getValueInValueForMetaPropertyToMany(String keyName, String keyInMany)
     {
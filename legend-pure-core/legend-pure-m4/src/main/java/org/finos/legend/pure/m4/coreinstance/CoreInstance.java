@@ -161,6 +161,11 @@ public interface CoreInstance
         return getValueForMetaPropertyToOne(property.getName());
     }
 
+    default CoreInstance getValueForMetaPropertyToOne(PropertySlot slot)
+    {
+        return getValueForMetaPropertyToOne(slot.getName());
+    }
+
     ListIterable<? extends CoreInstance> getValueForMetaPropertyToMany(String keyName);
 
     default ListIterable<? extends CoreInstance> getValueForMetaPropertyToMany(CoreInstance key)
@@ -168,6 +173,11 @@ public interface CoreInstance
         return getValueForMetaPropertyToMany(key.getName());
     }
 
+    default ListIterable<? extends CoreInstance> getValueForMetaPropertyToMany(PropertySlot slot)
+    {
+        return getValueForMetaPropertyToMany(slot.getName());
+    }
+
     default CoreInstance getValueInValueForMetaPropertyToMany(String keyName, String keyInMany)
     {
         return getValueInValueForMetaPropertyToManyByIDIndex(keyName, IndexSpecifications.getCoreInstanceNameIndexSpec(), keyInMany);
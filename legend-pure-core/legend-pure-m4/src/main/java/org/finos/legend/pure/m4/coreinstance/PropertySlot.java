@@ -0,0 +1,117 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m4.coreinstance;
+
+import org.eclipse.collections.api.map.ConcurrentMutableMap;
+import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+
+import java.util.Arrays;
+
+/**
+ * A property name resolved to a dense int id. Slots are interned: there is exactly one slot for each property name,
+ * so ids are stable for the life of the JVM and can be computed once and reused for navigation (see
+ * {@link CoreInstance#getValueForMetaPropertyToOne(PropertySlot)}). Instances which store their properties by slot id
+ * can then skip the lookup by name.
+ */
+public final class PropertySlot
+{
+    private static final ConcurrentMutableMap<String, PropertySlot> SLOTS_BY_NAME = ConcurrentHashMap.newMap();
+    private static volatile PropertySlot[] SLOTS_BY_ID = new PropertySlot[256];
+    private static int nextId = 0;
+
+    private final String name;
+    private final int id;
+
+    private PropertySlot(String name, int id)
+    {
+        this.name = name;
+        this.id = id;
+    }
+
+    public String getName()
+    {
+        return this.name;
+    }
+
+    public int getId()
+    {
+        return this.id;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "<PropertySlot " + this.name + " " + this.id + ">";
+    }
+
+    /**
+     * Get the slot for a property name, creating it if necessary.
+     *
+     * @param name property name
+     * @return property slot
+     */
+    public static PropertySlot of(String name)
+    {
+        PropertySlot slot = SLOTS_BY_NAME.get(name);
+        return (slot == null) ? newSlot(name) : slot;
+    }
+
+    /**
+     * Get the slot for a property name if there is one, otherwise null. If there is no slot for a name, then no
+     * instance which stores its properties by slot can have a value for it.
+     *
+     * @param name property name
+     * @return property slot or null
+     */
+    public static PropertySlot getIfPresent(String name)
+    {
+        return SLOTS_BY_NAME.get(name);
+    }
+
+    /**
+     * Get a slot by its id.
+     *
+     * @param id slot id
+     * @return property slot
+     */
+    public static PropertySlot getById(int id)
+    {
+        PropertySlot[] slots = SLOTS_BY_ID;
+        if ((id < 0) || (id >= slots.length) || (slots[id] == null))
+        {
+            throw new IllegalArgumentException("Unknown property slot id: " + id);
+        }
+        return slots[id];
+    }
+
+    private static synchronized PropertySlot newSlot(String name)
+    {
+        PropertySlot slot = SLOTS_BY_NAME.get(name);
+        if (slot == null)
+        {
+            slot = new PropertySlot(name, nextId++);
+            PropertySlot[] slots = SLOTS_BY_ID;
+            if (slot.id >= slots.length)
+            {
+                slots = Arrays.copyOf(slots, slots.length * 2);
+            }
+            slots[slot.id] = slot;
+            // publish the array before the name, so that any slot found by name can also be found by id
+            SLOTS_BY_ID = slots;
+            SLOTS_BY_NAME.put(name, slot);
+        }
+        return slot;
+    }
+}
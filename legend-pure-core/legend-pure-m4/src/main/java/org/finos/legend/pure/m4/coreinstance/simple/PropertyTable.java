@@ -0,0 +1,144 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m4.coreinstance.simple;
+
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.impl.list.fixed.ArrayAdapter;
+import org.finos.legend.pure.m4.coreinstance.PropertySlot;
+
+import java.util.Arrays;
+
+/**
+ * Compact table of value holders by property slot. The slots are kept in the order they were added, in an array
+ * parallel to the value holders, which costs far less memory than a hash map for the handful of properties an instance
+ * typically has. Keeping the order they were added in (rather than, e.g., slot id order) means the order of the names
+ * does not depend on the order in which slots were created in the JVM. The table itself is immutable: adding or
+ * removing a slot returns a new table. The value holders are not copied.
+ */
+final class PropertyTable
+{
+    static final PropertyTable EMPTY = new PropertyTable(new PropertySlot[0], new ValueHolder[0]);
+
+    private final PropertySlot[] slots;
+    private final ValueHolder[] valueHolders;
+
+    private PropertyTable(PropertySlot[] slots, ValueHolder[] valueHolders)
+    {
+        this.slots = slots;
+        this.valueHolders = valueHolders;
+    }
+
+    int size()
+    {
+        return this.slots.length;
+    }
+
+    boolean isEmpty()
+    {
+        return this.slots.length == 0;
+    }
+
+    ValueHolder get(String name)
+    {
+        PropertySlot slot = PropertySlot.getIfPresent(name);
+        return (slot == null) ? null : get(slot);
+    }
+
+    ValueHolder get(PropertySlot slot)
+    {
+        int index = indexOf(slot);
+        return (index < 0) ? null : this.valueHolders[index];
+    }
+
+    PropertyTable with(PropertySlot slot, ValueHolder valueHolder)
+    {
+        int index = indexOf(slot);
+        if (index >= 0)
+        {
+            if (this.valueHolders[index] == valueHolder)
+            {
+                return this;
+            }
+            ValueHolder[] newValueHolders = this.valueHolders.clone();
+            newValueHolders[index] = valueHolder;
+            return new PropertyTable(this.slots, newValueHolders);
+        }
+
+        int size = this.slots.length;
+        PropertySlot[] newSlots = Arrays.copyOf(this.slots, size + 1);
+        ValueHolder[] newValueHolders = Arrays.copyOf(this.valueHolders, size + 1);
+        newSlots[size] = slot;
+        newValueHolders[size] = valueHolder;
+        return new PropertyTable(newSlots, newValueHolders);
+    }
+
+    PropertyTable without(String name)
+    {
+        PropertySlot slot = PropertySlot.getIfPresent(name);
+        if (slot == null)
+        {
+            return this;
+        }
+        int index = indexOf(slot);
+        if (index < 0)
+        {
+            return this;
+        }
+        int size = this.slots.length;
+        if (size == 1)
+        {
+            return EMPTY;
+        }
+        PropertySlot[] newSlots = new PropertySlot[size - 1];
+        ValueHolder[] newValueHolders = new ValueHolder[size - 1];
+        System.arraycopy(this.slots, 0, newSlots, 0, index);
+        System.arraycopy(this.valueHolders, 0, newValueHolders, 0, index);
+        System.arraycopy(this.slots, index + 1, newSlots, index, size - index - 1);
+        System.arraycopy(this.valueHolders, index + 1, newValueHolders, index, size - index - 1);
+        return new PropertyTable(newSlots, newValueHolders);
+    }
+
+    ImmutableList<String> getNames()
+    {
+        return ArrayAdapter.adapt(this.slots).collect(PropertySlot::getName).toImmutable();
+    }
+
+    PropertyTable copyValueHolders()
+    {
+        if (isEmpty())
+        {
+            return this;
+        }
+        ValueHolder[] newValueHolders = new ValueHolder[this.valueHolders.length];
+        for (int i = 0; i < newValueHolders.length; i++)
+        {
+            newValueHolders[i] = this.valueHolders[i].copy();
+        }
+        return new PropertyTable(this.slots, newValueHolders);
+    }
+
+    private int indexOf(PropertySlot slot)
+    {
+        // slots are interned, so they can be compared by identity; the tables are small, so a linear scan is cheap
+        for (int i = 0; i < this.slots.length; i++)
+        {
+            if (this.slots[i] == slot)
+            {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
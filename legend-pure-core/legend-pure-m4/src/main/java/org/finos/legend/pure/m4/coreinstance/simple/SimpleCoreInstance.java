@@ -21,6 +21,7 @@ import org.finos.legend.pure.m4.ModelRepository;
 import org.finos.legend.pure.m4.coreinstance.AbstractCoreInstance;
 import org.finos.legend.pure.m4.coreinstance.CoreInstance;
 import org.finos.legend.pure.m4.coreinstance.CoreInstanceWithStandardPrinting;
+import org.finos.legend.pure.m4.coreinstance.PropertySlot;
 import org.finos.legend.pure.m4.coreinstance.SourceInformation;
 import org.finos.legend.pure.m4.coreinstance.compileState.CompileState;
 import org.finos.legend.pure.m4.coreinstance.compileState.CompileStateSet;
@@ -54,7 +55,22 @@ public class SimpleCoreInstance extends AbstractCoreInstance implements CoreInst
     @Override
     public void commit(ModelRepositoryTransaction transaction)
     {
-        this.state = (SimpleCoreInstanceMutableState) transaction.getState(this);
+        SimpleCoreInstanceMutableState newState = (SimpleCoreInstanceMutableState) transaction.getState(this);
+        if (newState.hasCompileState(CompileState.VALIDATED))
+        {
+            // compiled instances are mostly read from here on, so reads should not need to lock
+            newState.freeze();
+        }
+        this.state = newState;
+    }
+
+    /**
+     * Whether the state of this instance is frozen. Reads of a frozen state do not lock; writes replace an immutable
+     * snapshot. The state of an instance is frozen when a transaction in which it was validated is committed.
+     */
+    public boolean isStateFrozen()
+    {
+        return this.state.isFrozen();
     }
 
     @Override
@@ -156,19 +172,36 @@ public class SimpleCoreInstance extends AbstractCoreInstance implements CoreInst
         }
         catch (OneValueException e)
         {
-            int size = e.getSize();
-            StringBuilder builder = new StringBuilder(128);
-            builder.append("More than one (").append(size).append(") result is returned for the key '").append(propertyName).append("' in CoreInstance:\n\n");
-            print(builder, "   ", 0);
-            if (size <= 100)
-            {
-                builder.append("\n\nValues:\n\n");
-                getState().getValues(propertyName).forEach(value -> value.print(builder.append("\n"), "", 0));
-            }
-            throw new RuntimeException(builder.toString());
+            throw new RuntimeException(buildMoreThanOneValueMessage(propertyName, e.getSize()));
         }
     }
 
+    @Override
+    public CoreInstance getValueForMetaPropertyToOne(PropertySlot slot)
+    {
+        try
+        {
+            return getState().getOneValue(slot);
+        }
+        catch (OneValueException e)
+        {
+            throw new RuntimeException(buildMoreThanOneValueMessage(slot.getName(), e.getSize()));
+        }
+    }
+
+    private String buildMoreThanOneValueMessage(String propertyName, int size)
+    {
+        StringBuilder builder = new StringBuilder(128);
+        builder.append("More than one (").append(size).append(") result is returned for the key '").append(propertyName).append("' in CoreInstance:\n\n");
+        print(builder, "   ", 0);
+        if (size <= 100)
+        {
+            builder.append("\n\nValues:\n\n");
+            getState().getValues(propertyName).forEach(value -> value.print(builder.append("\n"), "", 0));
+        }
+        return builder.toString();
+    }
+
     // -------------
     //  Get To Many
     //--------------
@@ -179,6 +212,13 @@ public class SimpleCoreInstance extends AbstractCoreInstance implements CoreInst
         return (values == null) ? Lists.immutable.empty() : values;
     }
 
+    @Override
+    public ListIterable<CoreInstance> getValueForMetaPropertyToMany(PropertySlot slot)
+    {
+        ListIterable<CoreInstance> values = this.getState().getValues(slot);
+        return (values == null) ? Lists.immutable.empty() : values;
+    }
+
     @Override
     public <K> CoreInstance getValueInValueForMetaPropertyToManyByIDIndex(String keyName, IndexSpecification<K> indexSpec, K keyInIndex)
     {
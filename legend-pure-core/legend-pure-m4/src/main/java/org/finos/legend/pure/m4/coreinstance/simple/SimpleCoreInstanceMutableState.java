@@ -16,126 +16,181 @@ package org.finos.legend.pure.m4.coreinstance.simple;
 
 import org.eclipse.collections.api.RichIterable;
 import org.eclipse.collections.api.factory.Lists;
-import org.eclipse.collections.api.factory.Maps;
 import org.eclipse.collections.api.list.ImmutableList;
 import org.eclipse.collections.api.list.ListIterable;
-import org.eclipse.collections.api.map.MutableMap;
-import org.eclipse.collections.impl.SynchronizedRichIterable;
 import org.finos.legend.pure.m4.coreinstance.AbstractCoreInstanceMutableState;
 import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+import org.finos.legend.pure.m4.coreinstance.PropertySlot;
 import org.finos.legend.pure.m4.coreinstance.indexing.IDConflictException;
 import org.finos.legend.pure.m4.coreinstance.indexing.IndexSpecification;
 
+/**
+ * Property state of a {@link SimpleCoreInstance}, stored in a compact {@link PropertyTable} by property slot.
+ * Initially, all access is synchronized. Once the state is frozen (see {@link #freeze}), reads no longer lock. Writes
+ * to a frozen state are still synchronized, and replace the table with a modified copy rather than modifying any value
+ * holder in place.
+ */
 class SimpleCoreInstanceMutableState extends AbstractCoreInstanceMutableState
 {
-    private final MutableMap<String, ValueHolder> state = Maps.mutable.empty();
+    // only replaced while synchronized on this; once frozen, the value holders in the table are never modified, except
+    // for lazily resolving keys
+    private volatile PropertyTable table = PropertyTable.EMPTY;
+    private volatile boolean frozen = false;
+
+    boolean isFrozen()
+    {
+        return this.frozen;
+    }
+
+    void freeze()
+    {
+        synchronized (this)
+        {
+            this.frozen = true;
+        }
+    }
 
     RichIterable<String> getKeys()
     {
-        synchronized (this.state)
+        if (this.frozen)
+        {
+            return this.table.getNames();
+        }
+        synchronized (this)
         {
-            return SynchronizedRichIterable.of(this.state.keysView(), this.state);
+            return this.table.getNames();
         }
     }
 
     CoreInstance getKeyByName(String name, SimpleCoreInstance owner)
     {
-        synchronized (this.state)
+        if (this.frozen)
         {
-            ValueHolder valueHolder = this.state.get(name);
-            if (valueHolder == null)
-            {
-                throw new RuntimeException("No real key can be found for '" + name + "' in\n" + owner.getName() + " (" + owner + ")");
-            }
-            if (!valueHolder.hasKey())
-            {
-                if (!valueHolder.hasRealKey())
-                {
-                    throw new RuntimeException("No real key can be found for '" + name + "' in\n" + owner.getName() + " (" + owner + ")");
-                }
-                valueHolder.setKey(owner.getRepository().resolve(valueHolder.getRealKey()));
-                if (!valueHolder.hasKey())
-                {
-                    throw new RuntimeException("Error " + name + " has no key - " + owner.getName());
-                }
-            }
-            return valueHolder.getKey();
+            return getKeyByName(this.table.get(name), name, owner);
+        }
+        synchronized (this)
+        {
+            return getKeyByName(this.table.get(name), name, owner);
         }
     }
 
     ImmutableList<String> getRealKeyByName(String keyName)
     {
-        synchronized (this.state)
+        if (this.frozen)
         {
-            ValueHolder valueHolder = this.state.get(keyName);
-            return (valueHolder == null) ? null : valueHolder.getRealKey();
+            return getRealKey(this.table.get(keyName));
+        }
+        synchronized (this)
+        {
+            return getRealKey(this.table.get(keyName));
         }
     }
 
     boolean hasValuesDefined(String keyName)
     {
-        synchronized (this.state)
+        if (this.frozen)
+        {
+            return hasValuesDefined(this.table.get(keyName));
+        }
+        synchronized (this)
         {
-            ValueHolder valueHolder = this.state.get(keyName);
-            return (valueHolder != null) && valueHolder.hasValuesDefined();
+            return hasValuesDefined(this.table.get(keyName));
         }
     }
 
     CoreInstance getOneValue(String keyName) throws OneValueException
     {
-        synchronized (this.state)
+        if (this.frozen)
+        {
+            return getOneValue(this.table.get(keyName));
+        }
+        synchronized (this)
+        {
+            return getOneValue(this.table.get(keyName));
+        }
+    }
+
+    CoreInstance getOneValue(PropertySlot slot) throws OneValueException
+    {
+        if (this.frozen)
+        {
+            return getOneValue(this.table.get(slot));
+        }
+        synchronized (this)
         {
-            ValueHolder valueHolder = this.state.get(keyName);
-            return (valueHolder == null) ? null : valueHolder.getOneValue();
+            return getOneValue(this.table.get(slot));
         }
     }
 
     ListIterable<CoreInstance> getValues(String keyName)
     {
-        synchronized (this.state)
+        if (this.frozen)
+        {
+            return getValues(this.table.get(keyName));
+        }
+        synchronized (this)
         {
-            ValueHolder valueHolder = this.state.get(keyName);
-            return (valueHolder == null) ? null : valueHolder.getValues();
+            return getValues(this.table.get(keyName));
+        }
+    }
+
+    ListIterable<CoreInstance> getValues(PropertySlot slot)
+    {
+        if (this.frozen)
+        {
+            return getValues(this.table.get(slot));
+        }
+        synchronized (this)
+        {
+            return getValues(this.table.get(slot));
         }
     }
 
     public <K> CoreInstance getValueInValueForMetaPropertyToManyByIDIndex(String keyName, IndexSpecification<K> indexSpec, K keyInIndex) throws IDConflictException
     {
-        synchronized (this.state)
+        if (this.frozen)
         {
-            ValueHolder valueHolder = this.state.get(keyName);
-            return (valueHolder == null) ? null : valueHolder.getValueByIDIndex(indexSpec, keyInIndex);
+            return getValueByIDIndex(this.table.get(keyName), indexSpec, keyInIndex);
+        }
+        synchronized (this)
+        {
+            return getValueByIDIndex(this.table.get(keyName), indexSpec, keyInIndex);
         }
     }
 
     public <K> ListIterable<CoreInstance> getValueInValueForMetaPropertyToManyByIndex(String keyName, IndexSpecification<K> indexSpec, K keyInIndex)
     {
-        synchronized (this.state)
+        if (this.frozen)
+        {
+            return getValuesByIndex(this.table.get(keyName), indexSpec, keyInIndex);
+        }
+        synchronized (this)
         {
-            ValueHolder valueHolder = this.state.get(keyName);
-            return (valueHolder == null) ? Lists.immutable.empty() : valueHolder.getValuesByIndex(indexSpec, keyInIndex);
+            return getValuesByIndex(this.table.get(keyName), indexSpec, keyInIndex);
         }
     }
 
     void setValues(ListIterable<String> key, CoreInstance value)
     {
-        String name = key.getLast();
-        synchronized (this.state)
+        PropertySlot slot = PropertySlot.of(key.getLast());
+        synchronized (this)
         {
-            ValueHolder valueHolder = this.state.getIfAbsentPut(name, SimpleCoreInstanceMutableState::newValueHolder);
+            ValueHolder valueHolder = getValueHolderForWrite(slot, true);
             valueHolder.possiblySetRealKey(key);
             valueHolder.setValues(value);
+            finishWrite(slot, valueHolder);
         }
     }
 
     void setValues(ListIterable<String> key, ListIterable<? extends CoreInstance> values)
     {
-        String name = key.getLast();
-        synchronized (this.state)
+        PropertySlot slot = PropertySlot.of(key.getLast());
+        synchronized (this)
         {
-            ValueHolder valueHolder = this.state.getIfAbsentPut(name, SimpleCoreInstanceMutableState::newValueHolder);
+            ValueHolder valueHolder = getValueHolderForWrite(slot, true);
             valueHolder.possiblySetRealKey(key);
             valueHolder.setValues(values);
+            finishWrite(slot, valueHolder);
         }
     }
 
@@ -151,11 +206,13 @@ class SimpleCoreInstanceMutableState extends AbstractCoreInstanceMutableState
 
     private void addValue(String keyName, ListIterable<String> key, CoreInstance value)
     {
-        synchronized (this.state)
+        PropertySlot slot = PropertySlot.of(keyName);
+        synchronized (this)
         {
-            ValueHolder valueHolder = this.state.getIfAbsentPut(keyName, SimpleCoreInstanceMutableState::newValueHolder);
+            ValueHolder valueHolder = getValueHolderForWrite(slot, true);
             valueHolder.possiblySetRealKey(key);
             valueHolder.addValue(value);
+            finishWrite(slot, valueHolder);
         }
     }
 
@@ -166,48 +223,125 @@ class SimpleCoreInstanceMutableState extends AbstractCoreInstanceMutableState
 
     void modifyValues(String keyName, int offset, CoreInstance value)
     {
-        synchronized (this.state)
+        PropertySlot slot = PropertySlot.getIfPresent(keyName);
+        synchronized (this)
         {
-            ValueHolder valueHolder = this.state.get(keyName);
+            ValueHolder valueHolder = (slot == null) ? null : getValueHolderForWrite(slot, false);
             if ((valueHolder == null) || !valueHolder.hasValuesDefined())
             {
                 throw new RuntimeException("No values for key: " + keyName);
             }
             valueHolder.setValue(offset, value);
+            finishWrite(slot, valueHolder);
         }
     }
 
     void removeValue(String keyName, CoreInstance value)
     {
-        synchronized (this.state)
+        PropertySlot slot = PropertySlot.getIfPresent(keyName);
+        if (slot != null)
         {
-            ValueHolder valueHolder = this.state.get(keyName);
-            if (valueHolder != null)
+            synchronized (this)
             {
-                valueHolder.removeValue(value);
+                ValueHolder valueHolder = getValueHolderForWrite(slot, false);
+                if (valueHolder != null)
+                {
+                    valueHolder.removeValue(value);
+                    finishWrite(slot, valueHolder);
+                }
             }
         }
     }
 
     void removeKey(String key)
     {
-        synchronized (this.state)
+        synchronized (this)
         {
-            this.state.remove(key);
+            this.table = this.table.without(key);
         }
     }
 
     SimpleCoreInstanceMutableState copy()
     {
         SimpleCoreInstanceMutableState copy = new SimpleCoreInstanceMutableState();
-        synchronized (this.state)
+        synchronized (this)
         {
-            this.state.forEachKeyValue((key, value) -> copy.state.put(key, value.copy()));
+            copy.table = this.table.copyValueHolders();
             copy.setCompileStateBitSet(getCompileStateBitSet());
         }
         return copy;
     }
 
+    // must be called while synchronized on this; if the state is frozen or there is no value holder for the slot, the
+    // result must be passed to finishWrite
+    private ValueHolder getValueHolderForWrite(PropertySlot slot, boolean create)
+    {
+        ValueHolder valueHolder = this.table.get(slot);
+        if (valueHolder == null)
+        {
+            return create ? newValueHolder() : null;
+        }
+        return this.frozen ? valueHolder.copy() : valueHolder;
+    }
+
+    // must be called while synchronized on this
+    private void finishWrite(PropertySlot slot, ValueHolder valueHolder)
+    {
+        this.table = this.table.with(slot, valueHolder);
+    }
+
+    private static CoreInstance getKeyByName(ValueHolder valueHolder, String name, SimpleCoreInstance owner)
+    {
+        if (valueHolder == null)
+        {
+            throw new RuntimeException("No real key can be found for '" + name + "' in\n" + owner.getName() + " (" + owner + ")");
+        }
+        if (!valueHolder.hasKey())
+        {
+            if (!valueHolder.hasRealKey())
+            {
+                throw new RuntimeException("No real key can be found for '" + name + "' in\n" + owner.getName() + " (" + owner + ")");
+            }
+            // resolving the key is idempotent, so it is harmless if this races with another reader of a frozen state
+            valueHolder.setKey(owner.getRepository().resolve(valueHolder.getRealKey()));
+            if (!valueHolder.hasKey())
+            {
+                throw new RuntimeException("Error " + name + " has no key - " + owner.getName());
+            }
+        }
+        return valueHolder.getKey();
+    }
+
+    private static ImmutableList<String> getRealKey(ValueHolder valueHolder)
+    {
+        return (valueHolder == null) ? null : valueHolder.getRealKey();
+    }
+
+    private static boolean hasValuesDefined(ValueHolder valueHolder)
+    {
+        return (valueHolder != null) && valueHolder.hasValuesDefined();
+    }
+
+    private static CoreInstance getOneValue(ValueHolder valueHolder) throws OneValueException
+    {
+        return (valueHolder == null) ? null : valueHolder.getOneValue();
+    }
+
+    private static ListIterable<CoreInstance> getValues(ValueHolder valueHolder)
+    {
+        return (valueHolder == null) ? null : valueHolder.getValues();
+    }
+
+    private static <K> CoreInstance getValueByIDIndex(ValueHolder valueHolder, IndexSpecification<K> indexSpec, K keyInIndex) throws IDConflictException
+    {
+        return (valueHolder == null) ? null : valueHolder.getValueByIDIndex(indexSpec, keyInIndex);
+    }
+
+    private static <K> ListIterable<CoreInstance> getValuesByIndex(ValueHolder valueHolder, IndexSpecification<K> indexSpec, K keyInIndex)
+    {
+        return (valueHolder == null) ? Lists.immutable.empty() : valueHolder.getValuesByIndex(indexSpec, keyInIndex);
+    }
+
     private static ValueHolder newValueHolder()
     {
         return new ValueHolder(null, null, null);
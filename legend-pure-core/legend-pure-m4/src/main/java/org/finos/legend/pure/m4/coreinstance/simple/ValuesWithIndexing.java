@@ -16,9 +16,9 @@ package org.finos.legend.pure.m4.coreinstance.simple;
 
 import org.eclipse.collections.api.list.ListIterable;
 import org.eclipse.collections.api.list.MutableList;
-import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.map.ConcurrentMutableMap;
 import org.eclipse.collections.impl.factory.Lists;
-import org.eclipse.collections.impl.factory.Maps;
+import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
 import org.finos.legend.pure.m4.coreinstance.CoreInstance;
 import org.finos.legend.pure.m4.coreinstance.indexing.IDConflictException;
 import org.finos.legend.pure.m4.coreinstance.indexing.IDIndex;
@@ -30,8 +30,9 @@ final class ValuesWithIndexing<V extends CoreInstance> implements Values<V>
     private static final int MIN_SIZE = INDEXING_THRESHOLD - INDEXING_TOLERANCE;
 
     private final MutableList<V> values;
-    private MutableMap<IndexSpecification<?>, IDIndex<?, V>> idIndexes;
-    private MutableMap<IndexSpecification<?>, Index<?, V>> indexes;
+    // indexes are built lazily, possibly by concurrent readers of a frozen state (see SimpleCoreInstanceMutableState)
+    private volatile ConcurrentMutableMap<IndexSpecification<?>, IDIndex<?, V>> idIndexes;
+    private volatile ConcurrentMutableMap<IndexSpecification<?>, Index<?, V>> indexes;
 
     ValuesWithIndexing(MutableList<V> values)
     {
@@ -53,15 +54,27 @@ final class ValuesWithIndexing<V extends CoreInstance> implements Values<V>
     @Override
     public <K> V getValueByIDIndex(IndexSpecification<K> indexSpec, K key) throws IDConflictException
     {
-        if (this.idIndexes == null)
+        ConcurrentMutableMap<IndexSpecification<?>, IDIndex<?, V>> localIdIndexes = this.idIndexes;
+        if (localIdIndexes == null)
         {
-            this.idIndexes = Maps.mutable.empty();
+            synchronized (this)
+            {
+                localIdIndexes = this.idIndexes;
+                if (localIdIndexes == null)
+                {
+                    this.idIndexes = localIdIndexes = ConcurrentHashMap.newMap();
+                }
+            }
         }
-        IDIndex<?, V> idIndex = this.idIndexes.get(indexSpec);
+        IDIndex<?, V> idIndex = localIdIndexes.get(indexSpec);
         if (idIndex == null)
         {
             idIndex = IDIndex.newIDIndex(indexSpec, this.values);
-            this.idIndexes.put(indexSpec, idIndex);
+            IDIndex<?, V> existing = localIdIndexes.putIfAbsent(indexSpec, idIndex);
+            if (existing != null)
+            {
+                idIndex = existing;
+            }
         }
         return idIndex.get(key);
     }
@@ -69,15 +82,27 @@ final class ValuesWithIndexing<V extends CoreInstance> implements Values<V>
     @Override
     public <K> ListIterable<V> getValuesByIndex(IndexSpecification<K> indexSpec, K key)
     {
-        if (this.indexes == null)
+        ConcurrentMutableMap<IndexSpecification<?>, Index<?, V>> localIndexes = this.indexes;
+        if (localIndexes == null)
         {
-            this.indexes = Maps.mutable.empty();
+            synchronized (this)
+            {
+                localIndexes = this.indexes;
+                if (localIndexes == null)
+                {
+                    this.indexes = localIndexes = ConcurrentHashMap.newMap();
+                }
+            }
         }
-        Index<?, V> index = this.indexes.get(indexSpec);
+        Index<?, V> index = localIndexes.get(indexSpec);
         if (index == null)
         {
             index = Index.newIndex(indexSpec, this.values);
-            this.indexes.put(indexSpec, index);
+            Index<?, V> existing = localIndexes.putIfAbsent(indexSpec, index);
+            if (existing != null)
+            {
+                index = existing;
+            }
         }
         return index.get(key);
     }
@@ -78,6 +78,11 @@ public class ModelRepositoryTransaction extends Transaction
         return this.topLevels.getIfAbsentPut(topLevel.getName(), topLevel);
     }
 
+    public boolean removeTopLevel(CoreInstance topLevel)
+    {
+        return this.topLevels.remove(topLevel.getName(), topLevel);
+    }
+
     public CoreInstance getTopLevel(String name)
     {
         return this.topLevels.get(name);
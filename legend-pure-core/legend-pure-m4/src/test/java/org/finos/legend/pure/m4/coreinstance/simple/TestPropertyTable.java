@@ -0,0 +1,66 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m4.coreinstance.simple;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.finos.legend.pure.m4.coreinstance.PropertySlot;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TestPropertyTable
+{
+    @Test
+    public void testPropertySlotInterning()
+    {
+        PropertySlot slot = PropertySlot.of("testPropertySlotInterning");
+        Assert.assertSame(slot, PropertySlot.of("testPropertySlotInterning"));
+        Assert.assertSame(slot, PropertySlot.getIfPresent("testPropertySlotInterning"));
+        Assert.assertSame(slot, PropertySlot.getById(slot.getId()));
+        Assert.assertNull(PropertySlot.getIfPresent("testPropertySlotInterning_notASlot"));
+    }
+
+    @Test
+    public void testWithAndWithout()
+    {
+        PropertySlot slot1 = PropertySlot.of("testWithAndWithout1");
+        PropertySlot slot2 = PropertySlot.of("testWithAndWithout2");
+        PropertySlot slot3 = PropertySlot.of("testWithAndWithout3");
+        ValueHolder holder1 = new ValueHolder(null, null, null);
+        ValueHolder holder2 = new ValueHolder(null, null, null);
+        ValueHolder holder3 = new ValueHolder(null, null, null);
+
+        PropertyTable table = PropertyTable.EMPTY.with(slot3, holder3).with(slot1, holder1).with(slot2, holder2);
+        Assert.assertEquals(3, table.size());
+        // names are in the order they were added, not in slot id order
+        Assert.assertEquals(Lists.immutable.with(slot3.getName(), slot1.getName(), slot2.getName()), table.getNames());
+        Assert.assertSame(holder1, table.get(slot1));
+        Assert.assertSame(holder2, table.get(slot2.getName()));
+        Assert.assertSame(holder3, table.get(slot3));
+        Assert.assertSame(table, table.with(slot2, holder2));
+
+        // replacing a value holder keeps the position of the name
+        ValueHolder newHolder1 = new ValueHolder(null, null, null);
+        PropertyTable replaced = table.with(slot1, newHolder1);
+        Assert.assertEquals(table.getNames(), replaced.getNames());
+        Assert.assertSame(newHolder1, replaced.get(slot1));
+
+        PropertyTable without = table.without(slot2.getName());
+        Assert.assertEquals(Lists.immutable.with(slot3.getName(), slot1.getName()), without.getNames());
+        Assert.assertNull(without.get(slot2));
+        Assert.assertSame(holder2, table.get(slot2));
+        Assert.assertSame(without, without.without("testWithAndWithout_notASlot"));
+        Assert.assertSame(PropertyTable.EMPTY, without.without(slot1.getName()).without(slot3.getName()));
+    }
+}
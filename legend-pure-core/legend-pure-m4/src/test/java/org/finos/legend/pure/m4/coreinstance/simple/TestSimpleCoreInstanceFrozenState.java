@@ -0,0 +1,84 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m4.coreinstance.simple;
+
+import org.eclipse.collections.api.list.ListIterable;
+import org.finos.legend.pure.m4.ModelRepository;
+import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+import org.finos.legend.pure.m4.coreinstance.compileState.CompileState;
+import org.finos.legend.pure.m4.serialization.grammar.M4Parser;
+import org.finos.legend.pure.m4.statelistener.VoidM4StateListener;
+import org.finos.legend.pure.m4.transaction.ModelRepositoryTransaction;
+import org.finos.legend.pure.m4.transaction.framework.ThreadLocalTransactionContext;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TestSimpleCoreInstanceFrozenState
+{
+    @Test
+    public void testFrozenOnCommitOfValidatedInstance() throws Exception
+    {
+        ModelRepository repository = new ModelRepository();
+        new M4Parser().parse("^Class Class\n" +
+                "{\n" +
+                "    Class.properties[properties] :\n" +
+                "        [\n" +
+                "            ^Property properties\n" +
+                "                {\n" +
+                "                    Property.properties[type] : Property\n" +
+                "                }\n" +
+                "        ]\n" +
+                "}\n" +
+                "\n" +
+                "^Class Property\n" +
+                "{\n" +
+                "    Class.properties[properties] :\n" +
+                "        [\n" +
+                "            ^Property type\n" +
+                "                {\n" +
+                "                    Property.properties[type] : Class\n" +
+                "                }\n" +
+                "        ]\n" +
+                "}", repository, new VoidM4StateListener());
+        repository.validate(new VoidM4StateListener());
+
+        SimpleCoreInstance classClass = (SimpleCoreInstance) repository.getTopLevel("Class");
+        CoreInstance propertyClass = repository.getTopLevel("Property");
+        ListIterable<String> propertiesKey = classClass.getRealKeyByName("properties");
+        Assert.assertFalse(classClass.isStateFrozen());
+
+        ModelRepositoryTransaction transaction = repository.newTransaction(true);
+        try (ThreadLocalTransactionContext ignore = transaction.openInCurrentThread())
+        {
+            classClass.addKeyValue(propertiesKey, repository.newAnonymousCoreInstance(null, propertyClass));
+            classClass.addCompileState(CompileState.VALIDATED);
+        }
+        transaction.commit();
+        Assert.assertTrue(classClass.isStateFrozen());
+        Assert.assertEquals(2, classClass.getValueForMetaPropertyToMany("properties").size());
+        Assert.assertSame(propertyClass, classClass.getKeyByName("properties").getClassifier());
+
+        // writes outside of a transaction replace the frozen snapshot
+        ListIterable<? extends CoreInstance> before = classClass.getValueForMetaPropertyToMany("properties");
+        classClass.addKeyValue(propertiesKey, repository.newAnonymousCoreInstance(null, propertyClass));
+        Assert.assertTrue(classClass.isStateFrozen());
+        Assert.assertEquals(2, before.size());
+        Assert.assertEquals(3, classClass.getValueForMetaPropertyToMany("properties").size());
+
+        classClass.removeProperty("properties");
+        Assert.assertFalse(classClass.isValueDefinedForKey("properties"));
+        Assert.assertFalse(classClass.getKeys().contains("properties"));
+    }
+}
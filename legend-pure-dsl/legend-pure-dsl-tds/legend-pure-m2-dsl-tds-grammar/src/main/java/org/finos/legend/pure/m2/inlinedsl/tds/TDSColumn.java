@@ -0,0 +1,254 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m2.inlinedsl.tds;
+
+import org.finos.legend.pure.m3.navigation.M3Paths;
+import org.finos.legend.pure.m4.coreinstance.primitive.date.DateFunctions;
+
+import java.time.Instant;
+import java.util.BitSet;
+
+/**
+ * A typed column of a {@link TDSColumns}. Values are held in a primitive array (or a String array), with a separate
+ * bitmap of the rows which are null.
+ */
+public abstract class TDSColumn
+{
+    private final String name;
+    private final String type;
+    private final BitSet nulls;
+
+    private TDSColumn(String name, String type, BitSet nulls)
+    {
+        this.name = name;
+        this.type = type;
+        this.nulls = nulls;
+    }
+
+    public String getName()
+    {
+        return this.name;
+    }
+
+    /**
+     * Path of the Pure type of the column.
+     */
+    public String getType()
+    {
+        return this.type;
+    }
+
+    public boolean isNull(int row)
+    {
+        return this.nulls.get(row);
+    }
+
+    public int getNullCount()
+    {
+        return this.nulls.cardinality();
+    }
+
+    public abstract int size();
+
+    /**
+     * Get the value at the given row as a Java object, or null if the row is null.
+     */
+    public Object getValue(int row)
+    {
+        return isNull(row) ? null : getNonNullValue(row);
+    }
+
+    protected abstract Object getNonNullValue(int row);
+
+    void appendCsvValue(StringBuilder builder, int row)
+    {
+        if (!isNull(row))
+        {
+            builder.append(getNonNullValue(row));
+        }
+    }
+
+    public static final class IntegerColumn extends TDSColumn
+    {
+        private final long[] values;
+
+        IntegerColumn(String name, String type, long[] values, BitSet nulls)
+        {
+            super(name, type, nulls);
+            this.values = values;
+        }
+
+        public long getLong(int row)
+        {
+            return this.values[row];
+        }
+
+        @Override
+        public int size()
+        {
+            return this.values.length;
+        }
+
+        @Override
+        protected Object getNonNullValue(int row)
+        {
+            return this.values[row];
+        }
+    }
+
+    public static final class FloatColumn extends TDSColumn
+    {
+        private final double[] values;
+
+        FloatColumn(String name, String type, double[] values, BitSet nulls)
+        {
+            super(name, type, nulls);
+            this.values = values;
+        }
+
+        public double getDouble(int row)
+        {
+            return this.values[row];
+        }
+
+        @Override
+        public int size()
+        {
+            return this.values.length;
+        }
+
+        @Override
+        protected Object getNonNullValue(int row)
+        {
+            return this.values[row];
+        }
+    }
+
+    public static final class BooleanColumn extends TDSColumn
+    {
+        private final boolean[] values;
+
+        BooleanColumn(String name, boolean[] values, BitSet nulls)
+        {
+            super(name, M3Paths.Boolean, nulls);
+            this.values = values;
+        }
+
+        public boolean getBoolean(int row)
+        {
+            return this.values[row];
+        }
+
+        @Override
+        public int size()
+        {
+            return this.values.length;
+        }
+
+        @Override
+        protected Object getNonNullValue(int row)
+        {
+            return this.values[row];
+        }
+    }
+
+    public static final class StringColumn extends TDSColumn
+    {
+        private final String[] values;
+
+        StringColumn(String name, String type, String[] values, BitSet nulls)
+        {
+            super(name, type, nulls);
+            this.values = values;
+        }
+
+        public String getString(int row)
+        {
+            return this.values[row];
+        }
+
+        @Override
+        public int size()
+        {
+            return this.values.length;
+        }
+
+        @Override
+        protected Object getNonNullValue(int row)
+        {
+            return this.values[row];
+        }
+
+        @Override
+        void appendCsvValue(StringBuilder builder, int row)
+        {
+            if (isNull(row))
+            {
+                return;
+            }
+            String value = this.values[row];
+            if (value.isEmpty() || value.equals("null") || (value.indexOf(',') != -1) || (value.indexOf('"') != -1) || (value.indexOf('\n') != -1) || (value.indexOf('\r') != -1))
+            {
+                builder.append('"').append(value.replace("\"", "\"\"")).append('"');
+            }
+            else
+            {
+                builder.append(value);
+            }
+        }
+    }
+
+    public static final class DateColumn extends TDSColumn
+    {
+        private final long[] epochNanos;
+
+        DateColumn(String name, String type, long[] epochNanos, BitSet nulls)
+        {
+            super(name, type, nulls);
+            this.epochNanos = epochNanos;
+        }
+
+        public long getEpochNanos(int row)
+        {
+            return this.epochNanos[row];
+        }
+
+        @Override
+        public int size()
+        {
+            return this.epochNanos.length;
+        }
+
+        @Override
+        protected Object getNonNullValue(int row)
+        {
+            return DateFunctions.fromInstant(getInstant(row));
+        }
+
+        @Override
+        void appendCsvValue(StringBuilder builder, int row)
+        {
+            if (!isNull(row))
+            {
+                builder.append(getInstant(row));
+            }
+        }
+
+        private Instant getInstant(int row)
+        {
+            return Instant.ofEpochSecond(0L, this.epochNanos[row]);
+        }
+    }
+}
@@ -0,0 +1,304 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m2.inlinedsl.tds;
+
+import io.deephaven.csv.reading.CsvReader;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.MutableList;
+import org.finos.legend.pure.m3.navigation.M3Paths;
+
+import java.util.BitSet;
+
+/**
+ * Columnar representation of a TDS: one typed {@link TDSColumn} per column, as read by the CSV reader. The CSV text
+ * is only a view of the columns, which is rendered on demand if the columns were not read from text.
+ */
+public final class TDSColumns
+{
+    private final int rowCount;
+    private final ImmutableList<TDSColumn> columns;
+    private volatile String csv;
+
+    private TDSColumns(int rowCount, ImmutableList<TDSColumn> columns, String csv)
+    {
+        this.rowCount = rowCount;
+        this.columns = columns;
+        this.csv = csv;
+    }
+
+    public int getRowCount()
+    {
+        return this.rowCount;
+    }
+
+    public ImmutableList<TDSColumn> getColumns()
+    {
+        return this.columns;
+    }
+
+    public TDSColumn getColumn(String name)
+    {
+        return this.columns.detect(c -> name.equals(c.getName()));
+    }
+
+    public String toCsv()
+    {
+        String result = this.csv;
+        if (result == null)
+        {
+            this.csv = result = renderCsv();
+        }
+        return result;
+    }
+
+    private String renderCsv()
+    {
+        StringBuilder builder = new StringBuilder();
+        this.columns.forEachWithIndex((column, i) ->
+        {
+            if (i > 0)
+            {
+                builder.append(",");
+            }
+            builder.append(column.getName()).append(':').append(column.getType());
+        });
+        builder.append('\n');
+        // every row ends with a newline, as otherwise the reader rejects a last row ending with an empty value
+        for (int row = 0; row < this.rowCount; row++)
+        {
+            for (int i = 0; i < this.columns.size(); i++)
+            {
+                if (i > 0)
+                {
+                    builder.append(",");
+                }
+                this.columns.get(i).appendCsvValue(builder, row);
+            }
+            builder.append('\n');
+        }
+        return builder.toString();
+    }
+
+    static TDSColumns fromCsvResult(CsvReader.Result result, String csv)
+    {
+        int rowCount = Math.toIntExact(result.numRows());
+        CsvReader.ResultColumn[] resultColumns = result.columns();
+        MutableList<TDSColumn> columns = Lists.mutable.ofInitialCapacity(resultColumns.length);
+        for (CsvReader.ResultColumn resultColumn : resultColumns)
+        {
+            columns.add(newColumn(resultColumn, rowCount));
+        }
+        return new TDSColumns(rowCount, columns.toImmutable(), csv);
+    }
+
+    private static TDSColumn newColumn(CsvReader.ResultColumn resultColumn, int rowCount)
+    {
+        String name;
+        String type;
+        int typeSplit = resultColumn.name().indexOf(':');
+        if (typeSplit != -1)
+        {
+            name = resultColumn.name().substring(0, typeSplit);
+            type = resultColumn.name().substring(typeSplit + 1).trim();
+            // todo check compatibility of inferred type vs explicit type
+        }
+        else
+        {
+            name = resultColumn.name();
+            type = TDSExtension.convertType(resultColumn.dataType());
+        }
+
+        BitSet nulls = new BitSet(rowCount);
+        switch (resultColumn.dataType())
+        {
+            case BOOLEAN_AS_BYTE:
+            {
+                byte[] data = (byte[]) resultColumn.data();
+                boolean[] values = new boolean[rowCount];
+                for (int i = 0; i < rowCount; i++)
+                {
+                    if (data[i] == TDSExtension.BOOLEAN_AS_BYTE_NULL)
+                    {
+                        nulls.set(i);
+                    }
+                    else
+                    {
+                        values[i] = data[i] != 0;
+                    }
+                }
+                return new TDSColumn.BooleanColumn(name, values, nulls);
+            }
+            case BYTE:
+            {
+                byte[] data = (byte[]) resultColumn.data();
+                long[] values = new long[rowCount];
+                for (int i = 0; i < rowCount; i++)
+                {
+                    values[i] = data[i];
+                }
+                return newIntegerColumn(name, type, values, nulls);
+            }
+            case SHORT:
+            {
+                short[] data = (short[]) resultColumn.data();
+                long[] values = new long[rowCount];
+                for (int i = 0; i < rowCount; i++)
+                {
+                    values[i] = data[i];
+                }
+                return newIntegerColumn(name, type, values, nulls);
+            }
+            case INT:
+            {
+                int[] data = (int[]) resultColumn.data();
+                long[] values = new long[rowCount];
+                for (int i = 0; i < rowCount; i++)
+                {
+                    if (data[i] == TDSExtension.INT_NULL)
+                    {
+                        nulls.set(i);
+                    }
+                    else
+                    {
+                        values[i] = data[i];
+                    }
+                }
+                return newIntegerColumn(name, type, values, nulls);
+            }
+            case LONG:
+            {
+                long[] data = (long[]) resultColumn.data();
+                long[] values = new long[rowCount];
+                for (int i = 0; i < rowCount; i++)
+                {
+                    if (data[i] == TDSExtension.LONG_NULL)
+                    {
+                        nulls.set(i);
+                    }
+                    else
+                    {
+                        values[i] = data[i];
+                    }
+                }
+                return newIntegerColumn(name, type, values, nulls);
+            }
+            case FLOAT:
+            {
+                float[] data = (float[]) resultColumn.data();
+                double[] values = new double[rowCount];
+                for (int i = 0; i < rowCount; i++)
+                {
+                    if (data[i] == TDSExtension.FLOAT_NULL)
+                    {
+                        nulls.set(i);
+                    }
+                    else
+                    {
+                        values[i] = data[i];
+                    }
+                }
+                return new TDSColumn.FloatColumn(name, type, values, nulls);
+            }
+            case DOUBLE:
+            {
+                double[] data = (double[]) resultColumn.data();
+                double[] values = new double[rowCount];
+                for (int i = 0; i < rowCount; i++)
+                {
+                    if (data[i] == TDSExtension.DOUBLE_NULL)
+                    {
+                        nulls.set(i);
+                    }
+                    else
+                    {
+                        values[i] = data[i];
+                    }
+                }
+                return new TDSColumn.FloatColumn(name, type, values, nulls);
+            }
+            case DATETIME_AS_LONG:
+            {
+                long[] data = (long[]) resultColumn.data();
+                long[] values = new long[rowCount];
+                for (int i = 0; i < rowCount; i++)
+                {
+                    if (data[i] == TDSExtension.DATETIME_AS_LONG_NULL)
+                    {
+                        nulls.set(i);
+                    }
+                    else
+                    {
+                        values[i] = data[i];
+                    }
+                }
+                return new TDSColumn.DateColumn(name, type, values, nulls);
+            }
+            case CHAR:
+            {
+                char[] data = (char[]) resultColumn.data();
+                String[] values = new String[rowCount];
+                for (int i = 0; i < rowCount; i++)
+                {
+                    if (data[i] == TDSExtension.CHAR_NULL)
+                    {
+                        nulls.set(i);
+                    }
+                    else
+                    {
+                        values[i] = String.valueOf(data[i]);
+                    }
+                }
+                return new TDSColumn.StringColumn(name, type, values, nulls);
+            }
+            case STRING:
+            {
+                String[] data = (String[]) resultColumn.data();
+                String[] values = new String[rowCount];
+                for (int i = 0; i < rowCount; i++)
+                {
+                    if (data[i] == null)
+                    {
+                        nulls.set(i);
+                    }
+                    else
+                    {
+                        values[i] = data[i];
+                    }
+                }
+                return new TDSColumn.StringColumn(name, type, values, nulls);
+            }
+            default:
+            {
+                throw new RuntimeException("Unsupported type for TDS column '" + name + "': " + resultColumn.dataType());
+            }
+        }
+    }
+
+    private static TDSColumn newIntegerColumn(String name, String type, long[] values, BitSet nulls)
+    {
+        if (M3Paths.Float.equals(type))
+        {
+            // the column is explicitly typed as Float, but all of its values were read as integers
+            double[] doubles = new double[values.length];
+            for (int i = 0; i < values.length; i++)
+            {
+                doubles[i] = values[i];
+            }
+            return new TDSColumn.FloatColumn(name, type, doubles, nulls);
+        }
+        return new TDSColumn.IntegerColumn(name, type, values, nulls);
+    }
+}
@@ -22,9 +22,6 @@ import io.deephaven.csv.util.CsvReaderException;
 import java.util.Arrays;
 import org.eclipse.collections.api.RichIterable;
 import org.eclipse.collections.api.factory.Lists;
-import org.eclipse.collections.api.tuple.Pair;
-import org.eclipse.collections.impl.tuple.Tuples;
-import org.eclipse.collections.impl.utility.ArrayIterate;
 import org.finos.legend.pure.m2.inlinedsl.tds.processor.TDSProcessor;
 import org.finos.legend.pure.m2.inlinedsl.tds.unloader.TDSUnbind;
 import org.finos.legend.pure.m2.inlinedsl.tds.validation.TDSVisibilityValidator;
@@ -58,6 +55,16 @@ public class TDSExtension implements InlineDSL
 {
     private static final VisibilityValidator VISIBILITY_VALIDATOR = new TDSVisibilityValidator();
 
+    // values written by the CSV reader for nulls
+    static final int INT_NULL = 2_147_483_647; //largest prime for 32 signed numbers
+    static final long LONG_NULL = 9_223_372_036_854_775_783L; //largest prime for 64 signed numbers
+    static final float FLOAT_NULL = Float.NEGATIVE_INFINITY;
+    static final double DOUBLE_NULL = Double.NEGATIVE_INFINITY;
+    static final byte BOOLEAN_AS_BYTE_NULL = Byte.MIN_VALUE;
+    static final char CHAR_NULL = Character.MIN_VALUE;
+    static final long DATETIME_AS_LONG_NULL = Long.MIN_VALUE;
+    static final long TIMESTAMP_AS_LONG_NULL = Long.MIN_VALUE;
+
     @Override
     public String getName()
     {
@@ -128,23 +135,11 @@ public class TDSExtension implements InlineDSL
 
     public static TDS<?> parse(String text, SourceInformation sourceInfo, ProcessorSupport processorSupport)
     {
-        CsvReader.Result result;
-        try
-        {
-            result = CsvReader.read(makePureCsvSpecs(), new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)), makePureSinkFactory());
-        }
-        catch (CsvReaderException e)
-        {
-            throw new RuntimeException(e);
-        }
+        TDSColumns columns = readColumns(text);
 
         Class<?> tdsType = (Class<?>) processorSupport.package_getByUserPath(M2TDSPaths.TDS);
         GenericType typeParam = ((GenericType) processorSupport.newAnonymousCoreInstance(sourceInfo, M3Paths.GenericType))
-                ._rawType(_RelationType.build(ArrayIterate.collect(result.columns(), c ->
-                {
-                    Pair<String, String> nameAndType = getNameAndType(c);
-                    return _Column.getColumnInstance(nameAndType.getOne(), false, nameAndType.getTwo(), (Multiplicity) org.finos.legend.pure.m3.navigation.multiplicity.Multiplicity.newMultiplicity(0, 1, processorSupport), sourceInfo, processorSupport);
-                }), sourceInfo, processorSupport));
+                ._rawType(_RelationType.build(columns.getColumns().collect(c -> _Column.getColumnInstance(c.getName(), false, c.getType(), (Multiplicity) org.finos.legend.pure.m3.navigation.multiplicity.Multiplicity.newMultiplicity(0, 1, processorSupport), sourceInfo, processorSupport)), sourceInfo, processorSupport));
         GenericType tdsGenericType = ((GenericType) processorSupport.newAnonymousCoreInstance(sourceInfo, M3Paths.GenericType))
                 ._rawType(tdsType)
                 ._typeArgumentsAdd(typeParam);
@@ -154,25 +149,28 @@ public class TDSExtension implements InlineDSL
                 ._csv(text);
     }
 
-    private static Pair<String, String> getNameAndType(CsvReader.ResultColumn c)
+    /**
+     * Read the columns of a TDS from its CSV text. The columns are not kept with the TDS, so that they can never be
+     * out of date with its text, and so that a TDS which is never read by column costs no extra memory: callers which
+     * need them repeatedly should hold on to the result.
+     */
+    public static TDSColumns getColumns(TDS<?> tds)
     {
-        String name;
-        String type;
-        int typeSplit = c.name().indexOf(':');
+        return readColumns(tds._csv());
+    }
 
-        if (typeSplit != -1)
+    private static TDSColumns readColumns(String text)
+    {
+        CsvReader.Result result;
+        try
         {
-            name = c.name().substring(0, typeSplit);
-            type = c.name().substring(typeSplit + 1).trim();
-            // todo check compatibility of inferred type vs explicit type
+            result = CsvReader.read(makePureCsvSpecs(), new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)), makePureSinkFactory());
         }
-        else
+        catch (CsvReaderException e)
         {
-            name = c.name();
-            type = convertType(c.dataType());
+            throw new RuntimeException(e);
         }
-
-        return Tuples.pair(name, type);
+        return TDSColumns.fromCsvResult(result, text);
     }
 
     private static SourceInformation getSourceInfo(String text, String fileName, int columnOffset, int lineOffset)
@@ -190,7 +188,7 @@ public class TDSExtension implements InlineDSL
         return new SourceInformation(fileName, lineOffset, columnOffset, endLine, endColumn);
     }
 
-    private static String convertType(DataType dataType)
+    static String convertType(DataType dataType)
     {
         switch (dataType)
         {
@@ -242,14 +240,14 @@ public class TDSExtension implements InlineDSL
         return SinkFactory.arrays(
                 null,
                 null,
-                2_147_483_647, //largest prime for 32 signed numbers
-                9_223_372_036_854_775_783L, //largest prime for 64 signed numbers
-                Float.NEGATIVE_INFINITY,
-                Double.NEGATIVE_INFINITY,
-                Byte.MIN_VALUE,
-                Character.MIN_VALUE,
+                INT_NULL,
+                LONG_NULL,
+                FLOAT_NULL,
+                DOUBLE_NULL,
+                BOOLEAN_AS_BYTE_NULL,
+                CHAR_NULL,
                 null,
-                Long.MIN_VALUE,
-                Long.MIN_VALUE);
+                DATETIME_AS_LONG_NULL,
+                TIMESTAMP_AS_LONG_NULL);
     }
 }
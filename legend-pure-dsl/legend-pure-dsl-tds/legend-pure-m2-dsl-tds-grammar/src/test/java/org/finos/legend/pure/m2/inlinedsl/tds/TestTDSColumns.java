@@ -0,0 +1,109 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m2.inlinedsl.tds;
+
+import io.deephaven.csv.reading.CsvReader;
+import org.eclipse.collections.api.factory.Lists;
+import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.relation.TDS;
+import org.finos.legend.pure.m3.navigation.M3Paths;
+import org.finos.legend.pure.m3.tests.AbstractPureTestWithCoreCompiled;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+public class TestTDSColumns extends AbstractPureTestWithCoreCompiled
+{
+    private static final String CSV = "id,name,score:Float,active\n" +
+            "1,Pierre,1,true\n" +
+            "2,,2,false\n" +
+            "3,\"Neema, N\",,\n";
+
+    @BeforeClass
+    public static void setUp()
+    {
+        setUpRuntime();
+    }
+
+    @Test
+    public void testColumnsFromParse()
+    {
+        TDS<?> tds = TDSExtension.parse(CSV, (String) null, processorSupport);
+        TDSColumns columns = TDSExtension.getColumns(tds);
+        Assert.assertEquals(3, columns.getRowCount());
+        Assert.assertEquals(CSV, columns.toCsv());
+
+        TDSColumn.IntegerColumn id = (TDSColumn.IntegerColumn) columns.getColumn("id");
+        Assert.assertEquals(M3Paths.Integer, id.getType());
+        Assert.assertEquals(3L, id.getLong(2));
+        Assert.assertEquals(0, id.getNullCount());
+
+        TDSColumn.StringColumn name = (TDSColumn.StringColumn) columns.getColumn("name");
+        Assert.assertEquals("Pierre", name.getString(0));
+        Assert.assertTrue(name.isNull(1));
+        Assert.assertNull(name.getValue(1));
+        Assert.assertEquals("Neema, N", name.getString(2));
+
+        TDSColumn.FloatColumn score = (TDSColumn.FloatColumn) columns.getColumn("score");
+        Assert.assertEquals(M3Paths.Float, score.getType());
+        Assert.assertEquals(2.0, score.getDouble(1), 0.0);
+        Assert.assertTrue(score.isNull(2));
+
+        TDSColumn.BooleanColumn active = (TDSColumn.BooleanColumn) columns.getColumn("active");
+        Assert.assertTrue(active.getBoolean(0));
+        Assert.assertFalse(active.getBoolean(1));
+        Assert.assertTrue(active.isNull(2));
+    }
+
+    @Test
+    public void testColumnsFollowCsv()
+    {
+        TDS<?> tds = TDSExtension.parse(CSV, (String) null, processorSupport);
+        Assert.assertEquals(3, TDSExtension.getColumns(tds).getRowCount());
+
+        tds._csv("id,name\n1,Pierre\n");
+        TDSColumns columns = TDSExtension.getColumns(tds);
+        Assert.assertEquals(1, columns.getRowCount());
+        Assert.assertEquals(Lists.mutable.with("id", "name"), columns.getColumns().collect(TDSColumn::getName, Lists.mutable.empty()));
+    }
+
+    @Test
+    public void testRenderedCsvRoundTrip() throws Exception
+    {
+        TDSColumns columns = TDSColumns.fromCsvResult(read(CSV), null);
+        String rendered = columns.toCsv();
+        Assert.assertSame(rendered, columns.toCsv());
+
+        TDSColumns reread = TDSColumns.fromCsvResult(read(rendered), null);
+        Assert.assertEquals(columns.getRowCount(), reread.getRowCount());
+        columns.getColumns().forEachWithIndex((column, i) ->
+        {
+            TDSColumn other = reread.getColumns().get(i);
+            Assert.assertEquals(column.getName(), other.getName());
+            Assert.assertEquals(column.getType(), other.getType());
+            for (int row = 0; row < columns.getRowCount(); row++)
+            {
+                Assert.assertEquals(column.getName() + "[" + row + "]", column.getValue(row), other.getValue(row));
+            }
+        });
+    }
+
+    private static CsvReader.Result read(String csv) throws Exception
+    {
+        return CsvReader.read(TDSExtension.makePureCsvSpecs(), new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), TDSExtension.makePureSinkFactory());
+    }
+}
@@ -31,6 +31,7 @@ import java.net.URLClassLoader;
 import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 
 import static org.finos.legend.pure.runtime.java.compiled.generation.orchestrator.JavaCodeGeneration.durationSinceInSeconds;
 
@@ -82,6 +83,10 @@ public class PureCompiledJarMojo extends AbstractMojo
     @Parameter(defaultValue = "true")
     private boolean generatePureTests;
 
+    // number of threads for generating metadata and Java sources: 1 generates sequentially
+    @Parameter(defaultValue = "1")
+    private int parallelism;
+
     @Override
     public void execute() throws MojoExecutionException
     {
@@ -113,11 +118,12 @@ public class PureCompiledJarMojo extends AbstractMojo
         };
 
         ClassLoader savedClassLoader = Thread.currentThread().getContextClassLoader();
+        ForkJoinPool forkJoinPool = (this.parallelism > 1) ? new ForkJoinPool(this.parallelism) : null;
         long start = System.nanoTime();
         try
         {
             Thread.currentThread().setContextClassLoader(buildClassLoader(this.project, savedClassLoader, log));
-            JavaCodeGeneration.doIt(repositories, excludedRepositories, extraRepositories, generationType, skip, addExternalAPI, externalAPIPackage, generateMetadata, useSingleDir, generateSources, false, preventJavaCompilation, classesDirectory, targetDirectory, generatePureTests, log);
+            JavaCodeGeneration.doIt(repositories, excludedRepositories, extraRepositories, generationType, skip, addExternalAPI, externalAPIPackage, generateMetadata, useSingleDir, generateSources, false, preventJavaCompilation, classesDirectory, targetDirectory, generatePureTests, forkJoinPool, log);
         }
         catch (Exception e)
         {
@@ -127,6 +133,10 @@ public class PureCompiledJarMojo extends AbstractMojo
         }
         finally
         {
+            if (forkJoinPool != null)
+            {
+                forkJoinPool.shutdown();
+            }
             Thread.currentThread().setContextClassLoader(savedClassLoader);
         }
     }
@@ -14,23 +14,43 @@
 
 package org.finos.legend.pure.runtime.java.compiled.compiler;
 
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.factory.Maps;
 import org.eclipse.collections.api.list.ListIterable;
+import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.map.primitive.MutableObjectIntMap;
 import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.factory.primitive.ObjectIntMaps;
 import org.finos.legend.pure.runtime.java.compiled.generation.orchestrator.Log;
 import org.finos.legend.pure.runtime.java.compiled.statelistener.JavaCompilerEventObserver;
 import org.finos.legend.pure.runtime.java.compiled.statelistener.VoidJavaCompilerEventObserver;
 
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
 public class Compile
 {
     private final JavaCompilerEventObserver observer;
     private final PureJavaCompiler pureJavaCompiler;
+    private final CompiledJavaSourceCache compiledSourceCache;
 
-    public Compile(PureJavaCompiler pureJavaCompiler, JavaCompilerEventObserver observer)
+    /**
+     * If reuseUnchangedClasses is true, sources whose code is the same as when they were last compiled (and which do
+     * not refer to any source being recompiled) are not recompiled: their previously compiled classes are reused. The
+     * sources must still be generated so that their code can be compared.
+     */
+    public Compile(PureJavaCompiler pureJavaCompiler, JavaCompilerEventObserver observer, boolean reuseUnchangedClasses)
     {
         this.observer = (observer == null) ? VoidJavaCompilerEventObserver.VOID_JAVA_COMPILER_EVENT_OBSERVER : observer;
         this.pureJavaCompiler = pureJavaCompiler;
+        this.compiledSourceCache = reuseUnchangedClasses ? new CompiledJavaSourceCache() : null;
+    }
+
+    public Compile(PureJavaCompiler pureJavaCompiler, JavaCompilerEventObserver observer)
+    {
+        this(pureJavaCompiler, observer, false);
     }
 
     public Compile(PureJavaCompiler pureJavaCompiler)
@@ -47,28 +67,98 @@ public class Compile
         }
     }
 
-    public void compile(String compileGroup, Iterable<? extends StringJavaSource> javaSources, Log log) throws PureJavaCompileException
+    /**
+     * Compile groups of Java sources, compiling independent groups concurrently in the given pool. Groups must be
+     * given in dependency order, and groupDependencies must return the groups each group depends on, or null if they
+     * are not known, in which case the group depends on all earlier groups. Groups are compiled in successive waves: each wave consists of the groups whose dependencies were all compiled in earlier
+     * waves, and the groups of a wave are compiled in parallel, each in its own compilation task. If unchanged classes
+     * are reused (see {@link #Compile(PureJavaCompiler, JavaCompilerEventObserver, boolean)}), groups are compiled
+     * sequentially.
+     */
+    public void compileJavaCodeForSources(Iterable<? extends Pair<? extends String, ? extends Iterable<? extends StringJavaSource>>> javaSourcesByCompileGroup, Function<? super String, ? extends Iterable<? extends String>> groupDependencies, ForkJoinPool forkJoinPool, Log log) throws PureJavaCompileException
     {
-        this.observer.startCompilingJavaFiles(compileGroup);
-        MutableMap<String, StringJavaSource> javaSourcesByName = Maps.mutable.empty();
-        javaSources.forEach(javaSource ->
+        if ((forkJoinPool == null) || (groupDependencies == null) || (this.compiledSourceCache != null))
         {
-            StringJavaSource oldSource = javaSourcesByName.put(javaSource.getName(), javaSource);
-            if ((oldSource != null) && !oldSource.getCode().equals(javaSource.getCode()))
+            compileJavaCodeForSources(javaSourcesByCompileGroup, log);
+            return;
+        }
+
+        MutableObjectIntMap<String> waveByGroup = ObjectIntMaps.mutable.empty();
+        MutableList<MutableList<Pair<? extends String, ? extends Iterable<? extends StringJavaSource>>>> waves = Lists.mutable.empty();
+        for (Pair<? extends String, ? extends Iterable<? extends StringJavaSource>> javaSources : javaSourcesByCompileGroup)
+        {
+            int wave = 0;
+            Iterable<? extends String> dependencies = groupDependencies.apply(javaSources.getOne());
+            if (dependencies == null)
             {
-                throw new RuntimeException("Java source " + javaSource.getName() + " defined more than once with different code.\n\nSOURCE 1:\n" + oldSource.getCode() + "\n\n\n==================\nSOURCE 2:\n" + javaSource.getCode());
+                // unknown dependencies: compile after all earlier groups
+                wave = waves.size();
             }
-        });
+            else
+            {
+                for (String dependency : dependencies)
+                {
+                    wave = Math.max(wave, waveByGroup.getIfAbsent(dependency, -1) + 1);
+                }
+            }
+            waveByGroup.put(javaSources.getOne(), wave);
+            if (wave == waves.size())
+            {
+                waves.add(Lists.mutable.empty());
+            }
+            waves.get(wave).add(javaSources);
+        }
+
+        for (MutableList<Pair<? extends String, ? extends Iterable<? extends StringJavaSource>>> wave : waves)
+        {
+            log.info(wave.collect(Pair::getOne).makeString("    Compiling groups ", ", ", ""));
+            wave.forEach(javaSources -> this.observer.startCompilingJavaFiles(javaSources.getOne()));
+            MutableList<RichIterable<StringJavaSource>> partitions = wave.collect(javaSources -> getJavaSourcesByName(javaSources.getTwo()).valuesView(), Lists.mutable.empty());
+            long start = System.currentTimeMillis();
+            log.info("      compiling " + partitions.sumOfInt(RichIterable::size) + " sources");
+            this.pureJavaCompiler.compile(partitions.select(RichIterable::notEmpty), forkJoinPool);
+            log.info("      finished in " + ((float) (System.currentTimeMillis() - start) / 1000) + "s");
+            wave.forEach(javaSources -> this.observer.endCompilingJavaFiles(javaSources.getOne()));
+        }
+    }
+
+    public void compile(String compileGroup, Iterable<? extends StringJavaSource> javaSources, Log log) throws PureJavaCompileException
+    {
+        this.observer.startCompilingJavaFiles(compileGroup);
+        MutableMap<String, StringJavaSource> javaSourcesByName = getJavaSourcesByName(javaSources);
+        RichIterable<StringJavaSource> toCompile = (this.compiledSourceCache == null) ? javaSourcesByName.valuesView() : this.compiledSourceCache.selectSourcesToCompile(javaSourcesByName.valuesView());
         long start = System.currentTimeMillis();
-        log.info("      compiling " + javaSourcesByName.valuesView().size() + " sources");
+        log.info("      compiling " + toCompile.size() + " sources" + ((toCompile.size() == javaSourcesByName.size()) ? "" : (" (reusing classes for " + (javaSourcesByName.size() - toCompile.size()) + " unchanged sources)")));
         if (javaSourcesByName.notEmpty())
         {
-            this.pureJavaCompiler.compile(javaSourcesByName.valuesView());
+            // even if all sources are unchanged, this gives a fresh class loader
+            this.pureJavaCompiler.compile(toCompile);
+            if (this.compiledSourceCache != null)
+            {
+                this.compiledSourceCache.compiled(toCompile);
+            }
         }
         log.info("      finished in " + ((float) (System.currentTimeMillis() - start) / 1000) + "s");
         this.observer.endCompilingJavaFiles(compileGroup);
     }
 
+    /**
+     * Remove the classes of Java sources which are no longer generated, so that they are neither reused nor visible to
+     * later compilations. This has no effect unless unchanged classes are reused (see
+     * {@link #Compile(PureJavaCompiler, JavaCompilerEventObserver, boolean)}).
+     */
+    public void removeJavaSources(Iterable<String> javaSourceNames)
+    {
+        if (this.compiledSourceCache != null)
+        {
+            MutableList<String> classNames = this.compiledSourceCache.remove(javaSourceNames);
+            if (classNames.notEmpty())
+            {
+                this.pureJavaCompiler.getFileManager().removeClassJavaSources(classNames);
+            }
+        }
+    }
+
     public void compileExternalizableAPI(ListIterable<? extends StringJavaSource> externalizableSources) throws PureJavaCompileException
     {
         this.pureJavaCompiler.compile(externalizableSources);
@@ -78,4 +168,18 @@ public class Compile
     {
         return this.pureJavaCompiler;
     }
+
+    private static MutableMap<String, StringJavaSource> getJavaSourcesByName(Iterable<? extends StringJavaSource> javaSources)
+    {
+        MutableMap<String, StringJavaSource> javaSourcesByName = Maps.mutable.empty();
+        javaSources.forEach(javaSource ->
+        {
+            StringJavaSource oldSource = javaSourcesByName.put(javaSource.getName(), javaSource);
+            if ((oldSource != null) && !oldSource.getCode().equals(javaSource.getCode()))
+            {
+                throw new RuntimeException("Java source " + javaSource.getName() + " defined more than once with different code.\n\nSOURCE 1:\n" + oldSource.getCode() + "\n\n\n==================\nSOURCE 2:\n" + javaSource.getCode());
+            }
+        });
+        return javaSourcesByName;
+    }
 }
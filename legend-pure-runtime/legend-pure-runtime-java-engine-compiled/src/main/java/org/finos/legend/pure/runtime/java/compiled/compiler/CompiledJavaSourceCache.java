@@ -0,0 +1,278 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.runtime.java.compiled.compiler;
+
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.map.primitive.MutableObjectLongMap;
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.impl.factory.primitive.ObjectLongMaps;
+
+import javax.tools.JavaFileObject.Kind;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.Predicate;
+
+/**
+ * Cache of the Java sources compiled into a {@link PureJavaCompiler}, used to avoid recompiling sources whose classes
+ * are already present in the compiler's file manager. A source needs to be compiled if its code differs from the code
+ * previously compiled under the same name, if it refers to a class which has been recompiled since it was itself
+ * compiled (possibly in an earlier compile group), or if it refers (directly or transitively) to a class of another
+ * source in the same batch which needs to be compiled. Classes are identified by their fully qualified names.
+ * <p>
+ * Sources are compared after generation: this saves compiling unchanged sources, but not generating them. The cache is
+ * held in memory only, as are the classes it allows to be reused.
+ */
+class CompiledJavaSourceCache
+{
+    private final MutableMap<String, CompiledSource> compiledSources = Maps.mutable.empty();
+    private final MutableObjectLongMap<String> compileCountByClassName = ObjectLongMaps.mutable.empty();
+    private long compileCount = 0L;
+
+    /**
+     * Select the sources that need to be compiled. The rest can reuse the classes from their previous compilation.
+     */
+    RichIterable<StringJavaSource> selectSourcesToCompile(RichIterable<StringJavaSource> javaSources)
+    {
+        if (this.compiledSources.isEmpty())
+        {
+            return javaSources;
+        }
+
+        MutableSet<String> batchClassNames = Sets.mutable.ofInitialCapacity(javaSources.size());
+        MutableSet<StringJavaSource> toCompile = Sets.mutable.empty();
+        Deque<String> changedClassNames = new ArrayDeque<>();
+        javaSources.forEach(javaSource ->
+        {
+            String className = getClassName(javaSource);
+            batchClassNames.add(className);
+            CompiledSource previous = this.compiledSources.get(javaSource.getName());
+            if ((previous == null) || !previous.javaSource.getCode().equals(javaSource.getCode()) || isStale(previous))
+            {
+                toCompile.add(javaSource);
+                changedClassNames.add(className);
+            }
+        });
+        if (toCompile.isEmpty() || (toCompile.size() == javaSources.size()))
+        {
+            return toCompile;
+        }
+
+        // index the unchanged sources by the classes of this batch that they refer to
+        MutableMap<String, MutableList<StringJavaSource>> referencingSources = Maps.mutable.empty();
+        javaSources.forEach(javaSource ->
+        {
+            if (!toCompile.contains(javaSource))
+            {
+                this.compiledSources.get(javaSource.getName()).referencedClassNames.forEach(className ->
+                {
+                    if (batchClassNames.contains(className))
+                    {
+                        referencingSources.getIfAbsentPut(className, Lists.mutable::empty).add(javaSource);
+                    }
+                });
+            }
+        });
+
+        while (!changedClassNames.isEmpty())
+        {
+            MutableList<StringJavaSource> referencing = referencingSources.remove(changedClassNames.poll());
+            if (referencing != null)
+            {
+                referencing.forEach(javaSource ->
+                {
+                    if (toCompile.add(javaSource))
+                    {
+                        changedClassNames.add(getClassName(javaSource));
+                    }
+                });
+            }
+        }
+        return toCompile;
+    }
+
+    /**
+     * Record sources which have been successfully compiled.
+     */
+    void compiled(Iterable<? extends StringJavaSource> javaSources)
+    {
+        long count = ++this.compileCount;
+        MutableList<StringJavaSource> sources = Lists.mutable.withAll(javaSources);
+        sources.forEach(javaSource -> this.compileCountByClassName.put(getClassName(javaSource), count));
+        sources.forEach(javaSource ->
+        {
+            String className = getClassName(javaSource);
+            MutableSet<String> referencedClassNames = collectReferencedClassNames(javaSource.getCode(), getPackageName(className), this.compileCountByClassName::containsKey);
+            referencedClassNames.remove(className);
+            this.compiledSources.put(javaSource.getName(), new CompiledSource(javaSource, referencedClassNames, count));
+        });
+    }
+
+    /**
+     * Forget sources which no longer exist, returning the fully qualified names of their classes.
+     */
+    MutableList<String> remove(Iterable<String> javaSourceNames)
+    {
+        MutableList<String> classNames = Lists.mutable.empty();
+        javaSourceNames.forEach(name ->
+        {
+            CompiledSource removed = this.compiledSources.remove(name);
+            if (removed != null)
+            {
+                String className = getClassName(removed.javaSource);
+                this.compileCountByClassName.remove(className);
+                classNames.add(className);
+            }
+        });
+        return classNames;
+    }
+
+    private boolean isStale(CompiledSource compiledSource)
+    {
+        return compiledSource.referencedClassNames.anySatisfy(className -> this.compileCountByClassName.getIfAbsent(className, -1L) > compiledSource.compileCount);
+    }
+
+    private static String getClassName(StringJavaSource javaSource)
+    {
+        String name = javaSource.getName();
+        int start = name.startsWith("/") ? 1 : 0;
+        int end = name.endsWith(Kind.SOURCE.extension) ? (name.length() - Kind.SOURCE.extension.length()) : name.length();
+        return name.substring(start, end).replace('/', '.');
+    }
+
+    private static String getPackageName(String className)
+    {
+        int lastDot = className.lastIndexOf('.');
+        return (lastDot == -1) ? "" : className.substring(0, lastDot);
+    }
+
+    /**
+     * Collect the fully qualified names of the known classes referred to in the code, either by qualified name or by
+     * simple name (resolved against the package of the code and its imports).
+     */
+    private static MutableSet<String> collectReferencedClassNames(String code, String packageName, Predicate<? super String> isKnownClass)
+    {
+        MutableMap<String, String> singleTypeImports = Maps.mutable.empty();
+        MutableList<String> onDemandImports = Lists.mutable.with(packageName);
+        MutableSet<String> classNames = Sets.mutable.empty();
+        int length = code.length();
+        int start = -1;
+        for (int i = 0; i <= length; i++)
+        {
+            char c = (i < length) ? code.charAt(i) : ' ';
+            if (isIdentifierChar(c) || ((c == '.') && (start != -1) && (i + 1 < length) && isIdentifierChar(code.charAt(i + 1))))
+            {
+                if (start == -1)
+                {
+                    start = i;
+                }
+            }
+            else if (start != -1)
+            {
+                String token = code.substring(start, i);
+                if ("import".equals(token))
+                {
+                    i = readImport(code, i, singleTypeImports, onDemandImports);
+                }
+                else
+                {
+                    collectReferencedClassNames(token, singleTypeImports, onDemandImports, isKnownClass, classNames);
+                }
+                start = -1;
+            }
+        }
+        return classNames;
+    }
+
+    private static int readImport(String code, int index, MutableMap<String, String> singleTypeImports, MutableList<String> onDemandImports)
+    {
+        int end = code.indexOf(';', index);
+        if (end == -1)
+        {
+            return index;
+        }
+        String imported = code.substring(index, end).trim();
+        if (!imported.startsWith("static"))
+        {
+            if (imported.endsWith(".*"))
+            {
+                onDemandImports.add(imported.substring(0, imported.length() - 2));
+            }
+            else
+            {
+                singleTypeImports.put(imported.substring(imported.lastIndexOf('.') + 1), imported);
+            }
+        }
+        return end;
+    }
+
+    private static void collectReferencedClassNames(String token, MutableMap<String, String> singleTypeImports, MutableList<String> onDemandImports, Predicate<? super String> isKnownClass, MutableSet<String> classNames)
+    {
+        // the token may be a qualified name, possibly followed by member accesses
+        for (int dot = token.indexOf('.'); dot != -1; dot = token.indexOf('.', dot + 1))
+        {
+            String prefix = token.substring(0, dot);
+            if (isKnownClass.test(prefix))
+            {
+                classNames.add(prefix);
+            }
+        }
+        if (isKnownClass.test(token))
+        {
+            classNames.add(token);
+        }
+
+        // or its first segment may be a simple class name
+        int firstDot = token.indexOf('.');
+        String simpleName = (firstDot == -1) ? token : token.substring(0, firstDot);
+        String imported = singleTypeImports.get(simpleName);
+        if ((imported != null) && isKnownClass.test(imported))
+        {
+            classNames.add(imported);
+        }
+        onDemandImports.forEach(pkg ->
+        {
+            String className = pkg.isEmpty() ? simpleName : (pkg + "." + simpleName);
+            if (isKnownClass.test(className))
+            {
+                classNames.add(className);
+            }
+        });
+    }
+
+    private static boolean isIdentifierChar(char c)
+    {
+        // '$' is deliberately excluded so that references to nested classes are attributed to their outer class
+        return (c == '_') || Character.isLetterOrDigit(c);
+    }
+
+    private static class CompiledSource
+    {
+        private final StringJavaSource javaSource;
+        private final MutableSet<String> referencedClassNames;
+        private final long compileCount;
+
+        private CompiledSource(StringJavaSource javaSource, MutableSet<String> referencedClassNames, long compileCount)
+        {
+            this.javaSource = javaSource;
+            this.referencedClassNames = referencedClassNames;
+            this.compileCount = compileCount;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.runtime.java.compiled.compiler;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.eclipse.collections.api.factory.Lists;
+import org.finos.legend.pure.runtime.java.compiled.generation.processors.support.map.PureCacheMapStats;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+/**
+ * Bounded cache of the classes compiled for dynamically reactivated value specifications and lambdas. Classes are
+ * keyed by their generated Java source: values the generated code depends on (open variables, objects passed to the
+ * generated code and local lambdas) are passed as arguments at runtime rather than embedded in the source, so two
+ * structurally identical reactivations produce the same source and can share the compiled class.
+ */
+public final class DynamicCompilationCache
+{
+    public static final int DEFAULT_MAXIMUM_SIZE = Integer.getInteger("legend.pure.compiled.dynamicCompilationCacheSize", 1024);
+
+    private final Cache<String, Class<?>> classes;
+
+    public DynamicCompilationCache(int maximumSize)
+    {
+        this.classes = CacheBuilder.newBuilder().maximumSize(maximumSize).recordStats().build();
+    }
+
+    public DynamicCompilationCache()
+    {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * Get the class compiled from the given source against the given file manager and class loader, compiling and
+     * loading it if it is not already in the cache.
+     */
+    public Class<?> getIfAbsentCompile(String packageName, String className, String code, MemoryFileManager fileManager, ClassLoader classLoader) throws PureJavaCompileException, ClassNotFoundException
+    {
+        String key = packageName + '.' + className + '\n' + code;
+        Class<?> cached = this.classes.getIfPresent(key);
+        if ((cached != null) && (cached.getClassLoader().getParent() == classLoader))
+        {
+            return cached;
+        }
+        Class<?> compiled = compile(packageName, className, code, fileManager, classLoader);
+        this.classes.put(key, compiled);
+        return compiled;
+    }
+
+    public long size()
+    {
+        return this.classes.size();
+    }
+
+    public PureCacheMapStats getStats()
+    {
+        return new PureCacheMapStats(this.classes.stats());
+    }
+
+    public void clear()
+    {
+        this.classes.invalidateAll();
+    }
+
+    /**
+     * Compile and load the given source without caching it.
+     */
+    public static Class<?> compile(String packageName, String className, String code, MemoryFileManager fileManager, ClassLoader classLoader) throws PureJavaCompileException, ClassNotFoundException
+    {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        MemoryFileManager manager = new MemoryFileManager(compiler, fileManager, null);
+        PureJavaCompiler.compile(compiler, Lists.immutable.with(StringJavaSource.newStringJavaSource(packageName, className, code)), manager);
+        return new MemoryClassLoader(manager, classLoader).loadClass(packageName + "." + className);
+    }
+}
@@ -26,14 +26,21 @@ public final class JavaCompilerState
     private final ThreadLocal<MemoryFileManager> memoryFileManagerLocal = new ThreadLocal<>();
 
     private final ClassLoader classLoader;
+    private final DynamicCompilationCache dynamicCompilationCache;
 
-    public JavaCompilerState(MemoryFileManager memoryFileManager, ClassLoader classLoader)
+    public JavaCompilerState(MemoryFileManager memoryFileManager, ClassLoader classLoader, DynamicCompilationCache dynamicCompilationCache)
     {
         this.memoryFileManager = memoryFileManager;
         this.classLoader = classLoader;
+        this.dynamicCompilationCache = (dynamicCompilationCache == null) ? new DynamicCompilationCache() : dynamicCompilationCache;
         this.javaCompiler = ToolProvider.getSystemJavaCompiler();
     }
 
+    public JavaCompilerState(MemoryFileManager memoryFileManager, ClassLoader classLoader)
+    {
+        this(memoryFileManager, classLoader, null);
+    }
+
 
     public void startTransaction()
     {
@@ -66,4 +73,13 @@ public final class JavaCompilerState
         MemoryFileManager threadLocalFileManager = this.memoryFileManagerLocal.get();
         return threadLocalFileManager == null ? this.classLoader : new MemoryClassLoader(threadLocalFileManager, this.classLoader);
     }
+
+    /**
+     * Get the cache of dynamically compiled classes, or null within a transaction: each call to
+     * {@link #getClassLoader()} then returns a new class loader, so classes compiled against it cannot be shared.
+     */
+    public DynamicCompilationCache getDynamicCompilationCache()
+    {
+        return this.memoryFileManagerLocal.get() == null ? this.dynamicCompilationCache : null;
+    }
 }
@@ -78,7 +78,11 @@ public class MemoryFileManager extends ForwardingJavaFileManager<StandardJavaFil
     {
         if (this.parent != null)
         {
-            this.parent.collectFiles(target, location, packageName, kinds, recurse);
+            // the parent may be shared by several concurrent compilations (see PureJavaCompiler)
+            synchronized (this.parent)
+            {
+                this.parent.collectFiles(target, location, packageName, kinds, recurse);
+            }
         }
         target.addAllIterable(super.list(location, packageName, kinds, recurse));
         if ((location == StandardLocation.CLASS_PATH) && kinds.contains(Kind.CLASS))
@@ -140,6 +144,49 @@ public class MemoryFileManager extends ForwardingJavaFileManager<StandardJavaFil
         return source;
     }
 
+    void addClassJavaSources(MemoryFileManager other)
+    {
+        other.codeByName.forEachKeyValue((className, source) ->
+        {
+            ClassJavaSource oldSource = this.codeByName.put(className, source);
+            MutableList<ClassJavaSource> packageFiles = this.codeByPackage.getIfAbsentPut(getPackageFromClassName(className), Lists.mutable::empty);
+            if (oldSource != null)
+            {
+                packageFiles.remove(oldSource);
+            }
+            packageFiles.add(source);
+        });
+    }
+
+    /**
+     * Remove the classes with the given binary names, together with their nested classes.
+     */
+    void removeClassJavaSources(Iterable<String> classNames)
+    {
+        classNames.forEach(className ->
+        {
+            String nestedPrefix = className + "$";
+            MutableList<String> toRemove = this.codeByName.keysView().select(name -> name.equals(className) || name.startsWith(nestedPrefix), Lists.mutable.empty());
+            if (toRemove.notEmpty())
+            {
+                String pkg = getPackageFromClassName(className);
+                MutableList<ClassJavaSource> packageFiles = this.codeByPackage.get(pkg);
+                toRemove.forEach(name ->
+                {
+                    ClassJavaSource source = this.codeByName.remove(name);
+                    if (packageFiles != null)
+                    {
+                        packageFiles.remove(source);
+                    }
+                });
+                if ((packageFiles != null) && packageFiles.isEmpty())
+                {
+                    this.codeByPackage.remove(pkg);
+                }
+            }
+        });
+    }
+
     ClassJavaSource getClassJavaSourceByName(String name)
     {
         return getClassJavaSourceByName(name, false);
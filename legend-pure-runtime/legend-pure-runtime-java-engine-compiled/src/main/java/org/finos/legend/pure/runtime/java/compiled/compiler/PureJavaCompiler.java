@@ -16,8 +16,12 @@ package org.finos.legend.pure.runtime.java.compiled.compiler;
 
 import io.github.classgraph.ClassGraph;
 import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.ListIterable;
 import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.tuple.Tuples;
 import org.finos.legend.pure.m3.serialization.runtime.Message;
+import org.finos.legend.pure.m3.tools.forkjoin.ForkJoinTools;
 import org.finos.legend.pure.runtime.java.compiled.generation.orchestrator.Log;
 
 import javax.lang.model.SourceVersion;
@@ -32,6 +36,7 @@ import java.nio.file.Path;
 import java.util.Collections;
 import java.util.Map;
 import java.util.WeakHashMap;
+import java.util.concurrent.ForkJoinPool;
 import java.util.jar.JarOutputStream;
 
 public class PureJavaCompiler
@@ -60,11 +65,58 @@ public class PureJavaCompiler
 
     public MemoryClassLoader compile(Iterable<? extends JavaFileObject> javaSources) throws PureJavaCompileException
     {
-        compile(this.compiler, javaSources, this.dynamicManager);
+        if (javaSources.iterator().hasNext())
+        {
+            compile(this.compiler, javaSources, this.dynamicManager);
+        }
         this.globalClassLoader = new MemoryClassLoader(this.dynamicManager, this.coreClassLoader);
         return this.globalClassLoader;
     }
 
+    /**
+     * Compile partitions of Java sources concurrently in the given pool. Each partition is compiled by its own task
+     * against the classes previously compiled by this compiler, so partitions must not depend on each other. Once
+     * all partitions have compiled successfully, their classes are added to this compiler.
+     */
+    public MemoryClassLoader compile(ListIterable<? extends Iterable<? extends JavaFileObject>> partitions, ForkJoinPool forkJoinPool) throws PureJavaCompileException
+    {
+        if ((forkJoinPool == null) || (partitions.size() < 2))
+        {
+            for (Iterable<? extends JavaFileObject> partition : partitions)
+            {
+                compile(this.compiler, partition, this.dynamicManager);
+            }
+        }
+        else
+        {
+            ListIterable<Pair<MemoryFileManager, PureJavaCompileException>> results = ForkJoinTools.collect(forkJoinPool, partitions, this::compilePartition, 1);
+            for (Pair<MemoryFileManager, PureJavaCompileException> result : results)
+            {
+                if (result.getTwo() != null)
+                {
+                    throw result.getTwo();
+                }
+            }
+            results.forEach(result -> this.dynamicManager.addClassJavaSources(result.getOne()));
+        }
+        this.globalClassLoader = new MemoryClassLoader(this.dynamicManager, this.coreClassLoader);
+        return this.globalClassLoader;
+    }
+
+    private Pair<MemoryFileManager, PureJavaCompileException> compilePartition(Iterable<? extends JavaFileObject> javaSources)
+    {
+        MemoryFileManager partitionManager = new MemoryFileManager(this.compiler, this.dynamicManager, null);
+        try
+        {
+            compile(this.compiler, javaSources, partitionManager);
+            return Tuples.pair(partitionManager, null);
+        }
+        catch (PureJavaCompileException e)
+        {
+            return Tuples.pair(partitionManager, e);
+        }
+    }
+
     public MemoryClassLoader getCoreClassLoader()
     {
         return this.coreClassLoader;
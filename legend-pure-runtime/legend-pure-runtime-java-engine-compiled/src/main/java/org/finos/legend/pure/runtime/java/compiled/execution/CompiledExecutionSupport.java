@@ -28,6 +28,7 @@ import org.finos.legend.pure.m3.serialization.runtime.SourceRegistry;
 import org.finos.legend.pure.m3.statelistener.ExecutionActivityListener;
 import org.finos.legend.pure.m3.statelistener.VoidExecutionActivityListener;
 import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+import org.finos.legend.pure.runtime.java.compiled.compiler.DynamicCompilationCache;
 import org.finos.legend.pure.runtime.java.compiled.compiler.JavaCompilerState;
 import org.finos.legend.pure.runtime.java.compiled.compiler.MemoryFileManager;
 import org.finos.legend.pure.runtime.java.compiled.delta.MetadataProvider;
@@ -118,6 +119,11 @@ public class CompiledExecutionSupport implements ExecutionSupport
         return this.javaCompilerState.getMemoryFileManager();
     }
 
+    public DynamicCompilationCache getDynamicCompilationCache()
+    {
+        return this.javaCompilerState.getDynamicCompilationCache();
+    }
+
     public SourceRegistry getSourceRegistry()
     {
         return this.sourceRegistry;
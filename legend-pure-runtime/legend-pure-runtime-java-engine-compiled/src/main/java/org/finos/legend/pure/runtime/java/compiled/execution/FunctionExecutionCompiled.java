@@ -100,13 +100,16 @@ public class FunctionExecutionCompiled implements FunctionExecution, PureRuntime
 
     private final boolean includePureStackTrace;
 
+    private final boolean reuseUnchangedClasses;
+
     private Metadata providedMetadata = null;
 
-    private FunctionExecutionCompiled(ExecutionActivityListener executionActivityListener, JavaCompilerEventObserver javaCompilerEventObserver, boolean includePureStackTrace, MutableList<CompiledExtension> extensions)
+    private FunctionExecutionCompiled(ExecutionActivityListener executionActivityListener, JavaCompilerEventObserver javaCompilerEventObserver, boolean includePureStackTrace, boolean reuseUnchangedClasses, MutableList<CompiledExtension> extensions)
     {
         this.executionActivityListener = executionActivityListener;
         this.javaCompilerEventObserver = (javaCompilerEventObserver == null) ? VoidJavaCompilerEventObserver.VOID_JAVA_COMPILER_EVENT_OBSERVER : javaCompilerEventObserver;
         this.includePureStackTrace = includePureStackTrace;
+        this.reuseUnchangedClasses = reuseUnchangedClasses;
         this.extensions = extensions;
     }
 
@@ -117,7 +120,7 @@ public class FunctionExecutionCompiled implements FunctionExecution, PureRuntime
         this.repository = runtime.getModelRepository();
         this.context = runtime.getContext();
         this.sourceRegistry = runtime.getSourceRegistry();
-        this.javaCompilerEventHandler = new JavaCompilerEventHandler(runtime, message, this.includePureStackTrace, this.javaCompilerEventObserver, this.extensions);
+        this.javaCompilerEventHandler = new JavaCompilerEventHandler(runtime, message, this.includePureStackTrace, this.reuseUnchangedClasses, this.javaCompilerEventObserver, this.extensions);
         this.metadataCompilerEventHandler = new MetadataEagerCompilerEventHandler(runtime.getModelRepository(), getMetadataEventObserver(), message, runtime.getProcessorSupport());
 
         runtime.addEventHandler(this);
@@ -541,6 +544,11 @@ public class FunctionExecutionCompiled implements FunctionExecution, PureRuntime
 
     static FunctionExecutionCompiled createFunctionExecutionCompiled(ExecutionActivityListener executionActivityListener, boolean includePureStackTrace, JavaCompilerEventObserver javaCompilerEventObserver)
     {
-        return new FunctionExecutionCompiled(executionActivityListener, javaCompilerEventObserver, includePureStackTrace, CompiledExtensionLoader.extensions());
+        return createFunctionExecutionCompiled(executionActivityListener, includePureStackTrace, false, javaCompilerEventObserver);
+    }
+
+    static FunctionExecutionCompiled createFunctionExecutionCompiled(ExecutionActivityListener executionActivityListener, boolean includePureStackTrace, boolean reuseUnchangedClasses, JavaCompilerEventObserver javaCompilerEventObserver)
+    {
+        return new FunctionExecutionCompiled(executionActivityListener, javaCompilerEventObserver, includePureStackTrace, reuseUnchangedClasses, CompiledExtensionLoader.extensions());
     }
 }
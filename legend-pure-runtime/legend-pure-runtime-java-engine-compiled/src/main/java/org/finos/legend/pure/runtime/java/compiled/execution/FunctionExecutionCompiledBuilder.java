@@ -25,6 +25,7 @@ import org.finos.legend.pure.runtime.java.compiled.statelistener.VoidJavaCompile
 public class FunctionExecutionCompiledBuilder
 {
     private boolean includePureStackTrace = false;
+    private boolean reuseUnchangedClasses = false;
 
     private ExecutionActivityListener executionActivityListener = VoidExecutionActivityListener.VOID_EXECUTION_ACTIVITY_LISTENER;
     private JavaCompilerEventObserver javaCompilerEventObserver = VoidJavaCompilerEventObserver.VOID_JAVA_COMPILER_EVENT_OBSERVER;
@@ -41,6 +42,23 @@ public class FunctionExecutionCompiledBuilder
         return this;
     }
 
+    /**
+     * Reuse the classes of Java sources which are unchanged when recompiling incrementally, rather than compiling all
+     * the Java sources of a compile group again. References between classes are found by scanning the Java sources.
+     * Java code is still generated for every recompiled Pure source.
+     */
+    public FunctionExecutionCompiledBuilder reuseUnchangedClasses()
+    {
+        this.reuseUnchangedClasses = true;
+        return this;
+    }
+
+    public FunctionExecutionCompiledBuilder reuseUnchangedClasses(boolean value)
+    {
+        this.reuseUnchangedClasses = value;
+        return this;
+    }
+
     public FunctionExecutionCompiledBuilder withExecutionListener(ExecutionActivityListener executionListener)
     {
         this.executionActivityListener = executionListener;
@@ -55,6 +73,6 @@ public class FunctionExecutionCompiledBuilder
 
     public FunctionExecutionCompiled build()
     {
-        return FunctionExecutionCompiled.createFunctionExecutionCompiled(this.executionActivityListener, this.includePureStackTrace, this.javaCompilerEventObserver);
+        return FunctionExecutionCompiled.createFunctionExecutionCompiled(this.executionActivityListener, this.includePureStackTrace, this.reuseUnchangedClasses, this.javaCompilerEventObserver);
     }
 }
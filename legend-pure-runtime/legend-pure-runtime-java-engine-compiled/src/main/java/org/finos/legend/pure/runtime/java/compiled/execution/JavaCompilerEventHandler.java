@@ -15,6 +15,8 @@
 package org.finos.legend.pure.runtime.java.compiled.execution;
 
 import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.collections.api.set.MutableSet;
 import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.type.Type;
 import org.finos.legend.pure.m3.navigation.ProcessorSupport;
 import org.finos.legend.pure.m3.serialization.filesystem.usercodestorage.RepositoryCodeStorage;
@@ -23,6 +25,8 @@ import org.finos.legend.pure.m3.serialization.runtime.Message;
 import org.finos.legend.pure.m3.serialization.runtime.PureRuntime;
 import org.finos.legend.pure.m3.serialization.runtime.Source;
 import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+import org.finos.legend.pure.m4.coreinstance.SourceInformation;
+import org.finos.legend.pure.runtime.java.compiled.compiler.DynamicCompilationCache;
 import org.finos.legend.pure.runtime.java.compiled.compiler.JavaCompilerState;
 import org.finos.legend.pure.runtime.java.compiled.compiler.PureJavaCompiler;
 import org.finos.legend.pure.runtime.java.compiled.extension.CompiledExtension;
@@ -47,23 +51,30 @@ public class JavaCompilerEventHandler implements CompilerEventHandler
 
     private final boolean includePureStackTrace;
 
+    private final boolean reuseUnchangedClasses;
+
     //Lifecycle of the compiled graph - clear each time we recompile
     private ClassCache classCache;
     private FunctionCache sharedFunctionCache;
+    private final DynamicCompilationCache dynamicCompilationCache = new DynamicCompilationCache();
 
     private final JavaCompilerEventObserver observer;
 
     private GenerateAndCompile generateAndCompile;
 
+    // sources whose instances were invalidated since Java was last generated: those not recompiled were deleted
+    private final MutableSet<String> invalidatedSourceIds = Sets.mutable.empty();
+
     private final Iterable<? extends CompiledExtension> extensions;
 
-    private JavaCompilerEventHandler(ProcessorSupport processorSupport, RepositoryCodeStorage codeStorage, Message message, boolean includePureStackTrace, JavaCompilerEventObserver observer, Iterable<? extends CompiledExtension> extensions)
+    private JavaCompilerEventHandler(ProcessorSupport processorSupport, RepositoryCodeStorage codeStorage, Message message, boolean includePureStackTrace, boolean reuseUnchangedClasses, JavaCompilerEventObserver observer, Iterable<? extends CompiledExtension> extensions)
     {
         this.processorSupport = processorSupport;
         this.codeStorage = codeStorage;
         this.message = message;
         this.observer = observer;
-        this.generateAndCompile = new GenerateAndCompile(this.message, this.observer);
+        this.reuseUnchangedClasses = reuseUnchangedClasses;
+        this.generateAndCompile = newGenerateAndCompile();
         this.classCache = new ClassCache(this.generateAndCompile.getPureJavaCompiler().getClassLoader(), processorSupport);
         this.sharedFunctionCache = new FunctionCache(this.classCache);
         this.includePureStackTrace = includePureStackTrace;
@@ -72,7 +83,18 @@ public class JavaCompilerEventHandler implements CompilerEventHandler
 
     public JavaCompilerEventHandler(PureRuntime pureRuntime, Message message, boolean includePureStackTrace, JavaCompilerEventObserver observer, Iterable<? extends CompiledExtension> extensions)
     {
-        this(pureRuntime.getProcessorSupport(), pureRuntime.getCodeStorage(), message, includePureStackTrace, observer, extensions);
+        this(pureRuntime, message, includePureStackTrace, false, observer, extensions);
+    }
+
+    /**
+     * If reuseUnchangedClasses is true, Java sources which are unchanged since they were last compiled, and which do
+     * not refer to a recompiled class, are not compiled again: their classes are reused. References between classes
+     * are found by scanning the Java sources, so this is opt-in. Java code is still generated for every Pure source
+     * which is recompiled: only the compilation of unchanged Java sources is saved.
+     */
+    public JavaCompilerEventHandler(PureRuntime pureRuntime, Message message, boolean includePureStackTrace, boolean reuseUnchangedClasses, JavaCompilerEventObserver observer, Iterable<? extends CompiledExtension> extensions)
+    {
+        this(pureRuntime.getProcessorSupport(), pureRuntime.getCodeStorage(), message, includePureStackTrace, reuseUnchangedClasses, observer, extensions);
         if (pureRuntime.getCache() instanceof PreCompiledPureGraphCache)
         {
             this.javaGeneratedAndCompiled = true;
@@ -88,6 +110,12 @@ public class JavaCompilerEventHandler implements CompilerEventHandler
     @Override
     public void compiled(SortedMap<String, RichIterable<? extends Source>> compiledSourcesByRepo, RichIterable<? extends CoreInstance> consolidatedCoreInstances)
     {
+        if (this.invalidatedSourceIds.notEmpty())
+        {
+            compiledSourcesByRepo.forEach((repo, sources) -> sources.forEach(source -> this.invalidatedSourceIds.remove(source.getId())));
+            this.generateAndCompile.removeJavaSourcesForPureSources(this.invalidatedSourceIds);
+            this.invalidatedSourceIds.clear();
+        }
         this.generateAndCompileJavaCode(compiledSourcesByRepo);
     }
 
@@ -95,7 +123,16 @@ public class JavaCompilerEventHandler implements CompilerEventHandler
     public void invalidate(RichIterable<? extends CoreInstance> consolidatedCoreInstances)
     {
         consolidatedCoreInstances.asLazy().selectInstancesOf(Type.class).forEach(this.classCache::remove);
+        consolidatedCoreInstances.forEach(instance ->
+        {
+            SourceInformation sourceInfo = instance.getSourceInformation();
+            if (sourceInfo != null)
+            {
+                this.invalidatedSourceIds.add(sourceInfo.getSourceId());
+            }
+        });
         this.sharedFunctionCache = new FunctionCache(this.classCache);
+        this.dynamicCompilationCache.clear();
     }
 
     public void generateAndCompileJavaCode(SortedMap<String, ? extends RichIterable<? extends Source>> compiledSourcesByRepo)
@@ -105,15 +142,18 @@ public class JavaCompilerEventHandler implements CompilerEventHandler
 
         this.classCache = new ClassCache(getJavaCompiler().getClassLoader(), this.processorSupport);
         this.sharedFunctionCache = new FunctionCache(this.classCache);
+        this.dynamicCompilationCache.clear();
     }
 
     @Override
     public void reset()
     {
         this.javaGeneratedAndCompiled = false;
-        this.generateAndCompile = new GenerateAndCompile(this.message, this.observer);
+        this.generateAndCompile = newGenerateAndCompile();
+        this.invalidatedSourceIds.clear();
         this.classCache = new ClassCache(getJavaCompiler().getClassLoader(), this.processorSupport);
         this.sharedFunctionCache = new FunctionCache(this.classCache);
+        this.dynamicCompilationCache.clear();
     }
 
 
@@ -132,7 +172,7 @@ public class JavaCompilerEventHandler implements CompilerEventHandler
 
     public JavaCompilerState getJavaCompileState()
     {
-        return new JavaCompilerState(this.getJavaCompiler().getFileManager(), this.getJavaCompiler().getClassLoader());
+        return new JavaCompilerState(this.getJavaCompiler().getFileManager(), this.getJavaCompiler().getClassLoader(), this.dynamicCompilationCache);
     }
 
     public FunctionCache getFunctionCache()
@@ -145,6 +185,15 @@ public class JavaCompilerEventHandler implements CompilerEventHandler
         return this.classCache;
     }
 
+    public DynamicCompilationCache getDynamicCompilationCache()
+    {
+        return this.dynamicCompilationCache;
+    }
+
+    private GenerateAndCompile newGenerateAndCompile()
+    {
+        return new GenerateAndCompile(this.message, this.observer, null, this.reuseUnchangedClasses);
+    }
 
     private JavaSourceCodeGenerator getJavaSourceCodeGenerator()
     {
@@ -16,37 +16,61 @@ package org.finos.legend.pure.runtime.java.compiled.generation;
 
 import org.eclipse.collections.api.RichIterable;
 import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Sets;
 import org.eclipse.collections.api.list.ImmutableList;
 import org.eclipse.collections.api.list.ListIterable;
 import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.MutableMap;
 import org.eclipse.collections.api.map.MutableOrderedMap;
 import org.eclipse.collections.api.map.OrderedMap;
+import org.eclipse.collections.api.set.MutableSet;
 import org.eclipse.collections.api.tuple.Pair;
 import org.eclipse.collections.impl.Counter;
 import org.eclipse.collections.impl.map.ordered.mutable.OrderedMapAdapter;
+import org.finos.legend.pure.m3.navigation.M3Paths;
+import org.finos.legend.pure.m3.navigation.ProcessorSupport;
 import org.finos.legend.pure.m3.serialization.runtime.Message;
 import org.finos.legend.pure.m3.serialization.runtime.Source;
+import org.finos.legend.pure.m3.tools.forkjoin.ForkJoinTools;
+import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+import org.finos.legend.pure.m4.coreinstance.SourceInformation;
+import org.finos.legend.pure.m4.tools.GraphNodeIterable;
+import org.finos.legend.pure.m4.tools.GraphWalkFilterResult;
 import org.finos.legend.pure.runtime.java.compiled.compiler.StringJavaSource;
 import org.finos.legend.pure.runtime.java.compiled.generation.orchestrator.Log;
+import org.finos.legend.pure.runtime.java.compiled.generation.processors.type.TypeProcessor;
 import org.finos.legend.pure.runtime.java.compiled.statelistener.JavaCompilerEventObserver;
 import org.finos.legend.pure.runtime.java.compiled.statelistener.VoidJavaCompilerEventObserver;
 
 import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.SortedMap;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 
 public class Generate
 {
     private final Message message;
     private final JavaCompilerEventObserver observer;
+    private final ForkJoinPool forkJoinPool;
     private final MutableOrderedMap<String, ImmutableList<StringJavaSource>> javaSourcesByGroup = OrderedMapAdapter.adapt(new LinkedHashMap<>());
     private ImmutableList<StringJavaSource> externalizableSources = Lists.immutable.empty();
 
-    public Generate(Message message, JavaCompilerEventObserver observer)
+    /**
+     * If forkJoinPool is non-null, the sources of each compile group are generated in parallel in that pool. The
+     * output is the same as for sequential generation: each source is generated with its own processor context and
+     * the results are concatenated in source order.
+     */
+    public Generate(Message message, JavaCompilerEventObserver observer, ForkJoinPool forkJoinPool)
     {
         this.message = message;
         this.observer = (observer == null) ? VoidJavaCompilerEventObserver.VOID_JAVA_COMPILER_EVENT_OBSERVER : observer;
+        this.forkJoinPool = forkJoinPool;
+    }
+
+    public Generate(Message message, JavaCompilerEventObserver observer)
+    {
+        this(message, observer, null);
     }
 
     public Generate(Message message)
@@ -70,6 +94,15 @@ public class Generate
     }
 
     MutableList<StringJavaSource> generate(String compileGroup, RichIterable<? extends Source> sources, JavaSourceCodeGenerator javaSourceCodeGenerator, Counter sourceCounter, int totalSourceCount, boolean generatePureTests)
+    {
+        return generate(compileGroup, sources, javaSourceCodeGenerator, sourceCounter, totalSourceCount, generatePureTests, null);
+    }
+
+    /**
+     * If javaSourcesBySourceId is non-null, the Java sources generated for each Pure source are also put in it, by
+     * Pure source id (helper and extension classes are not attributed to any Pure source).
+     */
+    MutableList<StringJavaSource> generate(String compileGroup, RichIterable<? extends Source> sources, JavaSourceCodeGenerator javaSourceCodeGenerator, Counter sourceCounter, int totalSourceCount, boolean generatePureTests, MutableMap<String, ListIterable<StringJavaSource>> javaSourcesBySourceId)
     {
         MutableList<StringJavaSource> javaSources = Lists.mutable.empty();
         this.observer.startGeneratingJavaFiles(compileGroup);
@@ -82,20 +115,82 @@ public class Generate
         javaSources.addAll(extras);
         sourceCounter.add(extras.size());
 
-        sources.forEach(source ->
+        if ((this.forkJoinPool == null) || (sources.size() < 2))
         {
-            javaSources.addAllIterable(javaSourceCodeGenerator.generateCode(source, null, compileGroup, generatePureTests));
-            sourceCounter.increment();
-            if (this.message != null)
+            sources.forEach(source ->
             {
-                this.message.setMessage("Generating Java sources (" + sourceCounter.getCount() + "/" + totalSourceCount + ")");
-            }
-        });
+                ListIterable<StringJavaSource> sourceResult = javaSourceCodeGenerator.generateCode(source, null, compileGroup, generatePureTests);
+                javaSources.addAllIterable(sourceResult);
+                if (javaSourcesBySourceId != null)
+                {
+                    javaSourcesBySourceId.put(source.getId(), sourceResult);
+                }
+                sourceCounter.increment();
+                updateMessage(sourceCounter, totalSourceCount);
+            });
+        }
+        else
+        {
+            // Generating a ColSpec-like type modifies its generic type in the graph (see TypeProcessor). Do this for
+            // the whole group before generating, so the output does not depend on thread timing.
+            setColSpecTypeArguments(sources, javaSourceCodeGenerator.getProcessorSupport());
+            MutableList<? extends Source> sourceList = sources.toList();
+            ListIterable<ListIterable<StringJavaSource>> sourceResults = ForkJoinTools.collect(this.forkJoinPool, sourceList, source -> javaSourceCodeGenerator.generateCode(source, null, compileGroup, generatePureTests), 1);
+            sourceResults.forEachWithIndex((sourceResult, i) ->
+            {
+                javaSources.addAllIterable(sourceResult);
+                if (javaSourcesBySourceId != null)
+                {
+                    javaSourcesBySourceId.put(sourceList.get(i).getId(), sourceResult);
+                }
+            });
+            sourceCounter.add(sources.size());
+            updateMessage(sourceCounter, totalSourceCount);
+        }
         this.observer.endGeneratingJavaFiles(compileGroup, javaSources);
 
         return javaSources;
     }
 
+    private static void setColSpecTypeArguments(RichIterable<? extends Source> sources, ProcessorSupport processorSupport)
+    {
+        MutableSet<CoreInstance> genericTypeClassifiers = Sets.mutable.with(processorSupport.package_getByUserPath(M3Paths.GenericType), processorSupport.package_getByUserPath(M3Paths.InferredGenericType));
+        CoreInstance packageClassifier = processorSupport.package_getByUserPath(M3Paths.Package);
+        sources.forEach(source -> GraphNodeIterable.builder()
+                .withStartingNodes(source.getNewInstances())
+                .withNodeFilter(instance ->
+                {
+                    CoreInstance classifier = instance.getClassifier();
+                    if ((packageClassifier == classifier) || isFromDifferentSource(instance, source))
+                    {
+                        return GraphWalkFilterResult.REJECT_AND_STOP;
+                    }
+                    return genericTypeClassifiers.contains(classifier) ? GraphWalkFilterResult.ACCEPT_AND_CONTINUE : GraphWalkFilterResult.REJECT_AND_CONTINUE;
+                })
+                .build()
+                .forEach(genericType ->
+                {
+                    if (TypeProcessor.isColSpecGenericType(genericType, processorSupport))
+                    {
+                        TypeProcessor.setLastTypeArgumentToTopType(genericType, processorSupport);
+                    }
+                }));
+    }
+
+    private static boolean isFromDifferentSource(CoreInstance instance, Source source)
+    {
+        SourceInformation sourceInfo = instance.getSourceInformation();
+        return (sourceInfo != null) && !source.getId().equals(sourceInfo.getSourceId());
+    }
+
+    private void updateMessage(Counter sourceCounter, int totalSourceCount)
+    {
+        if (this.message != null)
+        {
+            this.message.setMessage("Generating Java sources (" + sourceCounter.getCount() + "/" + totalSourceCount + ")");
+        }
+    }
+
     void generateJavaCodeForSources(SortedMap<String, ? extends RichIterable<? extends Source>> compiledSourcesByRepo, Function<? super String, ? extends JavaSourceCodeGenerator> sourceCodeGeneratorFn, Log log)
     {
         generateJavaCodeForSources(compiledSourcesByRepo, sourceCodeGeneratorFn, true, log);
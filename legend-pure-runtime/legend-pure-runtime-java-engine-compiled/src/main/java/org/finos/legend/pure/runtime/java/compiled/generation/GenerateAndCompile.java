@@ -15,18 +15,28 @@
 package org.finos.legend.pure.runtime.java.compiled.generation;
 
 import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.factory.Sets;
 import org.eclipse.collections.api.list.ListIterable;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.api.tuple.Pair;
 import org.eclipse.collections.impl.Counter;
+import org.eclipse.collections.impl.tuple.Tuples;
 import org.finos.legend.pure.m3.serialization.runtime.Message;
 import org.finos.legend.pure.m3.serialization.runtime.Source;
 import org.finos.legend.pure.runtime.java.compiled.compiler.Compile;
 import org.finos.legend.pure.runtime.java.compiled.compiler.PureJavaCompileException;
 import org.finos.legend.pure.runtime.java.compiled.compiler.PureJavaCompiler;
 import org.finos.legend.pure.runtime.java.compiled.compiler.StringJavaSource;
+import org.finos.legend.pure.runtime.java.compiled.generation.orchestrator.Log;
 import org.finos.legend.pure.runtime.java.compiled.generation.orchestrator.VoidLog;
 import org.finos.legend.pure.runtime.java.compiled.statelistener.JavaCompilerEventObserver;
 
 import java.util.SortedMap;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 
 /**
@@ -38,13 +48,34 @@ public class GenerateAndCompile
     private final PureJavaCompiler pureJavaCompiler;
     private final Generate generate;
     private final Compile compile;
+    private final ForkJoinPool forkJoinPool;
+    private final MutableMap<String, MutableSet<String>> javaSourceNamesBySourceId;
+    private final MutableMap<String, String> sourceIdByJavaSourceName;
 
-    public GenerateAndCompile(Message message, JavaCompilerEventObserver observer)
+    /**
+     * If reuseUnchangedClasses is true, Java sources which are regenerated with the same code as before are not
+     * recompiled (see {@link Compile}). This is intended for repeated incremental compilation, as in the IDE. Java code
+     * is still generated for every Pure source which is recompiled.
+     */
+    public GenerateAndCompile(Message message, JavaCompilerEventObserver observer, ForkJoinPool forkJoinPool, boolean reuseUnchangedClasses)
     {
         this.message = message;
         this.pureJavaCompiler = new PureJavaCompiler(this.message);
-        this.generate = new Generate(message, observer);
-        this.compile = new Compile(this.pureJavaCompiler, observer);
+        this.generate = new Generate(message, observer, forkJoinPool);
+        this.compile = new Compile(this.pureJavaCompiler, observer, reuseUnchangedClasses);
+        this.forkJoinPool = forkJoinPool;
+        this.javaSourceNamesBySourceId = reuseUnchangedClasses ? Maps.mutable.empty() : null;
+        this.sourceIdByJavaSourceName = reuseUnchangedClasses ? Maps.mutable.empty() : null;
+    }
+
+    public GenerateAndCompile(Message message, JavaCompilerEventObserver observer, ForkJoinPool forkJoinPool)
+    {
+        this(message, observer, forkJoinPool, false);
+    }
+
+    public GenerateAndCompile(Message message, JavaCompilerEventObserver observer)
+    {
+        this(message, observer, null);
     }
 
     public GenerateAndCompile(Message message)
@@ -75,6 +106,23 @@ public class GenerateAndCompile
 
     void generateAndCompileJavaCodeForSources(SortedMap<String, ? extends RichIterable<? extends Source>> compiledSourcesByRepo, Function<? super String, ? extends JavaSourceCodeGenerator> sourceCodeGeneratorFn, boolean generatePureTests)
     {
+        generateAndCompileJavaCodeForSources(compiledSourcesByRepo, sourceCodeGeneratorFn, generatePureTests, null);
+    }
+
+    /**
+     * If groupDependencies is non-null and there is a fork join pool, the Java sources of all compile groups are
+     * generated first, and then groups which do not depend on each other are compiled in parallel (see
+     * {@link Compile#compileJavaCodeForSources(Iterable, Function, ForkJoinPool, Log)}). Otherwise, each group is
+     * compiled as soon as it has been generated.
+     */
+    void generateAndCompileJavaCodeForSources(SortedMap<String, ? extends RichIterable<? extends Source>> compiledSourcesByRepo, Function<? super String, ? extends JavaSourceCodeGenerator> sourceCodeGeneratorFn, boolean generatePureTests, Function<? super String, ? extends Iterable<? extends String>> groupDependencies)
+    {
+        if ((this.forkJoinPool != null) && (groupDependencies != null))
+        {
+            generateAndCompileGroupsInParallel(compiledSourcesByRepo, sourceCodeGeneratorFn, generatePureTests, groupDependencies);
+            return;
+        }
+
         if (this.message != null)
         {
             this.message.setMessage("Generating and compiling Java source code ...");
@@ -90,7 +138,7 @@ public class GenerateAndCompile
             {
                 if (sources.notEmpty())
                 {
-                    ListIterable<StringJavaSource> compileGroupJavaSources = this.generate.generate(compileGroup, sources, sourceCodeGeneratorFn.apply(compileGroup), sourceCounter, totalSourceCount, generatePureTests);
+                    ListIterable<StringJavaSource> compileGroupJavaSources = generate(compileGroup, sources, sourceCodeGeneratorFn.apply(compileGroup), sourceCounter, totalSourceCount, generatePureTests);
                     try
                     {
                         this.compile.compile(compileGroup, compileGroupJavaSources, new VoidLog());
@@ -104,6 +152,108 @@ public class GenerateAndCompile
         }
     }
 
+    private void generateAndCompileGroupsInParallel(SortedMap<String, ? extends RichIterable<? extends Source>> compiledSourcesByRepo, Function<? super String, ? extends JavaSourceCodeGenerator> sourceCodeGeneratorFn, boolean generatePureTests, Function<? super String, ? extends Iterable<? extends String>> groupDependencies)
+    {
+        if (this.message != null)
+        {
+            this.message.setMessage("Generating and compiling Java source code ...");
+        }
+
+        Counter sourceCounter = new Counter();
+        compiledSourcesByRepo.forEach((compileGroup, sources) -> sourceCounter.add(sources.size()));
+        int totalSourceCount = sourceCounter.getCount();
+        if (totalSourceCount > 0)
+        {
+            sourceCounter.reset();
+            MutableList<Pair<String, ListIterable<StringJavaSource>>> javaSourcesByGroup = Lists.mutable.empty();
+            compiledSourcesByRepo.forEach((compileGroup, sources) ->
+            {
+                if (sources.notEmpty())
+                {
+                    javaSourcesByGroup.add(Tuples.pair(compileGroup, generate(compileGroup, sources, sourceCodeGeneratorFn.apply(compileGroup), sourceCounter, totalSourceCount, generatePureTests)));
+                }
+            });
+            try
+            {
+                this.compile.compileJavaCodeForSources(javaSourcesByGroup, groupDependencies, this.forkJoinPool, new VoidLog());
+            }
+            catch (PureJavaCompileException e)
+            {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
+    private ListIterable<StringJavaSource> generate(String compileGroup, RichIterable<? extends Source> sources, JavaSourceCodeGenerator sourceCodeGenerator, Counter sourceCounter, int totalSourceCount, boolean generatePureTests)
+    {
+        if (this.javaSourceNamesBySourceId == null)
+        {
+            return this.generate.generate(compileGroup, sources, sourceCodeGenerator, sourceCounter, totalSourceCount, generatePureTests);
+        }
+
+        MutableMap<String, ListIterable<StringJavaSource>> javaSourcesBySourceId = Maps.mutable.empty();
+        ListIterable<StringJavaSource> javaSources = this.generate.generate(compileGroup, sources, sourceCodeGenerator, sourceCounter, totalSourceCount, generatePureTests, javaSourcesBySourceId);
+
+        // Java sources which a regenerated Pure source no longer produces (and which no other Pure source has taken
+        // over) belong to elements which were removed: their classes must not be reused
+        MutableList<String> removed = Lists.mutable.empty();
+        MutableMap<String, MutableSet<String>> previousNamesBySourceId = Maps.mutable.empty();
+        javaSourcesBySourceId.forEachKeyValue((sourceId, sourceJavaSources) ->
+        {
+            MutableSet<String> names = sourceJavaSources.collect(StringJavaSource::getName, Sets.mutable.empty());
+            MutableSet<String> previousNames = this.javaSourceNamesBySourceId.put(sourceId, names);
+            if (previousNames != null)
+            {
+                previousNamesBySourceId.put(sourceId, previousNames);
+            }
+            names.forEach(name -> this.sourceIdByJavaSourceName.put(name, sourceId));
+        });
+        previousNamesBySourceId.forEachKeyValue((sourceId, previousNames) -> previousNames.forEach(name ->
+        {
+            if (sourceId.equals(this.sourceIdByJavaSourceName.get(name)) && !this.javaSourceNamesBySourceId.get(sourceId).contains(name))
+            {
+                this.sourceIdByJavaSourceName.remove(name);
+                removed.add(name);
+            }
+        }));
+        if (removed.notEmpty())
+        {
+            this.compile.removeJavaSources(removed);
+        }
+        return javaSources;
+    }
+
+    /**
+     * Remove the classes compiled from the Java sources of the given Pure sources, for example because the Pure sources
+     * were deleted. This has no effect unless unchanged classes are reused.
+     */
+    public void removeJavaSourcesForPureSources(Iterable<String> sourceIds)
+    {
+        if (this.javaSourceNamesBySourceId != null)
+        {
+            MutableList<String> removed = Lists.mutable.empty();
+            sourceIds.forEach(sourceId ->
+            {
+                MutableSet<String> names = this.javaSourceNamesBySourceId.remove(sourceId);
+                if (names != null)
+                {
+                    names.forEach(name ->
+                    {
+                        if (sourceId.equals(this.sourceIdByJavaSourceName.get(name)))
+                        {
+                            this.sourceIdByJavaSourceName.remove(name);
+                            removed.add(name);
+                        }
+                    });
+                }
+            });
+            if (removed.notEmpty())
+            {
+                this.compile.removeJavaSources(removed);
+            }
+        }
+    }
+
     public void generateAndCompileJavaCodeForSources(SortedMap<String, ? extends RichIterable<? extends Source>> compiledSourcesByRepo, JavaSourceCodeGenerator sourceCodeGenerator)
     {
         generateAndCompileJavaCodeForSources(compiledSourcesByRepo, compileGroup -> sourceCodeGenerator);
@@ -150,8 +150,9 @@ public final class JavaSourceCodeGenerator
     private final String externalAPIPackage;
 
     private final boolean includePureStackTrace;
-    private final MutableSet<CoreInstance> processedClasses = Sets.mutable.empty();
-    private final MutableSet<CoreInstance> platformEnumerations = Sets.mutable.empty();
+    // sources may be generated concurrently (see Generate)
+    private final MutableSet<CoreInstance> processedClasses = Sets.mutable.<CoreInstance>empty().asSynchronized();
+    private final MutableSet<CoreInstance> platformEnumerations = Sets.mutable.<CoreInstance>empty().asSynchronized();
     private final MutableSet<CoreInstance> javaSerializedClasses = Sets.mutable.empty();
     private final ListIterable<CompiledExtension> extensions;
 
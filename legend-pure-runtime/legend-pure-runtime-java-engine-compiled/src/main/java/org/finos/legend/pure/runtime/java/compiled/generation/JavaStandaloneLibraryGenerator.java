@@ -14,6 +14,7 @@
 
 package org.finos.legend.pure.runtime.java.compiled.generation;
 
+import org.eclipse.collections.api.RichIterable;
 import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.factory.Maps;
 import org.eclipse.collections.api.factory.Sets;
@@ -23,6 +24,7 @@ import org.eclipse.collections.api.map.MapIterable;
 import org.eclipse.collections.api.map.MutableMap;
 import org.eclipse.collections.api.tuple.Pair;
 import org.eclipse.collections.impl.utility.Iterate;
+import org.finos.legend.pure.m3.serialization.filesystem.repository.CodeRepository;
 import org.finos.legend.pure.m3.serialization.filesystem.usercodestorage.composite.CompositeCodeStorage;
 import org.finos.legend.pure.m3.serialization.runtime.Message;
 import org.finos.legend.pure.m3.serialization.runtime.PureRuntime;
@@ -43,6 +45,8 @@ import java.nio.file.Path;
 import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.jar.JarOutputStream;
 
@@ -55,8 +59,9 @@ public class JavaStandaloneLibraryGenerator
     private final String externalAPIPackage;
     private final Log log;
     private final boolean generatePureTests;
+    private final ForkJoinPool forkJoinPool;
 
-    private JavaStandaloneLibraryGenerator(PureRuntime runtime, Iterable<? extends CompiledExtension> extensions, boolean addExternalAPI, String externalAPIPackage, boolean generatePureTests, Log log)
+    private JavaStandaloneLibraryGenerator(PureRuntime runtime, Iterable<? extends CompiledExtension> extensions, boolean addExternalAPI, String externalAPIPackage, boolean generatePureTests, Log log, ForkJoinPool forkJoinPool)
     {
         this.runtime = runtime;
         this.extensions = extensions;
@@ -64,6 +69,7 @@ public class JavaStandaloneLibraryGenerator
         this.externalAPIPackage = externalAPIPackage;
         this.log = log;
         this.generatePureTests = generatePureTests;
+        this.forkJoinPool = forkJoinPool;
     }
 
     public PureJavaCompiler compile(String repo, boolean writeJavaSourcesToDisk, Path pathToWriteTo) throws PureJavaCompileException
@@ -145,22 +151,22 @@ public class JavaStandaloneLibraryGenerator
 
     public void serializeAndWriteDistributedMetadata(Path directory) throws IOException
     {
-        DistributedBinaryGraphSerializer.newSerializer(this.runtime).serializeToDirectory(directory);
+        DistributedBinaryGraphSerializer.newSerializer(this.runtime).serializeToDirectory(directory, this.forkJoinPool);
     }
 
     public void serializeAndWriteDistributedMetadata(String repositoryName, Path directory) throws IOException
     {
-        DistributedBinaryGraphSerializer.newSerializer(this.runtime, repositoryName).serializeToDirectory(directory);
+        DistributedBinaryGraphSerializer.newSerializer(this.runtime, repositoryName).serializeToDirectory(directory, this.forkJoinPool);
     }
 
     public void serializeAndWriteDistributedMetadata(JarOutputStream jarOutputStream) throws IOException
     {
-        DistributedBinaryGraphSerializer.newSerializer(this.runtime).serializeToJar(jarOutputStream);
+        DistributedBinaryGraphSerializer.newSerializer(this.runtime).serializeToJar(jarOutputStream, this.forkJoinPool);
     }
 
     public void serializeAndWriteDistributedMetadata(String repositoryName, JarOutputStream jarOutputStream) throws IOException
     {
-        DistributedBinaryGraphSerializer.newSerializer(this.runtime, repositoryName).serializeToJar(jarOutputStream);
+        DistributedBinaryGraphSerializer.newSerializer(this.runtime, repositoryName).serializeToJar(jarOutputStream, this.forkJoinPool);
     }
 
     public void compileSerializeAndWriteClassesAndMetadata(JarOutputStream jarOutputStream) throws IOException, PureJavaCompileException
@@ -181,11 +187,11 @@ public class JavaStandaloneLibraryGenerator
                     log.info("  " + message);
                 }
             }
-        });
+        }, null, this.forkJoinPool);
 
         if (modularMetadataIds)
         {
-            generateAndCompile.generateAndCompileJavaCodeForSources(sourcesToCompile, group -> getSourceCodeGenerator(group, writeJavaSourcesToDisk, pathToWriteTo));
+            generateAndCompile.generateAndCompileJavaCodeForSources(sourcesToCompile, group -> getSourceCodeGenerator(group, writeJavaSourcesToDisk, pathToWriteTo), true, getGroupDependencies());
             if (this.addExternalAPI)
             {
                 generateAndCompile.generateAndCompileExternalizableAPI(getSourceCodeGenerator(null, writeJavaSourcesToDisk, pathToWriteTo), this.externalAPIPackage);
@@ -198,7 +204,7 @@ public class JavaStandaloneLibraryGenerator
         else
         {
             JavaSourceCodeGenerator javaSourceCodeGenerator = getSourceCodeGenerator(null, writeJavaSourcesToDisk, pathToWriteTo);
-            generateAndCompile.generateAndCompileJavaCodeForSources(sourcesToCompile, javaSourceCodeGenerator);
+            generateAndCompile.generateAndCompileJavaCodeForSources(sourcesToCompile, group -> javaSourceCodeGenerator, true, getGroupDependencies());
             if (this.addExternalAPI)
             {
                 generateAndCompile.generateAndCompileExternalizableAPI(javaSourceCodeGenerator, this.externalAPIPackage);
@@ -223,7 +229,7 @@ public class JavaStandaloneLibraryGenerator
                     log.info("  " + message);
                 }
             }
-        });
+        }, null, this.forkJoinPool);
 
         if (modularMetadataIds)
         {
@@ -253,6 +259,18 @@ public class JavaStandaloneLibraryGenerator
         return generate;
     }
 
+    private Function<String, ListIterable<String>> getGroupDependencies()
+    {
+        // compile groups are repositories, which depend on the repositories visible to them; any other group has
+        // unknown dependencies (null), so it is compiled after all earlier groups
+        RichIterable<CodeRepository> repositories = this.runtime.getCodeStorage().getAllRepositories();
+        return group ->
+        {
+            CodeRepository repository = this.runtime.getCodeStorage().getRepository(group);
+            return (repository == null) ? null : repositories.collectIf(r -> (r != repository) && repository.isVisible(r), CodeRepository::getName, Lists.mutable.empty());
+        };
+    }
+
     private JavaSourceCodeGenerator getSourceCodeGenerator(String compileGroup, boolean writeJavaSourcesToDisk, Path pathToWriteTo)
     {
         IdBuilder idBuilder = DistributedBinaryGraphSerializer.newIdBuilder(compileGroup, this.runtime.getProcessorSupport());
@@ -316,12 +334,20 @@ public class JavaStandaloneLibraryGenerator
 
     public static JavaStandaloneLibraryGenerator newGenerator(PureRuntime runtime, Iterable<? extends CompiledExtension> extensions, boolean addExternalAPI, String externalAPIPackage, Log log)
     {
-        return new JavaStandaloneLibraryGenerator(runtime, extensions, addExternalAPI, externalAPIPackage, true, log);
+        return new JavaStandaloneLibraryGenerator(runtime, extensions, addExternalAPI, externalAPIPackage, true, log, null);
     }
 
     public static JavaStandaloneLibraryGenerator newGenerator(PureRuntime runtime, Iterable<? extends CompiledExtension> extensions, boolean addExternalAPI, String externalAPIPackage, boolean generatePureTests, Log log)
     {
-        return new JavaStandaloneLibraryGenerator(runtime, extensions, addExternalAPI, externalAPIPackage, generatePureTests, log);
+        return new JavaStandaloneLibraryGenerator(runtime, extensions, addExternalAPI, externalAPIPackage, generatePureTests, log, null);
+    }
+
+    /**
+     * Create a generator which generates the Java sources of each repository in parallel using the given pool.
+     */
+    public static JavaStandaloneLibraryGenerator newGenerator(PureRuntime runtime, Iterable<? extends CompiledExtension> extensions, boolean addExternalAPI, String externalAPIPackage, boolean generatePureTests, Log log, ForkJoinPool forkJoinPool)
+    {
+        return new JavaStandaloneLibraryGenerator(runtime, extensions, addExternalAPI, externalAPIPackage, generatePureTests, log, forkJoinPool);
     }
 
     public static PureJavaCompiler compileOnly(MapIterable<? extends String, ? extends Iterable<? extends StringJavaSource>> javaSources, ListIterable<? extends StringJavaSource> externalizableSources, boolean addExternalAPI, Log log) throws PureJavaCompileException
@@ -330,9 +356,19 @@ public class JavaStandaloneLibraryGenerator
     }
 
     public static PureJavaCompiler compileOnly(Iterable<? extends Pair<? extends String, ? extends Iterable<? extends StringJavaSource>>> javaSources, ListIterable<? extends StringJavaSource> externalizableSources, boolean addExternalAPI, Log log) throws PureJavaCompileException
+    {
+        return compileOnly(javaSources, externalizableSources, addExternalAPI, null, null, log);
+    }
+
+    /**
+     * Compile the Java sources of each group, compiling groups which do not depend on each other in parallel using
+     * the given pool. The groups must be in dependency order, and groupDependencies must return the groups that each
+     * group depends on (e.g., the visible repositories), or null to make a group depend on all earlier groups.
+     */
+    public static PureJavaCompiler compileOnly(Iterable<? extends Pair<? extends String, ? extends Iterable<? extends StringJavaSource>>> javaSources, ListIterable<? extends StringJavaSource> externalizableSources, boolean addExternalAPI, Function<? super String, ? extends Iterable<? extends String>> groupDependencies, ForkJoinPool forkJoinPool, Log log) throws PureJavaCompileException
     {
         Compile compile = new Compile(new PureJavaCompiler(new Message("")), VoidJavaCompilerEventObserver.VOID_JAVA_COMPILER_EVENT_OBSERVER);
-        compile.compileJavaCodeForSources(javaSources, log);
+        compile.compileJavaCodeForSources(javaSources, groupDependencies, forkJoinPool, log);
         if (addExternalAPI)
         {
             compile.compileExternalizableAPI(externalizableSources);
@@ -25,10 +25,13 @@ import org.eclipse.collections.api.map.MapIterable;
 import org.eclipse.collections.api.map.MutableMap;
 import org.eclipse.collections.api.map.primitive.IntObjectMap;
 import org.eclipse.collections.api.map.primitive.MutableIntObjectMap;
+import org.eclipse.collections.api.map.primitive.MutableObjectIntMap;
 import org.eclipse.collections.api.multimap.list.MutableListMultimap;
 import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.impl.block.factory.HashingStrategies;
 import org.eclipse.collections.impl.factory.Multimaps;
 import org.eclipse.collections.impl.factory.primitive.IntObjectMaps;
+import org.eclipse.collections.impl.map.mutable.primitive.ObjectIntHashMapWithHashingStrategy;
 import org.finos.legend.pure.m3.bootstrap.generator.M3ToJavaGenerator;
 import org.finos.legend.pure.m3.generator.bootstrap.M3CoreInstanceGenerator;
 import org.finos.legend.pure.m3.navigation.ProcessorSupport;
@@ -50,6 +53,7 @@ public class ProcessorContext
     private final MutableListMultimap<String, String> functionDefinitionsBySource = Multimaps.mutable.list.empty();
     private final MutableMap<String, MutableMap<String, String>> nativeLambdaFunctionsByNameBySource = Maps.mutable.empty();
     private final MutableIntObjectMap<CoreInstance> localLambdas = IntObjectMaps.mutable.empty();
+    private final MutableObjectIntMap<CoreInstance> localLambdaIds = ObjectIntHashMapWithHashingStrategy.newMap(HashingStrategies.identityStrategy());
     private final ProcessorSupport support;
     private final NativeFunctionProcessor nativeFunctionProcessor;
 
@@ -209,9 +213,27 @@ public class ProcessorContext
         return this.objects;
     }
 
+    /**
+     * Get the id of a local lambda, registering it if necessary. Ids are assigned sequentially in the order lambdas are
+     * first registered, so generated code which refers to local lambdas by id does not depend on object identity.
+     */
+    public int getLocalLambdaId(CoreInstance function)
+    {
+        return this.localLambdaIds.getIfAbsentPut(function, () ->
+        {
+            int id = this.localLambdas.size();
+            this.localLambdas.put(id, function);
+            return id;
+        });
+    }
+
+    /**
+     * @deprecated ids are now assigned by {@link #getLocalLambdaId}, so the given id is ignored
+     */
+    @Deprecated
     public void registerLocalLambdas(int id, CoreInstance function)
     {
-        this.localLambdas.put(id, function);
+        getLocalLambdaId(function);
     }
 
     public IntObjectMap<CoreInstance> getLocalLambdas()
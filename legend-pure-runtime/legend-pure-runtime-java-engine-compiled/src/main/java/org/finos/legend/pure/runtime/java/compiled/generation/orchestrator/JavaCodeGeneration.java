@@ -49,6 +49,7 @@ import java.net.URL;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 
 public class JavaCodeGeneration
 {
@@ -137,6 +138,27 @@ public class JavaCodeGeneration
                             File targetDirectory,
                             boolean generatePureTests,
                             Log log)
+    {
+        doIt(repositories, excludedRepositories, extraRepositories, generationType, skip, addExternalAPI, externalAPIPackage, generateMetadata, useSingleDir, generateSources, generateTest, preventJavaCompilation, classesDirectory, targetDirectory, generatePureTests, null, log);
+    }
+
+    public static void doIt(Set<String> repositories,
+                            Set<String> excludedRepositories,
+                            Set<String> extraRepositories,
+                            JavaCodeGeneration.GenerationType generationType,
+                            boolean skip,
+                            boolean addExternalAPI,
+                            String externalAPIPackage,
+                            boolean generateMetadata,
+                            boolean useSingleDir,
+                            boolean generateSources,
+                            boolean generateTest,
+                            boolean preventJavaCompilation,
+                            File classesDirectory,
+                            File targetDirectory,
+                            boolean generatePureTests,
+                            ForkJoinPool forkJoinPool,
+                            Log log)
     {
         // DO NOT DELETE - Needed to avoid circular calls later during static initialization
         SetIterable<String> res = JavaPackageAndImportBuilder.M3_CLASSES;
@@ -196,7 +218,7 @@ public class JavaCodeGeneration
             }
 
             // Generate metadata and Java sources
-            Generate generate = generate(System.nanoTime(), allRepositories, selectedRepositories, distributedMetadataDirectory, codegenDirectory, generateMetadata, addExternalAPI, externalAPIPackage, generationType, generateSources, generatePureTests, log);
+            Generate generate = generate(System.nanoTime(), allRepositories, selectedRepositories, distributedMetadataDirectory, codegenDirectory, generateMetadata, addExternalAPI, externalAPIPackage, generationType, generateSources, generatePureTests, forkJoinPool, log);
 
             // Compile Java sources
             if (!preventJavaCompilation)
@@ -295,7 +317,7 @@ public class JavaCodeGeneration
         return selected;
     }
 
-    private static Generate generate(long start, CodeRepositorySet allRepositories, SetIterable<String> selectedRepositories, Path distributedMetadataDirectory, Path codegenDirectory, boolean generateMetadata, boolean addExternalAPI, String externalAPIPackage, GenerationType generationType, boolean generateSources, boolean generatePureTests, Log log)
+    private static Generate generate(long start, CodeRepositorySet allRepositories, SetIterable<String> selectedRepositories, Path distributedMetadataDirectory, Path codegenDirectory, boolean generateMetadata, boolean addExternalAPI, String externalAPIPackage, GenerationType generationType, boolean generateSources, boolean generatePureTests, ForkJoinPool forkJoinPool, Log log)
     {
         // Initialize runtime
         PureRuntime runtime = initializeRuntime(start, allRepositories, selectedRepositories, log);
@@ -307,12 +329,12 @@ public class JavaCodeGeneration
             {
                 case monolithic:
                 {
-                    generateMetadata(start, runtime, distributedMetadataDirectory, log);
+                    generateMetadata(start, runtime, distributedMetadataDirectory, forkJoinPool, log);
                     break;
                 }
                 case modular:
                 {
-                    generateModularMetadata(start, runtime, selectedRepositories, distributedMetadataDirectory, log);
+                    generateModularMetadata(start, runtime, selectedRepositories, distributedMetadataDirectory, forkJoinPool, log);
                     break;
                 }
                 default:
@@ -326,7 +348,7 @@ public class JavaCodeGeneration
         String generateStep = "Pure compiled mode Java code generation";
         long generateStart = startStep(generateStep, log);
         Generate generate;
-        JavaStandaloneLibraryGenerator generator = JavaStandaloneLibraryGenerator.newGenerator(runtime, CompiledExtensionLoader.extensions(), addExternalAPI, externalAPIPackage, generatePureTests, log);
+        JavaStandaloneLibraryGenerator generator = JavaStandaloneLibraryGenerator.newGenerator(runtime, CompiledExtensionLoader.extensions(), addExternalAPI, externalAPIPackage, generatePureTests, log, forkJoinPool);
         switch (generationType)
         {
             case monolithic:
@@ -394,30 +416,30 @@ public class JavaCodeGeneration
         }
     }
 
-    private static void generateMetadata(long start, PureRuntime runtime, Path distributedMetadataDirectory, Log log)
+    private static void generateMetadata(long start, PureRuntime runtime, Path distributedMetadataDirectory, ForkJoinPool forkJoinPool, Log log)
     {
         String writeMetadataStep = "writing distributed Pure metadata";
         long writeMetadataStart = startStep(writeMetadataStep, log);
-        DistributedBinaryGraphSerializer.newSerializer(runtime).serializeToDirectory(distributedMetadataDirectory);
+        DistributedBinaryGraphSerializer.newSerializer(runtime).serializeToDirectory(distributedMetadataDirectory, forkJoinPool);
         completeStep(writeMetadataStep, writeMetadataStart, log);
     }
 
-    private static void generateModularMetadata(long start, PureRuntime runtime, Iterable<String> repositoriesForMetadata, Path distributedMetadataDirectory, Log log)
+    private static void generateModularMetadata(long start, PureRuntime runtime, Iterable<String> repositoriesForMetadata, Path distributedMetadataDirectory, ForkJoinPool forkJoinPool, Log log)
     {
         String writeMetadataStep = "writing distributed Pure metadata";
         long writeMetadataStart = startStep(writeMetadataStep, log);
         for (String repository : repositoriesForMetadata)
         {
-            generateModularMetadata(start, runtime, repository, distributedMetadataDirectory, log);
+            generateModularMetadata(start, runtime, repository, distributedMetadataDirectory, forkJoinPool, log);
         }
         completeStep(writeMetadataStep, writeMetadataStart, log);
     }
 
-    private static void generateModularMetadata(long start, PureRuntime runtime, String repository, Path distributedMetadataDirectory, Log log)
+    private static void generateModularMetadata(long start, PureRuntime runtime, String repository, Path distributedMetadataDirectory, ForkJoinPool forkJoinPool, Log log)
     {
         String writeMetadataStep = "writing distributed Pure metadata for " + repository;
         long writeMetadataStart = startStep(writeMetadataStep, log);
-        DistributedBinaryGraphSerializer.newSerializer(runtime, repository).serializeToDirectory(distributedMetadataDirectory);
+        DistributedBinaryGraphSerializer.newSerializer(runtime, repository).serializeToDirectory(distributedMetadataDirectory, forkJoinPool);
         completeStep(writeMetadataStep, writeMetadataStart, log);
     }
 
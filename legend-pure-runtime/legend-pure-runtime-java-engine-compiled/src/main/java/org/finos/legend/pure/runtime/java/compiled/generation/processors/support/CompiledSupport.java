@@ -53,11 +53,8 @@ import org.finos.legend.pure.m4.coreinstance.SourceInformation;
 import org.finos.legend.pure.m4.coreinstance.compileState.CompileState;
 import org.finos.legend.pure.m4.coreinstance.primitive.date.PureDate;
 import org.finos.legend.pure.m4.exception.PureException;
-import org.finos.legend.pure.runtime.java.compiled.compiler.MemoryClassLoader;
-import org.finos.legend.pure.runtime.java.compiled.compiler.MemoryFileManager;
+import org.finos.legend.pure.runtime.java.compiled.compiler.DynamicCompilationCache;
 import org.finos.legend.pure.runtime.java.compiled.compiler.PureJavaCompileException;
-import org.finos.legend.pure.runtime.java.compiled.compiler.PureJavaCompiler;
-import org.finos.legend.pure.runtime.java.compiled.compiler.StringJavaSource;
 import org.finos.legend.pure.runtime.java.compiled.execution.CompiledExecutionSupport;
 import org.finos.legend.pure.runtime.java.compiled.execution.CompiledProcessorSupport;
 import org.finos.legend.pure.runtime.java.compiled.execution.ConsoleCompiled;
@@ -83,8 +80,6 @@ import org.json.simple.JSONValue;
 import org.json.simple.parser.JSONParser;
 import org.json.simple.parser.ParseException;
 
-import javax.tools.JavaCompiler;
-import javax.tools.ToolProvider;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
@@ -1631,25 +1626,18 @@ public class CompiledSupport
                 "}" +
                 "}";
 
-        MemoryFileManager fileManager = ((CompiledExecutionSupport) es).getMemoryFileManager();
-        MutableList<StringJavaSource> javaClasses = Lists.mutable.empty();
-        javaClasses.add(StringJavaSource.newStringJavaSource("temp", name, _class));
-        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
-        MemoryFileManager manager = new MemoryFileManager(compiler, fileManager, null);
-
+        Class<?> realClass;
         try
         {
-            PureJavaCompiler.compile(compiler, javaClasses, manager);
+            realClass = compileDynamicClass("temp", name, _class, (CompiledExecutionSupport) es, globalClassLoader);
         }
-        catch (PureJavaCompileException e)
+        catch (PureJavaCompileException | ClassNotFoundException e)
         {
             throw new RuntimeException(e);
         }
 
-        ClassLoader cl = new MemoryClassLoader(manager, globalClassLoader);
         try
         {
-            Class<?> realClass = cl.loadClass("temp" + "." + name);
             return realClass.getMethod("build", MutableMap.class, IntObjectMap.class).invoke(null, processorContext.getObjectToPassToDynamicallyGeneratedCode(), processorContext.getLocalLambdas());
         }
         catch (Exception e)
@@ -1661,7 +1649,6 @@ public class CompiledSupport
 
     public static Object dynamicallyEvaluateValueSpecification(CoreInstance valueSpecification, PureMap lambdaOpenVariablesMap, ExecutionSupport es)
     {
-        MemoryFileManager fileManager = ((CompiledExecutionSupport) es).getMemoryFileManager();
         ClassLoader globalClassLoader = ((CompiledExecutionSupport) es).getClassLoader();
 
         CompiledProcessorSupport compiledSupport = new CompiledProcessorSupport(globalClassLoader, ((CompiledExecutionSupport) es).getMetadata(), ((CompiledExecutionSupport) es).getExtraSupportedTypes());
@@ -1719,13 +1706,10 @@ public class CompiledSupport
                 "}\n";
 
         String javaPackage = JavaPackageAndImportBuilder.buildPackageForPackageableElement(valueSpecification);
-        ListIterable<StringJavaSource> javaClasses = Lists.immutable.with(StringJavaSource.newStringJavaSource(javaPackage, name, _class));
-        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
-        MemoryFileManager manager = new MemoryFileManager(compiler, fileManager, null);
-
+        Class<?> realClass;
         try
         {
-            PureJavaCompiler.compile(compiler, javaClasses, manager);
+            realClass = compileDynamicClass(javaPackage, name, _class, (CompiledExecutionSupport) es, globalClassLoader);
         }
         catch (Exception e)
         {
@@ -1739,10 +1723,8 @@ public class CompiledSupport
             throw new RuntimeException(message.toString(), e);
         }
 
-        ClassLoader cl = new MemoryClassLoader(manager, globalClassLoader);
         try
         {
-            Class<?> realClass = cl.loadClass(javaPackage + "." + name);
             return realClass.getMethod("doProcess", MapIterable.class, MutableMap.class, IntObjectMap.class, ExecutionSupport.class).invoke(null, openVars, processorContext.getObjectToPassToDynamicallyGeneratedCode(), processorContext.getLocalLambdas(), es);
         }
         catch (Exception e)
@@ -1762,6 +1744,15 @@ public class CompiledSupport
         }
     }
 
+    private static Class<?> compileDynamicClass(String javaPackage, String name, String code, CompiledExecutionSupport executionSupport, ClassLoader globalClassLoader) throws PureJavaCompileException, ClassNotFoundException
+    {
+        // Structurally identical reactivations generate the same source, so they can reuse a previously compiled class
+        DynamicCompilationCache cache = executionSupport.getDynamicCompilationCache();
+        return (cache == null) ?
+                DynamicCompilationCache.compile(javaPackage, name, code, executionSupport.getMemoryFileManager(), globalClassLoader) :
+                cache.getIfAbsentCompile(javaPackage, name, code, executionSupport.getMemoryFileManager(), globalClassLoader);
+    }
+
     private static void collectVars(CoreInstance valueSpecification, MutableList<CoreInstance> vars, ProcessorSupport processorSupport)
     {
         if (Instance.instanceOf(valueSpecification, M3Paths.FunctionExpression, processorSupport))
@@ -24,7 +24,6 @@ import org.eclipse.collections.api.list.ListIterable;
 import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.map.MutableMap;
 import org.eclipse.collections.api.set.MutableSet;
-import org.eclipse.collections.impl.block.procedure.checked.CheckedProcedure;
 import org.eclipse.collections.impl.utility.Iterate;
 import org.eclipse.collections.impl.utility.StringIterate;
 import org.finos.legend.pure.m3.coreinstance.Package;
@@ -77,11 +76,12 @@ import org.finos.legend.pure.runtime.java.compiled.generation.processors.support
 import org.finos.legend.pure.runtime.java.compiled.generation.processors.support.function.SharedPureFunction;
 import org.finos.legend.pure.runtime.java.compiled.generation.processors.support.map.PureEqualsHashingStrategy;
 import org.finos.legend.pure.runtime.java.compiled.generation.processors.support.map.PureMap;
+import org.finos.legend.pure.runtime.java.compiled.metadata.ClassCache;
 import org.finos.legend.pure.runtime.java.compiled.metadata.JavaMethodWithParamsSharedPureFunction;
 import org.finos.legend.pure.runtime.java.compiled.metadata.MetadataAccessor;
 import org.json.simple.JSONObject;
 
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Method;
 import java.math.BigDecimal;
 import java.math.BigInteger;
@@ -509,27 +509,27 @@ public class Pure
                 throw new PureExecutionException(func.getSourceInformation(), "Error accessing property '" + func.getName() + "': too many arguments (expected 1, got " + paramInputs.size() + ")", Stacks.mutable.empty());
             }
             Object instance = getInstanceForPropertyEvaluate(paramInputs, func.getName(), func.getSourceInformation());
+            MethodHandle getter;
             try
             {
-                return instance.getClass().getMethod("_" + func.getName()).invoke(instance);
-            }
-            catch (InvocationTargetException e)
-            {
-                Throwable cause = e.getCause();
-                if (cause instanceof Error)
-                {
-                    throw (Error) cause;
-                }
-                if (cause instanceof PureException)
-                {
-                    throw (PureException) cause;
-                }
-                throw new PureExecutionException(func.getSourceInformation(), "Error invoking property '" + func.getName() + "'", cause, Stacks.mutable.empty());
+                getter = ((CompiledExecutionSupport) es).getClassCache().getIfAbsentPutPropertyGetterHandle(instance.getClass(), func.getName());
             }
             catch (Exception e)
             {
                 throw new PureExecutionException(func.getSourceInformation(), "Error accessing property '" + func.getName() + "'", e, Stacks.mutable.empty());
             }
+            try
+            {
+                return (Object) getter.invokeExact(instance);
+            }
+            catch (Error | PureException e)
+            {
+                throw e;
+            }
+            catch (Throwable t)
+            {
+                throw new PureExecutionException(func.getSourceInformation(), "Error invoking property '" + func.getName() + "'", t, Stacks.mutable.empty());
+            }
         }
         if (func instanceof Column)
         {
@@ -732,33 +732,22 @@ public class Pure
     {
         try
         {
+            ClassCache classCache = ((CompiledExecutionSupport) es).getClassCache();
             Class<?> c = ((CompiledExecutionSupport) es).getClassLoader().loadClass(JavaPackageAndImportBuilder.platformJavaPackage() + "." + Pure.elementToPath(aClass, "_", true) + "_Impl");
-            Any result = (Any) c.getConstructor(String.class).newInstance(name);
-            root_meta_pure_functions_lang_keyExpressions.forEach(new CheckedProcedure<KeyExpression>()
+            Any result = (Any) (Object) classCache.getIfAbsentPutConstructorHandle(c).invokeExact((Object) name);
+            for (KeyExpression o : root_meta_pure_functions_lang_keyExpressions)
             {
-                @Override
-                public void safeValue(KeyExpression o) throws Exception
-                {
-                    Object res = reactivate(o._expression(), new PureMap(Maps.fixedSize.empty()), bridge, es);
-                    Method m = c.getMethod("_" + o._key()._values().getFirst(), RichIterable.class);
-                    if (res instanceof RichIterable)
-                    {
-                        m.invoke(result, res);
-                    }
-                    else
-                    {
-                        m.invoke(result, Lists.fixedSize.of(res));
-                    }
-                }
-            });
-
+                Object res = reactivate(o._expression(), new PureMap(Maps.fixedSize.empty()), bridge, es);
+                MethodHandle setter = classCache.getIfAbsentPutPropertySetterHandle(c, (String) o._key()._values().getFirst());
+                setter.invokeExact((Object) result, (res instanceof RichIterable) ? res : (Object) Lists.fixedSize.of(res));
+            }
             return result;
         }
-        catch (RuntimeException e)
+        catch (RuntimeException | Error e)
         {
             throw e;
         }
-        catch (Exception e)
+        catch (Throwable e)
         {
             throw new RuntimeException(e);
         }
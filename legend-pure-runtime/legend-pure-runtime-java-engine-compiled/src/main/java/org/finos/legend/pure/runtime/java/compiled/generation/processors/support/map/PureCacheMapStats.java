@@ -16,11 +16,11 @@ package org.finos.legend.pure.runtime.java.compiled.generation.processors.suppor
 
 import com.google.common.cache.CacheStats;
 
-class PureCacheMapStats
+public class PureCacheMapStats
 {
     private CacheStats cacheStats;
 
-    PureCacheMapStats(CacheStats cacheStats)
+    public PureCacheMapStats(CacheStats cacheStats)
     {
         this.cacheStats = cacheStats;
     }
@@ -34,4 +34,9 @@ class PureCacheMapStats
     {
         return cacheStats.missCount();
     }
+
+    public long getEvictionCount()
+    {
+        return cacheStats.evictionCount();
+    }
 }
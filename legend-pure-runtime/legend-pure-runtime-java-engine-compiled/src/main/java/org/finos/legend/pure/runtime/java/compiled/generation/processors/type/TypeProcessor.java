@@ -14,7 +14,9 @@
 
 package org.finos.legend.pure.runtime.java.compiled.generation.processors.type;
 
+import org.eclipse.collections.api.factory.Sets;
 import org.eclipse.collections.api.list.ListIterable;
+import org.eclipse.collections.api.set.ImmutableSet;
 import org.eclipse.collections.impl.factory.Lists;
 import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.relation.GenericTypeOperation;
 import org.finos.legend.pure.m3.navigation.Instance;
@@ -33,6 +35,14 @@ import org.finos.legend.pure.runtime.java.compiled.generation.processors.type._c
 
 public class TypeProcessor
 {
+    private static final ImmutableSet<String> COL_SPEC_TYPES = Sets.immutable.with(
+            M3Paths.ColSpec,
+            M3Paths.ColSpecArray,
+            M3Paths.FuncColSpec,
+            M3Paths.FuncColSpecArray,
+            M3Paths.AggColSpec,
+            M3Paths.AggColSpecArray);
+
     public static String typeToJavaPrimitiveWithMul(CoreInstance genericType, CoreInstance multiplicity, boolean typeParameter, ProcessorContext processorContext)
     {
         if (Multiplicity.isToZeroOrOne(multiplicity))
@@ -134,12 +144,7 @@ public class TypeProcessor
                 "org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.relation.AggColSpec".equals(finalRawTypeSystemPath) ||
                 "org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.relation.AggColSpecArray".equals(finalRawTypeSystemPath))
         {
-            CoreInstance typeArg = genericType.getValueForMetaPropertyToMany("typeArguments").getLast();
-            if (typeArg != null)
-            {
-                typeArg.setKeyValues(Lists.mutable.with("rawType"), Lists.mutable.with(processorSupport.type_TopType()));
-                typeArg.setKeyValues(Lists.mutable.with("typeArguments"), Lists.mutable.empty());
-            }
+            setLastTypeArgumentToTopType(genericType, processorSupport);
         }
 
         return typeParam ? (finalRawTypeSystemPath + buildTypeArgumentsString(genericType, true, processorSupport)) : finalRawTypeSystemPath;
@@ -258,6 +263,30 @@ public class TypeProcessor
         return typeArgs.isEmpty() ? "" : "<" + (addExtends ? "? extends " : "") + typeArgs.collect(arg -> typeToJavaObjectSingle(arg, true, processorSupport)).makeString("," + (addExtends ? "? extends " : "")) + ">";
     }
 
+    /**
+     * Replace the last type argument of a ColSpec-like generic type with the top type, which is how these types are
+     * represented in Java. This modifies the graph: it is done when the type is processed, and when sources are
+     * generated in parallel, Generate applies it to every ColSpec-like generic type of a compile group beforehand (see
+     * {@link #isColSpecGenericType}).
+     */
+    public static void setLastTypeArgumentToTopType(CoreInstance genericType, ProcessorSupport processorSupport)
+    {
+        CoreInstance typeArg = genericType.getValueForMetaPropertyToMany("typeArguments").getLast();
+        CoreInstance topType = processorSupport.type_TopType();
+        // only write if needed: once set, other threads may be reading the type argument
+        if ((typeArg != null) && ((typeArg.getValueForMetaPropertyToOne("rawType") != topType) || typeArg.getValueForMetaPropertyToMany("typeArguments").notEmpty()))
+        {
+            typeArg.setKeyValues(Lists.mutable.with("rawType"), Lists.mutable.with(topType));
+            typeArg.setKeyValues(Lists.mutable.with("typeArguments"), Lists.mutable.empty());
+        }
+    }
+
+    public static boolean isColSpecGenericType(CoreInstance genericType, ProcessorSupport processorSupport)
+    {
+        CoreInstance rawType = Instance.getValueForMetaPropertyToOneResolved(genericType, M3Properties.rawType, processorSupport);
+        return (rawType != null) && COL_SPEC_TYPES.contains(PackageableElement.getUserPathForPackageableElement(rawType));
+    }
+
     public static boolean isJavaPrimitivePossible(CoreInstance genericType, ProcessorSupport processorSupport)
     {
         CoreInstance rawType = Instance.getValueForMetaPropertyToOneResolved(genericType, M3Properties.rawType, processorSupport);
@@ -22,6 +22,8 @@ import org.finos.legend.pure.m3.navigation.PackageableElement.PackageableElement
 import org.finos.legend.pure.m3.navigation.ProcessorSupport;
 import org.finos.legend.pure.runtime.java.compiled.generation.JavaPackageAndImportBuilder;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.util.Objects;
@@ -32,6 +34,7 @@ import java.util.Objects;
 public class ClassCache
 {
     private final ConcurrentMutableMap<Type, TypeJavaInfo> typeToAttributes = ConcurrentHashMap.newMap();
+    private final ConcurrentMutableMap<Class<?>, JavaClassHandles> javaClassHandles = ConcurrentHashMap.newMap();
     private final ClassLoader classLoader;
     private final ProcessorSupport processorSupport;
 
@@ -107,6 +110,31 @@ public class ClassCache
         return java.getSetterMethodForProperty(propertyName);
     }
 
+    /**
+     * Get a handle for the getter method of a property on a Java class, with type (Object)Object.
+     */
+    public MethodHandle getIfAbsentPutPropertyGetterHandle(Class<?> javaClass, String propertyName)
+    {
+        return getJavaClassHandles(javaClass).getGetterHandleForProperty(propertyName);
+    }
+
+    /**
+     * Get a handle for the setter method of a property on a Java class, with type (Object, Object)void. The second
+     * argument must be a RichIterable of values.
+     */
+    public MethodHandle getIfAbsentPutPropertySetterHandle(Class<?> javaClass, String propertyName)
+    {
+        return getJavaClassHandles(javaClass).getSetterHandleForProperty(propertyName);
+    }
+
+    /**
+     * Get a handle for the constructor of a Java class which takes the instance name, with type (Object)Object.
+     */
+    public MethodHandle getIfAbsentPutConstructorHandle(Class<?> javaClass)
+    {
+        return getJavaClassHandles(javaClass).getConstructorHandle();
+    }
+
     public void remove(Type type)
     {
         if (type != null)
@@ -120,6 +148,11 @@ public class ClassCache
         return this.typeToAttributes.getIfAbsentPutWithKey(Objects.requireNonNull(type, "Null type"), this::buildJavaInfo);
     }
 
+    private JavaClassHandles getJavaClassHandles(Class<?> javaClass)
+    {
+        return this.javaClassHandles.getIfAbsentPutWithKey(Objects.requireNonNull(javaClass, "Null Java class"), JavaClassHandles::new);
+    }
+
     private TypeJavaInfo buildJavaInfo(Type type)
     {
         Class<?> interfaceClass = getJavaInterfaceForPureType(type);
@@ -236,4 +269,70 @@ public class ClassCache
             }
         }
     }
+
+    private static class JavaClassHandles
+    {
+        private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+        private final Class<?> javaClass;
+        private final ConcurrentMutableMap<String, MethodHandle> getterHandles = ConcurrentHashMap.newMap();
+        private final ConcurrentMutableMap<String, MethodHandle> setterHandles = ConcurrentHashMap.newMap();
+        private volatile MethodHandle constructorHandle;
+
+        private JavaClassHandles(Class<?> javaClass)
+        {
+            this.javaClass = javaClass;
+        }
+
+        MethodHandle getGetterHandleForProperty(String propertyName)
+        {
+            return this.getterHandles.getIfAbsentPutWithKey(Objects.requireNonNull(propertyName, "Null property name"), this::findGetterHandle);
+        }
+
+        MethodHandle getSetterHandleForProperty(String propertyName)
+        {
+            return this.setterHandles.getIfAbsentPutWithKey(Objects.requireNonNull(propertyName, "Null property name"), this::findSetterHandle);
+        }
+
+        MethodHandle getConstructorHandle()
+        {
+            MethodHandle handle = this.constructorHandle;
+            if (handle == null)
+            {
+                try
+                {
+                    this.constructorHandle = handle = JavaMethodHandles.unreflectConstructor(this.javaClass.getConstructor(String.class));
+                }
+                catch (ReflectiveOperationException e)
+                {
+                    throw new RuntimeException("Could not find constructor for " + this.javaClass.getName(), e);
+                }
+            }
+            return handle;
+        }
+
+        private MethodHandle findGetterHandle(String propertyName)
+        {
+            try
+            {
+                return JavaMethodHandles.unreflect(this.javaClass.getMethod("_" + propertyName));
+            }
+            catch (ReflectiveOperationException e)
+            {
+                throw new RuntimeException("Could not find getter method for property '" + propertyName + "' on " + this.javaClass.getName(), e);
+            }
+        }
+
+        private MethodHandle findSetterHandle(String propertyName)
+        {
+            try
+            {
+                return JavaMethodHandles.unreflect(this.javaClass.getMethod("_" + propertyName, RichIterable.class)).asType(SETTER_TYPE);
+            }
+            catch (ReflectiveOperationException e)
+            {
+                throw new RuntimeException("Could not find setter method for property '" + propertyName + "' on " + this.javaClass.getName(), e);
+            }
+        }
+    }
 }
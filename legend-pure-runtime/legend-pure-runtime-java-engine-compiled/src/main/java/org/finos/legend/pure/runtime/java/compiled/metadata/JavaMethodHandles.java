@@ -0,0 +1,68 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.runtime.java.compiled.metadata;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * Utilities for building method handles for generated Java methods. The handles are adapted to generic (all Object)
+ * types so that callers can use {@link MethodHandle#invokeExact} without knowing the method's signature. Primitive
+ * parameters and return values are unboxed and boxed by the adaptation.
+ */
+final class JavaMethodHandles
+{
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.publicLookup();
+
+    private JavaMethodHandles()
+    {
+    }
+
+    /**
+     * Get a handle for a method, with type (Object, ...)Object. For an instance method, the first parameter is the
+     * receiver.
+     */
+    static MethodHandle unreflect(Method method) throws IllegalAccessException
+    {
+        MethodHandle handle = LOOKUP.unreflect(method);
+        return handle.asType(MethodType.genericMethodType(handle.type().parameterCount()));
+    }
+
+    /**
+     * Get a handle for a static method which takes its arguments as an array, with type (Object[])Object.
+     */
+    static MethodHandle unreflectSpreader(Method method) throws IllegalAccessException
+    {
+        if (!Modifier.isStatic(method.getModifiers()))
+        {
+            throw new IllegalArgumentException("Not a static method: " + method);
+        }
+        MethodHandle handle = unreflect(method);
+        return handle.asSpreader(Object[].class, handle.type().parameterCount());
+    }
+
+    /**
+     * Get a handle for a constructor, with type (Object, ...)Object.
+     */
+    static MethodHandle unreflectConstructor(Constructor<?> constructor) throws IllegalAccessException
+    {
+        MethodHandle handle = LOOKUP.unreflectConstructor(constructor);
+        return handle.asType(MethodType.genericMethodType(handle.type().parameterCount()));
+    }
+}
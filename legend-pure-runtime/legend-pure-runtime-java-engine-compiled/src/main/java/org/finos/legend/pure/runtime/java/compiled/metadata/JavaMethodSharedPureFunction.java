@@ -25,17 +25,30 @@ import org.finos.legend.pure.runtime.java.compiled.execution.CompiledExecutionSu
 import org.finos.legend.pure.runtime.java.compiled.generation.processors.support.CompiledSupport;
 import org.finos.legend.pure.runtime.java.compiled.generation.processors.support.function.SharedPureFunction;
 
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Method;
 
+/**
+ * Shared Pure function for a property getter. The getter is invoked through a method handle rather than by
+ * reflection.
+ */
 public final class JavaMethodSharedPureFunction<R> implements SharedPureFunction<R>
 {
-    private final Method propertyMethod;
+    private final Class<?> declaringClass;
+    private final MethodHandle propertyMethodHandle;
     private final SourceInformation sourceInformation;
 
     JavaMethodSharedPureFunction(Method propertyMethod, SourceInformation sourceInformation)
     {
-        this.propertyMethod = propertyMethod;
+        this.declaringClass = propertyMethod.getDeclaringClass();
+        try
+        {
+            this.propertyMethodHandle = JavaMethodHandles.unreflect(propertyMethod);
+        }
+        catch (IllegalAccessException e)
+        {
+            throw new PureExecutionException(sourceInformation, "Failed to access java method " + propertyMethod, e, Stacks.mutable.empty());
+        }
         this.sourceInformation = sourceInformation;
     }
 
@@ -43,15 +56,16 @@ public final class JavaMethodSharedPureFunction<R> implements SharedPureFunction
     @SuppressWarnings("unchecked")
     public R execute(ListIterable<?> vars, ExecutionSupport es)
     {
-        try
+        Object instance = vars.get(0);
+        if ((instance != null) && !this.declaringClass.isInstance(instance))
         {
-            return (R) this.propertyMethod.invoke(vars.get(0));
+            throw new PureExecutionException(this.sourceInformation, "Error during dynamic function evaluation. The type " + ((CompiledExecutionSupport) es).getProcessorSupport().getClassifier((CoreInstance) instance).getName() + " is not compatible with the type " + CompiledSupport.getPureClassName(this.declaringClass), Stacks.mutable.empty());
         }
-        catch (IllegalArgumentException e)
+        try
         {
-            throw new PureExecutionException(this.sourceInformation, "Error during dynamic function evaluation. The type " + ((CompiledExecutionSupport) es).getProcessorSupport().getClassifier((CoreInstance) vars.get(0)).getName() + " is not compatible with the type " + CompiledSupport.getPureClassName(this.propertyMethod.getDeclaringClass()), e, Stacks.mutable.empty());
+            return (R) (Object) this.propertyMethodHandle.invokeExact(instance);
         }
-        catch (Exception e)
+        catch (Throwable e)
         {
             PureException pureException = PureException.findPureException(e);
             if (pureException != null)
@@ -63,7 +77,7 @@ public final class JavaMethodSharedPureFunction<R> implements SharedPureFunction
             {
                 vars.asLazy().reject(v -> v instanceof ExecutionSupport).appendString(builder, " with params [", ", ", "]");
             }
-            throw new PureExecutionException(this.sourceInformation, builder.toString(), (e instanceof InvocationTargetException) ? e.getCause() : e, Stacks.mutable.empty());
+            throw new PureExecutionException(this.sourceInformation, builder.toString(), e, Stacks.mutable.empty());
         }
     }
 }
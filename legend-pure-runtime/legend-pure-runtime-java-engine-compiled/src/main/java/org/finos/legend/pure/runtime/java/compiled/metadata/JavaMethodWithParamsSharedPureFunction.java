@@ -23,21 +23,33 @@ import org.finos.legend.pure.m4.exception.PureException;
 import org.finos.legend.pure.runtime.java.compiled.generation.processors.support.CompiledSupport;
 import org.finos.legend.pure.runtime.java.compiled.generation.processors.support.function.SharedPureFunction;
 
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 
+/**
+ * Shared Pure function for a static Java method, such as the method generated for a concrete function definition. The
+ * method is invoked through a method handle rather than by reflection.
+ */
 public final class JavaMethodWithParamsSharedPureFunction<R> implements SharedPureFunction<R>
 {
-    private final Method method;
+    private final MethodHandle methodHandle;
     private final Class<?>[] paramClasses;
     private final SourceInformation sourceInformation;
     private final boolean appendExecutionSupportParameter;
 
     public JavaMethodWithParamsSharedPureFunction(Method method, Class<?>[] paramClasses, SourceInformation sourceInformation)
     {
-        this.method = method;
         this.paramClasses = paramClasses;
         this.sourceInformation = sourceInformation;
+        try
+        {
+            this.methodHandle = JavaMethodHandles.unreflectSpreader(method);
+        }
+        catch (IllegalAccessException e)
+        {
+            throw new PureExecutionException(sourceInformation, "Failed to invoke java function.", e, Stacks.mutable.empty());
+        }
         this.appendExecutionSupportParameter = (this.paramClasses.length > 0 && (this.paramClasses[paramClasses.length - 1] == ExecutionSupport.class));
     }
 
@@ -50,41 +62,49 @@ public final class JavaMethodWithParamsSharedPureFunction<R> implements SharedPu
     @SuppressWarnings("unchecked")
     public R execute(ListIterable<?> vars, ExecutionSupport es)
     {
+        Object[] args = getMethodArgs(vars, es);
         try
         {
-            return (R) this.method.invoke(null, getMethodArgs(vars, es));
+            return (R) (Object) this.methodHandle.invokeExact(args);
         }
-        catch (IllegalArgumentException e)
+        catch (ClassCastException | IllegalArgumentException | NullPointerException e)
         {
+            // the arguments may not match the parameter types, or the error may come from the function itself
             vars.forEachWithIndex((var, i) ->
             {
-                if (!this.paramClasses[i].isInstance(var))
+                if ((var != null) && !this.paramClasses[i].isInstance(var) && !isBoxedInstance(this.paramClasses[i], var))
                 {
                     String argumentType = CompiledSupport.getPureClassName(var);
                     String paramType = CompiledSupport.getPureClassName(this.paramClasses[i]);
                     throw new PureExecutionException(this.sourceInformation, "Error during dynamic function evaluation. The type " + argumentType + " is not compatible with the type " + paramType, e, Stacks.mutable.empty());
                 }
             });
-            throw e;
+            throw handleException(vars, e);
         }
-        catch (IllegalAccessException e)
+        catch (Throwable e)
         {
-            throw new PureExecutionException(this.sourceInformation, "Failed to invoke java function.", e, Stacks.mutable.empty());
+            throw handleException(vars, e);
         }
-        catch (Exception e)
+    }
+
+    private RuntimeException handleException(ListIterable<?> vars, Throwable e)
+    {
+        PureException pureException = PureException.findPureException(e);
+        if (pureException != null)
         {
-            PureException pureException = PureException.findPureException(e);
-            if (pureException != null)
-            {
-                throw pureException;
-            }
-            StringBuilder builder = new StringBuilder("Unexpected error executing function");
-            if (vars.notEmpty() && vars.anySatisfy(v -> !(v instanceof ExecutionSupport)))
-            {
-                vars.asLazy().reject(v -> v instanceof ExecutionSupport).appendString(builder, " with params [", ", ", "]");
-            }
-            throw new PureExecutionException(this.sourceInformation, builder.toString(), (e instanceof InvocationTargetException) ? e.getCause() : e, Stacks.mutable.empty());
+            return pureException;
+        }
+        StringBuilder builder = new StringBuilder("Unexpected error executing function");
+        if (vars.notEmpty() && vars.anySatisfy(v -> !(v instanceof ExecutionSupport)))
+        {
+            vars.asLazy().reject(v -> v instanceof ExecutionSupport).appendString(builder, " with params [", ", ", "]");
         }
+        return new PureExecutionException(this.sourceInformation, builder.toString(), e, Stacks.mutable.empty());
+    }
+
+    private static boolean isBoxedInstance(Class<?> paramClass, Object value)
+    {
+        return paramClass.isPrimitive() && (MethodType.methodType(paramClass).wrap().returnType() == value.getClass());
     }
 
     private Object[] getMethodArgs(ListIterable<?> vars, ExecutionSupport es)
@@ -15,6 +15,7 @@
 package org.finos.legend.pure.runtime.java.compiled.metadata;
 
 import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.block.function.Function0;
 import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.factory.Maps;
 import org.eclipse.collections.api.factory.Sets;
@@ -26,8 +27,10 @@ import org.eclipse.collections.api.map.MutableMap;
 import org.eclipse.collections.api.set.MutableSet;
 import org.eclipse.collections.impl.Counter;
 import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+import org.eclipse.collections.impl.utility.Iterate;
 import org.finos.legend.pure.m4.coreinstance.CoreInstance;
 import org.finos.legend.pure.runtime.java.compiled.generation.JavaPackageAndImportBuilder;
+import org.finos.legend.pure.runtime.java.compiled.generation.processors.support.map.PureCacheMapStats;
 import org.finos.legend.pure.runtime.java.compiled.generation.processors.type.EnumProcessor;
 import org.finos.legend.pure.runtime.java.compiled.serialization.binary.DistributedBinaryGraphDeserializer;
 import org.finos.legend.pure.runtime.java.compiled.serialization.binary.DistributedMetadataSpecification;
@@ -35,6 +38,9 @@ import org.finos.legend.pure.runtime.java.compiled.serialization.model.EnumRef;
 import org.finos.legend.pure.runtime.java.compiled.serialization.model.Obj;
 import org.finos.legend.pure.runtime.java.compiled.serialization.model.ObjRef;
 import org.finos.legend.pure.runtime.java.compiled.serialization.model.Primitive;
+import org.finos.legend.pure.runtime.java.compiled.serialization.model.PropertyValueConsumer;
+import org.finos.legend.pure.runtime.java.compiled.serialization.model.PropertyValueMany;
+import org.finos.legend.pure.runtime.java.compiled.serialization.model.PropertyValueOne;
 import org.finos.legend.pure.runtime.java.compiled.serialization.model.RValue;
 import org.finos.legend.pure.runtime.java.compiled.serialization.model.RValueConsumer;
 import org.finos.legend.pure.runtime.java.compiled.serialization.model.RValueVisitor;
@@ -43,9 +49,14 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 public class MetadataLazy implements Metadata
 {
+    private static final int PREFETCH_BATCH_SIZE = 128;
+
     private final RValueVisitor<Object> valueToObjectVisitor = new RValueVisitor<Object>()
     {
         @Override
@@ -70,14 +81,40 @@ public class MetadataLazy implements Metadata
     private final ClassLoader classLoader;
     private final DistributedBinaryGraphDeserializer deserializer;
     private final ConcurrentMutableMap<String, Constructor<? extends CoreInstance>> constructors = ConcurrentHashMap.newMap();
-    private final ConcurrentMutableMap<String, ConcurrentMutableMap<String, CoreInstance>> instanceCache = ConcurrentHashMap.newMap();
+    private final MetadataLazyInstanceCache instanceCache;
+    private final Executor prefetchExecutor;
 
     private volatile Constructor<? extends CoreInstance> enumConstructor = null; //NOSONAR we actually want to protect the pointer
 
-    private MetadataLazy(ClassLoader classLoader, DistributedBinaryGraphDeserializer deserializer)
+    private MetadataLazy(ClassLoader classLoader, DistributedBinaryGraphDeserializer deserializer, MetadataLazyInstanceCache instanceCache, Executor prefetchExecutor)
     {
         this.classLoader = classLoader;
         this.deserializer = deserializer;
+        this.instanceCache = instanceCache;
+        this.prefetchExecutor = prefetchExecutor;
+    }
+
+    /**
+     * Statistics for the instance cache. These are only recorded if the cache is bounded (see
+     * {@link Builder#withMaximumCacheSize}); otherwise, this returns null.
+     * Each lookup of an individual instance counts as one hit or one miss; bulk loads of all instances of a classifier
+     * and prefetches are not counted.
+     *
+     * @return instance cache statistics or null
+     */
+    public PureCacheMapStats getCacheStats()
+    {
+        return this.instanceCache.getStats();
+    }
+
+    /**
+     * Number of instances currently in the instance cache.
+     *
+     * @return instance cache size
+     */
+    public long getCacheSize()
+    {
+        return this.instanceCache.size();
     }
 
     @Override
@@ -107,7 +144,7 @@ public class MetadataLazy implements Metadata
     @Override
     public MapIterable<String, CoreInstance> getMetadata(String classifier)
     {
-        return hasClassifier(classifier) ? loadAllClassifierInstances(classifier).asUnmodifiable() : Maps.fixedSize.empty();
+        return hasClassifier(classifier) ? loadAllClassifierInstances(classifier) : Maps.fixedSize.empty();
     }
 
     @Override
@@ -124,12 +161,11 @@ public class MetadataLazy implements Metadata
             throw new RuntimeException("Cannot find enum '" + enumName + "' in enumeration '" + enumerationName + "': unknown enumeration");
         }
 
-        ConcurrentMutableMap<String, CoreInstance> cache = getClassifierInstanceCache(enumerationName);
-        CoreInstance result = cache.get(enumName);
+        CoreInstance result = this.instanceCache.get(enumerationName, enumName);
         if (result == null)
         {
             //might not have loaded yet, so request full load and try again:
-            loadAllClassifierInstances(enumerationName);
+            MapIterable<String, CoreInstance> cache = loadAllClassifierInstances(enumerationName);
             result = cache.get(enumName);
             if (result == null)
             {
@@ -192,33 +228,26 @@ public class MetadataLazy implements Metadata
         }
 
         MutableMap<ObjRef, CoreInstance> objectByRef = Maps.mutable.withInitialCapacity(objRefCounter.getCount());
+        MutableMap<String, MutableList<String>> idsToDeserialize = Maps.mutable.empty();
         objRefsByClassifier.forEachKeyValue((classifier, objRefs) ->
         {
-            MutableList<String> idsToDeserialize = Lists.mutable.withInitialCapacity(objRefs.size());
-            ConcurrentMutableMap<String, CoreInstance> classifierCache = getClassifierInstanceCache(classifier);
             objRefs.forEach(objRef ->
             {
-                String id = objRef.getId();
-                CoreInstance cachedInstance = classifierCache.get(id);
+                CoreInstance cachedInstance = this.instanceCache.get(classifier, objRef.getId());
                 if (cachedInstance == null)
                 {
-                    idsToDeserialize.add(id);
+                    idsToDeserialize.getIfAbsentPut(classifier, Lists.mutable::empty).add(objRef.getId());
                 }
                 else
                 {
                     objectByRef.put(objRef, cachedInstance);
                 }
             });
-            if (idsToDeserialize.notEmpty())
-            {
-                ListIterable<Obj> deserialized = getInstances(classifier, idsToDeserialize);
-                deserialized.forEach(obj ->
-                {
-                    CoreInstance cachedInstance = classifierCache.getIfAbsentPut(obj.getIdentifier(), () -> newInstance(classifier, obj));
-                    objectByRef.put(new ObjRef(obj.getClassifier(), obj.getIdentifier()), cachedInstance);
-                });
-            }
         });
+        if (idsToDeserialize.notEmpty())
+        {
+            objectByRef.putAll(decodeAndCache(idsToDeserialize, true).instances);
+        }
         return values.collectWith(RValue::visit, new RValueVisitor<Object>()
         {
             @Override
@@ -241,6 +270,160 @@ public class MetadataLazy implements Metadata
         });
     }
 
+    /**
+     * Decode the given instances of a classifier ahead of use and add them to the instance cache. Instances which are
+     * already cached are skipped, as are unknown instances. Decoding is done in batches on the prefetch executor (if
+     * there is one) and this method returns once all instances are cached.
+     *
+     * @param classifier  classifier path
+     * @param instanceIds instance ids
+     * @return number of instances added to the cache
+     */
+    public int prefetch(String classifier, Iterable<String> instanceIds)
+    {
+        if (!hasClassifier(classifier))
+        {
+            return 0;
+        }
+        MutableList<String> notLoadedIds = Iterate.reject(instanceIds, id -> this.instanceCache.contains(classifier, id), Lists.mutable.empty());
+        return notLoadedIds.isEmpty() ? 0 : decodeAndCache(Maps.mutable.with(classifier, notLoadedIds), false).added;
+    }
+
+    /**
+     * Decode an instance and the instances it references, up to the given depth, and add them to the instance cache.
+     * A depth of 0 prefetches only the root instance, a depth of 1 also prefetches the instances it directly
+     * references, and so on. Each level is decoded in batches on the prefetch executor (if there is one).
+     *
+     * @param classifier classifier path of the root instance
+     * @param id         id of the root instance
+     * @param depth      maximum reference depth to prefetch
+     * @return number of instances added to the cache
+     */
+    public int prefetchTransitive(String classifier, String id, int depth)
+    {
+        if (depth < 0)
+        {
+            throw new IllegalArgumentException("Invalid depth: " + depth);
+        }
+        if (!hasClassifier(classifier))
+        {
+            return 0;
+        }
+
+        MutableSet<ObjRef> visited = Sets.mutable.with(new ObjRef(classifier, id));
+        MutableMap<String, MutableList<String>> idsByClassifier = Maps.mutable.with(classifier, Lists.mutable.with(id));
+        int count = 0;
+        for (int level = 0; idsByClassifier.notEmpty(); level++)
+        {
+            if (level == depth)
+            {
+                // nothing further to traverse, so cached instances need not be decoded again
+                idsByClassifier.forEachKeyValue((c, ids) -> ids.removeIf(i -> this.instanceCache.contains(c, i)));
+                idsByClassifier.removeIf((c, ids) -> ids.isEmpty());
+                return count + (idsByClassifier.isEmpty() ? 0 : decodeAndCache(idsByClassifier, false).added);
+            }
+
+            DecodeResult result = decodeAndCache(idsByClassifier, false);
+            count += result.added;
+            MutableMap<String, MutableList<String>> next = Maps.mutable.empty();
+            RValueConsumer refCollector = new RValueConsumer()
+            {
+                @Override
+                protected void accept(Primitive primitive)
+                {
+                }
+
+                @Override
+                protected void accept(ObjRef objRef)
+                {
+                    if (hasClassifier(objRef.getClassifierId()) && visited.add(objRef))
+                    {
+                        next.getIfAbsentPut(objRef.getClassifierId(), Lists.mutable::empty).add(objRef.getId());
+                    }
+                }
+
+                @Override
+                protected void accept(EnumRef enumRef)
+                {
+                }
+            };
+            result.objs.forEach(obj -> obj.getPropertyValues().forEach(new PropertyValueConsumer()
+            {
+                @Override
+                protected void accept(PropertyValueMany many)
+                {
+                    many.getValues().forEach(refCollector);
+                }
+
+                @Override
+                protected void accept(PropertyValueOne one)
+                {
+                    refCollector.accept(one.getValue());
+                }
+            }));
+            idsByClassifier = next;
+        }
+        return count;
+    }
+
+    /**
+     * Decode the given instances and add any which are not yet cached to the instance cache. Large requests are split
+     * into batches which are decoded concurrently on the prefetch executor, if there is one.
+     */
+    private DecodeResult decodeAndCache(MapIterable<String, ? extends MutableList<String>> idsByClassifier, boolean throwIfNotFound)
+    {
+        MutableList<Function0<DecodeResult>> batches = Lists.mutable.empty();
+        idsByClassifier.forEachKeyValue((classifier, ids) ->
+        {
+            int batchSize = (this.prefetchExecutor == null) ? ids.size() : PREFETCH_BATCH_SIZE;
+            for (int start = 0; start < ids.size(); start += batchSize)
+            {
+                ListIterable<String> batchIds = ids.subList(start, Math.min(start + batchSize, ids.size()));
+                batches.add(() -> decodeAndCache(classifier, batchIds, throwIfNotFound));
+            }
+        });
+
+        if ((this.prefetchExecutor == null) || (batches.size() == 1))
+        {
+            return batches.injectInto(new DecodeResult(), (result, batch) -> result.addAll(batch.value()));
+        }
+
+        MutableList<CompletableFuture<DecodeResult>> futures = batches.collect(batch -> CompletableFuture.supplyAsync(batch::value, this.prefetchExecutor));
+        try
+        {
+            return futures.injectInto(new DecodeResult(), (result, future) -> result.addAll(future.join()));
+        }
+        catch (CompletionException e)
+        {
+            Throwable cause = e.getCause();
+            throw (cause instanceof RuntimeException) ? (RuntimeException) cause : e;
+        }
+    }
+
+    private DecodeResult decodeAndCache(String classifier, ListIterable<String> instanceIds, boolean throwIfNotFound)
+    {
+        DecodeResult result = new DecodeResult();
+        ListIterable<Obj> objs = throwIfNotFound ? getInstances(classifier, instanceIds) : getInstancesIfPresent(classifier, instanceIds);
+        objs.forEach(obj ->
+        {
+            String id = obj.getIdentifier();
+            CoreInstance instance = this.instanceCache.peek(classifier, id);
+            if (instance == null)
+            {
+                CoreInstance newInstance = newInstance(classifier, obj);
+                instance = this.instanceCache.putIfAbsent(classifier, id, newInstance);
+                if (instance == null)
+                {
+                    instance = newInstance;
+                    result.added++;
+                }
+            }
+            result.objs.add(obj);
+            result.instances.put(new ObjRef(classifier, id), instance);
+        });
+        return result;
+    }
+
     private boolean hasClassifier(String classifier)
     {
         return this.deserializer.hasClassifier(classifier);
@@ -261,30 +444,45 @@ public class MetadataLazy implements Metadata
         return this.deserializer.getInstances(classifier, instanceIds);
     }
 
-    private ConcurrentMutableMap<String, CoreInstance> loadAllClassifierInstances(String classifier)
+    private ListIterable<Obj> getInstancesIfPresent(String classifier, Iterable<String> instanceIds)
+    {
+        return this.deserializer.getInstancesIfPresent(classifier, instanceIds);
+    }
+
+    private MapIterable<String, CoreInstance> loadAllClassifierInstances(String classifier)
     {
         RichIterable<String> instanceIds = getClassifierInstanceIds(classifier);
-        ConcurrentMutableMap<String, CoreInstance> classifierCache = getClassifierInstanceCache(classifier);
-        if (classifierCache.size() < instanceIds.size())
+        MapIterable<String, CoreInstance> cached = this.instanceCache.getAllIfComplete(classifier, instanceIds.size());
+        if (cached != null)
         {
-            MutableList<String> notLoadedIds = instanceIds.reject(classifierCache::containsKey, Lists.mutable.empty());
-            if (notLoadedIds.notEmpty())
+            return cached;
+        }
+
+        MutableMap<String, CoreInstance> result = Maps.mutable.withInitialCapacity(instanceIds.size());
+        MutableList<String> notLoadedIds = Lists.mutable.empty();
+        instanceIds.forEach(id ->
+        {
+            CoreInstance instance = this.instanceCache.peek(classifier, id);
+            if (instance == null)
+            {
+                notLoadedIds.add(id);
+            }
+            else
             {
-                ListIterable<Obj> objs = getInstances(classifier, notLoadedIds);
-                objs.forEach(obj -> classifierCache.getIfAbsentPut(obj.getIdentifier(), () -> newInstance(classifier, obj)));
+                result.put(id, instance);
             }
+        });
+        if (notLoadedIds.notEmpty())
+        {
+            decodeAndCache(Maps.mutable.with(classifier, notLoadedIds), true).instances.forEachKeyValue((ref, instance) -> result.put(ref.getId(), instance));
         }
-        return classifierCache;
+        cached = this.instanceCache.getAllIfComplete(classifier, instanceIds.size());
+        return (cached == null) ? result.asUnmodifiable() : cached;
     }
 
     private CoreInstance toJavaObject(String classifier, String id)
     {
-        return getClassifierInstanceCache(classifier).getIfAbsentPut(id, () -> newInstance(classifier, id));
-    }
-
-    private ConcurrentMutableMap<String, CoreInstance> getClassifierInstanceCache(String classifier)
-    {
-        return this.instanceCache.getIfAbsentPut(classifier, ConcurrentHashMap::newMap);
+        return this.instanceCache.getIfAbsentPut(classifier, id, () -> newInstance(classifier, id));
     }
 
     private CoreInstance newInstance(String classifier, String id)
@@ -370,7 +568,27 @@ public class MetadataLazy implements Metadata
     {
         Objects.requireNonNull(classLoader, "class loader may not be null");
         Objects.requireNonNull(deserializer, "deserializer may not be null");
-        return new MetadataLazy(classLoader, deserializer);
+        return new MetadataLazy(classLoader, deserializer, MetadataLazyInstanceCache.unbounded(), null);
+    }
+
+    /**
+     * Create lazy metadata which decodes large batches of instances concurrently on the given executor. This applies
+     * to {@link #prefetch}, {@link #prefetchTransitive}, and to loading all instances of a classifier.
+     *
+     * @param classLoader      class loader
+     * @param deserializer     metadata deserializer
+     * @param prefetchExecutor executor for decoding instances
+     * @return lazy metadata
+     */
+    public static MetadataLazy newMetadata(ClassLoader classLoader, DistributedBinaryGraphDeserializer deserializer, Executor prefetchExecutor)
+    {
+        Objects.requireNonNull(prefetchExecutor, "prefetch executor may not be null");
+        return newBuilder(classLoader, deserializer).withPrefetchExecutor(prefetchExecutor).build();
+    }
+
+    public static Builder newBuilder(ClassLoader classLoader, DistributedBinaryGraphDeserializer deserializer)
+    {
+        return new Builder(classLoader, deserializer);
     }
 
     public static MetadataLazy fromClassLoader(ClassLoader classLoader)
@@ -380,7 +598,7 @@ public class MetadataLazy implements Metadata
                 .withNoMetadataName()
                 .withObjValidation()
                 .build();
-        return new MetadataLazy(classLoader, deserializer);
+        return new MetadataLazy(classLoader, deserializer, MetadataLazyInstanceCache.unbounded(), null);
     }
 
     public static MetadataLazy fromClassLoader(ClassLoader classLoader, String metadataName)
@@ -407,6 +625,73 @@ public class MetadataLazy implements Metadata
         DistributedBinaryGraphDeserializer.Builder builder = DistributedBinaryGraphDeserializer.newBuilder(classLoader).withObjValidation();
         specs.forEach(spec -> builder.withMetadataName(spec.getName()));
         DistributedBinaryGraphDeserializer deserializer = builder.build();
-        return new MetadataLazy(classLoader, deserializer);
+        return new MetadataLazy(classLoader, deserializer, MetadataLazyInstanceCache.unbounded(), null);
+    }
+
+    public static class Builder
+    {
+        private final ClassLoader classLoader;
+        private final DistributedBinaryGraphDeserializer deserializer;
+        private Executor prefetchExecutor;
+        private long maximumCacheSize = -1;
+
+        private Builder(ClassLoader classLoader, DistributedBinaryGraphDeserializer deserializer)
+        {
+            this.classLoader = Objects.requireNonNull(classLoader, "class loader may not be null");
+            this.deserializer = Objects.requireNonNull(deserializer, "deserializer may not be null");
+        }
+
+        /**
+         * Decode large batches of instances concurrently on the given executor. If no executor is specified, instances
+         * are decoded on the calling thread.
+         *
+         * @param prefetchExecutor executor for decoding instances
+         * @return this builder
+         */
+        public Builder withPrefetchExecutor(Executor prefetchExecutor)
+        {
+            this.prefetchExecutor = prefetchExecutor;
+            return this;
+        }
+
+        /**
+         * Bound the number of instances held in the instance cache. When the bound is exceeded, the least recently
+         * used instances are evicted and will be recreated from the deserializer if requested again. Note that this
+         * means that the same instance may be represented by different objects over time. If no maximum is specified,
+         * the cache is unbounded.
+         *
+         * @param maximumCacheSize maximum number of cached instances
+         * @return this builder
+         */
+        public Builder withMaximumCacheSize(long maximumCacheSize)
+        {
+            if (maximumCacheSize <= 0)
+            {
+                throw new IllegalArgumentException("Invalid maximum cache size: " + maximumCacheSize);
+            }
+            this.maximumCacheSize = maximumCacheSize;
+            return this;
+        }
+
+        public MetadataLazy build()
+        {
+            MetadataLazyInstanceCache instanceCache = (this.maximumCacheSize > 0) ? MetadataLazyInstanceCache.bounded(this.maximumCacheSize) : MetadataLazyInstanceCache.unbounded();
+            return new MetadataLazy(this.classLoader, this.deserializer, instanceCache, this.prefetchExecutor);
+        }
+    }
+
+    private static class DecodeResult
+    {
+        private final MutableList<Obj> objs = Lists.mutable.empty();
+        private final MutableMap<ObjRef, CoreInstance> instances = Maps.mutable.empty();
+        private int added = 0;
+
+        private DecodeResult addAll(DecodeResult other)
+        {
+            this.objs.addAll(other.objs);
+            this.instances.putAll(other.instances);
+            this.added += other.added;
+            return this;
+        }
     }
 }
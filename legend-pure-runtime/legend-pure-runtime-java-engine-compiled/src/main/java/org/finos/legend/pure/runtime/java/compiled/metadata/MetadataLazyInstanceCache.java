@@ -0,0 +1,255 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.runtime.java.compiled.metadata;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalNotification;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import org.eclipse.collections.api.block.function.Function0;
+import org.eclipse.collections.api.map.ConcurrentMutableMap;
+import org.eclipse.collections.api.map.ImmutableMap;
+import org.eclipse.collections.api.map.MapIterable;
+import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+import org.finos.legend.pure.runtime.java.compiled.generation.processors.support.map.PureCacheMapStats;
+import org.finos.legend.pure.runtime.java.compiled.serialization.model.ObjRef;
+
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Cache of the instances created by {@link MetadataLazy}, keyed by classifier and id.
+ */
+abstract class MetadataLazyInstanceCache
+{
+    /**
+     * Look up a cached instance, recording a hit or a miss if the cache records statistics.
+     */
+    abstract CoreInstance get(String classifier, String id);
+
+    /**
+     * Look up a cached instance without recording a hit or a miss. This is for callers which have already looked the
+     * instance up, and for bulk loads, which are not counted.
+     */
+    abstract CoreInstance peek(String classifier, String id);
+
+    abstract boolean contains(String classifier, String id);
+
+    abstract CoreInstance getIfAbsentPut(String classifier, String id, Function0<? extends CoreInstance> function);
+
+    /**
+     * Add the instance if there is no instance cached for the classifier and id. Returns the previously cached
+     * instance, or null if the instance was added.
+     */
+    abstract CoreInstance putIfAbsent(String classifier, String id, CoreInstance instance);
+
+    /**
+     * Return all cached instances of the classifier, if the cache is guaranteed to hold all of them; otherwise, return
+     * null. The result is not changed by later evictions.
+     */
+    abstract MapIterable<String, CoreInstance> getAllIfComplete(String classifier, int instanceCount);
+
+    /**
+     * Cache statistics, or null if the cache does not record them.
+     */
+    abstract PureCacheMapStats getStats();
+
+    /**
+     * Number of cached instances.
+     */
+    abstract long size();
+
+    static MetadataLazyInstanceCache unbounded()
+    {
+        return new Unbounded();
+    }
+
+    static MetadataLazyInstanceCache bounded(long maximumSize)
+    {
+        if (maximumSize <= 0)
+        {
+            throw new IllegalArgumentException("Invalid maximum cache size: " + maximumSize);
+        }
+        return new Bounded(maximumSize);
+    }
+
+    private static class Unbounded extends MetadataLazyInstanceCache
+    {
+        private final ConcurrentMutableMap<String, ConcurrentMutableMap<String, CoreInstance>> cache = ConcurrentHashMap.newMap();
+
+        @Override
+        CoreInstance get(String classifier, String id)
+        {
+            return getClassifierCache(classifier).get(id);
+        }
+
+        @Override
+        CoreInstance peek(String classifier, String id)
+        {
+            return get(classifier, id);
+        }
+
+        @Override
+        boolean contains(String classifier, String id)
+        {
+            return getClassifierCache(classifier).containsKey(id);
+        }
+
+        @Override
+        CoreInstance getIfAbsentPut(String classifier, String id, Function0<? extends CoreInstance> function)
+        {
+            return getClassifierCache(classifier).getIfAbsentPut(id, function);
+        }
+
+        @Override
+        CoreInstance putIfAbsent(String classifier, String id, CoreInstance instance)
+        {
+            return getClassifierCache(classifier).putIfAbsent(id, instance);
+        }
+
+        @Override
+        MapIterable<String, CoreInstance> getAllIfComplete(String classifier, int instanceCount)
+        {
+            ConcurrentMutableMap<String, CoreInstance> classifierCache = getClassifierCache(classifier);
+            return (classifierCache.size() < instanceCount) ? null : classifierCache.asUnmodifiable();
+        }
+
+        @Override
+        PureCacheMapStats getStats()
+        {
+            return null;
+        }
+
+        @Override
+        long size()
+        {
+            return this.cache.sumOfInt(ConcurrentMutableMap::size);
+        }
+
+        private ConcurrentMutableMap<String, CoreInstance> getClassifierCache(String classifier)
+        {
+            return this.cache.getIfAbsentPut(classifier, ConcurrentHashMap::newMap);
+        }
+    }
+
+    private static class Bounded extends MetadataLazyInstanceCache
+    {
+        private final Cache<ObjRef, CoreInstance> cache;
+        // cached instances by classifier, maintained alongside the cache so that complete classifiers can be found
+        private final ConcurrentMutableMap<String, ConcurrentMutableMap<String, CoreInstance>> byClassifier = ConcurrentHashMap.newMap();
+
+        private Bounded(long maximumSize)
+        {
+            this.cache = CacheBuilder.newBuilder()
+                    .recordStats()
+                    .maximumSize(maximumSize)
+                    .removalListener((RemovalNotification<ObjRef, CoreInstance> notification) -> removed(notification.getKey(), notification.getValue()))
+                    .build();
+        }
+
+        @Override
+        CoreInstance get(String classifier, String id)
+        {
+            return this.cache.getIfPresent(new ObjRef(classifier, id));
+        }
+
+        @Override
+        CoreInstance peek(String classifier, String id)
+        {
+            // unlike getIfPresent, lookups through the map view do not record stats
+            return this.cache.asMap().get(new ObjRef(classifier, id));
+        }
+
+        @Override
+        boolean contains(String classifier, String id)
+        {
+            return this.cache.asMap().containsKey(new ObjRef(classifier, id));
+        }
+
+        @Override
+        CoreInstance getIfAbsentPut(String classifier, String id, Function0<? extends CoreInstance> function)
+        {
+            ObjRef key = new ObjRef(classifier, id);
+            CoreInstance instance;
+            try
+            {
+                instance = this.cache.get(key, function::value);
+            }
+            catch (ExecutionException | UncheckedExecutionException e)
+            {
+                Throwable cause = e.getCause();
+                throw (cause instanceof RuntimeException) ? (RuntimeException) cause : new RuntimeException(cause);
+            }
+            added(key, instance);
+            return instance;
+        }
+
+        @Override
+        CoreInstance putIfAbsent(String classifier, String id, CoreInstance instance)
+        {
+            ObjRef key = new ObjRef(classifier, id);
+            CoreInstance existing = this.cache.asMap().putIfAbsent(key, instance);
+            if (existing == null)
+            {
+                added(key, instance);
+            }
+            return existing;
+        }
+
+        @Override
+        MapIterable<String, CoreInstance> getAllIfComplete(String classifier, int instanceCount)
+        {
+            ConcurrentMutableMap<String, CoreInstance> classifierCache = this.byClassifier.get(classifier);
+            if (classifierCache == null)
+            {
+                return null;
+            }
+            // eviction removes instances from the classifier cache, so callers get a snapshot rather than a view
+            ImmutableMap<String, CoreInstance> snapshot = classifierCache.toImmutable();
+            return (snapshot.size() < instanceCount) ? null : snapshot;
+        }
+
+        @Override
+        PureCacheMapStats getStats()
+        {
+            return new PureCacheMapStats(this.cache.stats());
+        }
+
+        @Override
+        long size()
+        {
+            return this.cache.size();
+        }
+
+        private void added(ObjRef key, CoreInstance instance)
+        {
+            this.byClassifier.getIfAbsentPut(key.getClassifierId(), ConcurrentHashMap::newMap).put(key.getId(), instance);
+            if (this.cache.asMap().get(key) != instance)
+            {
+                // evicted before it was recorded, so the removal listener may already have run
+                removed(key, instance);
+            }
+        }
+
+        private void removed(ObjRef key, CoreInstance instance)
+        {
+            ConcurrentMutableMap<String, CoreInstance> classifierCache = this.byClassifier.get(key.getClassifierId());
+            if (classifierCache != null)
+            {
+                classifierCache.remove(key.getId(), instance);
+            }
+        }
+    }
+}
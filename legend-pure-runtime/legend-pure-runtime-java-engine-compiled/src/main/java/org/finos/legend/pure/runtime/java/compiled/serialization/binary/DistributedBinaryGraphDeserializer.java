@@ -37,6 +37,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.BiFunction;
 import java.util.zip.ZipFile;
 
 public abstract class DistributedBinaryGraphDeserializer
@@ -197,6 +198,7 @@ public abstract class DistributedBinaryGraphDeserializer
         private final FileReader fileReader;
         private boolean validateObjs = true;
         private MutableSet<String> metadataNames = null;
+        private BiFunction<String, FileReader, StringIndex> stringIndexFactory = LazyStringIndex::fromFileReader;
 
         private Builder(FileReader fileReader)
         {
@@ -219,6 +221,24 @@ public abstract class DistributedBinaryGraphDeserializer
             return withObjValidation(false);
         }
 
+        /**
+         * Leave metadata strings in the metadata files rather than loading them onto the heap, optionally keeping a
+         * small cache of recently used strings. This requires a file reader which supports random access, such as
+         * {@link FileReaders#fromMappedDirectory}. See {@link MappedStringIndex}.
+         *
+         * @param hotStringCacheSize size of the hot string cache: 0 or a power of 2
+         * @return this builder
+         */
+        public Builder withMappedStringIndex(int hotStringCacheSize)
+        {
+            if (!this.fileReader.supportsRandomAccess())
+            {
+                throw new IllegalStateException("Mapped string index requires a file reader which supports random access");
+            }
+            this.stringIndexFactory = (metadataName, reader) -> MappedStringIndex.fromFileReader(metadataName, reader, hotStringCacheSize);
+            return this;
+        }
+
         public Builder withNoMetadataName()
         {
             this.metadataNames = null;
@@ -268,7 +288,7 @@ public abstract class DistributedBinaryGraphDeserializer
         {
             if (this.metadataNames == null)
             {
-                return new Single(this.fileReader, null, this.validateObjs);
+                return new Single(this.fileReader, null, this.stringIndexFactory, this.validateObjs);
             }
             switch (this.metadataNames.size())
             {
@@ -278,11 +298,11 @@ public abstract class DistributedBinaryGraphDeserializer
                 }
                 case 1:
                 {
-                    return new Single(this.fileReader, this.metadataNames.getAny(), this.validateObjs);
+                    return new Single(this.fileReader, this.metadataNames.getAny(), this.stringIndexFactory, this.validateObjs);
                 }
                 default:
                 {
-                    return new Many(this.fileReader, this.metadataNames, this.validateObjs);
+                    return new Many(this.fileReader, this.metadataNames, this.stringIndexFactory, this.validateObjs);
                 }
             }
         }
@@ -310,7 +330,10 @@ public abstract class DistributedBinaryGraphDeserializer
 
         private Obj getObj(FileReader fileReader, StringIndex stringIndex, String classifierId)
         {
-            return getObj(getBytes(fileReader), stringIndex, classifierId);
+            try (Reader reader = fileReader.getReader(this.filePath, this.offset, this.length))
+            {
+                return getDeserializer(stringIndex, classifierId).deserialize(reader);
+            }
         }
 
         private Obj getObj(Reader reader, long currentOffset, StringIndex stringIndex, String classifierId)
@@ -331,15 +354,6 @@ public abstract class DistributedBinaryGraphDeserializer
             return new BinaryObjDeserializerWithStringIndexAndImplicitIdentifiers(stringIndex, this.identifier, classifierId);
         }
 
-        private byte[] getBytes(FileReader fileReader)
-        {
-            try (Reader reader = fileReader.getReader(this.filePath))
-            {
-                reader.skipBytes(this.offset);
-                return reader.readBytes(this.length);
-            }
-        }
-
         private byte[] getBytes(Reader reader, long currentOffset)
         {
             if (this.offset < currentOffset)
@@ -412,15 +426,15 @@ public abstract class DistributedBinaryGraphDeserializer
     {
         private final String metadataName;
         private final FileReader fileReader;
-        private final LazyStringIndex stringIndex;
+        private final StringIndex stringIndex;
         private final ImmutableMap<String, ClassifierIndex> classifierIndexes;
         private final boolean validateObjs;
 
-        private Single(FileReader fileReader, String metadataName, boolean validateObjs)
+        private Single(FileReader fileReader, String metadataName, BiFunction<String, FileReader, StringIndex> stringIndexFactory, boolean validateObjs)
         {
             this.metadataName = DistributedMetadataHelper.validateMetadataNameIfPresent(metadataName);
             this.fileReader = fileReader;
-            this.stringIndex = LazyStringIndex.fromFileReader(this.metadataName, fileReader);
+            this.stringIndex = stringIndexFactory.apply(this.metadataName, fileReader);
             RichIterable<String> classifierIds = this.stringIndex.getClassifierIds();
             this.classifierIndexes = classifierIds.toMap(id -> id, ClassifierIndex::new, Maps.mutable.withInitialCapacity(classifierIds.size())).toImmutable();
             this.validateObjs = validateObjs;
@@ -428,7 +442,7 @@ public abstract class DistributedBinaryGraphDeserializer
 
         private Single(FileReader fileReader, boolean validateObjs)
         {
-            this(fileReader, null, validateObjs);
+            this(fileReader, null, LazyStringIndex::fromFileReader, validateObjs);
         }
 
         @Override
@@ -515,6 +529,13 @@ public abstract class DistributedBinaryGraphDeserializer
             }
 
             MutableList<Obj> objs = Lists.mutable.withInitialCapacity(size);
+            if (this.fileReader.supportsRandomAccess())
+            {
+                // no need to stream through each file: read each instance's region directly
+                sourceCoordinatesByFile.forEachValue(fileSourceCoordinates -> fileSourceCoordinates.forEach(sourceCoordinates ->
+                        objs.add(possiblyValidate(sourceCoordinates.getObj(this.fileReader, this.stringIndex, classifierIndex.getClassifierId())))));
+                return objs;
+            }
             sourceCoordinatesByFile.forEachKeyValue((filePath, fileSourceCoordinates) ->
             {
                 fileSourceCoordinates.sortThis(SourceCoordinates::compareByOffset);
@@ -633,9 +654,9 @@ public abstract class DistributedBinaryGraphDeserializer
         private final ListIterable<Single> deserializers;
         private final boolean validateObjs;
 
-        private Many(FileReader fileReader, Set<String> metadataNames, boolean validateObjs)
+        private Many(FileReader fileReader, Set<String> metadataNames, BiFunction<String, FileReader, StringIndex> stringIndexFactory, boolean validateObjs)
         {
-            this.deserializers = Iterate.collect(metadataNames, n -> new Single(fileReader, n, false), Lists.mutable.ofInitialCapacity(metadataNames.size()));
+            this.deserializers = Iterate.collect(metadataNames, n -> new Single(fileReader, n, stringIndexFactory, false), Lists.mutable.ofInitialCapacity(metadataNames.size()));
             this.validateObjs = validateObjs;
         }
 
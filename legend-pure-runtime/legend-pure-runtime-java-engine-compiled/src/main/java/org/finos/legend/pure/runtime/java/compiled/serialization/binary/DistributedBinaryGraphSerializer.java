@@ -20,6 +20,7 @@ import org.eclipse.collections.api.factory.Maps;
 import org.eclipse.collections.api.factory.Sets;
 import org.eclipse.collections.api.list.ListIterable;
 import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.MapIterable;
 import org.eclipse.collections.api.map.MutableMap;
 import org.eclipse.collections.api.set.MutableSet;
 import org.finos.legend.pure.m3.navigation.M3Paths;
@@ -27,6 +28,7 @@ import org.finos.legend.pure.m3.navigation.ProcessorSupport;
 import org.finos.legend.pure.m3.serialization.filesystem.repository.CodeRepository;
 import org.finos.legend.pure.m3.serialization.filesystem.usercodestorage.MutableRepositoryCodeStorage;
 import org.finos.legend.pure.m3.serialization.runtime.PureRuntime;
+import org.finos.legend.pure.m3.tools.forkjoin.ForkJoinTools;
 import org.finos.legend.pure.m4.coreinstance.CoreInstance;
 import org.finos.legend.pure.m4.serialization.Writer;
 import org.finos.legend.pure.m4.serialization.binary.BinaryWriters;
@@ -37,11 +39,15 @@ import org.finos.legend.pure.runtime.java.compiled.serialization.model.Obj;
 import java.io.ByteArrayOutputStream;
 import java.nio.file.Path;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 import java.util.jar.JarOutputStream;
 
 public abstract class DistributedBinaryGraphSerializer
 {
     private static final int MAX_BIN_FILE_BYTES = 512 * 1024;
+    private static final int BUILD_OBJ_THRESHOLD = 100;
+    private static final int ENCODE_OBJ_THRESHOLD = 500;
+    private static final int OBJ_BATCH_SIZE = 20_000;
 
     private final DistributedMetadataSpecification metadataSpecification;
     protected final PureRuntime runtime;
@@ -60,20 +66,49 @@ public abstract class DistributedBinaryGraphSerializer
 
     public void serializeToDirectory(Path directory)
     {
-        serialize(FileWriters.fromDirectory(directory));
+        serializeToDirectory(directory, null);
+    }
+
+    public void serializeToDirectory(Path directory, ForkJoinPool forkJoinPool)
+    {
+        serialize(FileWriters.fromDirectory(directory), forkJoinPool);
     }
 
     public void serializeToJar(JarOutputStream stream)
     {
-        serialize(FileWriters.fromJarOutputStream(stream));
+        serializeToJar(stream, null);
+    }
+
+    public void serializeToJar(JarOutputStream stream, ForkJoinPool forkJoinPool)
+    {
+        serialize(FileWriters.fromJarOutputStream(stream), forkJoinPool);
     }
 
     public void serializeToInMemoryByteArrays(Map<String, ? super byte[]> fileBytes)
     {
-        serialize(FileWriters.fromInMemoryByteArrayMap(fileBytes));
+        serializeToInMemoryByteArrays(fileBytes, null);
+    }
+
+    public void serializeToInMemoryByteArrays(Map<String, ? super byte[]> fileBytes, ForkJoinPool forkJoinPool)
+    {
+        serialize(FileWriters.fromInMemoryByteArrayMap(fileBytes), forkJoinPool);
     }
 
     public void serialize(FileWriter fileWriter)
+    {
+        serialize(fileWriter, null);
+    }
+
+    /**
+     * Serialize to the given file writer. If a fork join pool is given, Objs are built and encoded in parallel in
+     * it; files are always written in order from the calling thread, so the output is the same with or without the
+     * pool. Objs are built in batches, once for the string cache and again for writing, so that only one batch of
+     * Objs is held in memory at a time.
+     *
+     * @param fileWriter   file writer
+     * @param forkJoinPool fork join pool for building and encoding Objs (may be null)
+     */
+    public void serialize(FileWriter fileWriter, ForkJoinPool forkJoinPool)
     {
         // Possibly write metadata specification
         if (this.metadataSpecification != null)
@@ -84,91 +119,34 @@ public abstract class DistributedBinaryGraphSerializer
         // Compute instances for serialization
         SerializationCollector serializationCollector = new SerializationCollector();
         collectInstancesForSerialization(serializationCollector);
+        MutableMap<String, MutableList<CoreInstance>> instancesByClassifier = getInstancesByClassifier(serializationCollector);
 
         // Build string cache
-        DistributedStringCache stringCache = buildStringCache(serializationCollector);
+        DistributedStringCache stringCache = buildStringCache(instancesByClassifier, serializationCollector, forkJoinPool);
         BinaryObjSerializer serializer = new BinaryObjSerializerWithStringCacheAndImplicitIdentifiers(stringCache);
 
         // Write string cache
         stringCache.write(getMetadataName(), fileWriter);
 
-        // Write instances
-        int partition = 0;
-        int partitionTotalBytes = 0;
-        WriterBufferOutputStream binByteStream = new WriterBufferOutputStream(MAX_BIN_FILE_BYTES);
-        try (Writer binFileWriter = BinaryWriters.newBinaryWriter(binByteStream))
+        // Write instances, building and encoding Objs in batches of classifiers
+        try (PartitionWriter partitionWriter = new PartitionWriter(fileWriter, stringCache))
         {
-            WriterBufferOutputStream indexByteStream = new WriterBufferOutputStream();
-            try (Writer indexWriter = BinaryWriters.newBinaryWriter(indexByteStream))
+            MutableList<String> batchClassifierIds = Lists.mutable.empty();
+            int batchObjCount = 0;
+            for (String classifierId : stringCache.getClassifierIds().toSortedList())
             {
-                for (String classifierId : stringCache.getClassifierIds().toSortedList())
+                batchClassifierIds.add(classifierId);
+                batchObjCount += getObjCount(instancesByClassifier.get(classifierId)) + getObjCount(serializationCollector.objUpdates.get(classifierId));
+                if (batchObjCount >= OBJ_BATCH_SIZE)
                 {
-                    ListIterable<Obj> classifierObjs = getClassifierObjs(serializationCollector.instancesForSerialization.remove(classifierId), serializationCollector.objUpdates.remove(classifierId));
-
-                    // Initial index information
-                    indexWriter.writeInt(classifierObjs.size()); // total obj count
-                    indexWriter.writeInt(partition); // initial partition
-                    indexWriter.writeInt(partitionTotalBytes); // initial byte offset in partition
-
-                    MutableList<ObjIndexInfo> partitionObjIndexInfos = Lists.mutable.empty();
-                    WriterBufferOutputStream objByteStream = new WriterBufferOutputStream();
-                    try (Writer objWriter = BinaryWriters.newBinaryWriter(objByteStream))
-                    {
-                        for (Obj obj : classifierObjs)
-                        {
-                            // Obj serialization
-                            serializer.serializeObj(objWriter, obj);
-                            int objByteCount = objByteStream.size();
-                            if (partitionTotalBytes + objByteCount > MAX_BIN_FILE_BYTES)
-                            {
-                                // Write current partition
-                                try (Writer partitionWriter = fileWriter.getWriter(DistributedMetadataHelper.getMetadataPartitionBinFilePath(getMetadataName(), partition)))
-                                {
-                                    binByteStream.writeAndReset(partitionWriter);
-                                }
-
-                                // Write partition portion of classifier index
-                                indexWriter.writeInt(partitionObjIndexInfos.size());
-                                partitionObjIndexInfos.forEach(info -> info.write(indexWriter, stringCache));
-
-                                // New partition
-                                partition++;
-                                if (partition < 0)
-                                {
-                                    throw new RuntimeException("Too many partitions");
-                                }
-                                partitionTotalBytes = 0;
-                                partitionObjIndexInfos.clear();
-                            }
-                            objByteStream.writeAndReset(binFileWriter);
-                            partitionTotalBytes += objByteCount;
-                            partitionObjIndexInfos.add(new ObjIndexInfo(obj.getIdentifier(), objByteCount));
-                        }
-                    }
-
-                    // Write final partition portion of classifier index
-                    if (partitionObjIndexInfos.notEmpty())
-                    {
-                        indexWriter.writeInt(partitionObjIndexInfos.size());
-                        partitionObjIndexInfos.forEach(info -> info.write(indexWriter, stringCache));
-                    }
-
-                    // Write classifier index
-                    try (Writer indexFileWriter = fileWriter.getWriter(DistributedMetadataHelper.getMetadataClassifierIndexFilePath(getMetadataName(), classifierId)))
-                    {
-                        indexByteStream.writeAndReset(indexFileWriter);
-                    }
+                    writeBatch(partitionWriter, serializer, batchClassifierIds, instancesByClassifier, serializationCollector, forkJoinPool);
+                    batchObjCount = 0;
                 }
             }
-        }
+            writeBatch(partitionWriter, serializer, batchClassifierIds, instancesByClassifier, serializationCollector, forkJoinPool);
 
-        // Write final partition
-        if (binByteStream.size() > 0)
-        {
-            try (Writer partitionWriter = fileWriter.getWriter(DistributedMetadataHelper.getMetadataPartitionBinFilePath(getMetadataName(), partition)))
-            {
-                binByteStream.write(partitionWriter);
-            }
+            // Write final partition
+            partitionWriter.writeFinalPartition();
         }
     }
 
@@ -179,27 +157,54 @@ public abstract class DistributedBinaryGraphSerializer
 
     protected abstract void collectInstancesForSerialization(SerializationCollector serializationCollector);
 
-    private DistributedStringCache buildStringCache(SerializationCollector serializationCollector)
+    private MutableMap<String, MutableList<CoreInstance>> getInstancesByClassifier(SerializationCollector serializationCollector)
     {
+        // skip duplicates
+        MutableMap<String, MutableList<CoreInstance>> instancesByClassifier = Maps.mutable.ofInitialCapacity(serializationCollector.instancesForSerialization.size());
+        serializationCollector.instancesForSerialization.forEachKeyValue((classifierId, classifierInstances) ->
+        {
+            MutableSet<CoreInstance> seenInstances = Sets.mutable.withInitialCapacity(classifierInstances.size());
+            instancesByClassifier.put(classifierId, classifierInstances.select(seenInstances::add));
+        });
+        serializationCollector.instancesForSerialization.clear();
+        return instancesByClassifier;
+    }
+
+    private DistributedStringCache buildStringCache(MapIterable<String, MutableList<CoreInstance>> instancesByClassifier, SerializationCollector serializationCollector, ForkJoinPool forkJoinPool)
+    {
+        // the string cache builder sorts its contents, so Objs can be fed to it in any order
         StringCache.Builder<DistributedStringCache> stringCacheBuilder = DistributedStringCache.newBuilder();
-        serializationCollector.instancesForSerialization.forEachValue(instances -> instances.forEach(i -> stringCacheBuilder.withObj(buildObj(i))));
+        MutableList<CoreInstance> instances = Lists.mutable.empty();
+        instancesByClassifier.forEachValue(instances::addAll);
+        for (int start = 0; start < instances.size(); start += OBJ_BATCH_SIZE)
+        {
+            stringCacheBuilder.withObjs(buildObjs(instances, start, Math.min(start + OBJ_BATCH_SIZE, instances.size()), forkJoinPool));
+        }
         serializationCollector.objUpdates.forEachValue(stringCacheBuilder::withObjs);
         return stringCacheBuilder.build();
     }
 
-    private ListIterable<Obj> getClassifierObjs(ListIterable<? extends CoreInstance> classifierInstances, ListIterable<? extends Obj> classifierObjUpdates)
+    private ListIterable<Obj> buildObjs(ListIterable<CoreInstance> instances, int start, int end, ForkJoinPool forkJoinPool)
     {
-        MutableList<Obj> classifierObjs = Lists.mutable.withInitialCapacity(((classifierInstances == null) ? 0 : classifierInstances.size()) + ((classifierObjUpdates == null) ? 0 : classifierObjUpdates.size()));
-        if (classifierInstances != null)
+        if ((forkJoinPool == null) || ((end - start) <= BUILD_OBJ_THRESHOLD))
         {
-            // skip duplicates while building Objs
-            MutableSet<CoreInstance> seenInstances = Sets.mutable.withInitialCapacity(classifierInstances.size());
-            classifierInstances.collectIf(seenInstances::add, this::buildObj, classifierObjs);
-        }
-        if (classifierObjUpdates != null)
-        {
-            classifierObjs.addAllIterable(classifierObjUpdates);
+            MutableList<Obj> objs = Lists.mutable.withInitialCapacity(end - start);
+            for (int i = start; i < end; i++)
+            {
+                objs.add(buildObj(instances.get(i)));
+            }
+            return objs;
         }
+        return ForkJoinTools.collect(forkJoinPool, instances, this::buildObj, start, end, BUILD_OBJ_THRESHOLD);
+    }
+
+    private static int getObjCount(ListIterable<?> list)
+    {
+        return (list == null) ? 0 : list.size();
+    }
+
+    private ListIterable<Obj> getClassifierObjs(MutableList<Obj> classifierObjs)
+    {
         if (classifierObjs.size() > 1)
         {
             // TODO there is a known issue with id conflicts for ImportGroups - remove conflicts until issue is fixed
@@ -223,6 +228,68 @@ public abstract class DistributedBinaryGraphSerializer
         return classifierObjs;
     }
 
+    private void writeBatch(PartitionWriter partitionWriter, BinaryObjSerializer serializer, MutableList<String> batchClassifierIds, MutableMap<String, MutableList<CoreInstance>> instancesByClassifier, SerializationCollector serializationCollector, ForkJoinPool forkJoinPool)
+    {
+        // Build the Objs of the batch, keeping the instances of each classifier together
+        MutableList<CoreInstance> instances = Lists.mutable.empty();
+        int[] classifierInstanceCounts = new int[batchClassifierIds.size()];
+        batchClassifierIds.forEachWithIndex((classifierId, i) ->
+        {
+            MutableList<CoreInstance> classifierInstances = instancesByClassifier.remove(classifierId);
+            if (classifierInstances != null)
+            {
+                instances.addAll(classifierInstances);
+                classifierInstanceCounts[i] = classifierInstances.size();
+            }
+        });
+        ListIterable<Obj> builtObjs = buildObjs(instances, 0, instances.size(), forkJoinPool);
+
+        MutableList<ListIterable<Obj>> batchClassifierObjs = Lists.mutable.withInitialCapacity(batchClassifierIds.size());
+        MutableList<Obj> objs = Lists.mutable.withInitialCapacity(builtObjs.size());
+        int start = 0;
+        for (int i = 0; i < classifierInstanceCounts.length; i++)
+        {
+            int end = start + classifierInstanceCounts[i];
+            MutableList<Obj> classifierObjs = Lists.mutable.withInitialCapacity(classifierInstanceCounts[i]);
+            for (int j = start; j < end; j++)
+            {
+                classifierObjs.add(builtObjs.get(j));
+            }
+            MutableList<Obj> classifierObjUpdates = serializationCollector.objUpdates.remove(batchClassifierIds.get(i));
+            if (classifierObjUpdates != null)
+            {
+                classifierObjs.addAll(classifierObjUpdates);
+            }
+            ListIterable<Obj> sortedClassifierObjs = getClassifierObjs(classifierObjs);
+            batchClassifierObjs.add(sortedClassifierObjs);
+            objs.addAllIterable(sortedClassifierObjs);
+            start = end;
+        }
+
+        // Encode and write the Objs
+        ListIterable<byte[]> objBytes = ((forkJoinPool == null) || (objs.size() <= ENCODE_OBJ_THRESHOLD)) ?
+                objs.collect(obj -> encodeObj(serializer, obj)) :
+                ForkJoinTools.collect(forkJoinPool, objs, obj -> encodeObj(serializer, obj), ENCODE_OBJ_THRESHOLD);
+        int objStart = 0;
+        for (int i = 0; i < batchClassifierIds.size(); i++)
+        {
+            ListIterable<Obj> classifierObjs = batchClassifierObjs.get(i);
+            partitionWriter.writeClassifier(batchClassifierIds.get(i), classifierObjs, objBytes, objStart);
+            objStart += classifierObjs.size();
+        }
+        batchClassifierIds.clear();
+    }
+
+    private static byte[] encodeObj(BinaryObjSerializer serializer, Obj obj)
+    {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        try (Writer writer = BinaryWriters.newBinaryWriter(stream))
+        {
+            serializer.serializeObj(writer, obj);
+        }
+        return stream.toByteArray();
+    }
+
     protected String buildClassifierId(CoreInstance instance)
     {
         return this.classifierCaches.getClassifierId(instance.getClassifier());
@@ -312,6 +379,106 @@ public abstract class DistributedBinaryGraphSerializer
         }
     }
 
+    private class PartitionWriter implements AutoCloseable
+    {
+        private final FileWriter fileWriter;
+        private final StringCache stringCache;
+        private final WriterBufferOutputStream binByteStream = new WriterBufferOutputStream(MAX_BIN_FILE_BYTES);
+        private final Writer binFileWriter = BinaryWriters.newBinaryWriter(this.binByteStream);
+        private final WriterBufferOutputStream indexByteStream = new WriterBufferOutputStream();
+        private final Writer indexWriter = BinaryWriters.newBinaryWriter(this.indexByteStream);
+        private final MutableList<ObjIndexInfo> partitionObjIndexInfos = Lists.mutable.empty();
+        private int partition = 0;
+        private int partitionTotalBytes = 0;
+
+        private PartitionWriter(FileWriter fileWriter, StringCache stringCache)
+        {
+            this.fileWriter = fileWriter;
+            this.stringCache = stringCache;
+        }
+
+        /**
+         * Write the Objs of a classifier to the current partition (and subsequent partitions as needed), and write
+         * the classifier index.
+         *
+         * @param classifierId   classifier id
+         * @param classifierObjs classifier Objs, sorted by identifier
+         * @param objBytes       encoded Objs
+         * @param start          index in objBytes of the first of the classifier Objs
+         */
+        private void writeClassifier(String classifierId, ListIterable<Obj> classifierObjs, ListIterable<byte[]> objBytes, int start)
+        {
+            // Initial index information
+            this.indexWriter.writeInt(classifierObjs.size()); // total obj count
+            this.indexWriter.writeInt(this.partition); // initial partition
+            this.indexWriter.writeInt(this.partitionTotalBytes); // initial byte offset in partition
+
+            classifierObjs.forEachWithIndex((obj, i) ->
+            {
+                byte[] bytes = objBytes.get(start + i);
+                if (this.partitionTotalBytes + bytes.length > MAX_BIN_FILE_BYTES)
+                {
+                    // Write current partition
+                    try (Writer partitionWriter = this.fileWriter.getWriter(DistributedMetadataHelper.getMetadataPartitionBinFilePath(getMetadataName(), this.partition)))
+                    {
+                        this.binByteStream.writeAndReset(partitionWriter);
+                    }
+
+                    // Write partition portion of classifier index
+                    writePartitionObjIndexInfos();
+
+                    // New partition
+                    this.partition++;
+                    if (this.partition < 0)
+                    {
+                        throw new RuntimeException("Too many partitions");
+                    }
+                    this.partitionTotalBytes = 0;
+                }
+                this.binFileWriter.writeBytes(bytes);
+                this.partitionTotalBytes += bytes.length;
+                this.partitionObjIndexInfos.add(new ObjIndexInfo(obj.getIdentifier(), bytes.length));
+            });
+
+            // Write final partition portion of classifier index
+            if (this.partitionObjIndexInfos.notEmpty())
+            {
+                writePartitionObjIndexInfos();
+            }
+
+            // Write classifier index
+            try (Writer indexFileWriter = this.fileWriter.getWriter(DistributedMetadataHelper.getMetadataClassifierIndexFilePath(getMetadataName(), classifierId)))
+            {
+                this.indexByteStream.writeAndReset(indexFileWriter);
+            }
+        }
+
+        private void writePartitionObjIndexInfos()
+        {
+            this.indexWriter.writeInt(this.partitionObjIndexInfos.size());
+            this.partitionObjIndexInfos.forEach(info -> info.write(this.indexWriter, this.stringCache));
+            this.partitionObjIndexInfos.clear();
+        }
+
+        private void writeFinalPartition()
+        {
+            if (this.binByteStream.size() > 0)
+            {
+                try (Writer partitionWriter = this.fileWriter.getWriter(DistributedMetadataHelper.getMetadataPartitionBinFilePath(getMetadataName(), this.partition)))
+                {
+                    this.binByteStream.write(partitionWriter);
+                }
+            }
+        }
+
+        @Override
+        public void close()
+        {
+            this.indexWriter.close();
+            this.binFileWriter.close();
+        }
+    }
+
     private static class ObjIndexInfo
     {
         private final String identifier;
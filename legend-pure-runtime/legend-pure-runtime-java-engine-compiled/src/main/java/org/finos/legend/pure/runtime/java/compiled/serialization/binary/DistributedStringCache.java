@@ -76,6 +76,11 @@ public class DistributedStringCache extends StringCache
         return index - (index & PARTITION_MASK);
     }
 
+    static int getPartitionIndex(int index)
+    {
+        return index / PARTITION_SIZE;
+    }
+
     private static class DistributedStringCacheBuilder extends Builder<DistributedStringCache>
     {
         private final MutableSet<String> classifierIds = Sets.mutable.empty();
@@ -15,8 +15,38 @@
 package org.finos.legend.pure.runtime.java.compiled.serialization.binary;
 
 import org.finos.legend.pure.m4.serialization.Reader;
+import org.finos.legend.pure.m4.serialization.binary.BinaryReaders;
 
 public interface FileReader
 {
     Reader getReader(String path);
+
+    /**
+     * Get a reader for length bytes of the file at path, starting at offset. The default implementation reads the
+     * bytes into memory.
+     *
+     * @param path   file path
+     * @param offset start offset
+     * @param length number of bytes
+     * @return reader for the given region of the file
+     */
+    default Reader getReader(String path, int offset, int length)
+    {
+        try (Reader reader = getReader(path))
+        {
+            reader.skipBytes(offset);
+            return BinaryReaders.newBinaryReader(reader.readBytes(length));
+        }
+    }
+
+    /**
+     * Whether {@link #getReader(String, int, int)} is cheap enough that callers need not batch reads from the same
+     * file.
+     *
+     * @return whether random access is cheap
+     */
+    default boolean supportsRandomAccess()
+    {
+        return false;
+    }
 }
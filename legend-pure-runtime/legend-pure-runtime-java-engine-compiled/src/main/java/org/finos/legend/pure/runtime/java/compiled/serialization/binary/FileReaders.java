@@ -24,11 +24,14 @@ import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
+import java.nio.Buffer;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.channels.SeekableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.Collections;
 import java.util.Map;
 import java.util.function.Function;
@@ -52,6 +55,18 @@ public class FileReaders
         return new FileSystemFileReader(directory);
     }
 
+    /**
+     * File reader for a directory which memory maps each file on first access. Mapped files are cached for the life of
+     * the reader, and regions of them are read directly from the mapped memory without copying.
+     *
+     * @param directory directory
+     * @return memory mapped file reader
+     */
+    public static FileReader fromMappedDirectory(Path directory)
+    {
+        return new MappedFileSystemFileReader(directory);
+    }
+
     public static FileReader fromInMemoryByteArrays(Map<String, ? extends byte[]> fileBytes)
     {
         return new InMemoryBytesFileReader<>(fileBytes, BinaryReaders::newBinaryReader);
@@ -161,6 +176,61 @@ public class FileReaders
         }
     }
 
+    private static class MappedFileSystemFileReader implements FileReader
+    {
+        private final Path root;
+        private final ConcurrentMutableMap<String, ByteBuffer> bufferCache = ConcurrentHashMap.newMap();
+
+        private MappedFileSystemFileReader(Path root)
+        {
+            this.root = root;
+        }
+
+        @Override
+        public Reader getReader(String path)
+        {
+            return BinaryReaders.newBinaryReader(getBuffer(path).duplicate());
+        }
+
+        @Override
+        public Reader getReader(String path, int offset, int length)
+        {
+            ByteBuffer buffer = getBuffer(path).duplicate();
+            if ((offset < 0) || (length < 0) || (offset > (buffer.limit() - length)))
+            {
+                throw new RuntimeException("Cannot read " + length + " bytes at offset " + offset + " of file '" + path + "' of size " + buffer.limit());
+            }
+            ((Buffer) buffer).limit(offset + length);
+            ((Buffer) buffer).position(offset);
+            return BinaryReaders.newBinaryReader(buffer.slice());
+        }
+
+        @Override
+        public boolean supportsRandomAccess()
+        {
+            return true;
+        }
+
+        private ByteBuffer getBuffer(String path)
+        {
+            ByteBuffer buffer = this.bufferCache.get(path);
+            return (buffer == null) ? this.bufferCache.getIfAbsentPutWithKey(path, this::mapFile) : buffer;
+        }
+
+        private ByteBuffer mapFile(String path)
+        {
+            Path fullPath = this.root.resolve(path);
+            try (FileChannel channel = FileChannel.open(fullPath, StandardOpenOption.READ))
+            {
+                return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
+            catch (IOException e)
+            {
+                throw new RuntimeException("Error accessing file '" + path + "'", e);
+            }
+        }
+    }
+
     private static class InMemoryBytesFileReader<T> implements FileReader
     {
         private final Map<String, ? extends T> bytesByPath;
@@ -72,7 +72,7 @@ public class LazyStringIndex extends StringIndex
         return new LazyStringIndex(classifierIds, metadataName, fileReader, otherStringCount);
     }
 
-    private static String[] readClassifierIds(String metadataName, FileReader fileReader)
+    static String[] readClassifierIds(String metadataName, FileReader fileReader)
     {
         try (Reader reader = fileReader.getReader(DistributedMetadataHelper.getClassifierIdStringsIndexFilePath(metadataName)))
         {
@@ -80,7 +80,7 @@ public class LazyStringIndex extends StringIndex
         }
     }
 
-    private static int readOtherStringCount(String metadataName, FileReader fileReader)
+    static int readOtherStringCount(String metadataName, FileReader fileReader)
     {
         try (Reader reader = fileReader.getReader(DistributedMetadataHelper.getOtherStringsIndexFilePath(metadataName)))
         {
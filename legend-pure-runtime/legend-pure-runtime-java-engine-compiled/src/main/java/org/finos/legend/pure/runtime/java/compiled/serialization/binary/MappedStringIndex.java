@@ -0,0 +1,159 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.runtime.java.compiled.serialization.binary;
+
+import org.finos.legend.pure.m4.serialization.Reader;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * String index which leaves strings in the (memory mapped) metadata files rather than loading them onto the heap. For
+ * each partition of strings, only a table of offsets is held in memory, and strings are decoded each time they are
+ * requested. Optionally, a small cache of recently requested strings can be kept on the heap.
+ *
+ * <p>This requires a {@link FileReader} which supports random access, such as {@link FileReaders#fromMappedDirectory}.
+ */
+public class MappedStringIndex extends StringIndex
+{
+    private final String metadataName;
+    private final FileReader fileReader;
+    private final int otherStringCount;
+    private final AtomicReferenceArray<int[]> partitionOffsets;
+    private final AtomicReferenceArray<CachedString> hotStrings;
+    private final int hotStringMask;
+
+    private MappedStringIndex(String[] classifierIds, String metadataName, FileReader fileReader, int otherStringCount, int hotStringCacheSize)
+    {
+        super(classifierIds);
+        this.metadataName = metadataName;
+        this.fileReader = fileReader;
+        this.otherStringCount = otherStringCount;
+        this.partitionOffsets = new AtomicReferenceArray<>((otherStringCount == 0) ? 0 : (DistributedStringCache.getPartitionIndex(otherStringCount - 1) + 1));
+        this.hotStrings = (hotStringCacheSize == 0) ? null : new AtomicReferenceArray<>(hotStringCacheSize);
+        this.hotStringMask = hotStringCacheSize - 1;
+    }
+
+    @Override
+    protected String getOtherString(int index)
+    {
+        if ((index < 0) || (index >= this.otherStringCount))
+        {
+            throw new IndexOutOfBoundsException("index: " + index + ", size: " + this.otherStringCount);
+        }
+        if (this.hotStrings == null)
+        {
+            return readString(index);
+        }
+
+        int slot = index & this.hotStringMask;
+        CachedString cached = this.hotStrings.get(slot);
+        if ((cached != null) && (cached.index == index))
+        {
+            return cached.string;
+        }
+        String string = readString(index);
+        this.hotStrings.set(slot, new CachedString(index, string));
+        return string;
+    }
+
+    private String readString(int index)
+    {
+        int partitionStart = DistributedStringCache.getStartOfPartition(index);
+        int[] offsets = getPartitionOffsets(partitionStart);
+        int i = index - partitionStart;
+        try (Reader reader = this.fileReader.getReader(getPartitionFilePath(partitionStart), offsets[i], offsets[i + 1] - offsets[i]))
+        {
+            return reader.readString();
+        }
+    }
+
+    private int[] getPartitionOffsets(int partitionStart)
+    {
+        int partitionIndex = DistributedStringCache.getPartitionIndex(partitionStart);
+        int[] offsets = this.partitionOffsets.get(partitionIndex);
+        if (offsets == null)
+        {
+            // If several threads compute the offsets concurrently, they will all compute the same thing
+            offsets = computePartitionOffsets(partitionStart);
+            this.partitionOffsets.compareAndSet(partitionIndex, null, offsets);
+        }
+        return offsets;
+    }
+
+    private int[] computePartitionOffsets(int partitionStart)
+    {
+        try (Reader reader = this.fileReader.getReader(getPartitionFilePath(partitionStart)))
+        {
+            int partitionLength = reader.readInt();
+            int[] offsets = new int[partitionLength + 1];
+            int offset = Integer.BYTES;
+            for (int i = 0; i < partitionLength; i++)
+            {
+                offsets[i] = offset;
+                int length = reader.readInt();
+                reader.skipBytes(length);
+                offset += Integer.BYTES + length;
+            }
+            offsets[partitionLength] = offset;
+            return offsets;
+        }
+    }
+
+    private String getPartitionFilePath(int partitionStart)
+    {
+        return DistributedMetadataHelper.getOtherStringsIndexPartitionFilePath(this.metadataName, partitionStart);
+    }
+
+    public static MappedStringIndex fromFileReader(String metadataName, FileReader fileReader)
+    {
+        return fromFileReader(metadataName, fileReader, 0);
+    }
+
+    /**
+     * Create a mapped string index which additionally keeps up to hotStringCacheSize recently requested strings on the
+     * heap. The cache size must be 0 (no cache) or a power of 2.
+     *
+     * @param metadataName       metadata name (may be null)
+     * @param fileReader         random access file reader
+     * @param hotStringCacheSize size of the hot string cache
+     * @return mapped string index
+     */
+    public static MappedStringIndex fromFileReader(String metadataName, FileReader fileReader, int hotStringCacheSize)
+    {
+        if (!fileReader.supportsRandomAccess())
+        {
+            throw new IllegalArgumentException("File reader must support random access");
+        }
+        if ((hotStringCacheSize < 0) || (Integer.bitCount(hotStringCacheSize) > 1))
+        {
+            throw new IllegalArgumentException("Hot string cache size must be 0 or a power of 2: " + hotStringCacheSize);
+        }
+        String[] classifierIds = LazyStringIndex.readClassifierIds(metadataName, fileReader);
+        int otherStringCount = LazyStringIndex.readOtherStringCount(metadataName, fileReader);
+        return new MappedStringIndex(classifierIds, metadataName, fileReader, otherStringCount, hotStringCacheSize);
+    }
+
+    private static class CachedString
+    {
+        private final int index;
+        private final String string;
+
+        private CachedString(int index, String string)
+        {
+            this.index = index;
+            this.string = string;
+        }
+    }
+}
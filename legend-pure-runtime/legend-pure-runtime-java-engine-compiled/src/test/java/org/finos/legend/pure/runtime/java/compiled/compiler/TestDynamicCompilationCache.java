@@ -0,0 +1,90 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.runtime.java.compiled.compiler;
+
+import org.finos.legend.pure.runtime.java.compiled.generation.processors.support.map.PureCacheMapStats;
+import org.junit.Assert;
+import org.junit.Test;
+
+import javax.tools.ToolProvider;
+
+public class TestDynamicCompilationCache
+{
+    private static final String PACKAGE = "temp";
+    private static final String NAME = "DynaClass";
+
+    @Test
+    public void testStructurallyIdenticalSourceIsCompiledOnce() throws Exception
+    {
+        DynamicCompilationCache cache = new DynamicCompilationCache();
+        MemoryFileManager fileManager = new MemoryFileManager(ToolProvider.getSystemJavaCompiler());
+        ClassLoader classLoader = TestDynamicCompilationCache.class.getClassLoader();
+
+        Class<?> first = cache.getIfAbsentCompile(PACKAGE, NAME, source(1), fileManager, classLoader);
+        Class<?> second = cache.getIfAbsentCompile(PACKAGE, NAME, source(1), fileManager, classLoader);
+        Assert.assertSame(first, second);
+        Assert.assertEquals(3L, first.getMethod("doProcess", long.class).invoke(null, 2L));
+
+        Class<?> other = cache.getIfAbsentCompile(PACKAGE, NAME, source(2), fileManager, classLoader);
+        Assert.assertNotSame(first, other);
+        Assert.assertEquals(4L, other.getMethod("doProcess", long.class).invoke(null, 2L));
+
+        PureCacheMapStats stats = cache.getStats();
+        Assert.assertEquals(1L, stats.getHitCount());
+        Assert.assertEquals(2L, stats.getMissCount());
+        Assert.assertEquals(2L, cache.size());
+    }
+
+    @Test
+    public void testDifferentClassLoaderRecompiles() throws Exception
+    {
+        DynamicCompilationCache cache = new DynamicCompilationCache();
+        MemoryFileManager fileManager = new MemoryFileManager(ToolProvider.getSystemJavaCompiler());
+        ClassLoader classLoader = TestDynamicCompilationCache.class.getClassLoader();
+
+        Class<?> first = cache.getIfAbsentCompile(PACKAGE, NAME, source(1), fileManager, classLoader);
+        Class<?> second = cache.getIfAbsentCompile(PACKAGE, NAME, source(1), fileManager, new MemoryClassLoader(fileManager, classLoader));
+        Assert.assertNotSame(first, second);
+    }
+
+    @Test
+    public void testBounded() throws Exception
+    {
+        DynamicCompilationCache cache = new DynamicCompilationCache(2);
+        MemoryFileManager fileManager = new MemoryFileManager(ToolProvider.getSystemJavaCompiler());
+        ClassLoader classLoader = TestDynamicCompilationCache.class.getClassLoader();
+
+        for (int i = 0; i < 5; i++)
+        {
+            cache.getIfAbsentCompile(PACKAGE, NAME, source(i), fileManager, classLoader);
+        }
+        Assert.assertTrue(cache.size() <= 2);
+
+        cache.clear();
+        Assert.assertEquals(0L, cache.size());
+    }
+
+    private static String source(int increment)
+    {
+        return "package " + PACKAGE + ";\n" +
+                "public class " + NAME + "\n" +
+                "{\n" +
+                "    public static long doProcess(long value)\n" +
+                "    {\n" +
+                "        return value + " + increment + ";\n" +
+                "    }\n" +
+                "}\n";
+    }
+}
@@ -0,0 +1,72 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.runtime.java.compiled.generation.processors.support;
+
+import org.finos.legend.pure.m3.navigation.Instance;
+import org.finos.legend.pure.m3.navigation.M3Properties;
+import org.finos.legend.pure.m3.tests.AbstractPureTestWithCoreCompiled;
+import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+import org.finos.legend.pure.runtime.java.compiled.execution.CompiledExecutionSupport;
+import org.finos.legend.pure.runtime.java.compiled.execution.FunctionExecutionCompiled;
+import org.finos.legend.pure.runtime.java.compiled.execution.FunctionExecutionCompiledBuilder;
+import org.finos.legend.pure.runtime.java.compiled.factory.JavaModelFactoryRegistryLoader;
+import org.finos.legend.pure.runtime.java.compiled.generation.processors.support.map.PureCacheMapStats;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class TestDynamicallyBuildLambdaFunction extends AbstractPureTestWithCoreCompiled
+{
+    @BeforeClass
+    public static void setUp()
+    {
+        setUpRuntime(new FunctionExecutionCompiledBuilder().build(), JavaModelFactoryRegistryLoader.loader());
+    }
+
+    @After
+    public void cleanRuntime()
+    {
+        runtime.delete("lambdas.pure");
+        runtime.compile();
+    }
+
+    @Test
+    public void testStructurallyIdenticalLambdasShareCompiledClass()
+    {
+        compileTestSource("lambdas.pure",
+                "function test::first():Function<{String[1]->String[1]}>[1] { {x:String[1] | $x} }\n" +
+                        "function test::second():Function<{String[1]->String[1]}>[1] { {x:String[1] | $x} }\n");
+        CoreInstance first = getLambda("test::first():Function[1]");
+        CoreInstance second = getLambda("test::second():Function[1]");
+        Assert.assertNotSame(first, second);
+
+        CompiledExecutionSupport executionSupport = ((FunctionExecutionCompiled) functionExecution).getExecutionSupport();
+        PureCacheMapStats before = executionSupport.getDynamicCompilationCache().getStats();
+        Assert.assertNotNull(CompiledSupport.dynamicallyBuildLambdaFunction(first, executionSupport));
+        Assert.assertNotNull(CompiledSupport.dynamicallyBuildLambdaFunction(second, executionSupport));
+        PureCacheMapStats after = executionSupport.getDynamicCompilationCache().getStats();
+
+        Assert.assertEquals(1L, after.getHitCount() - before.getHitCount());
+        Assert.assertEquals(1L, after.getMissCount() - before.getMissCount());
+    }
+
+    private static CoreInstance getLambda(String functionId)
+    {
+        CoreInstance function = runtime.getFunction(functionId);
+        CoreInstance expression = Instance.getValueForMetaPropertyToManyResolved(function, M3Properties.expressionSequence, processorSupport).get(0);
+        return Instance.getValueForMetaPropertyToOneResolved(expression, M3Properties.values, processorSupport);
+    }
+}
@@ -0,0 +1,190 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.runtime.java.compiled.metadata;
+
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.ListIterable;
+import org.finos.legend.pure.m3.exception.PureExecutionException;
+import org.finos.legend.pure.m3.execution.ExecutionSupport;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+public class TestJavaMethodSharedPureFunctions
+{
+    // the timing comparison only runs when a number of iterations is given, e.g., -Dlegend.pure.compiled.methodHandleBenchmarkIterations=5000000
+    private static final int BENCHMARK_ITERATIONS = Integer.getInteger("legend.pure.compiled.methodHandleBenchmarkIterations", 0);
+
+    @Test
+    public void testStaticMethod() throws Exception
+    {
+        JavaMethodWithParamsSharedPureFunction<Long> function = newAddFunction();
+        Assert.assertEquals(Long.valueOf(5L), function.execute(Lists.immutable.with(2L, 3L), null));
+    }
+
+    @Test
+    public void testStaticMethodWithIncompatibleArgument() throws Exception
+    {
+        JavaMethodWithParamsSharedPureFunction<Long> function = newAddFunction();
+        PureExecutionException e = Assert.assertThrows(PureExecutionException.class, () -> function.execute(Lists.immutable.with(2L, "three"), null));
+        Assert.assertTrue(e.getInfo(), e.getInfo().contains("is not compatible with the type"));
+    }
+
+    @Test
+    public void testStaticMethodThrowing() throws Exception
+    {
+        Method method = TestFunctions.class.getMethod("fail", String.class, ExecutionSupport.class);
+        JavaMethodWithParamsSharedPureFunction<Object> function = new JavaMethodWithParamsSharedPureFunction<>(method, method.getParameterTypes(), null);
+        PureExecutionException e = Assert.assertThrows(PureExecutionException.class, () -> function.execute(Lists.immutable.with("message"), null));
+        Assert.assertTrue(e.getCause() instanceof IllegalStateException);
+        Assert.assertEquals("message", e.getCause().getMessage());
+    }
+
+    @Test
+    public void testPropertyGetter() throws Exception
+    {
+        JavaMethodSharedPureFunction<String> function = new JavaMethodSharedPureFunction<>(TestInstance.class.getMethod("_name"), null);
+        Assert.assertEquals("the quick brown fox", function.execute(Lists.immutable.with(new TestInstance("the quick brown fox")), null));
+    }
+
+    @Test
+    public void testClassCacheHandles() throws Throwable
+    {
+        ClassCache classCache = new ClassCache(TestInstance.class.getClassLoader(), null);
+        MethodHandle constructor = classCache.getIfAbsentPutConstructorHandle(TestInstance.class);
+        Assert.assertSame(constructor, classCache.getIfAbsentPutConstructorHandle(TestInstance.class));
+
+        TestInstance instance = (TestInstance) (Object) constructor.invokeExact((Object) "name");
+        classCache.getIfAbsentPutPropertySetterHandle(TestInstance.class, "name").invokeExact((Object) instance, (Object) Lists.immutable.with("new name"));
+        Assert.assertEquals("new name", (Object) classCache.getIfAbsentPutPropertyGetterHandle(TestInstance.class, "name").invokeExact((Object) instance));
+    }
+
+    @Test
+    public void testMethodHandleMatchesReflection() throws Exception
+    {
+        Method method = TestFunctions.class.getMethod("add", Long.class, Long.class, ExecutionSupport.class);
+        JavaMethodWithParamsSharedPureFunction<Long> function = newAddFunction();
+        for (long x : new long[]{-7L, 0L, 1L, Long.MAX_VALUE})
+        {
+            for (long y : new long[]{-1L, 0L, 3L})
+            {
+                ListIterable<Long> args = Lists.immutable.with(x, y);
+                // as the previous reflective implementation did: copy the arguments and append the execution support
+                Object expected = method.invoke(null, args.toArray(new Object[args.size() + 1]));
+                Assert.assertEquals(x + ", " + y, expected, function.execute(args, null));
+            }
+        }
+
+        // both report the exception thrown by the method as the cause
+        Method failMethod = TestFunctions.class.getMethod("fail", String.class, ExecutionSupport.class);
+        JavaMethodWithParamsSharedPureFunction<Object> failFunction = new JavaMethodWithParamsSharedPureFunction<>(failMethod, failMethod.getParameterTypes(), null);
+        InvocationTargetException reflective = Assert.assertThrows(InvocationTargetException.class, () -> failMethod.invoke(null, "message", null));
+        PureExecutionException handle = Assert.assertThrows(PureExecutionException.class, () -> failFunction.execute(Lists.immutable.with("message"), null));
+        Assert.assertEquals(reflective.getCause().getClass(), handle.getCause().getClass());
+        Assert.assertEquals(reflective.getCause().getMessage(), handle.getCause().getMessage());
+    }
+
+    @Test
+    public void testReflectionVersusMethodHandleBenchmark() throws Exception
+    {
+        Assume.assumeTrue(BENCHMARK_ITERATIONS > 0);
+        Method method = TestFunctions.class.getMethod("add", Long.class, Long.class, ExecutionSupport.class);
+        JavaMethodWithParamsSharedPureFunction<Long> function = newAddFunction();
+        ListIterable<Long> args = Lists.immutable.with(2L, 3L);
+
+        // warm up both paths before timing them
+        long reflectiveTotal = runReflective(method, args, BENCHMARK_ITERATIONS / 10);
+        long handleTotal = runHandle(function, args, BENCHMARK_ITERATIONS / 10);
+        Assert.assertEquals(reflectiveTotal, handleTotal);
+
+        long start = System.nanoTime();
+        reflectiveTotal = runReflective(method, args, BENCHMARK_ITERATIONS);
+        long reflectiveNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        handleTotal = runHandle(function, args, BENCHMARK_ITERATIONS);
+        long handleNanos = System.nanoTime() - start;
+
+        Assert.assertEquals(reflectiveTotal, handleTotal);
+        Assert.assertTrue("reflection: " + reflectiveNanos + "ns, method handle: " + handleNanos + "ns", handleNanos < reflectiveNanos);
+    }
+
+    private static long runReflective(Method method, ListIterable<Long> args, int iterations) throws Exception
+    {
+        long total = 0;
+        for (int i = 0; i < iterations; i++)
+        {
+            // as the previous reflective implementation did: copy the arguments and append the execution support
+            Object[] array = args.toArray(new Object[args.size() + 1]);
+            total += (Long) method.invoke(null, array);
+        }
+        return total;
+    }
+
+    private static long runHandle(JavaMethodWithParamsSharedPureFunction<Long> function, ListIterable<Long> args, int iterations)
+    {
+        long total = 0;
+        for (int i = 0; i < iterations; i++)
+        {
+            total += function.execute(args, null);
+        }
+        return total;
+    }
+
+    private static JavaMethodWithParamsSharedPureFunction<Long> newAddFunction() throws NoSuchMethodException
+    {
+        Method method = TestFunctions.class.getMethod("add", Long.class, Long.class, ExecutionSupport.class);
+        return new JavaMethodWithParamsSharedPureFunction<>(method, method.getParameterTypes(), null);
+    }
+
+    public static class TestFunctions
+    {
+        public static Long add(Long x, Long y, ExecutionSupport es)
+        {
+            return x + y;
+        }
+
+        public static Object fail(String message, ExecutionSupport es)
+        {
+            throw new IllegalStateException(message);
+        }
+    }
+
+    public static class TestInstance
+    {
+        private String name;
+
+        public TestInstance(String name)
+        {
+            this.name = name;
+        }
+
+        public String _name()
+        {
+            return this.name;
+        }
+
+        public TestInstance _name(RichIterable<? extends String> names)
+        {
+            this.name = names.getFirst();
+            return this;
+        }
+    }
+}
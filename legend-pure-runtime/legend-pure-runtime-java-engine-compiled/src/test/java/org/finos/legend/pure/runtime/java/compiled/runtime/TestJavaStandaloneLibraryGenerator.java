@@ -16,9 +16,14 @@ package org.finos.legend.pure.runtime.java.compiled.runtime;
 
 import org.eclipse.collections.api.RichIterable;
 import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.impl.tuple.Tuples;
 import org.eclipse.collections.impl.utility.Iterate;
 import org.eclipse.collections.impl.utility.ListIterate;
 import org.finos.legend.pure.m3.execution.ExecutionSupport;
+import org.finos.legend.pure.m3.navigation.Instance;
+import org.finos.legend.pure.m3.navigation.M3Properties;
+import org.finos.legend.pure.m3.navigation.PrimitiveUtilities;
 import org.finos.legend.pure.m3.serialization.filesystem.repository.CodeRepository;
 import org.finos.legend.pure.m3.serialization.filesystem.repository.GenericCodeRepository;
 import org.finos.legend.pure.m3.serialization.filesystem.usercodestorage.MutableRepositoryCodeStorage;
@@ -27,7 +32,10 @@ import org.finos.legend.pure.m3.serialization.filesystem.usercodestorage.composi
 import org.finos.legend.pure.m3.serialization.filesystem.usercodestorage.empty.EmptyCodeStorage;
 import org.finos.legend.pure.m3.statelistener.VoidExecutionActivityListener;
 import org.finos.legend.pure.m3.tests.AbstractPureTestWithCoreCompiled;
+import org.finos.legend.pure.m4.coreinstance.CoreInstance;
 import org.finos.legend.pure.runtime.java.compiled.compiler.JavaCompilerState;
+import org.finos.legend.pure.runtime.java.compiled.compiler.PureJavaCompiler;
+import org.finos.legend.pure.runtime.java.compiled.compiler.StringJavaSource;
 import org.finos.legend.pure.runtime.java.compiled.execution.CompiledExecutionSupport;
 import org.finos.legend.pure.runtime.java.compiled.execution.CompiledProcessorSupport;
 import org.finos.legend.pure.runtime.java.compiled.execution.ConsoleCompiled;
@@ -51,6 +59,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -212,4 +221,113 @@ public class TestJavaStandaloneLibraryGenerator extends AbstractPureTestWithCore
        Assert.assertTrue(generate.getJavaSourcesByGroup().get("test").stream().filter(s -> s.toUri().getPath().equals("/org/finos/legend/pure/generated/test_standalone_tests.java")).collect(Collectors.toList()).get(0).getCode().contains("Root_test_standalone_simplePureTestWithApplication__Boolean_1_"));
 
     }
+
+    @Test
+    public void testParallelGenerateOnlyMatchesSequential()
+    {
+        Generate sequential = JavaStandaloneLibraryGenerator.newGenerator(runtime, CompiledExtensionLoader.extensions(), false, null, new VoidLog())
+                .generateOnly(false, false, null);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try
+        {
+            Generate parallel = JavaStandaloneLibraryGenerator.newGenerator(runtime, CompiledExtensionLoader.extensions(), false, null, true, new VoidLog(), pool)
+                    .generateOnly(false, false, null);
+            Assert.assertEquals(sequential.getJavaSourcesByGroup().keysView().toList(), parallel.getJavaSourcesByGroup().keysView().toList());
+            sequential.getJavaSourcesByGroup().forEachKeyValue((group, sources) ->
+            {
+                ImmutableList<StringJavaSource> parallelSources = parallel.getJavaSourcesByGroup().get(group);
+                Assert.assertEquals(group, sources.collect(StringJavaSource::getName), parallelSources.collect(StringJavaSource::getName));
+                Assert.assertEquals(group, sources.collect(StringJavaSource::getCode), parallelSources.collect(StringJavaSource::getCode));
+            });
+        }
+        finally
+        {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testParallelCompileOnly() throws Exception
+    {
+        Generate generate = JavaStandaloneLibraryGenerator.newGenerator(runtime, CompiledExtensionLoader.extensions(), false, null, new VoidLog())
+                .generateOnly(true, false, null);
+        RichIterable<? extends CodeRepository> repositories = runtime.getCodeStorage().getAllRepositories();
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try
+        {
+            PureJavaCompiler compiler = JavaStandaloneLibraryGenerator.compileOnly(generate.getJavaSourcesByGroup().keyValuesView(), generate.getExternalizableSources(), false,
+                    group ->
+                    {
+                        CodeRepository repository = runtime.getCodeStorage().getRepository(group);
+                        return repositories.select(r -> (r != repository) && repository.isVisible(r)).collect(CodeRepository::getName);
+                    },
+                    pool, new VoidLog());
+            Assert.assertNotNull(compiler.getClassLoader().loadClass(JavaPackageAndImportBuilder.getRootPackage() + ".test_standalone_tests"));
+            Assert.assertNotNull(compiler.getClassLoader().loadClass(JavaPackageAndImportBuilder.getRootPackage() + ".Root_other_standalone_TestClassC_Impl"));
+        }
+        finally
+        {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testParallelCompileOnlyWithUnknownGroupDependencies() throws Exception
+    {
+        StringJavaSource classA = StringJavaSource.newStringJavaSource("test.groups", "A", "public class A\n{\n}\n");
+        StringJavaSource classB = StringJavaSource.newStringJavaSource("test.groups", "B", "public class B extends A\n{\n}\n");
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try
+        {
+            // B can only be compiled after A, as no dependencies are known for its group
+            PureJavaCompiler compiler = JavaStandaloneLibraryGenerator.compileOnly(Lists.immutable.with(Tuples.pair("groupA", Lists.immutable.with(classA)), Tuples.pair("groupB", Lists.immutable.with(classB))), Lists.immutable.empty(), false,
+                    group -> null, pool, new VoidLog());
+            Assert.assertEquals("test.groups.A", compiler.getClassLoader().loadClass("test.groups.B").getSuperclass().getName());
+        }
+        finally
+        {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testParallelCompile() throws Exception
+    {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try
+        {
+            PureJavaCompiler compiler = JavaStandaloneLibraryGenerator.newGenerator(runtime, CompiledExtensionLoader.extensions(), false, null, true, new VoidLog(), pool)
+                    .compile(true, false, null);
+            Assert.assertNotNull(compiler.getClassLoader().loadClass(JavaPackageAndImportBuilder.getRootPackage() + ".test_standalone_tests"));
+            Assert.assertNotNull(compiler.getClassLoader().loadClass(JavaPackageAndImportBuilder.getRootPackage() + ".Root_other_standalone_TestClassC_Impl"));
+        }
+        finally
+        {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testParallelGenerateSetsColSpecTypeArgumentsInGraph()
+    {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try
+        {
+            JavaStandaloneLibraryGenerator.newGenerator(runtime, CompiledExtensionLoader.extensions(), false, null, true, new VoidLog(), pool)
+                    .generateOnly(false, false, null);
+        }
+        finally
+        {
+            pool.shutdown();
+        }
+
+        // as in sequential generation, the last type argument of ColSpec-like generic types is set to Any in the graph
+        CoreInstance function = processorSupport.package_getByUserPath("meta::pure::functions::relation").getValueForMetaPropertyToMany(M3Properties.children)
+                .detect(c -> "aggColSpecArray".equals(PrimitiveUtilities.getStringValue(c.getValueForMetaPropertyToOne(M3Properties.functionName), null)));
+        Assert.assertNotNull(function);
+        CoreInstance map = processorSupport.function_getFunctionType(function).getValueForMetaPropertyToMany(M3Properties.parameters).getFirst();
+        CoreInstance lastTypeArgument = map.getValueForMetaPropertyToOne(M3Properties.genericType).getValueForMetaPropertyToMany(M3Properties.typeArguments).getLast();
+        Assert.assertSame(processorSupport.type_TopType(), Instance.getValueForMetaPropertyToOneResolved(lastTypeArgument, M3Properties.rawType, processorSupport));
+        Assert.assertTrue(lastTypeArgument.getValueForMetaPropertyToMany(M3Properties.typeArguments).isEmpty());
+    }
 }
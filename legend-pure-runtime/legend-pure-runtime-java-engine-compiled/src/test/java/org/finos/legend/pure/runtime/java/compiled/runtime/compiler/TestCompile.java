@@ -0,0 +1,162 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.runtime.java.compiled.runtime.compiler;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.impl.factory.Maps;
+import org.finos.legend.pure.runtime.java.compiled.compiler.ClassJavaSource;
+import org.finos.legend.pure.runtime.java.compiled.compiler.Compile;
+import org.finos.legend.pure.runtime.java.compiled.compiler.PureJavaCompileException;
+import org.finos.legend.pure.runtime.java.compiled.compiler.PureJavaCompiler;
+import org.finos.legend.pure.runtime.java.compiled.compiler.StringJavaSource;
+import org.finos.legend.pure.runtime.java.compiled.generation.orchestrator.VoidLog;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TestCompile
+{
+    private static final String PACKAGE = "org.finos.legend.pure.generated.testcompile";
+    private static final String OTHER_PACKAGE = "org.finos.legend.pure.generated.testcompile.other";
+
+    @Test
+    public void testReuseUnchangedClasses() throws Exception
+    {
+        PureJavaCompiler compiler = new PureJavaCompiler(null);
+        Compile compile = new Compile(compiler, null, true);
+
+        compile.compile("test", Lists.mutable.with(
+                newSource("A", "public class A { public static int a() { return 1; } }"),
+                newSource("B", "public class B { public static int b() { return A.a(); } }"),
+                newSource("C", "public class C { public static int c() { return 3; } }")), new VoidLog());
+        MutableMap<String, byte[]> firstBytes = getClassBytes(compiler);
+        Assert.assertEquals(1, compiler.getClassLoader().loadClass(PACKAGE + ".B").getMethod("b").invoke(null));
+
+        compile.compile("test", Lists.mutable.with(
+                newSource("A", "public class A { public static int a() { return 2; } }"),
+                newSource("B", "public class B { public static int b() { return A.a(); } }"),
+                newSource("C", "public class C { public static int c() { return 3; } }")), new VoidLog());
+        MutableMap<String, byte[]> secondBytes = getClassBytes(compiler);
+
+        // A changed and B refers to A, so both are recompiled; C is unchanged and is not
+        Assert.assertNotSame(firstBytes.get(PACKAGE + ".A"), secondBytes.get(PACKAGE + ".A"));
+        Assert.assertNotSame(firstBytes.get(PACKAGE + ".B"), secondBytes.get(PACKAGE + ".B"));
+        Assert.assertSame(firstBytes.get(PACKAGE + ".C"), secondBytes.get(PACKAGE + ".C"));
+        Assert.assertEquals(2, compiler.getClassLoader().loadClass(PACKAGE + ".B").getMethod("b").invoke(null));
+        Assert.assertEquals(3, compiler.getClassLoader().loadClass(PACKAGE + ".C").getMethod("c").invoke(null));
+    }
+
+    @Test
+    public void testRecompileDependentsInOtherGroups() throws Exception
+    {
+        PureJavaCompiler compiler = new PureJavaCompiler(null);
+        Compile compile = new Compile(compiler, null, true);
+
+        StringJavaSource b = newSource(OTHER_PACKAGE, "B", "import " + PACKAGE + ".A;\npublic class B { public static int b() { return A.a(); } }");
+        StringJavaSource c = newSource(OTHER_PACKAGE, "C", "public class C { public static int c() { return " + PACKAGE + ".A.a() + 1; } }");
+        StringJavaSource d = newSource(OTHER_PACKAGE, "D", "public class D { public static int d() { return 4; } }");
+        compile.compile("repoA", Lists.mutable.with(newSource("A", "public class A { public static int a() { return 1; } }")), new VoidLog());
+        compile.compile("repoB", Lists.mutable.with(b, c, d), new VoidLog());
+        MutableMap<String, byte[]> firstBytes = getClassBytes(compiler);
+        Assert.assertEquals(1, compiler.getClassLoader().loadClass(OTHER_PACKAGE + ".B").getMethod("b").invoke(null));
+
+        // only A's repository is regenerated, but B and C (which refer to A from another repository) must be recompiled
+        compile.compile("repoA", Lists.mutable.with(newSource("A", "public class A { public static int a() { return 2; } }")), new VoidLog());
+        compile.compile("repoB", Lists.mutable.with(b, c, d), new VoidLog());
+        MutableMap<String, byte[]> secondBytes = getClassBytes(compiler);
+
+        Assert.assertNotSame(firstBytes.get(PACKAGE + ".A"), secondBytes.get(PACKAGE + ".A"));
+        Assert.assertNotSame(firstBytes.get(OTHER_PACKAGE + ".B"), secondBytes.get(OTHER_PACKAGE + ".B"));
+        Assert.assertNotSame(firstBytes.get(OTHER_PACKAGE + ".C"), secondBytes.get(OTHER_PACKAGE + ".C"));
+        Assert.assertSame(firstBytes.get(OTHER_PACKAGE + ".D"), secondBytes.get(OTHER_PACKAGE + ".D"));
+        Assert.assertEquals(2, compiler.getClassLoader().loadClass(OTHER_PACKAGE + ".B").getMethod("b").invoke(null));
+        Assert.assertEquals(3, compiler.getClassLoader().loadClass(OTHER_PACKAGE + ".C").getMethod("c").invoke(null));
+    }
+
+    @Test
+    public void testSameSimpleNameInDifferentPackages() throws Exception
+    {
+        PureJavaCompiler compiler = new PureJavaCompiler(null);
+        Compile compile = new Compile(compiler, null, true);
+
+        StringJavaSource b = newSource("B", "public class B { public static int b() { return A.a(); } }");
+        compile.compile("test", Lists.mutable.with(
+                newSource("A", "public class A { public static int a() { return 1; } }"),
+                b,
+                newSource(OTHER_PACKAGE, "A", "public class A { public static int a() { return 10; } }")), new VoidLog());
+        MutableMap<String, byte[]> firstBytes = getClassBytes(compiler);
+
+        // the changed A is in another package: B does not refer to it, so it is not recompiled
+        compile.compile("test", Lists.mutable.with(
+                newSource("A", "public class A { public static int a() { return 1; } }"),
+                b,
+                newSource(OTHER_PACKAGE, "A", "public class A { public static int a() { return 20; } }")), new VoidLog());
+        MutableMap<String, byte[]> secondBytes = getClassBytes(compiler);
+
+        Assert.assertSame(firstBytes.get(PACKAGE + ".A"), secondBytes.get(PACKAGE + ".A"));
+        Assert.assertSame(firstBytes.get(PACKAGE + ".B"), secondBytes.get(PACKAGE + ".B"));
+        Assert.assertNotSame(firstBytes.get(OTHER_PACKAGE + ".A"), secondBytes.get(OTHER_PACKAGE + ".A"));
+        Assert.assertEquals(1, compiler.getClassLoader().loadClass(PACKAGE + ".B").getMethod("b").invoke(null));
+        Assert.assertEquals(20, compiler.getClassLoader().loadClass(OTHER_PACKAGE + ".A").getMethod("a").invoke(null));
+    }
+
+    @Test
+    public void testRemoveJavaSources() throws Exception
+    {
+        PureJavaCompiler compiler = new PureJavaCompiler(null);
+        Compile compile = new Compile(compiler, null, true);
+
+        StringJavaSource a = newSource("A", "public class A { public static class Inner { } public static int a() { return 1; } }");
+        StringJavaSource b = newSource("B", "public class B { public static int b() { return 2; } }");
+        compile.compile("test", Lists.mutable.with(a, b), new VoidLog());
+        Assert.assertEquals(Sets.mutable.with(PACKAGE + ".A", PACKAGE + ".A$Inner", PACKAGE + ".B"), getClassBytes(compiler).keysView().toSet());
+
+        compile.removeJavaSources(Lists.mutable.with(a.getName()));
+        Assert.assertEquals(Sets.mutable.with(PACKAGE + ".B"), getClassBytes(compiler).keysView().toSet());
+
+        // a source which refers to the removed class no longer compiles
+        try
+        {
+            compile.compile("test", Lists.mutable.with(b, newSource("C", "public class C { public static int c() { return A.a(); } }")), new VoidLog());
+            Assert.fail("Expected compilation failure");
+        }
+        catch (PureJavaCompileException e)
+        {
+            // expected
+        }
+    }
+
+    private static StringJavaSource newSource(String name, String code)
+    {
+        return newSource(PACKAGE, name, code);
+    }
+
+    private static StringJavaSource newSource(String packageName, String name, String code)
+    {
+        return StringJavaSource.newStringJavaSource(packageName, name, code, false);
+    }
+
+    private static MutableMap<String, byte[]> getClassBytes(PureJavaCompiler compiler)
+    {
+        MutableMap<String, byte[]> bytes = Maps.mutable.empty();
+        for (ClassJavaSource source : compiler.getFileManager().getAllClassJavaSources(false))
+        {
+            String name = source.getName();
+            bytes.put(name.substring(1, name.length() - ".class".length()).replace('/', '.'), source.getBytes());
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,148 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.runtime.java.compiled.runtime.serialization;
+
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.list.ListIterable;
+import org.eclipse.collections.api.map.MutableMap;
+import org.finos.legend.pure.m3.navigation.M3Paths;
+import org.finos.legend.pure.m3.tests.AbstractPureTestWithCoreCompiled;
+import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+import org.finos.legend.pure.runtime.java.compiled.factory.JavaModelFactoryRegistryLoader;
+import org.finos.legend.pure.runtime.java.compiled.generation.processors.support.map.PureCacheMapStats;
+import org.finos.legend.pure.runtime.java.compiled.metadata.MetadataLazy;
+import org.finos.legend.pure.runtime.java.compiled.serialization.binary.DistributedBinaryGraphDeserializer;
+import org.finos.legend.pure.runtime.java.compiled.serialization.binary.DistributedBinaryGraphSerializer;
+import org.finos.legend.pure.runtime.java.compiled.serialization.model.ObjRef;
+import org.finos.legend.pure.runtime.java.compiled.serialization.model.RValue;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class TestMetadataLazyBoundedCache extends AbstractPureTestWithCoreCompiled
+{
+    private static final int MAX_SIZE = 20;
+
+    private DistributedBinaryGraphDeserializer deserializer;
+    private MetadataLazy metadataLazy;
+
+    @BeforeClass
+    public static void setUp()
+    {
+        setUpRuntime(getFunctionExecution(), JavaModelFactoryRegistryLoader.loader());
+    }
+
+    @Before
+    public void setUpLazyMetaData()
+    {
+        MutableMap<String, byte[]> fileBytes = Maps.mutable.empty();
+        DistributedBinaryGraphSerializer.newSerializer(runtime).serializeToInMemoryByteArrays(fileBytes);
+        this.deserializer = DistributedBinaryGraphDeserializer.newBuilder(fileBytes).build();
+        this.metadataLazy = MetadataLazy.newBuilder(Thread.currentThread().getContextClassLoader(), this.deserializer)
+                .withMaximumCacheSize(MAX_SIZE)
+                .build();
+    }
+
+    @Test
+    public void testUnboundedHasNoStats()
+    {
+        Assert.assertNull(MetadataLazy.newMetadata(Thread.currentThread().getContextClassLoader(), this.deserializer).getCacheStats());
+    }
+
+    @Test
+    public void testHitsAndMisses()
+    {
+        String id = "Root::" + M3Paths.Class;
+        CoreInstance cls = this.metadataLazy.getMetadata(M3Paths.Class, id);
+        Assert.assertSame(cls, this.metadataLazy.getMetadata(M3Paths.Class, id));
+
+        PureCacheMapStats stats = this.metadataLazy.getCacheStats();
+        Assert.assertEquals(1, stats.getHitCount());
+        Assert.assertEquals(1, stats.getMissCount());
+        Assert.assertEquals(0, stats.getEvictionCount());
+        Assert.assertEquals(1, this.metadataLazy.getCacheSize());
+    }
+
+    @Test
+    public void testMissesCountedOnce()
+    {
+        ListIterable<RValue> values = Lists.immutable.<RValue>with(
+                new ObjRef(M3Paths.Class, "Root::" + M3Paths.Class),
+                new ObjRef(M3Paths.Class, "Root::" + M3Paths.Enumeration),
+                new ObjRef(M3Paths.Class, "Root::" + M3Paths.Class));
+        RichIterable<Object> objects = this.metadataLazy.valuesToObjects(values);
+        Assert.assertEquals(Lists.mutable.with("Class", "Enumeration", "Class"), objects.collect(o -> ((CoreInstance) o).getName(), Lists.mutable.empty()));
+
+        PureCacheMapStats stats = this.metadataLazy.getCacheStats();
+        Assert.assertEquals(0, stats.getHitCount());
+        Assert.assertEquals(2, stats.getMissCount());
+        Assert.assertEquals(2, this.metadataLazy.getCacheSize());
+
+        this.metadataLazy.valuesToObjects(values);
+        stats = this.metadataLazy.getCacheStats();
+        Assert.assertEquals(2, stats.getHitCount());
+        Assert.assertEquals(2, stats.getMissCount());
+    }
+
+    @Test
+    public void testCompleteClassifier()
+    {
+        String enumeration = "meta::pure::metamodel::function::property::AggregationKind";
+        RichIterable<CoreInstance> values = this.metadataLazy.getClassifierInstances(enumeration);
+        Assert.assertTrue(values.notEmpty());
+        Assert.assertTrue(values.size() < MAX_SIZE);
+
+        // all instances of the classifier are cached, so they are served from the cache without decoding them again
+        RichIterable<CoreInstance> again = this.metadataLazy.getClassifierInstances(enumeration);
+        Assert.assertEquals(values.toSet(), again.toSet());
+        values.forEach(v -> Assert.assertSame(v, this.metadataLazy.getEnum(enumeration, v.getName())));
+        Assert.assertEquals(values.size(), this.metadataLazy.getCacheStats().getHitCount());
+        Assert.assertEquals(0, this.metadataLazy.getCacheStats().getMissCount());
+
+        // once some of them are evicted, the classifier is no longer complete
+        this.metadataLazy.getClassifierInstances(M3Paths.Class);
+        Assert.assertEquals(values.collect(CoreInstance::getName).toSet(), this.metadataLazy.getClassifierInstances(enumeration).collect(CoreInstance::getName).toSet());
+    }
+
+    @Test
+    public void testEviction()
+    {
+        int classCount = this.deserializer.getClassifierInstanceIds(M3Paths.Class).size();
+        Assert.assertTrue(classCount > MAX_SIZE);
+
+        Assert.assertEquals(classCount, this.metadataLazy.getMetadata(M3Paths.Class).size());
+        Assert.assertEquals(classCount, this.metadataLazy.getClassifierInstances(M3Paths.Class).size());
+
+        PureCacheMapStats stats = this.metadataLazy.getCacheStats();
+        Assert.assertTrue(this.metadataLazy.getCacheSize() <= MAX_SIZE);
+        Assert.assertTrue(stats.getEvictionCount() > 0);
+
+        // evicted instances are recreated on demand
+        CoreInstance cls = this.metadataLazy.getMetadata(M3Paths.Class, "Root::" + M3Paths.Class);
+        Assert.assertEquals("Class", cls.getName());
+    }
+
+    @Test
+    public void testBoundedEnum()
+    {
+        CoreInstance none = this.metadataLazy.getEnum("meta::pure::metamodel::function::property::AggregationKind", "None");
+        Assert.assertEquals("None", none.getName());
+        Assert.assertSame(none, this.metadataLazy.getEnum("meta::pure::metamodel::function::property::AggregationKind", "None"));
+        Assert.assertThrows(RuntimeException.class, () -> this.metadataLazy.getEnum("meta::pure::metamodel::function::property::AggregationKind", "NotAKind"));
+    }
+}
@@ -0,0 +1,109 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.runtime.java.compiled.runtime.serialization;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.MutableMap;
+import org.finos.legend.pure.m3.navigation.M3Paths;
+import org.finos.legend.pure.m3.tests.AbstractPureTestWithCoreCompiled;
+import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+import org.finos.legend.pure.runtime.java.compiled.factory.JavaModelFactoryRegistryLoader;
+import org.finos.legend.pure.runtime.java.compiled.metadata.MetadataLazy;
+import org.finos.legend.pure.runtime.java.compiled.serialization.binary.DistributedBinaryGraphDeserializer;
+import org.finos.legend.pure.runtime.java.compiled.serialization.binary.DistributedBinaryGraphSerializer;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class TestMetadataLazyPrefetch extends AbstractPureTestWithCoreCompiled
+{
+    private static ExecutorService executor;
+
+    private DistributedBinaryGraphDeserializer deserializer;
+    private MetadataLazy metadataLazy;
+
+    @BeforeClass
+    public static void setUp()
+    {
+        setUpRuntime(getFunctionExecution(), JavaModelFactoryRegistryLoader.loader());
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterClass
+    public static void tearDownExecutor()
+    {
+        executor.shutdown();
+    }
+
+    @Before
+    public void setUpLazyMetaData()
+    {
+        MutableMap<String, byte[]> fileBytes = Maps.mutable.empty();
+        DistributedBinaryGraphSerializer.newSerializer(runtime).serializeToInMemoryByteArrays(fileBytes);
+        this.deserializer = DistributedBinaryGraphDeserializer.newBuilder(fileBytes).build();
+        this.metadataLazy = MetadataLazy.newMetadata(Thread.currentThread().getContextClassLoader(), this.deserializer, executor);
+    }
+
+    @Test
+    public void testPrefetch()
+    {
+        MutableList<String> ids = this.deserializer.getClassifierInstanceIds(M3Paths.Class).toList();
+        Assert.assertTrue(ids.size() > 128);
+        Assert.assertEquals(ids.size(), this.metadataLazy.prefetch(M3Paths.Class, ids));
+        Assert.assertEquals(0, this.metadataLazy.prefetch(M3Paths.Class, ids));
+
+        CoreInstance cls = this.metadataLazy.getMetadata(M3Paths.Class, "Root::" + M3Paths.Class);
+        Assert.assertSame(cls, this.metadataLazy.getMetadata(M3Paths.Class).get("Root::" + M3Paths.Class));
+        Assert.assertEquals(ids.toSet(), this.metadataLazy.getMetadata(M3Paths.Class).keysView().toSet());
+    }
+
+    @Test
+    public void testPrefetchIgnoresUnknown()
+    {
+        Assert.assertEquals(0, this.metadataLazy.prefetch("not::a::Classifier", Lists.fixedSize.with("Root::not::an::Instance")));
+        Assert.assertEquals(1, this.metadataLazy.prefetch(M3Paths.Class, Lists.fixedSize.with("Root::not::an::Instance", "Root::" + M3Paths.Class)));
+    }
+
+    @Test
+    public void testPrefetchTransitive()
+    {
+        String id = "Root::" + M3Paths.Class;
+        Assert.assertEquals(1, this.metadataLazy.prefetchTransitive(M3Paths.Class, id, 0));
+        Assert.assertEquals(0, this.metadataLazy.prefetchTransitive(M3Paths.Class, id, 0));
+
+        int depth1 = this.metadataLazy.prefetchTransitive(M3Paths.Class, id, 1);
+        Assert.assertTrue(depth1 > 0);
+        int depth3 = this.metadataLazy.prefetchTransitive(M3Paths.Class, id, 3);
+        Assert.assertTrue(depth3 > 0);
+        Assert.assertEquals(0, this.metadataLazy.prefetchTransitive(M3Paths.Class, id, 3));
+        Assert.assertThrows(IllegalArgumentException.class, () -> this.metadataLazy.prefetchTransitive(M3Paths.Class, id, -1));
+    }
+
+    @Test
+    public void testParallelLoadAllMatchesSequential()
+    {
+        MetadataLazy sequential = MetadataLazy.newMetadata(Thread.currentThread().getContextClassLoader(), this.deserializer);
+        Assert.assertEquals(
+                sequential.getClassifierInstances(M3Paths.Class).collect(CoreInstance::getName).toSortedList(),
+                this.metadataLazy.getClassifierInstances(M3Paths.Class).collect(CoreInstance::getName).toSortedList());
+    }
+}
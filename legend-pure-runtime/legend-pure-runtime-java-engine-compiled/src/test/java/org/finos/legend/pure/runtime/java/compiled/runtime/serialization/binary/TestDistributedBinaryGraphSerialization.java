@@ -71,7 +71,7 @@ public abstract class TestDistributedBinaryGraphSerialization extends AbstractPu
         serializer.serialize(getFileWriter());
 
         // Deserialize
-        DistributedBinaryGraphDeserializer.Builder deserializerBuilder = DistributedBinaryGraphDeserializer.newBuilder(getFileReader());
+        DistributedBinaryGraphDeserializer.Builder deserializerBuilder = newDeserializerBuilder();
         if ((metadataNames == null) || (metadataNames.length == 0))
         {
             deserializerBuilder.withNoMetadataName();
@@ -106,6 +106,11 @@ public abstract class TestDistributedBinaryGraphSerialization extends AbstractPu
         }
     }
 
+    protected DistributedBinaryGraphDeserializer.Builder newDeserializerBuilder() throws IOException
+    {
+        return DistributedBinaryGraphDeserializer.newBuilder(getFileReader());
+    }
+
     protected abstract FileWriter getFileWriter() throws IOException;
 
     protected abstract FileReader getFileReader() throws IOException;
@@ -0,0 +1,65 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.runtime.java.compiled.runtime.serialization.binary;
+
+import org.finos.legend.pure.runtime.java.compiled.serialization.binary.DistributedStringCache;
+import org.finos.legend.pure.runtime.java.compiled.serialization.binary.FileReader;
+import org.finos.legend.pure.runtime.java.compiled.serialization.binary.FileReaders;
+import org.finos.legend.pure.runtime.java.compiled.serialization.binary.FileWriters;
+import org.finos.legend.pure.runtime.java.compiled.serialization.binary.MappedStringIndex;
+import org.finos.legend.pure.runtime.java.compiled.serialization.binary.StringIndex;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.file.Path;
+import java.util.Collections;
+
+public class TestMappedStringCaching extends TestDistributedStringCaching
+{
+    private static final String METADATA_NAME = "platform";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Override
+    protected StringIndex serializeAndBuildIndex(DistributedStringCache cache)
+    {
+        Path directory = this.temporaryFolder.getRoot().toPath();
+        serialize(cache, FileWriters.fromDirectory(directory));
+        return buildIndex(FileReaders.fromMappedDirectory(directory));
+    }
+
+    @Override
+    protected StringIndex buildIndex(FileReader fileReader)
+    {
+        return MappedStringIndex.fromFileReader(METADATA_NAME, fileReader, 64);
+    }
+
+    @Test
+    public void testRequiresRandomAccess()
+    {
+        FileReader fileReader = FileReaders.fromInMemoryByteArrays(Collections.emptyMap());
+        Assert.assertThrows(IllegalArgumentException.class, () -> MappedStringIndex.fromFileReader(METADATA_NAME, fileReader));
+    }
+
+    @Test
+    public void testInvalidHotStringCacheSize()
+    {
+        FileReader fileReader = FileReaders.fromMappedDirectory(this.temporaryFolder.getRoot().toPath());
+        Assert.assertThrows(IllegalArgumentException.class, () -> MappedStringIndex.fromFileReader(METADATA_NAME, fileReader, 100));
+    }
+}
@@ -0,0 +1,56 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.runtime.java.compiled.runtime.serialization.binary;
+
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.map.MutableMap;
+import org.finos.legend.pure.m3.tests.AbstractPureTestWithCoreCompiled;
+import org.finos.legend.pure.runtime.java.compiled.factory.JavaModelFactoryRegistryLoader;
+import org.finos.legend.pure.runtime.java.compiled.serialization.binary.DistributedBinaryGraphSerializer;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+public class TestParallelDistributedBinaryGraphSerialization extends AbstractPureTestWithCoreCompiled
+{
+    @BeforeClass
+    public static void setUp()
+    {
+        setUpRuntime(getFunctionExecution(), JavaModelFactoryRegistryLoader.loader());
+    }
+
+    @Test
+    public void testParallelOutputMatchesSequential()
+    {
+        MutableMap<String, byte[]> sequentialFiles = Maps.mutable.empty();
+        DistributedBinaryGraphSerializer.newSerializer(runtime).serializeToInMemoryByteArrays(sequentialFiles);
+
+        MutableMap<String, byte[]> parallelFiles = Maps.mutable.empty();
+        ForkJoinPool forkJoinPool = new ForkJoinPool(4);
+        try
+        {
+            DistributedBinaryGraphSerializer.newSerializer(runtime).serializeToInMemoryByteArrays(parallelFiles, forkJoinPool);
+        }
+        finally
+        {
+            forkJoinPool.shutdown();
+        }
+
+        Assert.assertEquals(sequentialFiles.keysView().toSortedList(), parallelFiles.keysView().toSortedList());
+        sequentialFiles.forEachKeyValue((file, bytes) -> Assert.assertArrayEquals(file, bytes, parallelFiles.get(file)));
+    }
+}
@@ -51,9 +51,7 @@ public abstract class TestStringCaching<T extends StringCache> extends AbstractP
         String[] expectedClassifiers = getExpectedClassifiers(cache);
         String[] expectedOtherStrings = getExpectedOtherStrings(cache);
 
-        MutableMap<String, byte[]> serialization = Maps.mutable.empty();
-        serialize(cache, FileWriters.fromInMemoryByteArrayMap(serialization));
-        StringIndex index = buildIndex(FileReaders.fromInMemoryByteArrays(serialization));
+        StringIndex index = serializeAndBuildIndex(cache);
         Assert.assertNull(index.getString(0));
 
         for (int i = 0; i < expectedClassifiers.length; i++)
@@ -79,6 +77,13 @@ public abstract class TestStringCaching<T extends StringCache> extends AbstractP
         return cache.getOtherStringsArray();
     }
 
+    protected StringIndex serializeAndBuildIndex(T cache)
+    {
+        MutableMap<String, byte[]> serialization = Maps.mutable.empty();
+        serialize(cache, FileWriters.fromInMemoryByteArrayMap(serialization));
+        return buildIndex(FileReaders.fromInMemoryByteArrays(serialization));
+    }
+
     protected abstract void serialize(T cache, FileWriter fileWriter);
 
     protected abstract StringIndex buildIndex(FileReader fileReader);
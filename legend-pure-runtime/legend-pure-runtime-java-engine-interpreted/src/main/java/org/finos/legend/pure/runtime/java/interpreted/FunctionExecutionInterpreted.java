@@ -14,14 +14,18 @@
 
 package org.finos.legend.pure.runtime.java.interpreted;
 
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.block.function.Function0;
 import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.factory.Maps;
 import org.eclipse.collections.api.factory.Stacks;
 import org.eclipse.collections.api.list.ListIterable;
 import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.ConcurrentMutableMap;
 import org.eclipse.collections.api.map.MutableMap;
 import org.eclipse.collections.api.stack.MutableStack;
 import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
 import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.function.FunctionCoreInstanceWrapper;
 import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.function.LambdaFunction;
 import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.function.LambdaFunctionCoreInstanceWrapper;
@@ -39,6 +43,7 @@ import org.finos.legend.pure.m3.navigation.Instance;
 import org.finos.legend.pure.m3.navigation.M3Paths;
 import org.finos.legend.pure.m3.navigation.M3ProcessorSupport;
 import org.finos.legend.pure.m3.navigation.M3Properties;
+import org.finos.legend.pure.m3.navigation.M3PropertySlots;
 import org.finos.legend.pure.m3.navigation.PackageableElement.PackageableElement;
 import org.finos.legend.pure.m3.navigation.PrimitiveUtilities;
 import org.finos.legend.pure.m3.navigation.ProcessorSupport;
@@ -49,8 +54,10 @@ import org.finos.legend.pure.m3.navigation.multiplicity.Multiplicity;
 import org.finos.legend.pure.m3.navigation.type.Type;
 import org.finos.legend.pure.m3.navigation.valuespecification.ValueSpecification;
 import org.finos.legend.pure.m3.serialization.filesystem.usercodestorage.RepositoryCodeStorage;
+import org.finos.legend.pure.m3.serialization.runtime.CompilerEventHandler;
 import org.finos.legend.pure.m3.serialization.runtime.Message;
 import org.finos.legend.pure.m3.serialization.runtime.PureRuntime;
+import org.finos.legend.pure.m3.serialization.runtime.Source;
 import org.finos.legend.pure.m3.statelistener.ExecutionActivityListener;
 import org.finos.legend.pure.m3.statelistener.VoidExecutionActivityListener;
 import org.finos.legend.pure.m4.ModelRepository;
@@ -227,6 +234,7 @@ import java.io.OutputStream;
 import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.Objects;
+import java.util.SortedMap;
 import java.util.Stack;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -247,6 +255,8 @@ public class FunctionExecutionInterpreted implements FunctionExecution
     private Message message;
 
     private MutableMap<String, NativeFunction> nativeFunctions;
+    private final ConcurrentMutableMap<CoreInstance, FunctionExpressionCallSite> functionExpressionCallSites = ConcurrentHashMap.newMap();
+    private final FunctionExpressionCallSiteInvalidator functionExpressionCallSiteInvalidator = new FunctionExpressionCallSiteInvalidator();
     private final int maxSQLRows;
     private final MutableList<InterpretedExtension> extensions;
 
@@ -276,11 +286,21 @@ public class FunctionExecutionInterpreted implements FunctionExecution
     @Override
     public void init(PureRuntime runtime, Message message)
     {
+        PureRuntime previousRuntime = this.runtime;
         this.runtime = runtime;
 
         this.processorSupport = new M3ProcessorSupport(this.runtime.getContext(), this.runtime.getModelRepository());
 
         this.nativeFunctions = Maps.mutable.empty();
+        this.functionExpressionCallSites.clear();
+        if (previousRuntime != runtime)
+        {
+            if (previousRuntime != null)
+            {
+                previousRuntime.getIncrementalCompiler().removeCompilerEventHandler(this.functionExpressionCallSiteInvalidator);
+            }
+            runtime.getIncrementalCompiler().addCompilerEventHandler(this.functionExpressionCallSiteInvalidator);
+        }
 
         ModelRepository repository = runtime.getModelRepository();
         this.storage = runtime.getCodeStorage();
@@ -602,6 +622,8 @@ public class FunctionExecutionInterpreted implements FunctionExecution
     public void addNativeFunction(String signature, NativeFunction function)
     {
         this.nativeFunctions.put(signature, function);
+        // cached call sites may refer to the previous native function (or to none)
+        this.functionExpressionCallSites.clear();
     }
 
     @Override
@@ -658,6 +680,28 @@ public class FunctionExecutionInterpreted implements FunctionExecution
         return this.nativeFunctions.get(functionName);
     }
 
+    /**
+     * Get the call site for a function expression, computing it if necessary. A call site is recomputed if the
+     * function the expression calls has changed since it was computed. Only the call sites of persistent expressions
+     * from sources are kept: expressions built at execution time (e.g., by meta-programming) are not, so that they can
+     * be garbage collected.
+     */
+    FunctionExpressionCallSite getFunctionExpressionCallSite(CoreInstance functionExpression, Function0<? extends FunctionExpressionCallSite> factory)
+    {
+        if (!functionExpression.isPersistent() || (functionExpression.getSourceInformation() == null))
+        {
+            return factory.value();
+        }
+
+        FunctionExpressionCallSite callSite = this.functionExpressionCallSites.get(functionExpression);
+        if ((callSite == null) || (callSite.getFunction() != functionExpression.getValueForMetaPropertyToOne(M3PropertySlots.func)))
+        {
+            callSite = factory.value();
+            this.functionExpressionCallSites.put(functionExpression, callSite);
+        }
+        return callSite;
+    }
+
     public String printStack(Stack<MutableMap<String, CoreInstance>> resolvedTypeParameters, ProcessorSupport processorSupport)
     {
         int size = resolvedTypeParameters.size();
@@ -1097,4 +1141,36 @@ public class FunctionExecutionInterpreted implements FunctionExecution
     {
         return new OutputWriterInterpreted();
     }
+
+    private class FunctionExpressionCallSiteInvalidator implements CompilerEventHandler
+    {
+        @Override
+        public void finishedCompilingCore(RichIterable<? extends Source> compiledSources)
+        {
+        }
+
+        @Override
+        public void compiled(SortedMap<String, RichIterable<? extends Source>> compiledSourcesByRepo, RichIterable<? extends CoreInstance> consolidatedCoreInstances)
+        {
+            FunctionExecutionInterpreted.this.functionExpressionCallSites.clear();
+        }
+
+        @Override
+        public void invalidate(RichIterable<? extends CoreInstance> consolidatedCoreInstances)
+        {
+            FunctionExecutionInterpreted.this.functionExpressionCallSites.clear();
+        }
+
+        @Override
+        public boolean isInitialized()
+        {
+            return true;
+        }
+
+        @Override
+        public void reset()
+        {
+            FunctionExecutionInterpreted.this.functionExpressionCallSites.clear();
+        }
+    }
 }
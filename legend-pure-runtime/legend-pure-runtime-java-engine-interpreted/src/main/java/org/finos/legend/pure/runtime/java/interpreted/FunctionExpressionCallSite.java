@@ -0,0 +1,128 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.runtime.java.interpreted;
+
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.map.MutableMap;
+import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+import org.finos.legend.pure.runtime.java.interpreted.natives.NativeFunction;
+
+/**
+ * What is known about a function expression before it is executed: the function it calls, that function's native
+ * implementation (if any), and the type and multiplicity parameters that can be resolved from the compiled expression
+ * alone. This is computed on the first execution of an expression and reused by later executions.
+ */
+final class FunctionExpressionCallSite
+{
+    /**
+     * Where the call site's local type and multiplicity parameters come from.
+     */
+    enum ParameterSource
+    {
+        /**
+         * Resolved from the expression itself; these are fixed for the call site.
+         */
+        EXPRESSION,
+
+        /**
+         * Resolved from the generic type of the first parameter value (qualified properties and copy).
+         */
+        FIRST_PARAMETER_GENERIC_TYPE,
+
+        /**
+         * Resolved from the type argument of the generic type of the first parameter value (new).
+         */
+        FIRST_PARAMETER_TYPE_ARGUMENT
+    }
+
+    private final CoreInstance function;
+    private final NativeFunction nativeFunction;
+    private final boolean qualifiedProperty;
+    private final ParameterSource parameterSource;
+    private final MutableMap<String, CoreInstance> typeParameters;
+    private final MutableMap<String, CoreInstance> multiplicityParameters;
+
+    private FunctionExpressionCallSite(CoreInstance function, NativeFunction nativeFunction, boolean qualifiedProperty, ParameterSource parameterSource, MutableMap<String, CoreInstance> typeParameters, MutableMap<String, CoreInstance> multiplicityParameters)
+    {
+        this.function = function;
+        this.nativeFunction = nativeFunction;
+        this.qualifiedProperty = qualifiedProperty;
+        this.parameterSource = parameterSource;
+        this.typeParameters = typeParameters;
+        this.multiplicityParameters = multiplicityParameters;
+    }
+
+    CoreInstance getFunction()
+    {
+        return this.function;
+    }
+
+    NativeFunction getNativeFunction()
+    {
+        return this.nativeFunction;
+    }
+
+    boolean deferParameterExecution()
+    {
+        return (this.nativeFunction != null) && this.nativeFunction.deferParameterExecution();
+    }
+
+    boolean isQualifiedProperty()
+    {
+        return this.qualifiedProperty;
+    }
+
+    ParameterSource getParameterSource()
+    {
+        return this.parameterSource;
+    }
+
+    /**
+     * Get a new mutable copy of the type parameters resolved from the expression. These are only present if the
+     * parameter source is {@link ParameterSource#EXPRESSION}; otherwise, the result is empty.
+     *
+     * @return resolved type parameters
+     */
+    MutableMap<String, CoreInstance> newLocalTypeParameters()
+    {
+        return copy(this.typeParameters);
+    }
+
+    /**
+     * Get a new mutable copy of the multiplicity parameters resolved from the expression. These are only present if
+     * the parameter source is {@link ParameterSource#EXPRESSION}; otherwise, the result is empty.
+     *
+     * @return resolved multiplicity parameters
+     */
+    MutableMap<String, CoreInstance> newLocalMultiplicityParameters()
+    {
+        return copy(this.multiplicityParameters);
+    }
+
+    static FunctionExpressionCallSite newCallSiteResolvedFromExpression(CoreInstance function, NativeFunction nativeFunction, boolean qualifiedProperty, MutableMap<String, CoreInstance> typeParameters, MutableMap<String, CoreInstance> multiplicityParameters)
+    {
+        return new FunctionExpressionCallSite(function, nativeFunction, qualifiedProperty, ParameterSource.EXPRESSION, typeParameters, multiplicityParameters);
+    }
+
+    static FunctionExpressionCallSite newCallSiteResolvedFromParameter(CoreInstance function, NativeFunction nativeFunction, boolean qualifiedProperty, ParameterSource parameterSource)
+    {
+        return new FunctionExpressionCallSite(function, nativeFunction, qualifiedProperty, parameterSource, Maps.mutable.empty(), Maps.mutable.empty());
+    }
+
+    private static MutableMap<String, CoreInstance> copy(MutableMap<String, CoreInstance> map)
+    {
+        return map.isEmpty() ? Maps.mutable.empty() : Maps.mutable.withMap(map);
+    }
+}
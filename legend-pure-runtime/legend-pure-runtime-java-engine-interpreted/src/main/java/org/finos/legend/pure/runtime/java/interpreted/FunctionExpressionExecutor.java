@@ -30,14 +30,15 @@ import org.finos.legend.pure.m3.exception.PureExecutionException;
 import org.finos.legend.pure.m3.navigation.Instance;
 import org.finos.legend.pure.m3.navigation.M3Paths;
 import org.finos.legend.pure.m3.navigation.M3Properties;
+import org.finos.legend.pure.m3.navigation.M3PropertySlots;
 import org.finos.legend.pure.m3.navigation.ProcessorSupport;
 import org.finos.legend.pure.m3.navigation.function.FunctionType;
 import org.finos.legend.pure.m3.navigation.generictype.GenericType;
 import org.finos.legend.pure.m3.navigation.multiplicity.Multiplicity;
-import org.finos.legend.pure.m3.navigation.property.Property;
 import org.finos.legend.pure.m3.tools.ListHelper;
 import org.finos.legend.pure.m4.coreinstance.CoreInstance;
 import org.finos.legend.pure.runtime.java.interpreted.natives.InstantiationContext;
+import org.finos.legend.pure.runtime.java.interpreted.natives.NativeFunction;
 import org.finos.legend.pure.runtime.java.interpreted.profiler.Profiler;
 
 import java.util.Stack;
@@ -60,11 +61,15 @@ class FunctionExpressionExecutor implements Executor
             FunctionExpression functionExpression = FunctionExpressionCoreInstanceWrapper.toFunctionExpression(instance);
             ListIterable<? extends ValueSpecification> params = ListHelper.wrapListIterable(functionExpression._parametersValues());
             Function<?> function = FunctionCoreInstanceWrapper.toFunction(functionExpression._func());
+            FunctionExpressionCallSite callSite = functionExecutionInterpreted.getFunctionExpressionCallSite(instance, () -> newCallSite(functionExpression, function, functionExpressionCallStack, functionExecutionInterpreted, processorSupport));
 
-            MutableMap<String, CoreInstance> localResolvedTypeParameters = Maps.mutable.empty();
-            MutableMap<String, CoreInstance> localResolvedMultiplicityParameters = Maps.mutable.empty();
-            this.resolveLocalTypeAndMultiplicityParams(functionExpression, functionExpressionCallStack, processorSupport, params, function, localResolvedTypeParameters, localResolvedMultiplicityParameters);
-            boolean deferExecution = Instance.instanceOf(function, M3Paths.NativeFunction, processorSupport) && functionExecutionInterpreted.getNativeFunction(function.getName()) != null && functionExecutionInterpreted.getNativeFunction(function.getName()).deferParameterExecution();
+            MutableMap<String, CoreInstance> localResolvedTypeParameters = callSite.newLocalTypeParameters();
+            MutableMap<String, CoreInstance> localResolvedMultiplicityParameters = callSite.newLocalMultiplicityParameters();
+            if (callSite.getParameterSource() != FunctionExpressionCallSite.ParameterSource.EXPRESSION)
+            {
+                this.resolveLocalTypeAndMultiplicityParamsFromFirstParameter(callSite.getParameterSource(), params, processorSupport, localResolvedTypeParameters, localResolvedMultiplicityParameters);
+            }
+            boolean deferExecution = callSite.deferParameterExecution();
 
             MutableList<CoreInstance> parameters = (deferExecution || params.isEmpty()) ?
                                                    Lists.mutable.withAll(params) :
@@ -74,7 +79,7 @@ class FunctionExpressionExecutor implements Executor
                                                        return executor.execute(p, resolvedTypeParameters, resolvedMultiplicityParameters, functionExpressionCallStack, variableContext, profiler, instantiationContext, executionSupport, functionExecutionInterpreted, processorSupport);
                                                    }, Lists.mutable.ofInitialCapacity(params.size()));
 
-            if (Instance.instanceOf(function, M3Paths.QualifiedProperty, processorSupport))
+            if (callSite.isQualifiedProperty())
             {
                 parameters.addAll(1, parameters.get(0).getValueForMetaPropertyToOne(M3Properties.genericType).getValueForMetaPropertyToMany(M3Properties.typeVariableValues).toList());
             }
@@ -98,57 +103,75 @@ class FunctionExpressionExecutor implements Executor
         }
     }
 
-    private void resolveLocalTypeAndMultiplicityParams(FunctionExpression functionExpression, MutableStack<CoreInstance> functionExpressionCallStack, ProcessorSupport processorSupport, ListIterable<? extends CoreInstance> params, Function<?> function, MutableMap<String, CoreInstance> localResolvedTypeParameters, MutableMap<String, CoreInstance> localResolvedMultiplicityParameters)
+    private FunctionExpressionCallSite newCallSite(FunctionExpression functionExpression, Function<?> function, MutableStack<CoreInstance> functionExpressionCallStack, FunctionExecutionInterpreted functionExecutionInterpreted, ProcessorSupport processorSupport)
     {
-        CoreInstance functionType = processorSupport.function_getFunctionType(function);
+        CoreInstance rawFunction = functionExpression.getValueForMetaPropertyToOne(M3PropertySlots.func);
+        NativeFunction nativeFunction = Instance.instanceOf(function, M3Paths.NativeFunction, processorSupport) ? functionExecutionInterpreted.getNativeFunction(function.getName()) : null;
+        boolean qualifiedProperty = Instance.instanceOf(function, M3Paths.QualifiedProperty, processorSupport);
 
-        if (Property.isQualifiedProperty(function, processorSupport) || "copy_T_1__String_1__KeyExpression_MANY__T_1_".equals(function.getName()) || "new_Class_1__String_1__KeyExpression_MANY__T_1_".equals(function.getName()) || "new_Class_1__String_1__T_1_".equals(function.getName()))
+        if (qualifiedProperty || "copy_T_1__String_1__KeyExpression_MANY__T_1_".equals(function.getName()))
         {
-            CoreInstance genericType = Property.isQualifiedProperty(function, processorSupport) || "copy_T_1__String_1__KeyExpression_MANY__T_1_".equals(function.getName()) ?
-                                       Instance.getValueForMetaPropertyToOneResolved(params.get(0), M3Properties.genericType, processorSupport) :
-                                       Instance.getValueForMetaPropertyToOneResolved(params.get(0), M3Properties.genericType, M3Properties.typeArguments, processorSupport);
-            CoreInstance classifier = Instance.getValueForMetaPropertyToOneResolved(genericType, M3Properties.rawType, processorSupport);
-            ListIterable<? extends CoreInstance> new_TypeParameters = Instance.getValueForMetaPropertyToManyResolved(classifier, M3Properties.typeParameters, processorSupport);
-            ListIterable<? extends CoreInstance> new_MultiplicityParameters = Instance.getValueForMetaPropertyToManyResolved(classifier, M3Properties.multiplicityParameters, processorSupport);
-            ListIterable<? extends CoreInstance> new_TypeArguments = Instance.getValueForMetaPropertyToManyResolved(genericType, M3Properties.typeArguments, processorSupport);
-            ListIterable<? extends CoreInstance> new_MultiplicityArguments = Instance.getValueForMetaPropertyToManyResolved(genericType, M3Properties.multiplicityArguments, processorSupport);
-            for (int i = 0, size = new_TypeParameters.size(); i < size; i++)
-            {
-                localResolvedTypeParameters.put(Instance.getValueForMetaPropertyToOneResolved(new_TypeParameters.get(i), M3Properties.name, processorSupport).getName(), new_TypeArguments.get(i));
-            }
-            for (int i = 0, size = new_MultiplicityParameters.size(); i < size; i++)
-            {
-                localResolvedMultiplicityParameters.put(Instance.getValueForMetaPropertyToOneResolved(new_MultiplicityParameters.get(i), M3Properties.values, processorSupport).getName(), new_MultiplicityArguments.get(i));
-            }
+            return FunctionExpressionCallSite.newCallSiteResolvedFromParameter(rawFunction, nativeFunction, qualifiedProperty, FunctionExpressionCallSite.ParameterSource.FIRST_PARAMETER_GENERIC_TYPE);
         }
-        else
+        if ("new_Class_1__String_1__KeyExpression_MANY__T_1_".equals(function.getName()) || "new_Class_1__String_1__T_1_".equals(function.getName()))
         {
-            ListIterable<? extends CoreInstance> typeArguments = (ListIterable<? extends CoreInstance>) functionExpression._resolvedTypeParameters();
-            ListIterable<? extends CoreInstance> typeParameters = functionType.getValueForMetaPropertyToMany(M3Properties.typeParameters);
-            int typeParamsSize = typeParameters.size();
-            if (typeArguments.size() != typeParamsSize)
-            {
-                throw new PureExecutionException(functionExpressionCallStack.peek().getSourceInformation(),
-                        "\nError while executing function " + function._functionName() + "\n" +
-                                FunctionType.print(functionType, processorSupport) + "\n" +
-                                "Mismatch between type parameter count (" + typeParamsSize + ") and type argument count (" + typeArguments.size() + ")\n" +
-                                "    Type parameters: " + typeParameters.collect(c -> c.getValueForMetaPropertyToOne("name").getName()) + "\n" +
-                                "    Type arguments: " + typeArguments.collect(c -> GenericType.print(c, processorSupport)), functionExpressionCallStack);
-            }
-            for (int i = 0; i < typeParamsSize; i++)
-            {
-                localResolvedTypeParameters.put(typeParameters.get(i).getValueForMetaPropertyToOne(M3Properties.name).getName(), typeArguments.get(i));
-            }
+            return FunctionExpressionCallSite.newCallSiteResolvedFromParameter(rawFunction, nativeFunction, qualifiedProperty, FunctionExpressionCallSite.ParameterSource.FIRST_PARAMETER_TYPE_ARGUMENT);
+        }
 
-            ListIterable<? extends CoreInstance> multiplicityArguments = (ListIterable<? extends CoreInstance>) functionExpression._resolvedMultiplicityParameters();
-            ListIterable<? extends CoreInstance> multiplicityParameters = functionType.getValueForMetaPropertyToMany(M3Properties.multiplicityParameters);
-            int multiplicityParamsSize = multiplicityParameters.size();
-            if (multiplicityArguments.size() == multiplicityParamsSize)
+        MutableMap<String, CoreInstance> localResolvedTypeParameters = Maps.mutable.empty();
+        MutableMap<String, CoreInstance> localResolvedMultiplicityParameters = Maps.mutable.empty();
+        this.resolveLocalTypeAndMultiplicityParamsFromExpression(functionExpression, functionExpressionCallStack, processorSupport, function, localResolvedTypeParameters, localResolvedMultiplicityParameters);
+        return FunctionExpressionCallSite.newCallSiteResolvedFromExpression(rawFunction, nativeFunction, qualifiedProperty, localResolvedTypeParameters, localResolvedMultiplicityParameters);
+    }
+
+    private void resolveLocalTypeAndMultiplicityParamsFromFirstParameter(FunctionExpressionCallSite.ParameterSource parameterSource, ListIterable<? extends CoreInstance> params, ProcessorSupport processorSupport, MutableMap<String, CoreInstance> localResolvedTypeParameters, MutableMap<String, CoreInstance> localResolvedMultiplicityParameters)
+    {
+        CoreInstance genericType = (parameterSource == FunctionExpressionCallSite.ParameterSource.FIRST_PARAMETER_GENERIC_TYPE) ?
+                                   Instance.getValueForMetaPropertyToOneResolved(params.get(0), M3Properties.genericType, processorSupport) :
+                                   Instance.getValueForMetaPropertyToOneResolved(params.get(0), M3Properties.genericType, M3Properties.typeArguments, processorSupport);
+        CoreInstance classifier = Instance.getValueForMetaPropertyToOneResolved(genericType, M3Properties.rawType, processorSupport);
+        ListIterable<? extends CoreInstance> new_TypeParameters = Instance.getValueForMetaPropertyToManyResolved(classifier, M3Properties.typeParameters, processorSupport);
+        ListIterable<? extends CoreInstance> new_MultiplicityParameters = Instance.getValueForMetaPropertyToManyResolved(classifier, M3Properties.multiplicityParameters, processorSupport);
+        ListIterable<? extends CoreInstance> new_TypeArguments = Instance.getValueForMetaPropertyToManyResolved(genericType, M3Properties.typeArguments, processorSupport);
+        ListIterable<? extends CoreInstance> new_MultiplicityArguments = Instance.getValueForMetaPropertyToManyResolved(genericType, M3Properties.multiplicityArguments, processorSupport);
+        for (int i = 0, size = new_TypeParameters.size(); i < size; i++)
+        {
+            localResolvedTypeParameters.put(Instance.getValueForMetaPropertyToOneResolved(new_TypeParameters.get(i), M3Properties.name, processorSupport).getName(), new_TypeArguments.get(i));
+        }
+        for (int i = 0, size = new_MultiplicityParameters.size(); i < size; i++)
+        {
+            localResolvedMultiplicityParameters.put(Instance.getValueForMetaPropertyToOneResolved(new_MultiplicityParameters.get(i), M3Properties.values, processorSupport).getName(), new_MultiplicityArguments.get(i));
+        }
+    }
+
+    private void resolveLocalTypeAndMultiplicityParamsFromExpression(FunctionExpression functionExpression, MutableStack<CoreInstance> functionExpressionCallStack, ProcessorSupport processorSupport, Function<?> function, MutableMap<String, CoreInstance> localResolvedTypeParameters, MutableMap<String, CoreInstance> localResolvedMultiplicityParameters)
+    {
+        CoreInstance functionType = processorSupport.function_getFunctionType(function);
+        ListIterable<? extends CoreInstance> typeArguments = (ListIterable<? extends CoreInstance>) functionExpression._resolvedTypeParameters();
+        ListIterable<? extends CoreInstance> typeParameters = functionType.getValueForMetaPropertyToMany(M3Properties.typeParameters);
+        int typeParamsSize = typeParameters.size();
+        if (typeArguments.size() != typeParamsSize)
+        {
+            throw new PureExecutionException(functionExpressionCallStack.peek().getSourceInformation(),
+                    "\nError while executing function " + function._functionName() + "\n" +
+                            FunctionType.print(functionType, processorSupport) + "\n" +
+                            "Mismatch between type parameter count (" + typeParamsSize + ") and type argument count (" + typeArguments.size() + ")\n" +
+                            "    Type parameters: " + typeParameters.collect(c -> c.getValueForMetaPropertyToOne("name").getName()) + "\n" +
+                            "    Type arguments: " + typeArguments.collect(c -> GenericType.print(c, processorSupport)), functionExpressionCallStack);
+        }
+        for (int i = 0; i < typeParamsSize; i++)
+        {
+            localResolvedTypeParameters.put(typeParameters.get(i).getValueForMetaPropertyToOne(M3Properties.name).getName(), typeArguments.get(i));
+        }
+
+        ListIterable<? extends CoreInstance> multiplicityArguments = (ListIterable<? extends CoreInstance>) functionExpression._resolvedMultiplicityParameters();
+        ListIterable<? extends CoreInstance> multiplicityParameters = functionType.getValueForMetaPropertyToMany(M3Properties.multiplicityParameters);
+        int multiplicityParamsSize = multiplicityParameters.size();
+        if (multiplicityArguments.size() == multiplicityParamsSize)
+        {
+            for (int i = 0; i < multiplicityParamsSize; i++)
             {
-                for (int i = 0; i < multiplicityParamsSize; i++)
-                {
-                    localResolvedMultiplicityParameters.put(multiplicityParameters.get(i).getValueForMetaPropertyToOne(M3Properties.values).getName(), multiplicityArguments.get(i));
-                }
+                localResolvedMultiplicityParameters.put(multiplicityParameters.get(i).getValueForMetaPropertyToOne(M3Properties.values).getName(), multiplicityArguments.get(i));
             }
         }
     }
@@ -0,0 +1,444 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.runtime.java.interpreted.natives;
+
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.ListIterable;
+import org.eclipse.collections.api.set.MutableSet;
+import org.finos.legend.pure.m3.navigation.M3Paths;
+import org.finos.legend.pure.m3.navigation.M3Properties;
+import org.finos.legend.pure.m3.navigation.ProcessorSupport;
+import org.finos.legend.pure.m3.navigation.ValueSpecificationBootstrap;
+import org.finos.legend.pure.m3.navigation.measure.Measure;
+import org.finos.legend.pure.m3.navigation.valuespecification.ValueSpecification;
+import org.finos.legend.pure.m4.ModelRepository;
+import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+import org.finos.legend.pure.m4.coreinstance.PropertySlot;
+import org.finos.legend.pure.m4.coreinstance.SourceInformation;
+import org.finos.legend.pure.m4.coreinstance.compileState.CompileState;
+import org.finos.legend.pure.m4.coreinstance.compileState.CompileStateSet;
+import org.finos.legend.pure.m4.coreinstance.indexing.IndexSpecification;
+import org.finos.legend.pure.m4.exception.PureCompilationException;
+import org.finos.legend.pure.m4.transaction.ModelRepositoryTransaction;
+
+/**
+ * Interpreter-internal carrier for a single value, standing in for the value specification that
+ * {@link ValueSpecificationBootstrap#wrapValueSpecification(CoreInstance, boolean, ProcessorSupport)} would build. The
+ * value, its multiplicity and the classifier of the value specification are answered directly. Anything else
+ * (including the generic type, which requires a copy of the value's generic type) materializes the full value
+ * specification on first use and delegates to it from then on.
+ * <p>
+ * This is intended for natives which evaluate a function once per element of a collection, such as map and filter:
+ * most functions only ever read the values of their parameters, so most carriers are never materialized. Carriers are
+ * confined to the thread executing the native, so materialization is not synchronized.
+ */
+public final class LazyInstanceValue implements CoreInstance
+{
+    private final CoreInstance value;
+    private final boolean executable;
+    private final ProcessorSupport processorSupport;
+    private CoreInstance materialized;
+
+    private LazyInstanceValue(CoreInstance value, boolean executable, ProcessorSupport processorSupport)
+    {
+        this.value = value;
+        this.executable = executable;
+        this.processorSupport = processorSupport;
+    }
+
+    /**
+     * Wrap a single value, as {@link ValueSpecificationBootstrap#wrapValueSpecification(CoreInstance, boolean, ProcessorSupport)}
+     * does, but deferring building the value specification until it is needed. Values which that method would not
+     * wrap are returned as is.
+     *
+     * @param value            value to wrap
+     * @param executable       whether the value specification is executable
+     * @param processorSupport processor support
+     * @return value specification (possibly lazy)
+     */
+    public static CoreInstance wrap(CoreInstance value, boolean executable, ProcessorSupport processorSupport)
+    {
+        if ((value == null) ||
+                (processorSupport.instance_instanceOf(value, M3Paths.ValueSpecification) && !ValueSpecification.isExecutable(value, processorSupport)) ||
+                Measure.isUnitOrMeasureInstance(value, processorSupport))
+        {
+            return ValueSpecificationBootstrap.wrapValueSpecification(value, executable, processorSupport);
+        }
+        return new LazyInstanceValue(value, executable, processorSupport);
+    }
+
+    /**
+     * Whether the full value specification has been built.
+     *
+     * @return whether this has been materialized
+     */
+    public boolean isMaterialized()
+    {
+        return this.materialized != null;
+    }
+
+    private CoreInstance materialize()
+    {
+        CoreInstance result = this.materialized;
+        if (result == null)
+        {
+            this.materialized = result = ValueSpecificationBootstrap.wrapValueSpecification(this.value, this.executable, this.processorSupport);
+        }
+        return result;
+    }
+
+    private boolean isAnsweredDirectly(String propertyName)
+    {
+        return (this.materialized == null) && (M3Properties.values.equals(propertyName) || M3Properties.multiplicity.equals(propertyName));
+    }
+
+    private CoreInstance getDirectValue(String propertyName)
+    {
+        return M3Properties.values.equals(propertyName) ? this.value : this.processorSupport.package_getByUserPath(M3Paths.PureOne);
+    }
+
+    @Override
+    public ModelRepository getRepository()
+    {
+        return materialize().getRepository();
+    }
+
+    @Override
+    public int getSyntheticId()
+    {
+        return materialize().getSyntheticId();
+    }
+
+    @Override
+    public String getName()
+    {
+        return materialize().getName();
+    }
+
+    @Override
+    public void setName(String name)
+    {
+        materialize().setName(name);
+    }
+
+    @Override
+    public CoreInstance getClassifier()
+    {
+        return (this.materialized == null) ?
+               this.processorSupport.package_getByUserPath(this.executable ? M3Paths.InstanceValue : M3Paths.NonExecutableValueSpecification) :
+               this.materialized.getClassifier();
+    }
+
+    @Override
+    public void setClassifier(CoreInstance classifier)
+    {
+        materialize().setClassifier(classifier);
+    }
+
+    @Override
+    public SourceInformation getSourceInformation()
+    {
+        return (this.materialized == null) ? null : this.materialized.getSourceInformation();
+    }
+
+    @Override
+    public void setSourceInformation(SourceInformation sourceInformation)
+    {
+        materialize().setSourceInformation(sourceInformation);
+    }
+
+    @Override
+    public boolean isPersistent()
+    {
+        return (this.materialized != null) && this.materialized.isPersistent();
+    }
+
+    @Override
+    public RichIterable<String> getKeys()
+    {
+        return materialize().getKeys();
+    }
+
+    @Override
+    public ListIterable<String> getRealKeyByName(String name)
+    {
+        return materialize().getRealKeyByName(name);
+    }
+
+    @Override
+    public CoreInstance getKeyByName(String name)
+    {
+        return materialize().getKeyByName(name);
+    }
+
+    @Override
+    public void addKeyWithEmptyList(ListIterable<String> key)
+    {
+        materialize().addKeyWithEmptyList(key);
+    }
+
+    @Override
+    public void modifyValueForToManyMetaProperty(String key, int offset, CoreInstance value)
+    {
+        materialize().modifyValueForToManyMetaProperty(key, offset, value);
+    }
+
+    @Override
+    public void removeProperty(CoreInstance propertyNameKey)
+    {
+        materialize().removeProperty(propertyNameKey);
+    }
+
+    @Override
+    public void removeProperty(String propertyNameKey)
+    {
+        materialize().removeProperty(propertyNameKey);
+    }
+
+    @Override
+    public CoreInstance getValueForMetaPropertyToOne(String propertyName)
+    {
+        return isAnsweredDirectly(propertyName) ? getDirectValue(propertyName) : materialize().getValueForMetaPropertyToOne(propertyName);
+    }
+
+    @Override
+    public CoreInstance getValueForMetaPropertyToOne(CoreInstance property)
+    {
+        return getValueForMetaPropertyToOne(property.getName());
+    }
+
+    @Override
+    public CoreInstance getValueForMetaPropertyToOne(PropertySlot slot)
+    {
+        return isAnsweredDirectly(slot.getName()) ? getDirectValue(slot.getName()) : materialize().getValueForMetaPropertyToOne(slot);
+    }
+
+    @Override
+    public ListIterable<? extends CoreInstance> getValueForMetaPropertyToMany(String keyName)
+    {
+        return isAnsweredDirectly(keyName) ? Lists.immutable.with(getDirectValue(keyName)) : materialize().getValueForMetaPropertyToMany(keyName);
+    }
+
+    @Override
+    public ListIterable<? extends CoreInstance> getValueForMetaPropertyToMany(CoreInstance key)
+    {
+        return getValueForMetaPropertyToMany(key.getName());
+    }
+
+    @Override
+    public ListIterable<? extends CoreInstance> getValueForMetaPropertyToMany(PropertySlot slot)
+    {
+        return isAnsweredDirectly(slot.getName()) ? Lists.immutable.with(getDirectValue(slot.getName())) : materialize().getValueForMetaPropertyToMany(slot);
+    }
+
+    @Override
+    public CoreInstance getValueInValueForMetaPropertyToMany(String keyName, String keyInMany)
+    {
+        return materialize().getValueInValueForMetaPropertyToMany(keyName, keyInMany);
+    }
+
+    @Override
+    public CoreInstance getValueInValueForMetaPropertyToManyWithKey(String keyName, String key, String keyInMany)
+    {
+        return materialize().getValueInValueForMetaPropertyToManyWithKey(keyName, key, keyInMany);
+    }
+
+    @Override
+    public <K> CoreInstance getValueInValueForMetaPropertyToManyByIDIndex(String keyName, IndexSpecification<K> indexSpec, K keyInIndex)
+    {
+        return materialize().getValueInValueForMetaPropertyToManyByIDIndex(keyName, indexSpec, keyInIndex);
+    }
+
+    @Override
+    public <K> ListIterable<? extends CoreInstance> getValueInValueForMetaPropertyToManyByIndex(String keyName, IndexSpecification<K> indexSpec, K keyInIndex)
+    {
+        return materialize().getValueInValueForMetaPropertyToManyByIndex(keyName, indexSpec, keyInIndex);
+    }
+
+    @Override
+    public boolean isValueDefinedForKey(String keyName)
+    {
+        return isAnsweredDirectly(keyName) || materialize().isValueDefinedForKey(keyName);
+    }
+
+    @Override
+    public void removeValueForMetaPropertyToMany(String keyName, CoreInstance coreInstance)
+    {
+        materialize().removeValueForMetaPropertyToMany(keyName, coreInstance);
+    }
+
+    @Override
+    public void setKeyValues(ListIterable<String> key, ListIterable<? extends CoreInstance> value)
+    {
+        materialize().setKeyValues(key, value);
+    }
+
+    @Override
+    public void addKeyValue(ListIterable<String> key, CoreInstance value)
+    {
+        materialize().addKeyValue(key, value);
+    }
+
+    @Override
+    public void validate(MutableSet<CoreInstance> doneList) throws PureCompilationException
+    {
+        materialize().validate(doneList);
+    }
+
+    @Override
+    public void printFull(Appendable appendable, String tab)
+    {
+        materialize().printFull(appendable, tab);
+    }
+
+    @Override
+    public void print(Appendable appendable, String tab)
+    {
+        materialize().print(appendable, tab);
+    }
+
+    @Override
+    public void print(Appendable appendable, String tab, int max)
+    {
+        materialize().print(appendable, tab, max);
+    }
+
+    @Override
+    public void printWithoutDebug(Appendable appendable, String tab)
+    {
+        materialize().printWithoutDebug(appendable, tab);
+    }
+
+    @Override
+    public void printWithoutDebug(Appendable appendable, String tab, int max)
+    {
+        materialize().printWithoutDebug(appendable, tab, max);
+    }
+
+    @Override
+    public String printFull(String tab)
+    {
+        return materialize().printFull(tab);
+    }
+
+    @Override
+    public String print(String tab)
+    {
+        return materialize().print(tab);
+    }
+
+    @Override
+    public String print(String tab, int max)
+    {
+        return materialize().print(tab, max);
+    }
+
+    @Override
+    public String printWithoutDebug(String tab)
+    {
+        return materialize().printWithoutDebug(tab);
+    }
+
+    @Override
+    public String printWithoutDebug(String tab, int max)
+    {
+        return materialize().printWithoutDebug(tab, max);
+    }
+
+    @Override
+    public void commit(ModelRepositoryTransaction transaction)
+    {
+        materialize().commit(transaction);
+    }
+
+    @Override
+    public void rollback(ModelRepositoryTransaction transaction)
+    {
+        materialize().rollback(transaction);
+    }
+
+    @Override
+    public void markProcessed()
+    {
+        materialize().markProcessed();
+    }
+
+    @Override
+    public void markNotProcessed()
+    {
+        materialize().markNotProcessed();
+    }
+
+    @Override
+    public boolean hasBeenProcessed()
+    {
+        return materialize().hasBeenProcessed();
+    }
+
+    @Override
+    public void markValidated()
+    {
+        materialize().markValidated();
+    }
+
+    @Override
+    public void markNotValidated()
+    {
+        materialize().markNotValidated();
+    }
+
+    @Override
+    public boolean hasBeenValidated()
+    {
+        return materialize().hasBeenValidated();
+    }
+
+    @Override
+    public void addCompileState(CompileState state)
+    {
+        materialize().addCompileState(state);
+    }
+
+    @Override
+    public void removeCompileState(CompileState state)
+    {
+        materialize().removeCompileState(state);
+    }
+
+    @Override
+    public boolean hasCompileState(CompileState state)
+    {
+        return materialize().hasCompileState(state);
+    }
+
+    @Override
+    public CompileStateSet getCompileStates()
+    {
+        return materialize().getCompileStates();
+    }
+
+    @Override
+    public void setCompileStatesFrom(CompileStateSet states)
+    {
+        materialize().setCompileStatesFrom(states);
+    }
+
+    @Override
+    public String toString()
+    {
+        return materialize().toString();
+    }
+}
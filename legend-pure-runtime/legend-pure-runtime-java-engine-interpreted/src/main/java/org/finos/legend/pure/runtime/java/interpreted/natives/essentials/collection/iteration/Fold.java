@@ -25,13 +25,13 @@ import org.finos.legend.pure.m3.exception.PureExecutionException;
 import org.finos.legend.pure.m3.navigation.Instance;
 import org.finos.legend.pure.m3.navigation.M3Properties;
 import org.finos.legend.pure.m3.navigation.ProcessorSupport;
-import org.finos.legend.pure.m3.navigation.ValueSpecificationBootstrap;
 import org.finos.legend.pure.m3.navigation.valuespecification.ValueSpecification;
 import org.finos.legend.pure.m4.coreinstance.CoreInstance;
 import org.finos.legend.pure.runtime.java.interpreted.ExecutionSupport;
 import org.finos.legend.pure.runtime.java.interpreted.FunctionExecutionInterpreted;
 import org.finos.legend.pure.runtime.java.interpreted.VariableContext;
 import org.finos.legend.pure.runtime.java.interpreted.natives.InstantiationContext;
+import org.finos.legend.pure.runtime.java.interpreted.natives.LazyInstanceValue;
 import org.finos.legend.pure.runtime.java.interpreted.natives.NativeFunction;
 import org.finos.legend.pure.runtime.java.interpreted.profiler.Profiler;
 
@@ -60,6 +60,6 @@ public class Fold extends NativeFunction
         CoreInstance foldFunction = Instance.getValueForMetaPropertyToOneResolved(params.get(1), M3Properties.values, processorSupport);
         VariableContext evalVarContext = this.getParentOrEmptyVariableContextForLambda(variableContext, foldFunction);
         Function<?> function = FunctionCoreInstanceWrapper.toFunction(foldFunction);
-        return collection.injectInto(initialValue, (v, instance) -> this.functionExecution.executeFunction(false, function, Lists.mutable.with(ValueSpecificationBootstrap.wrapValueSpecification(instance, isExecutable, processorSupport), v), resolvedTypeParameters, resolvedMultiplicityParameters, evalVarContext, functionExpressionCallStack, profiler, instantiationContext, executionSupport));
+        return collection.injectInto(initialValue, (v, instance) -> this.functionExecution.executeFunction(false, function, Lists.mutable.with(LazyInstanceValue.wrap(instance, isExecutable, processorSupport), v), resolvedTypeParameters, resolvedMultiplicityParameters, evalVarContext, functionExpressionCallStack, profiler, instantiationContext, executionSupport));
     }
 }
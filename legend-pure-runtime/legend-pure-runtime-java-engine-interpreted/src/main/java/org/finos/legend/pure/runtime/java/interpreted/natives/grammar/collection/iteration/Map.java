@@ -33,6 +33,7 @@ import org.finos.legend.pure.runtime.java.interpreted.ExecutionSupport;
 import org.finos.legend.pure.runtime.java.interpreted.FunctionExecutionInterpreted;
 import org.finos.legend.pure.runtime.java.interpreted.VariableContext;
 import org.finos.legend.pure.runtime.java.interpreted.natives.InstantiationContext;
+import org.finos.legend.pure.runtime.java.interpreted.natives.LazyInstanceValue;
 import org.finos.legend.pure.runtime.java.interpreted.natives.NativeFunction;
 import org.finos.legend.pure.runtime.java.interpreted.profiler.Profiler;
 
@@ -63,7 +64,7 @@ public class Map extends NativeFunction
         MutableList<CoreInstance> results = Lists.mutable.with();
         collection.forEach(instance ->
         {
-            ListIterable<CoreInstance> parameters = Lists.immutable.with(ValueSpecificationBootstrap.wrapValueSpecification(instance, isExecutable, processorSupport));
+            ListIterable<CoreInstance> parameters = Lists.immutable.with(LazyInstanceValue.wrap(instance, isExecutable, processorSupport));
             CoreInstance subResult = this.functionExecution.executeFunction(false, function, parameters, resolvedTypeParameters, resolvedMultiplicityParameters, evalVarContext, functionExpressionCallStack, profiler, instantiationContext, executionSupport);
             results.addAllIterable(Instance.getValueForMetaPropertyToManyResolved(subResult, M3Properties.values, processorSupport));
         });
@@ -0,0 +1,156 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.runtime.java.interpreted;
+
+import org.eclipse.collections.api.block.function.Function0;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.list.ListIterable;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.stack.MutableStack;
+import org.eclipse.collections.impl.Counter;
+import org.finos.legend.pure.m3.compiler.Context;
+import org.finos.legend.pure.m3.navigation.Instance;
+import org.finos.legend.pure.m3.navigation.M3Paths;
+import org.finos.legend.pure.m3.navigation.M3Properties;
+import org.finos.legend.pure.m3.navigation.ProcessorSupport;
+import org.finos.legend.pure.m3.tests.AbstractPureTestWithCoreCompiled;
+import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+import org.finos.legend.pure.runtime.java.interpreted.natives.InstantiationContext;
+import org.finos.legend.pure.runtime.java.interpreted.natives.NativeFunction;
+import org.finos.legend.pure.runtime.java.interpreted.profiler.Profiler;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.Stack;
+
+public class TestFunctionExpressionCallSites extends AbstractPureTestWithCoreCompiled
+{
+    @BeforeClass
+    public static void setUp()
+    {
+        setUpRuntime(new FunctionExecutionInterpreted());
+    }
+
+    @After
+    public void cleanRuntime()
+    {
+        runtime.delete("callee.pure");
+        runtime.delete("caller.pure");
+        runtime.compile();
+    }
+
+    @Test
+    public void testCallSiteReused()
+    {
+        compileTestSource("callee.pure", "function test::callee():Integer[1] { 1 }");
+        compileTestSource("caller.pure", "function test::caller():Integer[1] { test::callee() }");
+        Assert.assertEquals("1", executeCaller());
+
+        CoreInstance expression = getCallerExpression();
+        Counter count = new Counter();
+        Function0<FunctionExpressionCallSite> factory = newCountingFactory(expression, count);
+        FunctionExpressionCallSite callSite = getInterpretedFunctionExecution().getFunctionExpressionCallSite(expression, factory);
+        Assert.assertSame(callSite, getInterpretedFunctionExecution().getFunctionExpressionCallSite(expression, factory));
+        Assert.assertEquals(0, count.getCount());
+    }
+
+    @Test
+    public void testCallSiteInvalidatedWhenCalleeRecompiled()
+    {
+        compileTestSource("callee.pure", "function test::callee():Integer[1] { 1 }");
+        compileTestSource("caller.pure", "function test::caller():Integer[1] { test::callee() }");
+        Assert.assertEquals("1", executeCaller());
+
+        runtime.modify("callee.pure", "function test::callee():Integer[1] { 2 }");
+        runtime.compile();
+
+        CoreInstance expression = getCallerExpression();
+        Counter count = new Counter();
+        Function0<FunctionExpressionCallSite> factory = newCountingFactory(expression, count);
+        getInterpretedFunctionExecution().getFunctionExpressionCallSite(expression, factory);
+        Assert.assertEquals(1, count.getCount());
+        Assert.assertEquals("2", executeCaller());
+    }
+
+    @Test
+    public void testCallSiteInvalidatedWhenNativeFunctionAdded()
+    {
+        compileTestSource("callee.pure", "function test::callee():Integer[1] { 1 }");
+        compileTestSource("caller.pure", "function test::caller():Integer[1] { test::callee() }");
+        Assert.assertEquals("1", executeCaller());
+
+        CoreInstance expression = getCallerExpression();
+        Counter count = new Counter();
+        Function0<FunctionExpressionCallSite> factory = newCountingFactory(expression, count);
+        getInterpretedFunctionExecution().getFunctionExpressionCallSite(expression, factory);
+        Assert.assertEquals(0, count.getCount());
+
+        getInterpretedFunctionExecution().addNativeFunction("test::unusedNative_Integer_1_", new NativeFunction()
+        {
+            @Override
+            public CoreInstance execute(ListIterable<? extends CoreInstance> params, Stack<MutableMap<String, CoreInstance>> resolvedTypeParameters, Stack<MutableMap<String, CoreInstance>> resolvedMultiplicityParameters, VariableContext variableContext, MutableStack<CoreInstance> functionExpressionCallStack, Profiler profiler, InstantiationContext instantiationContext, ExecutionSupport executionSupport, Context context, ProcessorSupport processorSupport)
+            {
+                throw new UnsupportedOperationException();
+            }
+        });
+        getInterpretedFunctionExecution().getFunctionExpressionCallSite(expression, factory);
+        Assert.assertEquals(1, count.getCount());
+    }
+
+    @Test
+    public void testCallSiteNotKeptForEphemeralExpression()
+    {
+        CoreInstance expression = repository.newEphemeralAnonymousCoreInstance(null, processorSupport.package_getByUserPath(M3Paths.SimpleFunctionExpression));
+        Counter count = new Counter();
+        Function0<FunctionExpressionCallSite> factory = () ->
+        {
+            count.increment();
+            return null;
+        };
+        getInterpretedFunctionExecution().getFunctionExpressionCallSite(expression, factory);
+        getInterpretedFunctionExecution().getFunctionExpressionCallSite(expression, factory);
+        Assert.assertEquals(2, count.getCount());
+    }
+
+    private static Function0<FunctionExpressionCallSite> newCountingFactory(CoreInstance expression, Counter count)
+    {
+        return () ->
+        {
+            count.increment();
+            CoreInstance function = Instance.getValueForMetaPropertyToOneResolved(expression, M3Properties.func, processorSupport);
+            return FunctionExpressionCallSite.newCallSiteResolvedFromExpression(function, null, false, Maps.mutable.empty(), Maps.mutable.empty());
+        };
+    }
+
+    private static FunctionExecutionInterpreted getInterpretedFunctionExecution()
+    {
+        return (FunctionExecutionInterpreted) functionExecution;
+    }
+
+    private static CoreInstance getCallerExpression()
+    {
+        CoreInstance caller = runtime.getFunction("test::caller():Integer[1]");
+        return Instance.getValueForMetaPropertyToManyResolved(caller, M3Properties.expressionSequence, processorSupport).get(0);
+    }
+
+    private static String executeCaller()
+    {
+        CoreInstance result = functionExecution.start(runtime.getFunction("test::caller():Integer[1]"), Lists.immutable.empty());
+        return Instance.getValueForMetaPropertyToOneResolved(result, M3Properties.values, processorSupport).getName();
+    }
+}
@@ -0,0 +1,130 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.runtime.java.interpreted.natives;
+
+import org.finos.legend.pure.m3.navigation.Instance;
+import org.finos.legend.pure.m3.navigation.M3Paths;
+import org.finos.legend.pure.m3.navigation.M3Properties;
+import org.finos.legend.pure.m3.navigation.PrimitiveUtilities;
+import org.finos.legend.pure.m3.navigation.ValueSpecificationBootstrap;
+import org.finos.legend.pure.m3.tests.AbstractPureTestWithCoreCompiled;
+import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+import org.finos.legend.pure.runtime.java.interpreted.FunctionExecutionInterpreted;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+public class TestLazyInstanceValue extends AbstractPureTestWithCoreCompiled
+{
+    // the allocation comparison only runs when a size is given, e.g., -Dlegend.pure.interpreted.lazyValueBenchmarkSize=1000000
+    private static final int BENCHMARK_SIZE = Integer.getInteger("legend.pure.interpreted.lazyValueBenchmarkSize", 0);
+
+    @BeforeClass
+    public static void setUp()
+    {
+        setUpRuntime(new FunctionExecutionInterpreted());
+    }
+
+    @After
+    public void cleanRuntime()
+    {
+        runtime.delete("fromString.pure");
+        runtime.compile();
+    }
+
+    @Test
+    public void testValuesWithoutMaterializing()
+    {
+        CoreInstance value = ValueSpecificationBootstrap.newStringLiteral(repository, "the quick brown fox", processorSupport).getValueForMetaPropertyToOne(M3Properties.values);
+        CoreInstance wrapped = LazyInstanceValue.wrap(value, true, processorSupport);
+        Assert.assertTrue(wrapped instanceof LazyInstanceValue);
+        LazyInstanceValue lazy = (LazyInstanceValue) wrapped;
+
+        Assert.assertSame(value, Instance.getValueForMetaPropertyToOneResolved(lazy, M3Properties.values, processorSupport));
+        Assert.assertEquals(1, Instance.getValueForMetaPropertyToManyResolved(lazy, M3Properties.values, processorSupport).size());
+        Assert.assertSame(processorSupport.package_getByUserPath(M3Paths.PureOne), lazy.getValueForMetaPropertyToOne(M3Properties.multiplicity));
+        Assert.assertTrue(Instance.instanceOf(lazy, M3Paths.InstanceValue, processorSupport));
+        Assert.assertFalse(lazy.isMaterialized());
+    }
+
+    @Test
+    public void testMaterializeForGenericType()
+    {
+        CoreInstance value = ValueSpecificationBootstrap.newStringLiteral(repository, "the quick brown fox", processorSupport).getValueForMetaPropertyToOne(M3Properties.values);
+        LazyInstanceValue lazy = (LazyInstanceValue) LazyInstanceValue.wrap(value, false, processorSupport);
+        CoreInstance eager = ValueSpecificationBootstrap.wrapValueSpecification(value, false, processorSupport);
+
+        Assert.assertTrue(Instance.instanceOf(lazy, M3Paths.NonExecutableValueSpecification, processorSupport));
+        Assert.assertNotNull(lazy.getValueForMetaPropertyToOne(M3Properties.genericType));
+        Assert.assertTrue(lazy.isMaterialized());
+        Assert.assertEquals(eager.printWithoutDebug("", 3).replaceAll("Anonymous_StripedId", ""), lazy.printWithoutDebug("", 3).replaceAll("Anonymous_StripedId", ""));
+        Assert.assertSame(value, lazy.getValueForMetaPropertyToOne(M3Properties.values));
+    }
+
+    @Test
+    public void testMapFilterFold()
+    {
+        compileTestSource("fromString.pure",
+                "function test::mapFilterFold(n:Integer[1]):Integer[1]\n" +
+                        "{\n" +
+                        "    range($n)->map(i | $i * 2)->filter(i | $i->mod(3) == 0)->fold({i, a | $a + $i}, 0)\n" +
+                        "}\n");
+        CoreInstance result = execute("test::mapFilterFold(Integer[1]):Integer[1]", ValueSpecificationBootstrap.newIntegerLiteral(repository, 1000, processorSupport));
+        long expected = 0;
+        for (long i = 0; i < 1000; i++)
+        {
+            if ((i * 2) % 3 == 0)
+            {
+                expected += i * 2;
+            }
+        }
+        Assert.assertEquals(expected, PrimitiveUtilities.getIntegerValue(result.getValueForMetaPropertyToOne(M3Properties.values)).longValue());
+    }
+
+    @Test
+    public void testWrappingAllocation()
+    {
+        Assume.assumeTrue(BENCHMARK_SIZE > 0);
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(threadMXBean instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) threadMXBean;
+        Assume.assumeTrue(allocationBean.isThreadAllocatedMemorySupported() && allocationBean.isThreadAllocatedMemoryEnabled());
+        long threadId = Thread.currentThread().getId();
+
+        CoreInstance value = ValueSpecificationBootstrap.newIntegerLiteral(repository, 17, processorSupport).getValueForMetaPropertyToOne(M3Properties.values);
+
+        // the pattern used by map, filter and fold: wrap each element, then read its values
+        long before = allocationBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < BENCHMARK_SIZE; i++)
+        {
+            ValueSpecificationBootstrap.wrapValueSpecification(value, true, processorSupport).getValueForMetaPropertyToOne(M3Properties.values);
+        }
+        long eagerBytes = allocationBean.getThreadAllocatedBytes(threadId) - before;
+
+        before = allocationBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < BENCHMARK_SIZE; i++)
+        {
+            LazyInstanceValue.wrap(value, true, processorSupport).getValueForMetaPropertyToOne(M3Properties.values);
+        }
+        long lazyBytes = allocationBean.getThreadAllocatedBytes(threadId) - before;
+
+        Assert.assertTrue("eager: " + eagerBytes + ", lazy: " + lazyBytes, lazyBytes < eagerBytes);
+    }
+}
@@ -22,11 +22,14 @@ import org.eclipse.collections.impl.test.Verify;
 import org.finos.legend.pure.m3.execution.FunctionExecution;
 import org.finos.legend.pure.m3.execution.test.AssertFailTestStatus;
 import org.finos.legend.pure.m3.execution.test.ErrorTestStatus;
+import org.finos.legend.pure.m3.execution.test.ParallelTestRunner;
 import org.finos.legend.pure.m3.execution.test.SuccessTestStatus;
 import org.finos.legend.pure.m3.execution.test.TestCallBack;
+import org.finos.legend.pure.m3.execution.test.TestCollection;
 import org.finos.legend.pure.m3.execution.test.TestRunner;
 import org.finos.legend.pure.m3.execution.test.TestStatus;
 import org.finos.legend.pure.m3.navigation.PackageableElement.PackageableElement;
+import org.finos.legend.pure.m3.serialization.runtime.Message;
 import org.finos.legend.pure.m3.tests.AbstractPureTestWithCoreCompiled;
 import org.finos.legend.pure.m4.coreinstance.CoreInstance;
 import org.finos.legend.pure.runtime.java.interpreted.FunctionExecutionInterpreted;
@@ -35,6 +38,8 @@ import org.junit.Assert;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
+import java.util.concurrent.ForkJoinPool;
+
 public class TestTestRunner extends AbstractPureTestWithCoreCompiled
 {
     @BeforeClass
@@ -182,6 +187,117 @@ public class TestTestRunner extends AbstractPureTestWithCoreCompiled
         Verify.assertInstanceOf(SuccessTestStatus.class, group.getStatus());
     }
 
+    @Test
+    public void testParallelRun()
+    {
+        compileTestSource("fromString.pure", "function <<test.BeforePackage>> parallel::a::b::setUp():Nil[0]\n" +
+                "{\n" +
+                "   print('setup AB', 1);\n" +
+                "}\n" +
+                "function <<test.Test>> parallel::a::b::test():Boolean[1]\n" +
+                "{\n" +
+                "   print('1', 1);\n" +
+                "   assert(true, |'');\n" +
+                "}\n" +
+                "\n" +
+                "function <<test.Test>> parallel::a::b::c::test():Boolean[1]\n" +
+                "{\n" +
+                "   print('2', 1);\n" +
+                "   assert(false, |'');\n" +
+                "}\n" +
+                "function <<test.Test>> parallel::a::b::d::test():Nil[0]\n" +
+                "{\n" +
+                "   print('3', 1);\n" +
+                "   print([1, 2, 3, 4]->at(5), 1);\n" +
+                "}\n" +
+                "function <<test.Test>> parallel::a::b::d::test2():Boolean[1]\n" +
+                "{\n" +
+                "   print('4', 1);\n" +
+                "   assert(true, |'');\n" +
+                "}");
+        // use a separate function execution, so the shared console is left untouched
+        FunctionExecution execution = newFunctionExecution();
+        TestCollection collection = TestCollection.collectTests("parallel::a::b", runtime.getProcessorSupport(), execution.getClass());
+
+        UnitTestTestCallBack sequentialCallback = new UnitTestTestCallBack();
+        new TestRunner(collection, execution, sequentialCallback).run();
+
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try
+        {
+            UnitTestTestCallBack parallelCallback = new UnitTestTestCallBack();
+            ParallelTestRunner runner = ParallelTestRunner.builder(collection, execution, parallelCallback).withForkJoinPool(pool).build();
+            runner.run();
+
+            // results are reported in the same order, with the output of each test
+            Assert.assertEquals(sequentialCallback.getTests(), parallelCallback.getTests());
+            Assert.assertEquals(
+                    sequentialCallback.getGroups().collect(g -> PackageableElement.getUserPathForPackageableElement(g.getFunction())),
+                    parallelCallback.getGroups().collect(g -> PackageableElement.getUserPathForPackageableElement(g.getFunction())));
+            Assert.assertEquals(sequentialCallback.getGroups().collect(g -> g.getStatus().getClass()), parallelCallback.getGroups().collect(g -> g.getStatus().getClass()));
+            Assert.assertEquals(sequentialCallback.getGroups().collect(CallBackGroup::getMessage), parallelCallback.getGroups().collect(CallBackGroup::getMessage));
+            Assert.assertEquals(4, runner.getRecordedDurations().size());
+
+            // shards partition the tests
+            MutableSet<CoreInstance> shardedTests = Sets.mutable.empty();
+            for (int i = 0; i < 2; i++)
+            {
+                UnitTestTestCallBack shardCallback = new UnitTestTestCallBack();
+                ParallelTestRunner.builder(collection, execution, shardCallback)
+                        .withForkJoinPool(pool)
+                        .withDurations(runner.getRecordedDurations())
+                        .withShard(i, 2)
+                        .build()
+                        .run();
+                Assert.assertEquals(shardCallback.getTests(), shardCallback.getGroups().collect(CallBackGroup::getFunction).toSet());
+                Assert.assertTrue(shardCallback.getTests().noneSatisfy(shardedTests::contains));
+                shardedTests.addAll(shardCallback.getTests());
+            }
+            Assert.assertEquals(sequentialCallback.getTests(), shardedTests);
+        }
+        finally
+        {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testParallelRunFailingCallBack()
+    {
+        compileTestSource("fromString.pure", "function <<test.Test>> parallel::failing::test():Boolean[1]\n" +
+                "{\n" +
+                "   assert(true, |'');\n" +
+                "}\n" +
+                "function <<test.AfterPackage>> parallel::failing::tearDown():Nil[0]\n" +
+                "{\n" +
+                "   print('teardown', 1);\n" +
+                "}");
+        FunctionExecution execution = newFunctionExecution();
+        TestCollection collection = TestCollection.collectTests("parallel::failing", runtime.getProcessorSupport(), execution.getClass());
+        UnitTestTestCallBack failingCallback = new UnitTestTestCallBack()
+        {
+            @Override
+            public void executedTest(CoreInstance function, String testParameterizationId, String console, TestStatus status)
+            {
+                throw new RuntimeException("callback failure");
+            }
+        };
+
+        RuntimeException e = Assert.assertThrows(RuntimeException.class, () -> ParallelTestRunner.builder(collection, execution, failingCallback).build().run());
+        Assert.assertEquals("callback failure", e.getMessage());
+
+        // the unit is still finished, so the after functions are run
+        Assert.assertEquals("teardown", execution.getConsole().getLine(0));
+    }
+
+    private static FunctionExecution newFunctionExecution()
+    {
+        FunctionExecution execution = getFunctionExecution();
+        execution.init(runtime, new Message(""));
+        execution.getConsole().enableBufferLines();
+        return execution;
+    }
+
     protected static FunctionExecution getFunctionExecution()
     {
         return new FunctionExecutionInterpreted();
@@ -71,6 +71,7 @@ import org.finos.legend.pure.m3.navigation.relation._Column;
 import org.finos.legend.pure.m3.navigation.relation._RelationType;
 import org.finos.legend.pure.m3.serialization.grammar.Parser;
 import org.finos.legend.pure.m3.serialization.grammar.ParserLibrary;
+import org.finos.legend.pure.m3.serialization.grammar.SectionParseCache;
 import org.finos.legend.pure.m3.serialization.grammar.m3parser.antlr.AntlrContextToM3CoreInstance;
 import org.finos.legend.pure.m3.serialization.grammar.m3parser.antlr.M3AntlrParser;
 import org.finos.legend.pure.m3.serialization.runtime.SourceState;
@@ -113,11 +114,27 @@ public class RelationalParser implements IRelationalParser
     public void parse(String code, String sourceName, boolean addLines, int offset, ModelRepository repository, MutableList<CoreInstance> coreInstancesResult, M3M4StateListener listener, Context context, int count, SourceState oldState) throws PureParserException
     {
         String importId = AntlrContextToM3CoreInstance.createImportGroupId(sourceName, count);
-        String result = parseDefinition(true, code, sourceName, addLines, offset, repository, listener, context, count, importId);
-        new M3AntlrParser(false).parse(result, sourceName, false, offset, repository, coreInstancesResult, listener, context, count, null);
+        SectionParseCache parseCache = (this.parserLibrary == null) ? null : this.parserLibrary.getSectionParseCache();
+        String result;
+        if (parseCache == null)
+        {
+            result = parseDefinition(true, null, null, code, sourceName, addLines, offset, repository, listener, context, count, importId);
+        }
+        else
+        {
+            // the relational graph builder only translates the section into M3 code, so its result can be reused for an unchanged section
+            SectionParseCache.SectionKey sectionKey = SectionParseCache.newSectionKey(getName(), sourceName, addLines, offset, count, code);
+            result = parseCache.getTemplate(sectionKey);
+            if (result == null)
+            {
+                result = parseDefinition(parseCache.shouldUseFastParser(sectionKey), parseCache, sectionKey, code, sourceName, addLines, offset, repository, listener, context, count, importId);
+                parseCache.putTemplate(sectionKey, result);
+            }
+        }
+        new M3AntlrParser(false, null, parseCache).parse(result, sourceName, false, offset, repository, coreInstancesResult, listener, context, count, null);
     }
 
-    private String parseDefinition(boolean useFastParser, String code, String sourceName, boolean addLines, int offset, ModelRepository repository, M3M4StateListener listener, Context context, int count, String importId)
+    private String parseDefinition(boolean useFastParser, SectionParseCache parseCache, SectionParseCache.SectionKey sectionKey, String code, String sourceName, boolean addLines, int offset, ModelRepository repository, M3M4StateListener listener, Context context, int count, String importId)
     {
         org.finos.legend.pure.m2.relational.serialization.grammar.v1.antlr.RelationalParser parser = this.initAntlrParser(useFastParser, code, sourceName, offset, 0, addLines);
         try
@@ -130,7 +147,11 @@ public class RelationalParser implements IRelationalParser
             if (isAntlrRecognitionExceptionUsingFastParser(useFastParser, e))
             {
 //                System.err.println("Error using fast Antlr Parser: " + ExceptionUtils.getStackTrace(e));
-                return this.parseDefinition(false, code, sourceName, addLines, offset, repository, listener, context, count, importId);
+                if (parseCache != null)
+                {
+                    parseCache.recordFastParserFailure(sectionKey);
+                }
+                return this.parseDefinition(false, parseCache, sectionKey, code, sourceName, addLines, offset, repository, listener, context, count, importId);
             }
             else
             {
@@ -15,6 +15,7 @@
 package org.finos.legend.pure.runtime.java.extension.store.relational.compiled.natives;
 
 import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.block.procedure.Procedure;
 import org.eclipse.collections.api.factory.Stacks;
 import org.eclipse.collections.api.list.ListIterable;
 import org.finos.legend.pure.m3.exception.PureExecutionException;
@@ -22,7 +23,6 @@ import org.finos.legend.pure.m3.statelistener.ExecutionActivityListener;
 import org.finos.legend.pure.m4.coreinstance.CoreInstance;
 import org.finos.legend.pure.runtime.java.compiled.execution.CompiledExecutionSupport;
 import org.finos.legend.pure.runtime.java.compiled.generation.processors.natives.AbstractCacheNextReadOnceForwardOnly;
-import org.finos.legend.pure.runtime.java.extension.store.relational.compiled.RelationalNativeImplementation;
 import org.finos.legend.pure.runtime.java.extension.store.relational.compiled.natives.ResultSetValueHandlers.ResultSetValueHandler;
 import org.finos.legend.pure.runtime.java.extension.store.relational.shared.ConnectionWithDataSourceInfo;
 import org.finos.legend.pure.runtime.java.extension.store.relational.shared.SQLExceptionHandler;
@@ -45,10 +45,14 @@ class CacheNextReadOnceForwardOnlyResultSet extends AbstractCacheNextReadOnceFor
     private Statement statement;
     private final Function<RichIterable<Object>, ? extends CoreInstance> processRowFunction;
     private final CoreInstance sqlNull;
-    private final GregorianCalendar calendar;
-    private final ListIterable<ResultSetValueHandler> handlers;
+    private final ResultSetRowBatch batch;
+    private int batchIndex = 0;
+    private boolean rowsRead = false;
+    private boolean batchesRead = false;
 
     private static final int CACHE_MAX_SIZE = 1000;
+    // the batch buffers are allocated up front, so their size is capped independently of the fetch size
+    private static final int MAX_BATCH_SIZE = 1000;
 
     private final ExecutionListeners executionListeners;
     private final ConnectionWithDataSourceInfo dataSourceInfo;
@@ -58,7 +62,7 @@ class CacheNextReadOnceForwardOnlyResultSet extends AbstractCacheNextReadOnceFor
     private CacheNextReadOnceForwardOnlyResultSet(Connection connection, ResultSet resultSet, Statement statement,
                                                   Function<RichIterable<Object>, ? extends CoreInstance> processRowFunction,
                                                   CoreInstance sqlNull, String tz,
-                                                  ListIterable<ResultSetValueHandler> handlers, CompiledExecutionSupport executionSupport,
+                                                  ListIterable<ResultSetValueHandler> handlers, int fetchSize, CompiledExecutionSupport executionSupport,
                                                   ConnectionWithDataSourceInfo dataSourceInfo, String executedSQL)
     {
         this.connection = connection;
@@ -66,15 +70,70 @@ class CacheNextReadOnceForwardOnlyResultSet extends AbstractCacheNextReadOnceFor
         this.resultSet = resultSet;
         this.processRowFunction = processRowFunction;
         this.sqlNull = sqlNull;
-        this.handlers = handlers;
-        this.calendar = new GregorianCalendar(TimeZone.getTimeZone(tz));
+        this.batch = new ResultSetRowBatch(handlers, (fetchSize > 0) ? Math.min(fetchSize, MAX_BATCH_SIZE) : MAX_BATCH_SIZE, new GregorianCalendar(TimeZone.getTimeZone(tz)));
         this.executionListeners = executionSupport.getExecutionListeners();
         this.dataSourceInfo = dataSourceInfo;
         this.executionActivityListener = executionSupport.getExecutionActivityListener();
         this.executedSQL = executedSQL;
         executionSupport.registerExecutionEndListener(this);
+    }
+
+    @Override
+    public boolean hasNext(int index)
+    {
+        this.startReadingRows();
+        return super.hasNext(index);
+    }
 
+    @Override
+    public CoreInstance next(int index)
+    {
+        this.startReadingRows();
+        return super.next(index);
+    }
 
+    private void startReadingRows()
+    {
+        if (this.batchesRead)
+        {
+            throw new PureExecutionException("Trying to process rows from a streaming database resultset which has already been consumed in batches", Stacks.mutable.empty());
+        }
+        if (!this.rowsRead)
+        {
+            // the first row is only built when it is asked for, so that the rows can still be consumed in batches
+            this.rowsRead = true;
+            this.readNext();
+        }
+    }
+
+    /**
+     * Consume the rows in batches rather than as Pure rows. The consumer is called with the batch each time
+     * it is filled with the next rows of the result set, and must not keep it beyond the call. This can only be used
+     * if no rows have been read through the row API.
+     */
+    void forEachBatch(Procedure<? super ResultSetRowBatch> consumer)
+    {
+        if (this.rowsRead || this.batchesRead)
+        {
+            throw new PureExecutionException("Trying to process rows from a streaming database resultset in batches after they have already been read", Stacks.mutable.empty());
+        }
+        this.batchesRead = true;
+        try
+        {
+            while (this.batchIndex < this.batch.size())
+            {
+                consumer.value(this.batch);
+                this.batchIndex = this.batch.size();
+                if (this.resultSet != null)
+                {
+                    this.fillBatch();
+                }
+            }
+        }
+        catch (SQLException e)
+        {
+            throw this.handleSQLException(e);
+        }
     }
 
     @Override
@@ -82,18 +141,14 @@ class CacheNextReadOnceForwardOnlyResultSet extends AbstractCacheNextReadOnceFor
     {
         try
         {
-
-            //int row = this.resultSet.getRow();
-            //System.out.println("Processing Row:" + row);
-            /*if (row % 100 == 0)
+            if ((this.batchIndex >= this.batch.size()) && (this.resultSet != null))
             {
-                System.out.println("Processing Row:" + row);
-            }*/
+                this.fillBatch();
+            }
 
-            if (this.resultSet.next())
+            if (this.batchIndex < this.batch.size())
             {
-                RichIterable<Object> values = RelationalNativeImplementation.processRow(this.resultSet, this.handlers, this.sqlNull, this.calendar);
-                this.next = this.processRowFunction.apply(values);
+                this.next = this.processRowFunction.apply(this.batch.getRow(this.batchIndex++, this.sqlNull));
 
                 if (this.currentIndex < CACHE_MAX_SIZE)
                 {
@@ -102,39 +157,54 @@ class CacheNextReadOnceForwardOnlyResultSet extends AbstractCacheNextReadOnceFor
             }
             else
             {
-                this.closeAndCleanUp();
                 //Deliberately set this to null
                 this.next = null;
             }
         }
         catch (SQLException e)
         {
-            //build this first, while we still have the connection information
-            String hostname = "";
-            Integer port = -1;
-            String databaseName = "";
-            try
-            {
-                if (this.dataSourceInfo.getDataSource() != null)
-                {
-                    hostname = this.dataSourceInfo.getDataSource().getHost();
-                    port = this.dataSourceInfo.getDataSource().getPort();
-                    databaseName = this.dataSourceInfo.getDataSource().getDataSourceName();
-                }
-                this.executionActivityListener.relationalActivityCompleted(hostname, port, databaseName, "", executedSQL, "", 0L, 0L, 0L);
-            }
-            catch (Exception ignore)
-            {
-                // ignore logging exceptions
-            }
+            throw this.handleSQLException(e);
+        }
+    }
 
-            String error = SQLExceptionHandler.buildExceptionString(e, this.connection);
-            //close and clean up the connections
+    private void fillBatch() throws SQLException
+    {
+        // read the next batch of rows into the column buffers, releasing the result set as soon as it is exhausted
+        this.batch.fill(this.resultSet);
+        this.batchIndex = 0;
+        if (this.batch.isExhausted())
+        {
             this.closeAndCleanUp();
-            throw new PureExecutionException(error, e, Stacks.mutable.empty());
         }
     }
 
+    private PureExecutionException handleSQLException(SQLException e)
+    {
+        //build this first, while we still have the connection information
+        String hostname = "";
+        Integer port = -1;
+        String databaseName = "";
+        try
+        {
+            if (this.dataSourceInfo.getDataSource() != null)
+            {
+                hostname = this.dataSourceInfo.getDataSource().getHost();
+                port = this.dataSourceInfo.getDataSource().getPort();
+                databaseName = this.dataSourceInfo.getDataSource().getDataSourceName();
+            }
+            this.executionActivityListener.relationalActivityCompleted(hostname, port, databaseName, "", executedSQL, "", 0L, 0L, 0L);
+        }
+        catch (Exception ignore)
+        {
+            // ignore logging exceptions
+        }
+
+        String error = SQLExceptionHandler.buildExceptionString(e, this.connection);
+        //close and clean up the connections
+        this.closeAndCleanUp();
+        return new PureExecutionException(error, e, Stacks.mutable.empty());
+    }
+
     @Override
     protected String streamingExceptionMessage()
     {
@@ -166,19 +236,21 @@ class CacheNextReadOnceForwardOnlyResultSet extends AbstractCacheNextReadOnceFor
     static CacheNextReadOnceForwardOnlyResultSet create(Connection connection, ResultSet resultSet, Statement statement,
                                                         Function<RichIterable<Object>, ? extends CoreInstance> processRowFunction,
                                                         CoreInstance sqlNull, String tz,
-                                                        ListIterable<ResultSetValueHandler> handlers, CompiledExecutionSupport executionSupport,
+                                                        ListIterable<ResultSetValueHandler> handlers, int fetchSize, CompiledExecutionSupport executionSupport,
                                                         ConnectionWithDataSourceInfo dataSourceInfo,
                                                         String executedSQL)
     {
-        CacheNextReadOnceForwardOnlyResultSet result = new CacheNextReadOnceForwardOnlyResultSet(connection, resultSet, statement, processRowFunction, sqlNull, tz, handlers, executionSupport, dataSourceInfo, executedSQL);
-        //Force it to initialize the first element and fully run the query. Some drivers do not run the DB query until you call next.
-
-        result.readNext();
-
-
-        //Peek at next element, this will force the rs & statement clean-up if there is only one element
-        boolean look = result.hasNext(0) && result.hasNext(1);
-
+        CacheNextReadOnceForwardOnlyResultSet result = new CacheNextReadOnceForwardOnlyResultSet(connection, resultSet, statement, processRowFunction, sqlNull, tz, handlers, fetchSize, executionSupport, dataSourceInfo, executedSQL);
+        //Force it to read the first batch and fully run the query. Some drivers do not run the DB query until you call next.
+        //This also forces the rs & statement clean-up if all the rows fit in the first batch.
+        try
+        {
+            result.fillBatch();
+        }
+        catch (SQLException e)
+        {
+            throw result.handleSQLException(e);
+        }
         return result;
     }
 }
@@ -0,0 +1,399 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.runtime.java.extension.store.relational.compiled.natives;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.ListIterable;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.primitive.MutableObjectIntMap;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.map.mutable.primitive.ObjectIntHashMap;
+import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+import org.finos.legend.pure.runtime.java.extension.store.relational.compiled.natives.ResultSetValueHandlers.ResultSetValueHandler;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Calendar;
+
+/**
+ * A batch of rows read from a JDBC result set into reusable typed column buffers: integer and float columns are read
+ * into primitive arrays, strings are dictionary encoded within the batch, and nulls are recorded in a bitmap per
+ * column. Other values are read with their {@link ResultSetValueHandler}. Each call to {@link #fill} replaces the
+ * contents of the batch with the next rows of the result set.
+ */
+public final class ResultSetRowBatch
+{
+    private final ListIterable<ResultSetValueHandler> handlers;
+    private final ColumnBuffer[] columns;
+    private final int capacity;
+    private final Calendar calendar;
+    private int size = 0;
+    private boolean exhausted = false;
+
+    public ResultSetRowBatch(ListIterable<ResultSetValueHandler> handlers, int capacity, Calendar calendar)
+    {
+        if (capacity < 1)
+        {
+            throw new IllegalArgumentException("Invalid batch capacity: " + capacity);
+        }
+        this.handlers = handlers;
+        this.capacity = capacity;
+        this.calendar = calendar;
+        this.columns = new ColumnBuffer[handlers.size()];
+        for (int i = 0; i < this.columns.length; i++)
+        {
+            this.columns[i] = newColumnBuffer(ResultSetValueHandlers.getValueKind(handlers.get(i)), capacity);
+        }
+    }
+
+    /**
+     * Replace the contents of the batch with up to capacity rows read from the result set.
+     *
+     * @return the number of rows read, 0 if the result set is exhausted
+     */
+    public int fill(ResultSet resultSet) throws SQLException
+    {
+        for (ColumnBuffer column : this.columns)
+        {
+            column.clear();
+        }
+        int row = 0;
+        while ((row < this.capacity) && !this.exhausted)
+        {
+            if (resultSet.next())
+            {
+                for (int i = 0; i < this.columns.length; i++)
+                {
+                    this.columns[i].read(resultSet, i + 1, row, this.handlers.get(i), this.calendar);
+                }
+                row++;
+            }
+            else
+            {
+                this.exhausted = true;
+            }
+        }
+        this.size = row;
+        return row;
+    }
+
+    /**
+     * Whether the result set has been read to its end: once this is true, {@link #fill} will not read any more rows.
+     */
+    public boolean isExhausted()
+    {
+        return this.exhausted;
+    }
+
+    public int size()
+    {
+        return this.size;
+    }
+
+    public int getColumnCount()
+    {
+        return this.columns.length;
+    }
+
+    public boolean isNull(int row, int column)
+    {
+        return this.columns[column].nulls.get(row);
+    }
+
+    public long getLong(int row, int column)
+    {
+        return ((LongColumnBuffer) this.columns[column]).values[row];
+    }
+
+    public double getDouble(int row, int column)
+    {
+        return ((DoubleColumnBuffer) this.columns[column]).values[row];
+    }
+
+    public boolean getBoolean(int row, int column)
+    {
+        return ((BooleanColumnBuffer) this.columns[column]).values[row];
+    }
+
+    public String getString(int row, int column)
+    {
+        StringColumnBuffer buffer = (StringColumnBuffer) this.columns[column];
+        return isNull(row, column) ? null : buffer.dictionary.get(buffer.codes[row]);
+    }
+
+    /**
+     * Get the code of a string value in the dictionary of its column for the current batch.
+     */
+    public int getStringCode(int row, int column)
+    {
+        return ((StringColumnBuffer) this.columns[column]).codes[row];
+    }
+
+    public ListIterable<String> getStringDictionary(int column)
+    {
+        return ((StringColumnBuffer) this.columns[column]).dictionary.asUnmodifiable();
+    }
+
+    /**
+     * Get the value at the given row and column, boxed as it would have been by its {@link ResultSetValueHandler}.
+     */
+    public Object getValue(int row, int column, CoreInstance sqlNull)
+    {
+        return isNull(row, column) ? sqlNull : this.columns[column].getValue(row);
+    }
+
+    /**
+     * Get the values of a row as {@link org.finos.legend.pure.runtime.java.extension.store.relational.compiled.RelationalNativeImplementation#processRow}
+     * would have read them. This adapts the batch to consumers of the row by row API: consumers which can work on
+     * whole batches should use the column accessors instead, which do not box the values.
+     */
+    public MutableList<Object> getRow(int row, CoreInstance sqlNull)
+    {
+        MutableList<Object> values = FastList.newList(this.columns.length);
+        for (int i = 0; i < this.columns.length; i++)
+        {
+            values.add(getValue(row, i, sqlNull));
+        }
+        return values;
+    }
+
+    private static ColumnBuffer newColumnBuffer(ResultSetValueHandlers.ValueKind kind, int capacity)
+    {
+        switch (kind)
+        {
+            case LONG:
+            {
+                return new LongColumnBuffer(capacity);
+            }
+            case DOUBLE:
+            case DECIMAL:
+            {
+                return new DoubleColumnBuffer(capacity, kind == ResultSetValueHandlers.ValueKind.DECIMAL);
+            }
+            case BOOLEAN:
+            {
+                return new BooleanColumnBuffer(capacity);
+            }
+            case STRING:
+            {
+                return new StringColumnBuffer(capacity);
+            }
+            default:
+            {
+                return new ObjectColumnBuffer(capacity);
+            }
+        }
+    }
+
+    private abstract static class ColumnBuffer
+    {
+        final BitSet nulls;
+
+        private ColumnBuffer(int capacity)
+        {
+            this.nulls = new BitSet(capacity);
+        }
+
+        void clear()
+        {
+            this.nulls.clear();
+        }
+
+        abstract void read(ResultSet resultSet, int index, int row, ResultSetValueHandler handler, Calendar calendar) throws SQLException;
+
+        abstract Object getValue(int row);
+    }
+
+    private static final class LongColumnBuffer extends ColumnBuffer
+    {
+        private final long[] values;
+
+        private LongColumnBuffer(int capacity)
+        {
+            super(capacity);
+            this.values = new long[capacity];
+        }
+
+        @Override
+        void read(ResultSet resultSet, int index, int row, ResultSetValueHandler handler, Calendar calendar) throws SQLException
+        {
+            this.values[row] = resultSet.getLong(index);
+            if (resultSet.wasNull())
+            {
+                this.nulls.set(row);
+            }
+        }
+
+        @Override
+        Object getValue(int row)
+        {
+            return this.values[row];
+        }
+    }
+
+    private static final class DoubleColumnBuffer extends ColumnBuffer
+    {
+        private final double[] values;
+        private final boolean decimal;
+
+        private DoubleColumnBuffer(int capacity, boolean decimal)
+        {
+            super(capacity);
+            this.values = new double[capacity];
+            this.decimal = decimal;
+        }
+
+        @Override
+        void read(ResultSet resultSet, int index, int row, ResultSetValueHandler handler, Calendar calendar) throws SQLException
+        {
+            if (this.decimal)
+            {
+                BigDecimal value = resultSet.getBigDecimal(index);
+                if (value == null)
+                {
+                    this.nulls.set(row);
+                }
+                else
+                {
+                    this.values[row] = value.doubleValue();
+                }
+            }
+            else
+            {
+                this.values[row] = resultSet.getDouble(index);
+                if (resultSet.wasNull())
+                {
+                    this.nulls.set(row);
+                }
+            }
+        }
+
+        @Override
+        Object getValue(int row)
+        {
+            return this.values[row];
+        }
+    }
+
+    private static final class BooleanColumnBuffer extends ColumnBuffer
+    {
+        private final boolean[] values;
+
+        private BooleanColumnBuffer(int capacity)
+        {
+            super(capacity);
+            this.values = new boolean[capacity];
+        }
+
+        @Override
+        void read(ResultSet resultSet, int index, int row, ResultSetValueHandler handler, Calendar calendar) throws SQLException
+        {
+            this.values[row] = resultSet.getBoolean(index);
+            if (resultSet.wasNull())
+            {
+                this.nulls.set(row);
+            }
+        }
+
+        @Override
+        Object getValue(int row)
+        {
+            return this.values[row];
+        }
+    }
+
+    private static final class StringColumnBuffer extends ColumnBuffer
+    {
+        private final int[] codes;
+        private final MutableList<String> dictionary = Lists.mutable.empty();
+        private final MutableObjectIntMap<String> dictionaryIndex = ObjectIntHashMap.newMap();
+
+        private StringColumnBuffer(int capacity)
+        {
+            super(capacity);
+            this.codes = new int[capacity];
+        }
+
+        @Override
+        void clear()
+        {
+            super.clear();
+            this.dictionary.clear();
+            this.dictionaryIndex.clear();
+        }
+
+        @Override
+        void read(ResultSet resultSet, int index, int row, ResultSetValueHandler handler, Calendar calendar) throws SQLException
+        {
+            String value = resultSet.getString(index);
+            if (value == null)
+            {
+                this.nulls.set(row);
+            }
+            else
+            {
+                this.codes[row] = this.dictionaryIndex.getIfAbsentPut(value, () ->
+                {
+                    this.dictionary.add(value);
+                    return this.dictionary.size() - 1;
+                });
+            }
+        }
+
+        @Override
+        Object getValue(int row)
+        {
+            return this.dictionary.get(this.codes[row]);
+        }
+    }
+
+    private static final class ObjectColumnBuffer extends ColumnBuffer
+    {
+        private final Object[] values;
+
+        private ObjectColumnBuffer(int capacity)
+        {
+            super(capacity);
+            this.values = new Object[capacity];
+        }
+
+        @Override
+        void clear()
+        {
+            super.clear();
+            Arrays.fill(this.values, null);
+        }
+
+        @Override
+        void read(ResultSet resultSet, int index, int row, ResultSetValueHandler handler, Calendar calendar) throws SQLException
+        {
+            Object value = handler.value(resultSet, index, null, calendar);
+            if (value == null)
+            {
+                this.nulls.set(row);
+            }
+            this.values[row] = value;
+        }
+
+        @Override
+        Object getValue(int row)
+        {
+            return this.values[row];
+        }
+    }
+}
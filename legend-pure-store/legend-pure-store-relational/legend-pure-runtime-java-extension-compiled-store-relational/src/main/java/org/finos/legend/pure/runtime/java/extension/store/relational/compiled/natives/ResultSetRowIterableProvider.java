@@ -15,6 +15,7 @@
 package org.finos.legend.pure.runtime.java.extension.store.relational.compiled.natives;
 
 import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.block.procedure.Procedure;
 import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.factory.Stacks;
 import org.eclipse.collections.api.list.ListIterable;
@@ -100,11 +101,12 @@ public class ResultSetRowIterableProvider
 
                     ListIterable<ResultSetValueHandlers.ResultSetValueHandler> handlers = ResultSetValueHandlers.getHandlers(metaData);
                     RichIterable<CoreInstance> theResults;
+                    CacheNextReadOnceForwardOnlyResultSet streamingResultSet = null;
 
                     if (CanStreamState.canStream())
                     {
-                        CacheNextReadOnceForwardOnlyResultSet resultSet = CacheNextReadOnceForwardOnlyResultSet.create(connection, rs, statement, processRowFunction, sqlNull, tz, handlers, executionSupport, dataSourceInfo, sql);
-                        theResults = new ResultLazyIterable(resultSet);
+                        streamingResultSet = CacheNextReadOnceForwardOnlyResultSet.create(connection, rs, statement, processRowFunction, sqlNull, tz, handlers, actualFetchSize, executionSupport, dataSourceInfo, sql);
+                        theResults = new ResultLazyIterable(streamingResultSet);
                     }
                     else
                     {
@@ -134,7 +136,7 @@ public class ResultSetRowIterableProvider
                         theResults = results;
                     }
 
-                    return new ResultSetIterableContainer(theResults, columns, startTimeInNanos);
+                    return new ResultSetIterableContainer(theResults, columns, startTimeInNanos, streamingResultSet);
                 }
                 else
                 {
@@ -203,6 +205,7 @@ public class ResultSetRowIterableProvider
         public final RichIterable rowIterable;
         public final RichIterable<String> columnNames;
         public final long queryTimeInNanos;
+        private final CacheNextReadOnceForwardOnlyResultSet streamingResultSet;
 
         ResultSetIterableContainer(long startTimeInNanos)
         {
@@ -210,10 +213,39 @@ public class ResultSetRowIterableProvider
         }
 
         ResultSetIterableContainer(RichIterable rowIterable, RichIterable<String> columnNames, long startTimeInNanos)
+        {
+            this(rowIterable, columnNames, startTimeInNanos, null);
+        }
+
+        ResultSetIterableContainer(RichIterable rowIterable, RichIterable<String> columnNames, long startTimeInNanos, CacheNextReadOnceForwardOnlyResultSet streamingResultSet)
         {
             this.rowIterable = rowIterable;
             this.columnNames = columnNames;
             this.queryTimeInNanos = System.nanoTime() - startTimeInNanos;
+            this.streamingResultSet = streamingResultSet;
+        }
+
+        /**
+         * Whether the rows are streamed, in which case they can be consumed in batches with {@link #forEachBatch}
+         * instead of through the row iterable.
+         */
+        public boolean isStreaming()
+        {
+            return this.streamingResultSet != null;
+        }
+
+        /**
+         * Consume the rows of a streamed result in batches, without building a Pure row for each of them. The batch
+         * passed to the consumer is reused for the next rows, so it must not be kept beyond the call. The rows can
+         * be consumed either in batches or through the row iterable, but not both.
+         */
+        public void forEachBatch(Procedure<? super ResultSetRowBatch> consumer)
+        {
+            if (this.streamingResultSet == null)
+            {
+                throw new IllegalStateException("Only streamed results can be consumed in batches");
+            }
+            this.streamingResultSet.forEachBatch(consumer);
         }
     }
 }
@@ -175,6 +175,39 @@ public final class ResultSetValueHandlers
         Object value(ResultSet rs, int i, CoreInstance nullSqlInstance, Calendar calendar) throws SQLException;
     }
 
+    /**
+     * Kind of value produced by a handler, used to choose how a column is buffered in a {@link ResultSetRowBatch}.
+     */
+    enum ValueKind
+    {
+        LONG, DOUBLE, DECIMAL, BOOLEAN, STRING, OTHER
+    }
+
+    static ValueKind getValueKind(ResultSetValueHandler handler)
+    {
+        if (handler == LONG)
+        {
+            return ValueKind.LONG;
+        }
+        if (handler == DOUBLE)
+        {
+            return ValueKind.DOUBLE;
+        }
+        if (handler == DECIMAL)
+        {
+            return ValueKind.DECIMAL;
+        }
+        if (handler == BOOLEAN)
+        {
+            return ValueKind.BOOLEAN;
+        }
+        if (handler == STRING)
+        {
+            return ValueKind.STRING;
+        }
+        return ValueKind.OTHER;
+    }
+
     public static ListIterable<ResultSetValueHandler> getHandlers(ResultSetMetaData metaData) throws SQLException
     {
         MutableList<ResultSetValueHandler> handlers = Lists.mutable.of();
@@ -0,0 +1,167 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.runtime.java.extension.store.relational.compiled.natives;
+
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.Counter;
+import org.finos.legend.pure.m3.exception.PureExecutionException;
+import org.finos.legend.pure.m4.ModelRepository;
+import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+import org.finos.legend.pure.runtime.java.compiled.compiler.JavaCompilerState;
+import org.finos.legend.pure.runtime.java.compiled.execution.CompiledExecutionSupport;
+import org.finos.legend.pure.runtime.java.compiled.execution.CompiledProcessorSupport;
+import org.finos.legend.pure.runtime.java.compiled.execution.ConsoleCompiled;
+import org.finos.legend.pure.runtime.java.compiled.generation.processors.natives.ResultLazyIterable;
+import org.finos.legend.pure.runtime.java.extension.store.relational.compiled.natives.ResultSetRowIterableProvider.ResultSetIterableContainer;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+public class TestCacheNextReadOnceForwardOnlyResultSet
+{
+    private static final String QUERY = "select id, name from data order by id";
+
+    private final ModelRepository repository = new ModelRepository();
+    private final Counter processedRows = new Counter();
+    private Connection setUpConnection;
+    private CompiledExecutionSupport executionSupport;
+
+    @Before
+    public void setUp() throws SQLException
+    {
+        // keep one connection open, so the in-memory database lives until the end of the test
+        this.setUpConnection = DriverManager.getConnection("jdbc:h2:mem:TestCacheNextReadOnceForwardOnlyResultSet");
+        try (Statement statement = this.setUpConnection.createStatement())
+        {
+            statement.execute("drop table if exists data");
+            statement.execute("create table data (id bigint, name varchar(20))");
+            statement.execute("insert into data values (1, 'a'), (2, 'b'), (3, 'c'), (4, 'd'), (5, 'e')");
+        }
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        this.executionSupport = new CompiledExecutionSupport(
+                new JavaCompilerState(null, classLoader),
+                new CompiledProcessorSupport(classLoader, null, null),
+                null,
+                null,
+                null,
+                null,
+                new ConsoleCompiled(),
+                null,
+                null,
+                Lists.mutable.empty());
+    }
+
+    @After
+    public void tearDown() throws SQLException
+    {
+        // release any result set which was not read to the end
+        this.executionSupport.executionEnd(null);
+        this.setUpConnection.close();
+    }
+
+    @Test
+    public void testForEachBatch() throws SQLException
+    {
+        ResultSetIterableContainer container = newStreamingContainer(2);
+        Assert.assertTrue(container.isStreaming());
+
+        MutableList<Integer> batchSizes = Lists.mutable.empty();
+        MutableList<Object> ids = Lists.mutable.empty();
+        container.forEachBatch(batch ->
+        {
+            batchSizes.add(batch.size());
+            for (int row = 0; row < batch.size(); row++)
+            {
+                ids.add(batch.getLong(row, 0));
+            }
+        });
+        Assert.assertEquals(Lists.mutable.with(2, 2, 1), batchSizes);
+        Assert.assertEquals(Lists.mutable.with(1L, 2L, 3L, 4L, 5L), ids);
+
+        // no Pure row is built when the rows are consumed in batches, not even the first one
+        Assert.assertEquals(0, this.processedRows.getCount());
+    }
+
+    @Test
+    public void testRowsAfterBatches() throws SQLException
+    {
+        ResultSetIterableContainer container = newStreamingContainer(2);
+        container.forEachBatch(batch ->
+        {
+        });
+        PureExecutionException e = Assert.assertThrows(PureExecutionException.class, () -> container.rowIterable.iterator().hasNext());
+        Assert.assertEquals("Trying to process rows from a streaming database resultset which has already been consumed in batches", e.getInfo());
+    }
+
+    @Test
+    public void testBatchesAfterRows() throws SQLException
+    {
+        ResultSetIterableContainer container = newStreamingContainer(2);
+        Assert.assertEquals("1,a", ((CoreInstance) container.rowIterable.getFirst()).getName());
+        Assert.assertEquals(1, this.processedRows.getCount());
+
+        PureExecutionException e = Assert.assertThrows(PureExecutionException.class, () -> container.forEachBatch(batch ->
+        {
+        }));
+        Assert.assertEquals("Trying to process rows from a streaming database resultset in batches after they have already been read", e.getInfo());
+    }
+
+    @Test
+    public void testRows() throws SQLException
+    {
+        ResultSetIterableContainer container = newStreamingContainer(2);
+        Assert.assertEquals(0, this.processedRows.getCount());
+        MutableList<String> rows = Lists.mutable.empty();
+        container.rowIterable.forEach(row -> rows.add(((CoreInstance) row).getName()));
+        Assert.assertEquals(Lists.mutable.with("1,a", "2,b", "3,c", "4,d", "5,e"), rows);
+        Assert.assertEquals(5, this.processedRows.getCount());
+    }
+
+    @Test
+    public void testForEachBatchNotStreamed()
+    {
+        ResultSetIterableContainer container = new ResultSetIterableContainer(Lists.fixedSize.empty(), Lists.fixedSize.with("id", "name"), System.nanoTime());
+        Assert.assertFalse(container.isStreaming());
+        IllegalStateException e = Assert.assertThrows(IllegalStateException.class, () -> container.forEachBatch(batch ->
+        {
+        }));
+        Assert.assertEquals("Only streamed results can be consumed in batches", e.getMessage());
+    }
+
+    private ResultSetIterableContainer newStreamingContainer(int fetchSize) throws SQLException
+    {
+        Connection connection = DriverManager.getConnection("jdbc:h2:mem:TestCacheNextReadOnceForwardOnlyResultSet");
+        Statement statement = connection.createStatement();
+        ResultSet resultSet = statement.executeQuery(QUERY);
+        CacheNextReadOnceForwardOnlyResultSet streamingResultSet = CacheNextReadOnceForwardOnlyResultSet.create(connection, resultSet, statement, this::processRow, null, "GMT",
+                ResultSetValueHandlers.getHandlers(resultSet.getMetaData()), fetchSize, this.executionSupport, null, QUERY);
+        return new ResultSetIterableContainer(new ResultLazyIterable(streamingResultSet), Lists.fixedSize.with("id", "name"), System.nanoTime(), streamingResultSet);
+    }
+
+    private CoreInstance processRow(RichIterable<Object> row)
+    {
+        this.processedRows.increment();
+        return this.repository.newStringCoreInstance(row.makeString(","));
+    }
+}
@@ -0,0 +1,127 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.runtime.java.extension.store.relational.compiled.natives.test;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.ListIterable;
+import org.eclipse.collections.api.list.MutableList;
+import org.finos.legend.pure.runtime.java.extension.store.relational.compiled.RelationalNativeImplementation;
+import org.finos.legend.pure.runtime.java.extension.store.relational.compiled.natives.ResultSetRowBatch;
+import org.finos.legend.pure.runtime.java.extension.store.relational.compiled.natives.ResultSetValueHandlers;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.GregorianCalendar;
+import java.util.TimeZone;
+
+public class TestResultSetRowBatch
+{
+    private static final String QUERY = "select id, score, amount, name, active, created from data order by id nulls last";
+
+    private static Connection connection;
+
+    @BeforeClass
+    public static void setUp() throws SQLException
+    {
+        connection = DriverManager.getConnection("jdbc:h2:mem:TestResultSetRowBatch");
+        try (Statement statement = connection.createStatement())
+        {
+            statement.execute("create table data (id bigint, score double, amount decimal(10, 2), name varchar(20), active boolean, created date)");
+            statement.execute("insert into data values " +
+                    "(1, 1.5, 10.25, 'a', true, '2020-01-01'), " +
+                    "(2, null, null, 'b', false, null), " +
+                    "(3, 3.5, 30.50, 'a', null, '2020-03-01'), " +
+                    "(4, 4.5, 40.75, null, true, '2020-04-01'), " +
+                    "(null, 5.5, 50.00, 'b', false, '2020-05-01')");
+        }
+    }
+
+    @AfterClass
+    public static void tearDown() throws SQLException
+    {
+        connection.close();
+    }
+
+    @Test
+    public void testRowsMatchRowByRowProcessing() throws SQLException
+    {
+        MutableList<ListIterable<Object>> expected = Lists.mutable.empty();
+        try (Statement statement = connection.createStatement(); ResultSet rs = statement.executeQuery(QUERY))
+        {
+            ListIterable<ResultSetValueHandlers.ResultSetValueHandler> handlers = ResultSetValueHandlers.getHandlers(rs.getMetaData());
+            GregorianCalendar calendar = new GregorianCalendar(TimeZone.getTimeZone("GMT"));
+            while (rs.next())
+            {
+                expected.add(RelationalNativeImplementation.processRow(rs, handlers, null, calendar));
+            }
+        }
+
+        MutableList<ListIterable<Object>> actual = Lists.mutable.empty();
+        MutableList<Integer> batchSizes = Lists.mutable.empty();
+        try (Statement statement = connection.createStatement(); ResultSet rs = statement.executeQuery(QUERY))
+        {
+            ResultSetRowBatch batch = new ResultSetRowBatch(ResultSetValueHandlers.getHandlers(rs.getMetaData()), 2, new GregorianCalendar(TimeZone.getTimeZone("GMT")));
+            while (batch.fill(rs) > 0)
+            {
+                batchSizes.add(batch.size());
+                for (int row = 0; row < batch.size(); row++)
+                {
+                    actual.add(batch.getRow(row, null));
+                }
+            }
+            Assert.assertTrue(batch.isExhausted());
+        }
+
+        Assert.assertEquals(Lists.mutable.with(2, 2, 1), batchSizes);
+        Assert.assertEquals(expected, actual);
+    }
+
+    @Test
+    public void testTypedColumns() throws SQLException
+    {
+        try (Statement statement = connection.createStatement(); ResultSet rs = statement.executeQuery(QUERY))
+        {
+            ResultSetRowBatch batch = new ResultSetRowBatch(ResultSetValueHandlers.getHandlers(rs.getMetaData()), 10, new GregorianCalendar(TimeZone.getTimeZone("GMT")));
+            Assert.assertEquals(5, batch.fill(rs));
+            Assert.assertEquals(6, batch.getColumnCount());
+
+            Assert.assertEquals(4L, batch.getLong(3, 0));
+            Assert.assertTrue(batch.isNull(4, 0));
+
+            Assert.assertEquals(1.5, batch.getDouble(0, 1), 0.0);
+            Assert.assertTrue(batch.isNull(1, 1));
+            Assert.assertEquals(30.5, batch.getDouble(2, 2), 0.0);
+
+            // strings are dictionary encoded within the batch
+            Assert.assertEquals(Lists.mutable.with("a", "b"), batch.getStringDictionary(3));
+            Assert.assertEquals(batch.getStringCode(0, 3), batch.getStringCode(2, 3));
+            Assert.assertEquals("b", batch.getString(4, 3));
+            Assert.assertNull(batch.getString(3, 3));
+
+            Assert.assertFalse(batch.getBoolean(1, 4));
+            Assert.assertTrue(batch.isNull(2, 4));
+            Assert.assertTrue(batch.isNull(1, 5));
+
+            Assert.assertEquals(0, batch.fill(rs));
+        }
+    }
+}
@@ -251,11 +251,15 @@ public class ExecuteInDb extends NativeFunction
         MutableList<String> columnNames = Lists.mutable.empty();
         MutableList<CoreInstance> columnPureTypes = Lists.mutable.empty();
         int count = metaData.getColumnCount();
+        int[] columnTypes = new int[count];
+        String[] columnTypeNames = new String[count];
         for (int i = 1; i <= count; i++)
         {
             String column = metaData.getColumnLabel(i);
             columnNames.add(column);
             columnPureTypes.add(processorSupport.package_getByUserPath(pathFromColumnType(metaData, i)));
+            columnTypes[i - 1] = metaData.getColumnType(i);
+            columnTypeNames[i - 1] = metaData.getColumnTypeName(i);
             Instance.addValueToProperty(pureResult, "columnNames", repository.newStringCoreInstance(column), processorSupport);
         }
 
@@ -265,18 +269,18 @@ public class ExecuteInDb extends NativeFunction
         {
             Instance.addValueToProperty(pureResult, "executionTimeInNanoSecond", repository.newIntegerCoreInstance(System.nanoTime() - start), processorSupport);
             MutableList<CoreInstance> rows = Lists.mutable.ofInitialCapacity(maxRows);
+            GregorianCalendar calendar = new GregorianCalendar(TimeZone.getTimeZone(tz));
             int rowNum = 0;
             do
             {
                 CoreInstance row = repository.newAnonymousCoreInstance(functionExpression.getSourceInformation(), rowClassifier);
                 Instance.addValueToProperty(row, "parent", pureResult, processorSupport);
-                GregorianCalendar calendar = new GregorianCalendar(TimeZone.getTimeZone(tz));
 
                 MutableList<CoreInstance> rowValues = Lists.mutable.ofInitialCapacity(count);
                 for (int i = 1; i <= count; i++)
                 {
                     CoreInstance value = nullValue;
-                    switch (metaData.getColumnType(i))
+                    switch (columnTypes[i - 1])
                     {
                         case Types.DATE:
                         {
@@ -346,7 +350,7 @@ public class ExecuteInDb extends NativeFunction
                         case Types.LONGNVARCHAR:
                         case Types.OTHER:
                         {
-                            if (metaData.getColumnTypeName(i).equals("HUGEINT"))      // DuckDB Specific datatype
+                            if (columnTypeNames[i - 1].equals("HUGEINT"))      // DuckDB Specific datatype
                             {
                                 long num = rs.getLong(i);
                                 if (!rs.wasNull())
@@ -388,7 +392,7 @@ public class ExecuteInDb extends NativeFunction
                         }
                         case Types.JAVA_OBJECT:
                         {
-                            if (metaData.getColumnTypeName(i).equals("HUGEINT"))      // DuckDB Specific datatype
+                            if (columnTypeNames[i - 1].equals("HUGEINT"))      // DuckDB Specific datatype
                             {
                                 long num = rs.getLong(i);
                                 if (!rs.wasNull())